@@ -0,0 +1,77 @@
+package dev.swote.interv.mlstub;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 엔드포인트별 장애/지연 주입 설정
+ * 키는 "<녹화 이름>.<항목>" 이며, 없으면 "default.<항목>" 값을 사용한다.
+ * (녹화 이름: 경로의 앞 '/'를 빼고 '/'를 '-'로 바꾼 것. 예: /interview/questions → interview-questions)
+ *
+ * @param latency              응답 시작 전 지연 분포
+ * @param errorRate            오류 응답 비율 (0~1)
+ * @param errorStatuses        오류 응답 시 무작위로 고르는 상태 코드
+ * @param hangRate             응답하지 않고 hang 동안 붙잡고 있다가 연결을 끊는 비율 (0~1, 타임아웃 재현)
+ * @param hang                 hangRate로 선택된 요청을 붙잡아 두는 시간
+ * @param dripBytesPerSecond   0보다 크면 바디를 이 속도로 조금씩 보낸다 (느린 전송 재현)
+ * @param dripChunkBytes       느린 전송 시 한 번에 보내는 바이트 수
+ * @param lineInterval         스트리밍(NDJSON) 응답의 줄 사이 지연 분포
+ */
+public record EndpointProfile(
+        LatencyProfile latency,
+        double errorRate,
+        int[] errorStatuses,
+        double hangRate,
+        Duration hang,
+        long dripBytesPerSecond,
+        int dripChunkBytes,
+        LatencyProfile lineInterval
+) {
+
+    public static EndpointProfile of(Properties properties, String name) {
+        return new EndpointProfile(
+                LatencyProfile.parse(get(properties, name, "latency", "none")),
+                Double.parseDouble(get(properties, name, "error-rate", "0")),
+                Arrays.stream(get(properties, name, "error-status", "500,503").split(","))
+                        .map(String::trim)
+                        .mapToInt(Integer::parseInt)
+                        .toArray(),
+                Double.parseDouble(get(properties, name, "hang-rate", "0")),
+                Duration.ofMillis((long) LatencyProfile.millis(get(properties, name, "hang", "5m"))),
+                Long.parseLong(get(properties, name, "drip-bytes-per-second", "0")),
+                Math.max(1, Integer.parseInt(get(properties, name, "drip-chunk-bytes", "64"))),
+                LatencyProfile.parse(get(properties, name, "line-interval", "none"))
+        );
+    }
+
+    public boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    public boolean shouldHang() {
+        return hangRate > 0 && ThreadLocalRandom.current().nextDouble() < hangRate;
+    }
+
+    public int errorStatus() {
+        return errorStatuses[ThreadLocalRandom.current().nextInt(errorStatuses.length)];
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latency
+                + ", error-rate=" + errorRate + " " + Arrays.toString(errorStatuses)
+                + ", hang-rate=" + hangRate + " (" + hang + ")"
+                + (dripBytesPerSecond > 0 ? ", drip=" + dripBytesPerSecond + "B/s" : "")
+                + ", line-interval=" + lineInterval;
+    }
+
+    private static String get(Properties properties, String name, String key, String defaultValue) {
+        String value = properties.getProperty(name + "." + key);
+        if (value == null) {
+            value = properties.getProperty("default." + key, defaultValue);
+        }
+        return value.trim();
+    }
+}
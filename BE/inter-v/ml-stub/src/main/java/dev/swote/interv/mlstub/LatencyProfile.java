@@ -0,0 +1,142 @@
+package dev.swote.interv.mlstub;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 지연 분포
+ * - none
+ * - fixed:200ms
+ * - uniform:100ms..500ms
+ * - normal:mean=800ms,stddev=200ms        (음수는 0으로 자른다)
+ * - lognormal:median=800ms,p99=4s         (LLM 생성 시간처럼 꼬리가 긴 분포)
+ * 시간 단위는 ms, s, m (단위가 없으면 ms)
+ */
+public final class LatencyProfile {
+
+    // 표준정규분포의 99백분위 z 값
+    private static final double Z_99 = 2.3263478740;
+
+    private final String spec;
+    private final Kind kind;
+    private final double a;
+    private final double b;
+
+    private LatencyProfile(String spec, Kind kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static LatencyProfile none() {
+        return new LatencyProfile("none", Kind.NONE, 0, 0);
+    }
+
+    public static LatencyProfile parse(String spec) {
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        String name = (colon < 0 ? trimmed : trimmed.substring(0, colon)).toLowerCase();
+        String args = colon < 0 ? "" : trimmed.substring(colon + 1).trim();
+
+        switch (name) {
+            case "none":
+                return none();
+            case "fixed":
+                return new LatencyProfile(trimmed, Kind.FIXED, millis(args), 0);
+            case "uniform": {
+                String[] range = args.split("\\.\\.");
+                if (range.length != 2) {
+                    throw new IllegalArgumentException("uniform 지연 형식 오류 (예: uniform:100ms..500ms): " + spec);
+                }
+                double min = millis(range[0]);
+                double max = millis(range[1]);
+                if (max < min) {
+                    throw new IllegalArgumentException("uniform 지연의 최댓값이 최솟값보다 작습니다: " + spec);
+                }
+                return new LatencyProfile(trimmed, Kind.UNIFORM, min, max);
+            }
+            case "normal": {
+                Map<String, String> params = params(args, spec);
+                return new LatencyProfile(trimmed, Kind.NORMAL,
+                        millis(required(params, "mean", spec)), millis(required(params, "stddev", spec)));
+            }
+            case "lognormal": {
+                Map<String, String> params = params(args, spec);
+                double median = millis(required(params, "median", spec));
+                double p99 = millis(required(params, "p99", spec));
+                if (median <= 0 || p99 < median) {
+                    throw new IllegalArgumentException("lognormal 지연은 0 < median <= p99 이어야 합니다: " + spec);
+                }
+                // median = e^mu, p99 = e^(mu + z99 * sigma)
+                return new LatencyProfile(trimmed, Kind.LOGNORMAL, Math.log(median), Math.log(p99 / median) / Z_99);
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+        }
+    }
+
+    /**
+     * 지연 시간 하나를 뽑는다
+     */
+    public Duration sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double millis = switch (kind) {
+            case NONE -> 0;
+            case FIXED -> a;
+            case UNIFORM -> a + (b - a) * random.nextDouble();
+            case NORMAL -> a + b * random.nextGaussian();
+            case LOGNORMAL -> Math.exp(a + b * random.nextGaussian());
+        };
+        return Duration.ofNanos((long) (Math.max(0, millis) * 1_000_000));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    static double millis(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.endsWith("ms")) {
+            return Double.parseDouble(trimmed.substring(0, trimmed.length() - 2).trim());
+        }
+        if (trimmed.endsWith("s")) {
+            return Double.parseDouble(trimmed.substring(0, trimmed.length() - 1).trim()) * 1_000;
+        }
+        if (trimmed.endsWith("m")) {
+            return Double.parseDouble(trimmed.substring(0, trimmed.length() - 1).trim()) * 60_000;
+        }
+        return Double.parseDouble(trimmed);
+    }
+
+    private static Map<String, String> params(String args, String spec) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : args.split(",")) {
+            int equals = pair.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("지연 분포 파라미터 형식 오류: " + spec);
+            }
+            params.put(pair.substring(0, equals).trim().toLowerCase(), pair.substring(equals + 1).trim());
+        }
+        return params;
+    }
+
+    private static String required(Map<String, String> params, String key, String spec) {
+        String value = params.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("지연 분포에 " + key + " 값이 없습니다: " + spec);
+        }
+        return value;
+    }
+
+    private enum Kind {
+        NONE, FIXED, UNIFORM, NORMAL, LOGNORMAL
+    }
+}
@@ -0,0 +1,412 @@
+package dev.swote.interv.mlstub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 부하 테스트용 ML 서버 스텁 (FastAPI 서버 대역)
+ * GPU 서버 없이 백엔드의 서킷 브레이커/타임아웃/동시 요청 한도/처리량을 측정할 수 있도록
+ * 녹화된 응답을 지연 분포, 오류율, 응답 없음(hang), 느린 전송(drip)을 섞어 재생한다.
+ *
+ * <pre>
+ * 재생: ./gradlew :ml-stub:run --args='--port=8000 --config=load.properties'
+ * 녹화: ./gradlew :ml-stub:run --args='--port=8001 --record-from=http://gpu-host:8000 --recordings=./recordings'
+ *       (백엔드의 llm.api.url을 스텁으로 돌려 두고 실제 흐름을 한 번 돌리면 응답이 녹화 디렉터리에 쌓인다)
+ * </pre>
+ *
+ * - 설정 우선순위: 명령행 --key=value > -Dstub.key=value > --config 파일 > 클래스패스 stub.properties
+ * - 요청 바디는 JSON/CBOR, gzip 모두 받는다. (백엔드 MlWireFormat) 응답은 항상 JSON이다.
+ * - /evaluate/batch는 요청 항목 수만큼 /evaluate 녹화를 id를 붙여 돌려주고,
+ *   /interview/questions/stream은 /interview/questions 녹화를 한 줄씩 line-interval 간격으로 보낸다.
+ * - GET /stub/stats: 엔드포인트별 요청/주입 오류/응답 없음 횟수
+ */
+@Slf4j
+public class MlStubServer {
+
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String STREAM_PATH = "/interview/questions/stream";
+    private static final String BATCH_PATH = "/evaluate/batch";
+
+    private static final AtomicLong THREAD_ID = new AtomicLong();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    private final Properties properties;
+    private final Recordings recordings;
+    private final URI recordFrom;
+    private final HttpClient upstream;
+
+    private final ConcurrentMap<String, EndpointProfile> profiles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MlStubServer(Properties properties) {
+        this.properties = properties;
+        String recordingsDir = properties.getProperty("recordings");
+        this.recordings = new Recordings(objectMapper, recordingsDir != null ? Path.of(recordingsDir) : null);
+
+        String recordFromUrl = properties.getProperty("record-from");
+        this.recordFrom = recordFromUrl != null ? URI.create(recordFromUrl.replaceAll("/+$", "")) : null;
+        this.upstream = recordFrom != null
+                ? HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).version(HttpClient.Version.HTTP_1_1).build()
+                : null;
+        if (recordFrom != null && recordingsDir == null) {
+            throw new IllegalArgumentException("녹화 모드(--record-from)에는 --recordings 디렉터리가 필요합니다");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        MlStubServer stub = new MlStubServer(loadProperties(args));
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "ml-stub-shutdown"));
+    }
+
+    public void start() throws IOException {
+        int port = Integer.parseInt(properties.getProperty("port", "8000"));
+        int threads = Integer.parseInt(properties.getProperty("threads", "512"));
+
+        // 지연/응답 없음 주입 중에는 요청마다 스레드를 붙잡고 있으므로 동시 요청 수만큼 스레드가 필요하다
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ml-stub-" + THREAD_ID.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(port), Integer.parseInt(properties.getProperty("backlog", "1024")));
+        server.setExecutor(executor);
+        server.createContext("/stub/stats", this::handleStats);
+        server.createContext("/", this::handle);
+        server.start();
+
+        log.info("ML 스텁 시작 - 포트: {}, 스레드: {}, 모드: {}", server.getAddress().getPort(), threads,
+                recordFrom != null ? "녹화 (" + recordFrom + ")" : "재생");
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            log.info("ML 스텁 종료 - {}", stats);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    // ================================================================================
+    // 요청 처리
+    // ================================================================================
+
+    private void handle(HttpExchange exchange) {
+        try {
+            String path = exchange.getRequestURI().getPath().replaceAll("/+$", "");
+            String name = nameOf(path);
+            JsonNode request = readRequest(exchange);
+            Stats counters = stats.computeIfAbsent(name, key -> new Stats());
+            counters.requests.increment();
+
+            if (recordFrom != null) {
+                record(exchange, path, name, request);
+                return;
+            }
+
+            EndpointProfile profile = profiles.computeIfAbsent(name, key -> {
+                EndpointProfile loaded = EndpointProfile.of(properties, key);
+                log.info("엔드포인트 프로파일: {} - {}", key, loaded);
+                return loaded;
+            });
+
+            sleep(profile.latency().sample());
+            if (profile.shouldHang()) {
+                // 응답 없이 붙잡고 있다가 연결을 끊는다 (클라이언트 읽기 타임아웃 재현)
+                counters.hangs.increment();
+                sleep(profile.hang());
+                return;
+            }
+            if (profile.shouldFail()) {
+                counters.errors.increment();
+                int status = profile.errorStatus();
+                respond(exchange, profile, status, error("stub: injected failure (" + status + ")"));
+                return;
+            }
+
+            switch (path) {
+                case STREAM_PATH -> stream(exchange, profile);
+                case BATCH_PATH -> batch(exchange, profile, request);
+                default -> {
+                    JsonNode recorded = recordings.next(name).orElse(null);
+                    if (recorded == null) {
+                        respond(exchange, profile, 404, error("stub: no recording for " + path));
+                    } else {
+                        respond(exchange, profile, 200, recorded);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우 (타임아웃 등)
+            log.debug("응답 전송 중단: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("스텁 요청 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 질문 녹화 하나를 NDJSON 한 줄씩 보낸다 (실제 서버처럼 질문이 생성될 때마다 전달)
+     */
+    private void stream(HttpExchange exchange, EndpointProfile profile) throws IOException, InterruptedException {
+        JsonNode recorded = recordings.next(nameOf("/interview/questions")).orElse(null);
+        if (recorded == null || !recorded.path("questions").isArray()) {
+            respond(exchange, profile, 404, error("stub: no recording for /interview/questions"));
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", NDJSON);
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        for (JsonNode question : recorded.path("questions")) {
+            sleep(profile.lineInterval().sample());
+            out.write(objectMapper.writeValueAsBytes(question));
+            out.write('\n');
+            out.flush();
+        }
+    }
+
+    /**
+     * 요청 항목마다 /evaluate 녹화를 하나씩 골라 id를 붙여 돌려준다
+     */
+    private void batch(HttpExchange exchange, EndpointProfile profile, JsonNode request) throws IOException, InterruptedException {
+        ArrayNode results = objectMapper.createArrayNode();
+        for (JsonNode item : request != null ? request.path("items") : objectMapper.createArrayNode()) {
+            JsonNode recorded = recordings.next(nameOf("/evaluate")).orElse(null);
+            if (recorded == null) {
+                respond(exchange, profile, 404, error("stub: no recording for /evaluate"));
+                return;
+            }
+            ObjectNode result = (ObjectNode) recorded;
+            result.set("id", item.path("id"));
+            results.add(result);
+        }
+        respond(exchange, profile, 200, objectMapper.createObjectNode().set("results", results));
+    }
+
+    /**
+     * 녹화 모드: 실제 ML 서버로 JSON 요청을 전달하고 성공 응답을 녹화한다
+     */
+    private void record(HttpExchange exchange, String path, String name, JsonNode request) throws IOException, InterruptedException {
+        boolean streaming = STREAM_PATH.equals(path);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(recordFrom + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Accept", streaming ? NDJSON : JSON);
+        if (request != null) {
+            builder.header("Content-Type", JSON)
+                    .method(exchange.getRequestMethod(), HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)));
+        } else {
+            builder.method(exchange.getRequestMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        HttpResponse<byte[]> response = upstream.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        byte[] body = response.body();
+        if (response.statusCode() / 100 == 2) {
+            if (streaming) {
+                // 스트리밍 응답은 질문 생성 녹화와 같은 모양으로 모아 저장한다 (재생 시 한 줄씩 다시 나눈다)
+                ArrayNode questions = objectMapper.createArrayNode();
+                for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+                    if (!line.isBlank()) {
+                        JsonNode question = objectMapper.readTree(line);
+                        if (!question.hasNonNull("error")) {
+                            questions.add(question);
+                        }
+                    }
+                }
+                recordings.append(nameOf("/interview/questions"), objectMapper.createObjectNode().set("questions", questions));
+            } else if (BATCH_PATH.equals(path)) {
+                // 일괄 평가 결과는 항목별 /evaluate 녹화로 나눠 저장한다 (재생 시 요청 id를 다시 붙인다)
+                for (JsonNode result : objectMapper.readTree(body).path("results")) {
+                    if (result.isObject() && !result.hasNonNull("error")) {
+                        recordings.append(nameOf("/evaluate"), ((ObjectNode) result.deepCopy()).without("id"));
+                    }
+                }
+            } else {
+                recordings.append(name, objectMapper.readTree(body));
+            }
+            log.info("녹화: {} ({} bytes)", path, body.length);
+        } else {
+            log.warn("녹화 건너뜀 - {} 응답 상태: {}", path, response.statusCode());
+        }
+
+        exchange.getResponseHeaders().set("Content-Type",
+                response.headers().firstValue("Content-Type").orElse(streaming ? NDJSON : JSON));
+        exchange.sendResponseHeaders(response.statusCode(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+            stats.forEach((name, counters) -> snapshot.put(name, Map.of(
+                    "requests", counters.requests.sum(),
+                    "errors", counters.errors.sum(),
+                    "hangs", counters.hangs.sum())));
+            byte[] body = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(snapshot);
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * JSON/CBOR, gzip 요청 바디를 읽는다 (바디가 없으면 null)
+     */
+    private JsonNode readRequest(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        if (raw.length == 0) {
+            return null;
+        }
+        String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        InputStream in = new ByteArrayInputStream(raw);
+        if (contentEncoding != null && "gzip".equalsIgnoreCase(contentEncoding.trim())) {
+            in = new GZIPInputStream(in);
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean cbor = contentType != null && contentType.startsWith("application/cbor");
+        return (cbor ? cborMapper : objectMapper).readTree(in);
+    }
+
+    /**
+     * JSON 응답. drip-bytes-per-second가 설정돼 있으면 청크 단위로 나눠 천천히 보낸다.
+     */
+    private void respond(HttpExchange exchange, EndpointProfile profile, int status, JsonNode payload)
+            throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(payload);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        // 백엔드(MlWireFormat)가 이 서버를 바이너리 형식 지원 서버로 보도록 한다
+        exchange.getResponseHeaders().set("X-Wire-Formats", "cbor, gzip");
+
+        OutputStream out = exchange.getResponseBody();
+        if (profile.dripBytesPerSecond() <= 0) {
+            exchange.sendResponseHeaders(status, body.length);
+            out.write(body);
+            return;
+        }
+
+        exchange.sendResponseHeaders(status, 0);
+        long chunkNanos = TimeUnit.SECONDS.toNanos(profile.dripChunkBytes()) / profile.dripBytesPerSecond();
+        for (int offset = 0; offset < body.length; offset += profile.dripChunkBytes()) {
+            out.write(body, offset, Math.min(profile.dripChunkBytes(), body.length - offset));
+            out.flush();
+            sleep(Duration.ofNanos(chunkNanos));
+        }
+    }
+
+    private ObjectNode error(String detail) {
+        return objectMapper.createObjectNode().put("detail", detail);
+    }
+
+    /**
+     * 녹화 이름: /interview/questions → interview-questions
+     */
+    static String nameOf(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.isEmpty() ? "root" : trimmed.replace('/', '-');
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        long nanos = duration.toNanos();
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    /**
+     * 스텁 설정을 읽는다 (다른 프로세스에 내장해 실행할 때도 같은 우선순위를 쓰도록 공개)
+     */
+    public static Properties loadProperties(String... args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = MlStubServer.class.getResourceAsStream("/stub.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            overrides.setProperty(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        String config = overrides.getProperty("config", System.getProperty("stub.config"));
+        if (config != null) {
+            try (InputStream in = Files.newInputStream(Path.of(config))) {
+                properties.load(in);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("stub.")) {
+                properties.setProperty(key.toString().substring("stub.".length()), value.toString());
+            }
+        });
+        properties.putAll(overrides);
+        return properties;
+    }
+
+    private static final class Stats {
+        final LongAdder requests = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder hangs = new LongAdder();
+
+        @Override
+        public String toString() {
+            return "requests=" + requests.sum() + ", errors=" + errors.sum() + ", hangs=" + hangs.sum();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.swote.interv.mlstub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹화된 ML 서버 응답
+ * - 엔드포인트마다 "<녹화 이름>.jsonl" 파일 하나에 응답 바디를 한 줄씩 저장한다.
+ * - 녹화 디렉터리에 파일이 있으면 그것을, 없으면 클래스패스의 recordings/ 기본 녹화를 사용한다.
+ * - 재생은 녹화 순서대로 돌아가며 사용한다. (여러 스레드가 동시에 호출해도 고르게 분배된다)
+ */
+@Slf4j
+public class Recordings {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final ConcurrentMap<String, Track> tracks = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory 녹화 디렉터리 (없으면 null - 기본 녹화만 사용하고 녹화 모드는 쓸 수 없다)
+     */
+    public Recordings(ObjectMapper objectMapper, Path directory) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+    }
+
+    /**
+     * 다음 재생할 응답 (녹화가 없으면 empty)
+     */
+    public Optional<JsonNode> next(String name) {
+        Track track = tracks.computeIfAbsent(name, this::load);
+        if (track.responses().isEmpty()) {
+            return Optional.empty();
+        }
+        int index = (int) (track.cursor().getAndIncrement() % track.responses().size());
+        // 호출 측에서 수정할 수 있도록 복사본을 준다
+        return Optional.of(track.responses().get(index).deepCopy());
+    }
+
+    /**
+     * 응답 하나를 녹화 파일 끝에 추가
+     */
+    public synchronized void append(String name, JsonNode response) {
+        if (directory == null) {
+            throw new IllegalStateException("녹화 디렉터리가 지정되지 않았습니다 (--recordings)");
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(name + ".jsonl"),
+                    objectMapper.writeValueAsString(response) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("녹화 저장 실패: " + name, e);
+        }
+        // 다음 재생 때 다시 읽도록 한다
+        tracks.remove(name);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private Track load(String name) {
+        String fileName = name + ".jsonl";
+        try {
+            if (directory != null && Files.exists(directory.resolve(fileName))) {
+                try (InputStream in = Files.newInputStream(directory.resolve(fileName))) {
+                    return track(name, in, directory.resolve(fileName).toString());
+                }
+            }
+            try (InputStream in = Recordings.class.getResourceAsStream("/recordings/" + fileName)) {
+                if (in == null) {
+                    log.warn("녹화 없음: {}", name);
+                    return new Track(List.of(), new AtomicLong());
+                }
+                return track(name, in, "classpath:recordings/" + fileName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("녹화 읽기 실패: " + name, e);
+        }
+    }
+
+    private Track track(String name, InputStream in, String source) throws IOException {
+        List<JsonNode> responses = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                responses.add(objectMapper.readTree(line));
+            }
+        }
+        log.info("녹화 로드: {} - {}개 응답 ({})", name, responses.size(), source);
+        return new Track(List.copyOf(responses), new AtomicLong());
+    }
+
+    private record Track(List<JsonNode> responses, AtomicLong cursor) {
+    }
+}
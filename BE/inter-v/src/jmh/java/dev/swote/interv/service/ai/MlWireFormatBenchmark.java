@@ -0,0 +1,172 @@
+package dev.swote.interv.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.swote.interv.service.ai.dto.MlEmbeddingResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ML 요청/응답 바디 형식별 크기와 왕복 시간: JSON vs CBOR vs CBOR + gzip
+ * - 요청: 한국어 이력서 + 자기소개서 전문, 응답: 768차원 임베딩 2개 (/embed 와 같은 모양)
+ * - 각 형식의 요청/응답 바이트 수는 Setup에서 출력한다.
+ * - -Dml.link-mbps=100 처럼 주면 내장 서버가 주고받은 바이트만큼 전송 지연을 더해 AZ 간 대역폭을 흉내낸다.
+ * - -Dml.url=http://localhost:8000 을 주면 실제 ML 서버(/embed)를 호출한다. (임베딩 계산 시간이 포함된다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlWireFormatBenchmark {
+
+    private static final String RESUME = """
+            3년차 백엔드 개발자입니다. Java와 Spring Boot 기반으로 커머스 주문/결제 시스템을 개발했습니다.
+            JPA와 QueryDSL로 복잡한 조회를 최적화했고, MySQL 인덱스 튜닝으로 주문 조회 응답 시간을 60% 줄였습니다.
+            Redis 캐시와 Kafka 기반 비동기 처리로 트래픽이 몰리는 이벤트 기간에도 안정적으로 서비스를 운영했습니다.
+            AWS EC2, RDS, S3 환경에서 Docker와 GitHub Actions로 배포 파이프라인을 구축했습니다.
+            """.repeat(20);
+
+    private static final String COVER_LETTER = """
+            사용자 경험을 개선하는 안정적인 서버를 만드는 것을 목표로 합니다.
+            장애 대응 경험을 바탕으로 모니터링과 테스트 자동화를 중요하게 생각합니다.
+            """.repeat(10);
+
+    private static final int DIMENSION = 768;
+
+    @Param({"json", "cbor", "cbor-gzip"})
+    public String format;
+
+    private MlWireFormat wireFormat;
+    private byte[] payload;
+
+    private HttpServer stubServer;
+    private HttpClient httpClient;
+    private URI embedUri;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        wireFormat = new MlWireFormat(objectMapper, new SimpleMeterRegistry(),
+                !"json".equals(format), "cbor-gzip".equals(format) ? 0 : Integer.MAX_VALUE, Duration.ofMinutes(10));
+        payload = objectMapper.writeValueAsBytes(Map.of("texts", List.of(RESUME + "\n" + COVER_LETTER, RESUME)));
+
+        String mlUrl = System.getProperty("ml.url");
+        if (mlUrl == null) {
+            stubServer = startStub(objectMapper, Double.parseDouble(System.getProperty("ml.link-mbps", "0")));
+            mlUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        }
+        embedUri = URI.create(mlUrl + "/embed");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        MlWireFormat.Body body = wireFormat.encode(payload);
+        HttpResponse<byte[]> response = httpClient.send(newRequest(body), HttpResponse.BodyHandlers.ofByteArray());
+        System.out.printf("%n[%s] 요청: %d bytes (JSON %d bytes), 응답: %d bytes (%s, %s)%n",
+                format, body.bytes().length, payload.length, response.body().length,
+                response.headers().firstValue("Content-Type").orElse("-"),
+                response.headers().firstValue("Content-Encoding").orElse("identity"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+    }
+
+    @Benchmark
+    public MlEmbeddingResponse roundTrip() throws Exception {
+        HttpResponse<InputStream> response = httpClient.send(newRequest(wireFormat.encode(payload)),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = wireFormat.decode(response.body(), response.headers())) {
+            return wireFormat.readerFor(MlEmbeddingResponse.class, response.headers()).readValue(body);
+        }
+    }
+
+    private HttpRequest newRequest(MlWireFormat.Body body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(embedUri)
+                .header("Accept", wireFormat.accept())
+                .header("Accept-Encoding", "cbor-gzip".equals(format) ? MlWireFormat.GZIP : "identity")
+                .header("Content-Type", body.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.bytes()));
+        if (body.contentEncoding() != null) {
+            builder.header("Content-Encoding", body.contentEncoding());
+        }
+        return builder.build();
+    }
+
+    /**
+     * ML 서버의 WireFormatMiddleware + GZipMiddleware와 같은 규칙으로 요청을 읽고 응답을 쓰는 내장 서버
+     */
+    private static HttpServer startStub(ObjectMapper jsonMapper, double linkMbps) throws IOException {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        float[][] embeddings = new float[2][DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            embeddings[0][i] = (float) Math.sin(i) / 27.7f;
+            embeddings[1][i] = (float) Math.cos(i) / 27.7f;
+        }
+        Map<String, Object> result = Map.of("model", "stub", "dimension", DIMENSION, "embeddings", embeddings);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/embed", exchange -> {
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            byte[] decoded = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"))
+                    ? new GZIPInputStream(new ByteArrayInputStream(request)).readAllBytes()
+                    : request;
+            boolean cborRequest = String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")).startsWith(MlWireFormat.CBOR);
+            (cborRequest ? cborMapper : jsonMapper).readTree(decoded);
+
+            boolean cborResponse = String.valueOf(exchange.getRequestHeaders().getFirst("Accept")).contains(MlWireFormat.CBOR);
+            byte[] body = (cborResponse ? cborMapper : jsonMapper).writeValueAsBytes(result);
+            exchange.getResponseHeaders().add("Content-Type", cborResponse ? MlWireFormat.CBOR : MlWireFormat.JSON);
+            if (body.length >= 1024 && "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                body = gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+
+            simulateLink(linkMbps, request.length + body.length);
+            respond(exchange, body);
+        });
+        server.start();
+        return server;
+    }
+
+    private static void simulateLink(double linkMbps, long bytes) {
+        if (linkMbps > 0) {
+            LockSupport.parkNanos((long) (bytes * 8 / (linkMbps * 1_000_000) * 1_000_000_000L));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package dev.swote.interv.service.ai.keyword;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 유사도: JVM 내 계산 vs ML 서버 HTTP 호출
+ * - local: 이력서 벡터 캐시 적중 (같은 이력서로 여러 질문을 평가하는 일반적인 경우)
+ * - localCold: 매번 이력서까지 토큰화
+ * - http: 요청 직렬화 + HTTP 왕복 + 응답 파싱.
+ *   -Dml.url=http://localhost:8000 을 주면 실제 ML 서버를, 없으면 고정 응답을 돌려주는 내장 서버를 호출한다.
+ *   (내장 서버 기준 수치는 Python 쪽 계산 시간을 뺀 순수 통신 비용이다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordSimilarityBenchmark {
+
+    private static final String RESUME = """
+            3년차 백엔드 개발자입니다. Java와 Spring Boot 기반으로 커머스 주문/결제 시스템을 개발했습니다.
+            JPA와 QueryDSL로 복잡한 조회를 최적화했고, MySQL 인덱스 튜닝으로 주문 조회 응답 시간을 60% 줄였습니다.
+            Redis 캐시와 Kafka 기반 비동기 처리로 트래픽이 몰리는 이벤트 기간에도 안정적으로 서비스를 운영했습니다.
+            AWS EC2, RDS, S3 환경에서 Docker와 GitHub Actions로 배포 파이프라인을 구축했습니다.
+            """.repeat(4);
+
+    private static final String COVER_LETTER = """
+            사용자 경험을 개선하는 안정적인 서버를 만드는 것을 목표로 합니다.
+            장애 대응 경험을 바탕으로 모니터링과 테스트 자동화를 중요하게 생각합니다.
+            """;
+
+    private static final String QUESTION = "Spring Boot와 JPA를 활용해 대용량 주문 데이터를 처리한 경험을 설명해주세요.";
+
+    private static final String STUB_RESPONSE =
+            "{\"matched_keywords\":[\"spring\",\"boot\",\"jpa\",\"주문\"],\"keyword_match_score\":0.4123}";
+
+    private KeywordSimilarityEngine engine;
+    private KeywordSimilarityEngine coldEngine;
+
+    private HttpServer stubServer;
+    private HttpClient httpClient;
+    private ObjectMapper objectMapper;
+    private URI keywordUri;
+
+    @Setup
+    public void setUp() throws Exception {
+        engine = new KeywordSimilarityEngine(new SimpleKoreanTokenizer(), 1000);
+        coldEngine = new KeywordSimilarityEngine(new SimpleKoreanTokenizer(), 0);
+        engine.calculate(RESUME, COVER_LETTER, QUESTION);
+
+        String mlUrl = System.getProperty("ml.url");
+        if (mlUrl == null) {
+            stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            stubServer.createContext("/similarity/keyword", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                byte[] body = STUB_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            stubServer.start();
+            mlUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        }
+
+        keywordUri = URI.create(mlUrl + "/similarity/keyword");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        objectMapper = new ObjectMapper();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop(0);
+        }
+    }
+
+    @Benchmark
+    public KeywordSimilarity local() {
+        return engine.calculate(RESUME, COVER_LETTER, QUESTION);
+    }
+
+    @Benchmark
+    public KeywordSimilarity localCold() {
+        return coldEngine.calculate(RESUME, COVER_LETTER, QUESTION);
+    }
+
+    @Benchmark
+    public Map<?, ?> http() throws Exception {
+        byte[] payload = objectMapper.writeValueAsBytes(Map.of(
+                "resume", RESUME,
+                "cover_letter", COVER_LETTER,
+                "question", QUESTION
+        ));
+        HttpRequest request = HttpRequest.newBuilder(keywordUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.readValue(response.body(), Map.class);
+    }
+}
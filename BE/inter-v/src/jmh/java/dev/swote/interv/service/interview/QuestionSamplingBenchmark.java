@@ -0,0 +1,159 @@
+package dev.swote.interv.service.interview;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 질문 추출: ORDER BY RAND() vs 메모리 ID 풀(Floyd) + 기본키 조회
+ * - orderByRand: 기존 QuestionRepository.findRandomQuestions 와 같은 쿼리
+ * - poolThenFetch: QuestionSampler 와 같은 경로 (ID 풀에서 k개 추출 후 WHERE id IN (...))
+ * - poolOnly: ID 추출만 (풀 크기와 무관하게 O(k)인지 확인)
+ * - 질문 유형 4가지를 고르게 넣으므로 한 유형은 전체 행의 1/4이다.
+ * - 기본은 내장 H2(MySQL 모드)이며, -Dbench.jdbc.url=jdbc:mysql://localhost:3306/interv
+ *   -Dbench.jdbc.user=... -Dbench.jdbc.password=... 를 주면 실제 MySQL에서 측정한다.
+ *   (전용 테이블 tb_question_sampling_bench 를 만들고 끝나면 지운다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionSamplingBenchmark {
+
+    private static final String TABLE = "tb_question_sampling_bench";
+    private static final String[] TYPES = {"PERSONALITY", "TECHNICAL", "PROJECT", "SITUATION"};
+    private static final String SAMPLED_TYPE = "TECHNICAL";
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"10"})
+    public int count;
+
+    private Connection connection;
+    private PreparedStatement orderByRand;
+    private QuestionIdPool pool;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:question_sampling;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "sa"), System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id INT PRIMARY KEY, interview_session_id INT, content TEXT, type VARCHAR(20), " +
+                    "sequence INT, difficulty_level INT, category VARCHAR(255), sub_category VARCHAR(255))");
+            statement.execute("CREATE INDEX idx_" + TABLE + "_type ON " + TABLE + " (type)");
+        }
+        populate();
+
+        orderByRand = connection.prepareStatement(
+                "SELECT * FROM " + TABLE + " WHERE type = ? ORDER BY RAND() LIMIT ?");
+
+        List<Integer> ids = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM " + TABLE + " WHERE type = ? ORDER BY id")) {
+            select.setString(1, SAMPLED_TYPE);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getInt(1));
+                }
+            }
+        }
+        pool = new QuestionIdPool(ids.stream().mapToInt(Integer::intValue).toArray());
+        System.out.printf("%n[%s] rows=%d, %s 질문 %d개%n", url, rows, SAMPLED_TYPE, pool.size());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void orderByRand(Blackhole blackhole) throws SQLException {
+        orderByRand.setString(1, SAMPLED_TYPE);
+        orderByRand.setInt(2, count);
+        try (ResultSet resultSet = orderByRand.executeQuery()) {
+            consume(resultSet, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void poolThenFetch(Blackhole blackhole) throws SQLException {
+        List<Integer> ids = pool.sample(count, ThreadLocalRandom.current());
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT * FROM " + TABLE + " WHERE id IN (" + placeholders + ")")) {
+            for (int i = 0; i < ids.size(); i++) {
+                select.setInt(i + 1, ids.get(i));
+            }
+            try (ResultSet resultSet = select.executeQuery()) {
+                consume(resultSet, blackhole);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> poolOnly() {
+        return pool.sample(count, ThreadLocalRandom.current());
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void populate() throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE +
+                " (id, interview_session_id, content, type, sequence, difficulty_level, category, sub_category)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                insert.setInt(1, id);
+                insert.setInt(2, id / 10 + 1);
+                insert.setString(3, "면접 질문 " + id + " - 프로젝트에서 겪은 기술적 문제와 해결 과정을 설명해주세요.");
+                insert.setString(4, TYPES[id % TYPES.length]);
+                insert.setInt(5, id % 10 + 1);
+                insert.setInt(6, random.nextInt(5) + 1);
+                insert.setString(7, "Backend");
+                insert.setString(8, "Spring");
+                insert.addBatch();
+                if (id % INSERT_BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void consume(ResultSet resultSet, Blackhole blackhole) throws SQLException {
+        int columns = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            for (int column = 1; column <= columns; column++) {
+                blackhole.consume(resultSet.getObject(column));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.swote.interv.loadtest;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 단계별 DB 활동 집계
+ * - 실행된 SQL 수(StatementInspector)와 로드된 엔티티 수(Interceptor.onLoad)를 요청 스레드의 단계 이름별로 센다.
+ * - 쿼리 수가 같아도 질문 목록 전체를 읽는 식의 회귀는 로드된 엔티티 수로 드러난다.
+ * - Hibernate가 클래스 이름으로 생성하므로 집계 상태는 정적 필드에 둔다.
+ * - 단계가 지정되지 않은 스레드(비동기 평가, 사전 생성 등)의 활동은 BACKGROUND로 모은다.
+ */
+public class DbActivityCounter implements StatementInspector, Interceptor {
+
+    public static final String BACKGROUND = "(background)";
+
+    private static final ThreadLocal<String> CURRENT_STEP = new ThreadLocal<>();
+    private static final ConcurrentMap<String, Counts> COUNTS = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        counts().statements.increment();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        counts().entities.increment();
+        return false;
+    }
+
+    public static void enter(String step) {
+        CURRENT_STEP.set(step);
+    }
+
+    public static void exit() {
+        CURRENT_STEP.remove();
+    }
+
+    public static void reset() {
+        COUNTS.clear();
+    }
+
+    /**
+     * 단계 이름 → {SQL 수, 로드된 엔티티 수}
+     */
+    public static Map<String, long[]> snapshot() {
+        Map<String, long[]> result = new TreeMap<>();
+        COUNTS.forEach((step, counts) -> result.put(step,
+                new long[]{counts.statements.sum(), counts.entities.sum()}));
+        return result;
+    }
+
+    private static Counts counts() {
+        String step = CURRENT_STEP.get();
+        return COUNTS.computeIfAbsent(step != null ? step : BACKGROUND, key -> new Counts());
+    }
+
+    private static final class Counts {
+        final LongAdder statements = new LongAdder();
+        final LongAdder entities = new LongAdder();
+    }
+}
@@ -0,0 +1,361 @@
+package dev.swote.interv.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.swote.interv.domain.company.entity.Company;
+import dev.swote.interv.domain.company.repository.CompanyRepository;
+import dev.swote.interv.domain.position.entity.Position;
+import dev.swote.interv.domain.position.repository.PositionRepository;
+import dev.swote.interv.mlstub.MlStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 면접 전체 흐름 부하 테스트
+ * 가상 사용자마다 회원가입 → 로그인 → 이력서 작성 후, 면접 생성 → 시작 → (다음 질문 → 답변 제출) × 질문 수 → 완료를 반복한다.
+ * 앱은 프로세스 안에서 H2(local 프로파일)로 띄우고, ML 서버는 ml-stub을 내장해 사용한다.
+ *
+ * <pre>
+ * ./gradlew loadTest
+ * ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.iterations=10 -Dstub.evaluate.latency=lognormal:median=2s,p99=8s
+ * ./gradlew loadTest -Dspring.datasource.url=jdbc:mysql://localhost:3306/interv_load -Dspring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver ...
+ * </pre>
+ *
+ * - loadtest.users / iterations / question-count: 동시 가상 사용자 수, 사용자당 면접 횟수, 면접당 질문 수
+ * - loadtest.max-error-rate: 허용 오류 비율 (기본 0.01)
+ * - loadtest.max-sql.&lt;단계&gt;: 단계별 요청당 SQL 수 상한 (예: -Dloadtest.max-sql.next-question=3)
+ * - ML 스텁 지연/오류는 -Dstub.* 로 바꾼다. (기본값: src/loadTest/resources/loadtest-stub.properties)
+ * - 결과 표는 표준 출력과 build/reports/loadtest/summary.txt에 남긴다.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "jwt.secret=load-test-secret-key-that-is-long-enough-for-hmac-sha-256",
+                "rate-limit.ml.enabled=false",
+                "spring.jpa.properties.hibernate.show_sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector=dev.swote.interv.loadtest.DbActivityCounter",
+                "spring.jpa.properties.hibernate.session_factory.interceptor=dev.swote.interv.loadtest.DbActivityCounter",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.dev.swote.interv=WARN",
+                "logging.level.org.springframework.security=WARN",
+                "logging.level.org.springframework.web.cors=WARN"
+        }
+)
+class InterviewLifecycleLoadTest {
+
+    private static final String PASSWORD = "load-test-password-1!";
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private static MlStubServer mlStub;
+
+    private final int users = Integer.getInteger("loadtest.users", 20);
+    private final int iterations = Integer.getInteger("loadtest.iterations", 5);
+    private final int questionCount = Integer.getInteger("loadtest.question-count", 5);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private PositionRepository positionRepository;
+
+    @DynamicPropertySource
+    static void mlServer(DynamicPropertyRegistry registry) throws IOException {
+        mlStub = new MlStubServer(stubProperties());
+        mlStub.start();
+        registry.add("llm.api.url", () -> "http://127.0.0.1:" + mlStub.port());
+    }
+
+    @AfterAll
+    static void stopMlServer() {
+        if (mlStub != null) {
+            mlStub.stop();
+        }
+    }
+
+    @Test
+    void interviewLifecycle() throws Exception {
+        Integer positionId = seedPosition();
+
+        // 워밍업: JIT/커넥션 풀/캐시를 데운 뒤 집계를 초기화한다
+        new VirtualUser(-1, positionId, new LoadReport()).run(1);
+        DbActivityCounter.reset();
+
+        LoadReport report = new LoadReport();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        report.start();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(i, positionId, report);
+            futures.add(executor.submit(() -> user.run(iterations)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        report.finish();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Map<String, long[]> dbActivity = DbActivityCounter.snapshot();
+        String summary = report.format(dbActivity);
+        System.out.println(summary);
+        Path reportFile = Path.of("build", "reports", "loadtest", "summary.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, summary);
+
+        double errorRate = (double) report.errors() / Math.max(1, report.requests());
+        assertTrue(errorRate <= maxErrorRate,
+                String.format("오류 비율 %.3f가 허용치 %.3f를 넘었습니다", errorRate, maxErrorRate));
+        for (String property : System.getProperties().stringPropertyNames()) {
+            if (property.startsWith("loadtest.max-sql.")) {
+                String step = property.substring("loadtest.max-sql.".length());
+                double budget = Double.parseDouble(System.getProperty(property));
+                double actual = report.statementsPerRequest(step, dbActivity);
+                assertTrue(actual <= budget,
+                        String.format("%s 단계의 요청당 SQL 수 %.1f가 상한 %.1f를 넘었습니다", step, actual, budget));
+            }
+        }
+    }
+
+    /**
+     * 가상 사용자 한 명의 흐름
+     * 단계가 실패하면 해당 면접은 중단하고 다음 면접으로 넘어간다.
+     */
+    private class VirtualUser {
+
+        private final int index;
+        private final Integer positionId;
+        private final LoadReport report;
+
+        private Map<String, String> auth = Map.of();
+
+        VirtualUser(int index, Integer positionId, LoadReport report) {
+            this.index = index;
+            this.positionId = positionId;
+            this.report = report;
+        }
+
+        void run(int interviews) {
+            Integer resumeId;
+            try {
+                resumeId = signUp();
+            } catch (StepFailedException e) {
+                return;
+            }
+
+            for (int i = 0; i < interviews; i++) {
+                try {
+                    interview(resumeId);
+                } catch (StepFailedException e) {
+                    // 기록은 call에서 끝났다
+                }
+            }
+        }
+
+        private Integer signUp() {
+            String email = "load-" + RUN_ID + "-" + (index < 0 ? "warmup" : index) + "@interv.dev";
+            call("register", "POST", "/api/users/register", Map.of(
+                    "email", email,
+                    "password", PASSWORD,
+                    "userName", "부하테스트" + index,
+                    "nickname", "load" + index));
+
+            JsonNode login = call("login", "POST", "/api/auth/login", Map.of("email", email, "password", PASSWORD));
+            auth = Map.of(
+                    "AUTH_USER_ID", login.path("user").path("id").asText(),
+                    "Authorization", "Bearer " + login.path("accessToken").asText());
+
+            JsonNode resume = call("create-resume", "POST", "/api/resume", resumeRequest());
+            return resume.path("id").asInt();
+        }
+
+        private void interview(Integer resumeId) {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("resumeId", resumeId);
+            request.put("positionId", positionId);
+            request.put("type", "TEXT");
+            request.put("mode", "REAL");
+            request.put("useAI", true);
+            request.put("questionCount", questionCount);
+            int interviewId = call("create-interview", "POST", "/api/interviews", request).path("id").asInt();
+
+            call("start-interview", "POST", "/api/interviews/" + interviewId + "/start", null);
+            for (int i = 0; i < questionCount; i++) {
+                JsonNode question = call("next-question", "GET", "/api/interviews/" + interviewId + "/next-question", null);
+                call("submit-answer", "POST", "/api/interviews/questions/" + question.path("id").asInt() + "/answer", Map.of(
+                        "content", "슬로우 쿼리 로그로 병목을 찾고 복합 인덱스를 추가해 주문 조회 응답 시간을 60% 줄였습니다. "
+                                + "이후 실행 계획을 배포 전에 검토하는 절차를 팀에 도입했습니다.",
+                        "useAIEvaluation", true));
+            }
+            call("complete-interview", "POST", "/api/interviews/" + interviewId + "/complete", null);
+        }
+
+        /**
+         * 요청 하나를 보내고 소요 시간을 기록한다. 성공하면 CommonResponse의 data를 반환한다.
+         */
+        private JsonNode call(String step, String method, String path, Object body) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                    .timeout(Duration.ofMinutes(3))
+                    .header(LoadStepFilter.STEP_HEADER, step)
+                    .header("Accept", "application/json");
+            auth.forEach(builder::header);
+            if (body != null) {
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+            } else {
+                builder.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+                long elapsed = System.nanoTime() - startedAt;
+                boolean success = response.statusCode() / 100 == 2;
+                report.record(step, elapsed, success);
+                if (!success) {
+                    System.err.printf("[loadtest] %s %s → %d %s%n", method, path, response.statusCode(),
+                            new String(response.body(), 0, Math.min(200, response.body().length)));
+                    throw new StepFailedException();
+                }
+                return response.body().length == 0 ? objectMapper.nullNode()
+                        : objectMapper.readTree(response.body()).path("data");
+            } catch (IOException e) {
+                report.record(step, System.nanoTime() - startedAt, false);
+                System.err.printf("[loadtest] %s %s → %s%n", method, path, e);
+                throw new StepFailedException();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StepFailedException();
+            }
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private Integer seedPosition() {
+        Company company = new Company();
+        company.setName("부하테스트 주식회사");
+        company.setIndustry("IT");
+        company = companyRepository.save(company);
+
+        Position position = Position.builder()
+                .company(company)
+                .name("백엔드 개발자")
+                .title("백엔드 개발자")
+                .description("Java/Spring 기반 커머스 백엔드 개발")
+                .requiredSkills(new HashSet<>(Set.of("Java", "Spring Boot", "MySQL")))
+                .build();
+        return positionRepository.save(position).getId();
+    }
+
+    private static Map<String, Object> resumeRequest() {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("title", "백엔드 개발자 이력서");
+        request.put("content", """
+                3년차 백엔드 개발자입니다. Java와 Spring Boot 기반으로 커머스 주문/결제 시스템을 개발했습니다.
+                JPA와 QueryDSL로 복잡한 조회를 최적화했고, MySQL 인덱스 튜닝으로 주문 조회 응답 시간을 60% 줄였습니다.
+                Redis 캐시와 Kafka 기반 비동기 처리로 트래픽이 몰리는 이벤트 기간에도 안정적으로 서비스를 운영했습니다.
+                """);
+        request.put("objective", "대용량 트래픽을 안정적으로 처리하는 백엔드 개발자로 성장하고 싶습니다.");
+        request.put("skills", List.of("Java", "Spring Boot", "JPA", "MySQL", "Redis", "Kafka"));
+        request.put("workExperiences", List.of(Map.of(
+                "companyName", "커머스 스타트업",
+                "position", "백엔드 개발자",
+                "startDate", "2022-03-01",
+                "currentlyWorking", true,
+                "responsibilities", "주문/결제 API 개발 및 운영",
+                "achievements", "주문 조회 응답 시간 60% 단축")));
+        request.put("projects", List.of(Map.of(
+                "projectName", "주문 조회 성능 개선",
+                "description", "슬로우 쿼리 분석과 복합 인덱스 설계로 조회 성능 개선",
+                "startDate", "2023-01-01",
+                "endDate", "2023-04-30")));
+        return request;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 내장 ML 스텁 설정: 스텁 기본값 → loadtest-stub.properties → -Dstub.* 순으로 덮어쓴다
+     */
+    private static Properties stubProperties() throws IOException {
+        Properties properties = MlStubServer.loadProperties("--port=0");
+        Properties loadTestDefaults = new Properties();
+        try (InputStream in = InterviewLifecycleLoadTest.class.getResourceAsStream("/loadtest-stub.properties")) {
+            if (in != null) {
+                loadTestDefaults.load(in);
+            }
+        }
+        loadTestDefaults.forEach((key, value) -> {
+            if (System.getProperty("stub." + key) == null) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+        properties.setProperty("port", "0");
+        return properties;
+    }
+
+    @TestConfiguration
+    static class LoadStepConfig {
+
+        @Bean
+        FilterRegistrationBean<LoadStepFilter> loadStepFilter() {
+            FilterRegistrationBean<LoadStepFilter> registration = new FilterRegistrationBean<>(new LoadStepFilter());
+            // 보안 필터에서 실행되는 쿼리까지 단계에 포함되도록 가장 먼저 실행
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    private static final class StepFailedException extends RuntimeException {
+        StepFailedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.swote.interv.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 응답 시간/오류 집계와 결과 표
+ * 단계는 처음 기록된 순서(흐름 순서)대로 출력한다.
+ */
+public class LoadReport {
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private long startedAt;
+    private long finishedAt;
+
+    public synchronized void start() {
+        startedAt = System.nanoTime();
+    }
+
+    public synchronized void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    public synchronized void record(String step, long elapsedNanos, boolean success) {
+        Step stats = steps.computeIfAbsent(step, key -> new Step());
+        if (success) {
+            stats.latencies.add(elapsedNanos);
+        } else {
+            stats.errors++;
+        }
+    }
+
+    public synchronized long errors() {
+        return steps.values().stream().mapToLong(step -> step.errors).sum();
+    }
+
+    public synchronized long requests() {
+        return steps.values().stream().mapToLong(step -> step.latencies.size() + step.errors).sum();
+    }
+
+    /**
+     * 단계별 요청 1건당 평균 SQL 수 (요청이 없으면 0)
+     */
+    public synchronized double statementsPerRequest(String step, Map<String, long[]> dbActivity) {
+        Step stats = steps.get(step);
+        long[] activity = dbActivity.get(step);
+        if (stats == null || activity == null || stats.latencies.isEmpty()) {
+            return 0;
+        }
+        return (double) activity[0] / (stats.latencies.size() + stats.errors);
+    }
+
+    /**
+     * 결과 표
+     *
+     * @param dbActivity DbActivityCounter.snapshot() 결과
+     */
+    public synchronized String format(Map<String, long[]> dbActivity) {
+        double elapsedSeconds = Math.max(1, finishedAt - startedAt) / 1e9;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n=== 면접 흐름 부하 테스트 결과 (%.1fs, 전체 %d건, 오류 %d건, %.1f req/s) ===%n",
+                elapsedSeconds, requests(), errors(), requests() / elapsedSeconds));
+        out.append(String.format("%-16s %7s %6s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "sql/req", "rows/req"));
+
+        for (Map.Entry<String, Step> entry : steps.entrySet()) {
+            Step step = entry.getValue();
+            long[] sorted = step.latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long count = sorted.length + step.errors;
+            long[] activity = dbActivity.getOrDefault(entry.getKey(), new long[2]);
+            out.append(String.format("%-16s %7d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), count, step.errors, count / elapsedSeconds,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)), millis(percentile(sorted, 0.99)),
+                    (double) activity[0] / Math.max(1, count), (double) activity[1] / Math.max(1, count)));
+        }
+
+        long[] background = dbActivity.get(DbActivityCounter.BACKGROUND);
+        if (background != null) {
+            out.append(String.format("%-16s 요청 외 스레드(비동기 평가, 사전 생성 등): SQL %d, 로드된 엔티티 %d%n",
+                    DbActivityCounter.BACKGROUND, background[0], background[1]));
+        }
+        return out.toString();
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        // nearest-rank
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Step {
+        final List<Long> latencies = new ArrayList<>();
+        long errors;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.swote.interv.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 부하 생성기가 붙인 단계 헤더를 요청 스레드에 기록해 DbActivityCounter가 단계별로 집계하게 한다
+ */
+public class LoadStepFilter extends OncePerRequestFilter {
+
+    public static final String STEP_HEADER = "X-Load-Step";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String step = request.getHeader(STEP_HEADER);
+        if (step == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        DbActivityCounter.enter(step);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbActivityCounter.exit();
+        }
+    }
+}
@@ -2,11 +2,15 @@ package dev.swote.interv.config;
 
 import dev.swote.interv.domain.core.ResponseWrapper;
 import dev.swote.interv.exception.BaseException;
+import dev.swote.interv.exception.RateLimitExceededException;
 import dev.swote.interv.util.MessageConverter;
 import jakarta.validation.UnexpectedTypeException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,6 +35,29 @@ public class CommonControllerAdvice {
                 );
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ResponseWrapper> rateLimitExceededHandler(RateLimitExceededException e) {
+        return ResponseEntity.status(e.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(
+                        ResponseWrapper.builder()
+                                .message(e.getMessage())
+                                .build()
+                );
+    }
+
+    @ExceptionHandler({TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<ResponseWrapper> deadlineExceededHandler(RuntimeException e) {
+        log.warn("요청 처리 제한 시간 초과: {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(
+                        ResponseWrapper.builder()
+                                .message(MessageConverter.getMessage("error.request.deadline.exceeded"))
+                                .build()
+                );
+    }
+
     @ExceptionHandler(NoSuchAlgorithmException.class)
     public ResponseEntity<ResponseWrapper> NoSuchAlgorithmExceptionHandler(){
         log.error("Server settings errors: In the com.pub.data.util.security.PasswordCoder, "
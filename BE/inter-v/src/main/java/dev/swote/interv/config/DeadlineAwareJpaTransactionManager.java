@@ -0,0 +1,42 @@
+package dev.swote.interv.config;
+
+import dev.swote.interv.util.RequestDeadline;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * 요청 마감 시각을 트랜잭션 타임아웃으로 사용하는 JpaTransactionManager
+ * - 트랜잭션 타임아웃은 EntityManagerFactoryUtils를 통해 트랜잭션 안의 모든 쿼리에
+ *   jakarta.persistence.query.timeout 힌트로 적용되므로, 요청 시간을 넘기는 쿼리는 DB에서 중단된다.
+ * - @Transactional(timeout)이 더 짧으면 그 값을 따르고, 요청 마감이 없는 스레드(배치, 이벤트 처리)는 기존 동작과 같다.
+ * - 마감 시각이 이미 지났으면 트랜잭션을 시작하지 않는다.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int configured = super.determineTimeout(definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return configured;
+        }
+
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            throw new TransactionTimedOutException("요청 처리 제한 시간이 지나 트랜잭션을 시작하지 않음: " + definition.getName());
+        }
+
+        // 초 단위 올림 (1초 미만 남아도 최소 1초)
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingNanos + 999_999_999L) / 1_000_000_000L);
+        if (configured == TransactionDefinition.TIMEOUT_DEFAULT) {
+            return remainingSeconds;
+        }
+        return Math.min(configured, remainingSeconds);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.swote.interv.config;
+
+import dev.swote.interv.service.interview.EvaluationJobWorker;
+import org.quartz.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 답변 평가 작업 Quartz 스케줄 설정
+ * @author swote
+ */
+@Configuration
+public class EvaluationJobConfig {
+
+    @Value("${interview.evaluation-job.poll-interval:2s}")
+    private Duration pollInterval;
+
+    @Bean
+    public JobDetail evaluationJobDetail() {
+        return JobBuilder.newJob(EvaluationJobWorker.class)
+                .withIdentity("evaluationJobWorker")
+                .withDescription("답변 평가 작업 처리")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger evaluationJobTrigger(JobDetail evaluationJobDetail) {
+        return TriggerBuilder.newTrigger()
+                .forJob(evaluationJobDetail)
+                .withIdentity("evaluationJobTrigger")
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(pollInterval.toMillis())
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package dev.swote.interv.config;
+
+import dev.swote.interv.domain.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 기반 ID 생성기 값을 기존 데이터에 맞춤
+ * IDENTITY(AUTO_INCREMENT)로 쌓인 행이 있는 DB에서 ID 생성기 행이 없거나 뒤처져 있으면
+ * 이미 사용된 ID를 다시 발급하게 되므로, 기동 시 "최대 ID + 예약 개수" 이상으로 올려 둔다.
+ * (값은 올리기만 하므로 여러 인스턴스가 동시에 기동해도 안전하다)
+ */
+@Slf4j
+@Component
+public class IdGeneratorInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * EntityManagerFactory는 사용하지 않지만 스키마 생성(ddl-auto) 이후에 실행되도록 의존성으로 받는다.
+     */
+    public IdGeneratorInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignWithExistingIds() {
+        align(IdGenerators.QUESTION);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void align(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+
+        long floor = maxId + IdGenerators.ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? " +
+                        "WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                floor, table, floor);
+        if (updated > 0) {
+            log.info("ID 생성기 값 조정 - 테이블: {}, 다음 값: {}", table, floor);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                Integer.class, table);
+        if (rows != null && rows == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    table, floor);
+            log.info("ID 생성기 초기화 - 테이블: {}, 다음 값: {}", table, floor);
+        }
+    }
+}
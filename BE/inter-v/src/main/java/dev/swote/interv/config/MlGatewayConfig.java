@@ -0,0 +1,131 @@
+package dev.swote.interv.config;
+
+import dev.swote.interv.service.ai.MlBulkhead;
+import dev.swote.interv.service.ai.MlBulkheads;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * ML 서버 비동기 HTTP 클라이언트 설정
+ * - HttpClient(격벽별 + 기본)는 각자 동시 요청 한도만큼의 I/O 스레드를 가진다.
+ * - 응답 파싱과 DB 후속 처리는 I/O 스레드와 분리된 mlGatewayExecutor에서 실행된다.
+ * @author swote
+ */
+@Configuration
+public class MlGatewayConfig implements DisposableBean {
+
+    private static final int DEFAULT_CLIENT_THREADS = 2;
+
+    @Value("${llm.api.timeout.connect:3}")
+    private long connectTimeoutSeconds;
+
+    @Value("${llm.api.executor.pool-size:16}")
+    private int executorPoolSize;
+
+    @Value("${llm.api.executor.queue-capacity:500}")
+    private int executorQueueCapacity;
+
+    // 빈으로 등록하지 않은 HttpClient I/O 스레드 풀 (종료 시 함께 정리)
+    private final List<ThreadPoolTaskExecutor> clientExecutors = new CopyOnWriteArrayList<>();
+
+    /**
+     * ML 응답 후속 처리(파싱, 답변 저장 등)를 수행하는 스레드 풀
+     * 요청 스레드는 ML 응답을 기다리지 않고 반환되므로, 후속 작업은 이 풀에서 실행된다.
+     * HttpClient I/O에는 쓰지 않으므로 DB 작업이 길어져도 ML 응답 수신이 막히지 않는다.
+     * 대기열이 가득 차면 넘겨준 스레드(HttpClient I/O 스레드)에서 직접 실행해 응답을 버리지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mlGatewayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(executorPoolSize);
+        executor.setMaxPoolSize(executorPoolSize);
+        executor.setQueueCapacity(executorQueueCapacity);
+        executor.setThreadNamePrefix("ml-gateway-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 헬스 체크 등 격벽에 속하지 않는 호출용 클라이언트
+     */
+    @Bean
+    public HttpClient mlHttpClient() {
+        return newHttpClient("ml-http-default-", DEFAULT_CLIENT_THREADS);
+    }
+
+    /**
+     * 엔드포인트 그룹별 격벽. 그룹마다 HttpClient를 따로 만들어 커넥션 풀을 분리한다.
+     * 설정: llm.api.bulkhead.{question-generation|evaluation|similarity|simulation}.{max-concurrent|max-queue|max-wait}
+     */
+    @Bean
+    public MlBulkheads mlBulkheads(Environment environment, MeterRegistry meterRegistry) {
+        Map<MlBulkhead.Type, MlBulkhead> bulkheads = new EnumMap<>(MlBulkhead.Type.class);
+        bulkheads.put(MlBulkhead.Type.QUESTION_GENERATION,
+                newBulkhead(MlBulkhead.Type.QUESTION_GENERATION, 8, 16, Duration.ofSeconds(10), environment, meterRegistry));
+        bulkheads.put(MlBulkhead.Type.EVALUATION,
+                newBulkhead(MlBulkhead.Type.EVALUATION, 16, 64, Duration.ofSeconds(5), environment, meterRegistry));
+        bulkheads.put(MlBulkhead.Type.SIMILARITY,
+                newBulkhead(MlBulkhead.Type.SIMILARITY, 16, 64, Duration.ofSeconds(5), environment, meterRegistry));
+        bulkheads.put(MlBulkhead.Type.SIMULATION,
+                newBulkhead(MlBulkhead.Type.SIMULATION, 4, 8, Duration.ofSeconds(10), environment, meterRegistry));
+        return new MlBulkheads(bulkheads);
+    }
+
+    @Override
+    public void destroy() {
+        clientExecutors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private MlBulkhead newBulkhead(MlBulkhead.Type type, int defaultMaxConcurrent, int defaultMaxQueue,
+                                   Duration defaultMaxWait, Environment environment, MeterRegistry meterRegistry) {
+        String prefix = "llm.api.bulkhead." + type.getName() + ".";
+        int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, defaultMaxConcurrent);
+        return new MlBulkhead(
+                type,
+                // 격벽마다 동시 요청 한도만큼의 I/O 스레드를 따로 둬 다른 그룹과 스레드를 나눠 쓰지 않게 한다
+                newHttpClient("ml-http-" + type.getName() + "-", maxConcurrent),
+                maxConcurrent,
+                environment.getProperty(prefix + "max-queue", Integer.class, defaultMaxQueue),
+                environment.getProperty(prefix + "max-wait", Duration.class, defaultMaxWait),
+                meterRegistry);
+    }
+
+    private HttpClient newHttpClient(String threadNamePrefix, int threads) {
+        return HttpClient.newBuilder()
+                // uvicorn은 h2c 업그레이드를 지원하지 않으므로 HTTP/1.1 고정
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .executor(newClientExecutor(threadNamePrefix, threads))
+                .build();
+    }
+
+    /**
+     * HttpClient I/O 스레드 풀. HttpClient 내부 작업이 거부되지 않도록 대기열은 제한하지 않는다.
+     */
+    private ThreadPoolTaskExecutor newClientExecutor(String threadNamePrefix, int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, threads));
+        executor.setMaxPoolSize(Math.max(1, threads));
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setDaemon(true);
+        executor.initialize();
+        clientExecutors.add(executor);
+        return executor;
+    }
+}
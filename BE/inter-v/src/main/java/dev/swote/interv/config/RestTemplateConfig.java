@@ -1,12 +1,17 @@
 package dev.swote.interv.config;
 
 import dev.swote.interv.interceptor.RestTemplateLoggingInterceptor;
+import dev.swote.interv.util.RequestDeadline;
 import lombok.RequiredArgsConstructor;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,23 +21,35 @@ import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
  * Rest Template 설정
+ * - 연결/읽기 타임아웃은 ML 게이트웨이(llm.api.timeout.*)와 같은 값을 사용한다.
+ * - 요청 스레드에 마감 시각(RequestDeadline)이 있으면 응답 대기 시간을 남은 시간으로 줄인다.
  * @author swote
  */
 @Configuration
 @RequiredArgsConstructor
 public class RestTemplateConfig {
 
+    @Value("${llm.api.timeout.connect:3}")
+    private long connectTimeoutSeconds;
+
+    @Value("${llm.api.timeout.read:60}")
+    private long readTimeoutSeconds;
+
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        Duration connectTimeout = Duration.ofSeconds(connectTimeoutSeconds);
+        Duration readTimeout = Duration.ofSeconds(readTimeoutSeconds);
+
         HttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
                 .setDefaultConnectionConfig(
                         ConnectionConfig.custom()
-                                .setSocketTimeout(4000, TimeUnit.MILLISECONDS)
-                                .setConnectTimeout(5000, TimeUnit.MILLISECONDS)
+                                // 소켓 타임아웃이 읽기 타임아웃보다 짧으면 읽기 타임아웃 설정이 의미가 없으므로 같은 값 사용
+                                .setSocketTimeout(Timeout.of(readTimeout))
+                                .setConnectTimeout(Timeout.of(connectTimeout))
                                 .build()
                 )
                 .setMaxConnTotal(50)
@@ -46,8 +63,9 @@ public class RestTemplateConfig {
         HttpComponentsClientHttpRequestFactory f = new HttpComponentsClientHttpRequestFactory();
         f.setHttpClient(c);
 
-        f.setConnectTimeout(3000); // 연결 시도 타임아웃 (ms)
-        f.setReadTimeout(60000); // 응답 대기 타임아웃 (ms) - 60초로 확장
+        f.setConnectTimeout(connectTimeout); // 연결 시도 타임아웃
+        f.setReadTimeout(readTimeout); // 응답 대기 타임아웃
+        f.setHttpContextFactory((method, uri) -> deadlineContext(connectTimeout, readTimeout));
 
         return restTemplateBuilder
                 .requestFactory(() -> new BufferingClientHttpRequestFactory(f))
@@ -56,4 +74,22 @@ public class RestTemplateConfig {
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * 요청 마감 시각이 있으면 남은 시간을 응답 대기 시간으로 사용하는 요청별 설정 (없으면 기본 설정)
+     */
+    private HttpClientContext deadlineContext(Duration connectTimeout, Duration readTimeout) {
+        if (RequestDeadline.current() == null) {
+            return null;
+        }
+
+        Duration remaining = RequestDeadline.timeoutOr(readTimeout);
+        Timeout responseTimeout = Timeout.ofMilliseconds(Math.max(1, remaining.toMillis()));
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                .setResponseTimeout(responseTimeout)
+                .build());
+        return context;
+    }
+
+}
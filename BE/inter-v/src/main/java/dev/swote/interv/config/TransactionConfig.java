@@ -0,0 +1,22 @@
+package dev.swote.interv.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 트랜잭션 매니저 설정
+ * @author swote
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * Spring Boot 기본 JpaTransactionManager 대신 요청 마감 시각을 반영하는 매니저 사용
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new DeadlineAwareJpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -3,6 +3,8 @@ package dev.swote.interv.config;
 import dev.swote.interv.domain.user.repository.UserRepository;
 import dev.swote.interv.interceptor.CurrentUserArgumentResolver;
 import dev.swote.interv.interceptor.CurrentUserInterceptor;
+import dev.swote.interv.interceptor.MlRateLimitInterceptor;
+import dev.swote.interv.interceptor.RequestDeadlineFilter;
 import dev.swote.interv.interceptor.RequestInfoInterceptor;
 import dev.swote.interv.util.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final UserRepository userRepository;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RequestDeadlineFilter requestDeadlineFilter;
+    private final MlRateLimitInterceptor mlRateLimitInterceptor;
 
     @Value("${spring.profiles.active:local}")
     private String activeProfile;
@@ -35,6 +39,17 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(new RequestInfoInterceptor());
+        registry.addInterceptor(mlRateLimitInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilterRegistration() {
+        FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(requestDeadlineFilter);
+        registration.addUrlPatterns("/api/*");
+        // 인증 처리 시간까지 포함하도록 가장 먼저 실행
+        registration.setOrder(0);
+        return registration;
     }
 
     @Bean
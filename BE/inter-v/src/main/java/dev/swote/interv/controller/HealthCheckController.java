@@ -1,6 +1,7 @@
 // 면접 서비스 상태 확인 및 테스트용 컨트롤러
 package dev.swote.interv.controller;
 
+import dev.swote.interv.interceptor.MlRateLimited;
 import dev.swote.interv.service.interview.InterviewService;
 import dev.swote.interv.service.ai.LlmService;
 import dev.swote.interv.domain.interview.entity.Question;
@@ -60,6 +61,7 @@ public class HealthCheckController {
     /**
      * LLM 서비스 연결 테스트
      */
+    @MlRateLimited
     @PostMapping("/llm/test")
     public ResponseEntity<Map<String, Object>> testLlmConnection(@RequestBody(required = false) Map<String, String> testData) {
         Map<String, Object> result = new HashMap<>();
@@ -4,7 +4,13 @@ import dev.swote.interv.config.CommonResponse;
 import dev.swote.interv.domain.interview.dto.*;
 import dev.swote.interv.domain.interview.entity.*;
 import dev.swote.interv.interceptor.CurrentUser;
+import dev.swote.interv.interceptor.MlRateLimited;
+import dev.swote.interv.interceptor.MlRateLimiter;
+import dev.swote.interv.service.ai.EvaluationBatcher;
 import dev.swote.interv.service.ai.MLIntegrationService;
+import dev.swote.interv.service.ai.MlCallContext;
+import dev.swote.interv.service.interview.EvaluationJobService;
+import dev.swote.interv.service.interview.InterviewQuestionStreamService;
 import dev.swote.interv.service.interview.InterviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +23,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -25,9 +32,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -38,6 +50,15 @@ public class InterviewController {
 
     private final InterviewService interviewService;
     private final MLIntegrationService mlIntegrationService;
+    private final EvaluationJobService evaluationJobService;
+    private final InterviewQuestionStreamService interviewQuestionStreamService;
+    private final MlRateLimiter mlRateLimiter;
+
+    @Value("${interview.question-stream.timeout:3m}")
+    private Duration questionStreamTimeout;
+
+    @Value("${rate-limit.ml.answer-evaluation-cost:1}")
+    private int answerEvaluationCost;
 
     @GetMapping
     @Operation(
@@ -119,6 +140,7 @@ public class InterviewController {
         return ResponseEntity.ok(CommonResponse.ok(interview));
     }
 
+    @MlRateLimited
     @PostMapping
     @Operation(
             summary = "면접 세션 생성",
@@ -148,6 +170,31 @@ public class InterviewController {
                 .body(CommonResponse.ok(interview));
     }
 
+    @MlRateLimited
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "면접 세션 생성 (질문 스트리밍)",
+            description = "면접 세션을 생성하고 AI가 질문을 생성하는 대로 Server-Sent Events로 전송합니다. " +
+                    "이벤트 순서: interview(세션 정보) → question(질문마다 1개) → complete. " +
+                    "AI 생성이 중간에 실패하면 부족한 질문은 기본 질문으로 채워집니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "질문 스트리밍 시작"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "404", description = "이력서 또는 포지션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public SseEmitter createInterviewStream(
+            @Parameter(hidden = true) CurrentUser currentUser,
+            @Valid @RequestBody CreateInterviewRequest request
+    ) {
+        SseEmitter emitter = new SseEmitter(questionStreamTimeout.toMillis());
+        interviewQuestionStreamService.createInterview(currentUser.id(), request, emitter);
+        return emitter;
+    }
+
+    @MlRateLimited
     @PostMapping("/{interviewId}/questions/generate")
     @Operation(
             summary = "추가 질문 생성",
@@ -164,27 +211,28 @@ public class InterviewController {
             ),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
             @ApiResponse(responseCode = "404", description = "면접 세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "AI 요청 빈도 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "503", description = "AI 서비스 일시적 불가"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<CommonResponse<List<QuestionResponse>>> generateQuestions(
+    public CompletableFuture<ResponseEntity<CommonResponse<List<QuestionResponse>>>> generateQuestions(
             @Parameter(description = "질문을 추가할 면접 세션 ID", example = "1")
             @PathVariable Integer interviewId,
             @Valid @RequestBody GenerateQuestionsRequest request
     ) {
-        List<Question> questions = mlIntegrationService.generateInterviewQuestions(
+        return mlIntegrationService.generateInterviewQuestionsAsync(
                 request.getResumeContent(),
                 request.getPosition(),
                 request.getQuestionCount()
-        );
+        ).thenApply(questions -> {
+            List<QuestionResponse> questionResponses = new ArrayList<>();
+            for (Question question : questions) {
+                QuestionResponse questionResponse = interviewService.addQuestionToInterview(interviewId, question);
+                questionResponses.add(questionResponse);
+            }
 
-        List<QuestionResponse> questionResponses = new ArrayList<>();
-        for (Question question : questions) {
-            QuestionResponse questionResponse = interviewService.addQuestionToInterview(interviewId, question);
-            questionResponses.add(questionResponse);
-        }
-
-        return ResponseEntity.ok(CommonResponse.ok(questionResponses));
+            return ResponseEntity.ok(CommonResponse.ok(questionResponses));
+        });
     }
 
     @PostMapping("/{interviewId}/start")
@@ -276,6 +324,7 @@ public class InterviewController {
         return ResponseEntity.ok(CommonResponse.ok(question));
     }
 
+    @MlRateLimited
     @PostMapping("/questions/{questionId}/answer")
     @Operation(
             summary = "텍스트 답변 제출",
@@ -292,49 +341,142 @@ public class InterviewController {
             ),
             @ApiResponse(responseCode = "400", description = "잘못된 답변 데이터"),
             @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "AI 요청 빈도 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "503", description = "AI 평가 서비스 일시적 불가"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<CommonResponse<AnswerWithEvaluationResponse>> submitTextAnswer(
+    public CompletableFuture<ResponseEntity<CommonResponse<AnswerWithEvaluationResponse>>> submitTextAnswer(
             @Parameter(description = "답변할 질문 ID", example = "1")
             @PathVariable Integer questionId,
             @Valid @RequestBody SubmitAnswerRequest request
     ) {
-        AnswerResponse answerResponse = interviewService.submitTextAnswer(questionId, request.getContent());
+        // 답변 피드백 비용은 인터셉터가 부과하고, AI 평가 추가 비용은 요청 바디로 정해지므로 여기서 적용
+        if (request.isUseAIEvaluation()) {
+            mlRateLimiter.acquire("answer-evaluation", answerEvaluationCost);
+        }
 
-        AnswerEvaluationResponse evaluationResponse = null;
+        CompletableFuture<AnswerResponse> answerFuture = interviewService.submitTextAnswer(questionId, request.getContent());
+
+        // AI 평가는 답변 피드백 생성과 병렬로 진행
+        CompletableFuture<AnswerEvaluation> evaluationFuture = CompletableFuture.completedFuture(null);
         if (request.isUseAIEvaluation()) {
             Question question = interviewService.getQuestionById(questionId);
-            AnswerEvaluation evaluation = mlIntegrationService.evaluateAnswer(
-                    question.getContent(),
-                    request.getContent(),
-                    request.getResumeContent(),
-                    request.getCoverLetter()
-            );
-            interviewService.saveAnswerEvaluation(answerResponse.getId(), evaluation);
-
-            // AnswerEvaluation -> AnswerEvaluationResponse 변환
-            evaluationResponse = AnswerEvaluationResponse.builder()
-                    .id(evaluation.getId())
-                    .relevance(evaluation.getRelevance())
-                    .specificity(evaluation.getSpecificity())
-                    .practicality(evaluation.getPracticality())
-                    .validity(evaluation.getValidity())
-                    .totalScore(evaluation.getTotalScore())
-                    .feedback(evaluation.getFeedback())
-                    .evaluationType(evaluation.getEvaluationType())
-                    .build();
+            evaluationFuture = MlCallContext.supplyWith(interviewService.getEvaluationContext(questionId),
+                    () -> mlIntegrationService.evaluateAnswerAsync(
+                            question.getContent(),
+                            request.getContent(),
+                            request.getResumeContent(),
+                            request.getCoverLetter()
+                    ));
         }
 
-        AnswerWithEvaluationResponse response = AnswerWithEvaluationResponse.builder()
-                .answer(answerResponse)
-                .evaluation(evaluationResponse)
-                .build();
+        return answerFuture.thenCombine(evaluationFuture, (answerResponse, evaluation) -> {
+            AnswerEvaluationResponse evaluationResponse = null;
+            if (evaluation != null) {
+                interviewService.saveAnswerEvaluation(answerResponse.getId(), evaluation);
 
-        return ResponseEntity.status(HttpStatus.CREATED)
+                // AnswerEvaluation -> AnswerEvaluationResponse 변환
+                evaluationResponse = AnswerEvaluationResponse.builder()
+                        .id(evaluation.getId())
+                        .relevance(evaluation.getRelevance())
+                        .specificity(evaluation.getSpecificity())
+                        .practicality(evaluation.getPracticality())
+                        .validity(evaluation.getValidity())
+                        .totalScore(evaluation.getTotalScore())
+                        .feedback(evaluation.getFeedback())
+                        .evaluationType(evaluation.getEvaluationType())
+                        .build();
+            }
+
+            AnswerWithEvaluationResponse response = AnswerWithEvaluationResponse.builder()
+                    .answer(answerResponse)
+                    .evaluation(evaluationResponse)
+                    .build();
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(CommonResponse.ok(response));
+        });
+    }
+
+    @MlRateLimited
+    @PostMapping("/questions/{questionId}/relevance")
+    @Operation(
+            summary = "답변 종합 관련도 평가",
+            description = "답변에 대한 키워드 유사도, 의미론적 유사도, AI 평가를 병렬로 계산해 하나의 결과로 반환합니다. " +
+                    "제한 시간 안에 끝나지 않은 항목은 비워 두고 partial=true로 응답합니다. 답변은 저장되지 않습니다. " +
+                    "이력서 내용을 보내지 않으면 면접 세션의 이력서를 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "종합 관련도 평가 성공 (일부 항목 누락 가능)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AnswerRelevanceResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 답변 데이터"),
+            @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public CompletableFuture<ResponseEntity<CommonResponse<AnswerRelevanceResponse>>> scoreAnswerRelevance(
+            @Parameter(description = "평가할 질문 ID", example = "1")
+            @PathVariable Integer questionId,
+            @Valid @RequestBody SubmitAnswerRequest request
+    ) {
+        Question question = interviewService.getQuestionById(questionId);
+        String resumeContent = request.getResumeContent() != null && !request.getResumeContent().isBlank()
+                ? request.getResumeContent()
+                : interviewService.getResumeContentForQuestion(questionId);
+
+        return mlIntegrationService.scoreAnswerRelevanceAsync(
+                        question.getContent(),
+                        request.getContent(),
+                        resumeContent,
+                        request.getCoverLetter())
+                .thenApply(relevance -> ResponseEntity.ok(CommonResponse.ok(relevance)));
+    }
+
+    @MlRateLimited
+    @PostMapping("/questions/{questionId}/answer/async")
+    @Operation(
+            summary = "텍스트 답변 제출 (비동기 평가)",
+            description = "답변을 즉시 저장하고 AI 평가 작업을 등록합니다. 평가 결과는 반환된 작업 ID로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "답변 저장 및 평가 작업 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 답변 데이터"),
+            @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<CommonResponse<EvaluationJobResponse>> submitTextAnswerAsync(
+            @Parameter(description = "답변할 질문 ID", example = "1")
+            @PathVariable Integer questionId,
+            @Valid @RequestBody SubmitAnswerRequest request
+    ) {
+        EvaluationJobResponse response = interviewService.submitTextAnswerForEvaluation(questionId, request.getContent());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
                 .body(CommonResponse.ok(response));
     }
 
+    @GetMapping("/evaluation-jobs/{jobId}")
+    @Operation(
+            summary = "답변 평가 작업 조회",
+            description = "비동기 평가 작업의 상태를 조회합니다. 상태가 COMPLETED이면 평가 결과가 함께 반환됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "평가 작업 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "평가 작업을 찾을 수 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<CommonResponse<EvaluationJobResponse>> getEvaluationJob(
+            @Parameter(description = "평가 작업 ID", example = "1")
+            @PathVariable Integer jobId
+    ) {
+        return ResponseEntity.ok(CommonResponse.ok(evaluationJobService.getJob(jobId)));
+    }
+
+    @MlRateLimited
     @PostMapping(value = "/questions/{questionId}/answer/audio", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(
             summary = "음성 답변 제출",
@@ -395,6 +537,7 @@ public class InterviewController {
         return ResponseEntity.ok(CommonResponse.ok(audioUrl));
     }
 
+    @MlRateLimited
     @PostMapping("/{interviewId}/simulate")
     @Operation(
             summary = "면접 시뮬레이션",
@@ -411,24 +554,62 @@ public class InterviewController {
             ),
             @ApiResponse(responseCode = "400", description = "잘못된 시뮬레이션 요청 데이터"),
             @ApiResponse(responseCode = "404", description = "면접 세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "429", description = "AI 요청 빈도 한도 초과 (Retry-After 헤더 참고)"),
             @ApiResponse(responseCode = "503", description = "AI 시뮬레이션 서비스 일시적 불가"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
     })
-    public ResponseEntity<CommonResponse<InterviewSimulationResult>> simulateInterview(
+    public CompletableFuture<ResponseEntity<CommonResponse<InterviewSimulationResult>>> simulateInterview(
             @Parameter(description = "시뮬레이션할 면접 세션 ID", example = "1")
             @PathVariable Integer interviewId,
             @Valid @RequestBody SimulateInterviewRequest request
     ) {
-        InterviewSimulationResult result = mlIntegrationService.simulateInterview(
+        return mlIntegrationService.simulateInterviewAsync(
                 request.getResumeContent(),
                 request.getCoverLetter(),
                 request.getJobDescription(),
                 request.getUserAnswer(),
                 request.getNumQuestions()
-        );
+        ).thenApply(result -> {
+            interviewService.saveSimulationResult(interviewId, result);
+            return ResponseEntity.ok(CommonResponse.ok(result));
+        });
+    }
 
-        interviewService.saveSimulationResult(interviewId, result);
-        return ResponseEntity.ok(CommonResponse.ok(result));
+    @MlRateLimited
+    @PostMapping("/{interviewId}/evaluate")
+    @Operation(
+            summary = "면접 답변 일괄 평가",
+            description = "면접 세션에 제출된 모든 답변을 한 번의 AI 요청으로 평가합니다. 이미 평가된 답변은 새 결과로 갱신됩니다. "
+                    + "일부 답변의 평가가 실패하면 해당 답변은 갱신하지 않고 evaluationType=FAILED로 응답하며, 모두 실패하면 503을 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 평가 성공"),
+            @ApiResponse(responseCode = "404", description = "면접 세션을 찾을 수 없음"),
+            @ApiResponse(responseCode = "503", description = "AI 평가 서비스 일시적 불가"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public CompletableFuture<ResponseEntity<CommonResponse<List<AnswerEvaluationResponse>>>> evaluateInterview(
+            @Parameter(description = "평가할 면접 세션 ID", example = "1")
+            @PathVariable Integer interviewId
+    ) {
+        Map<Integer, EvaluationBatcher.EvaluationItem> items = interviewService.getAnswersForEvaluation(interviewId);
+        List<Integer> answerIds = new ArrayList<>(items.keySet());
+
+        return mlIntegrationService.evaluateAnswersAsync(new ArrayList<>(items.values()))
+                .thenApply(evaluations -> {
+                    // 평가에 실패한 답변은 기존 평가를 덮어쓰지 않고 FAILED로만 응답한다
+                    Map<Integer, AnswerEvaluation> evaluationsByAnswer = new LinkedHashMap<>();
+                    List<Integer> failedAnswerIds = new ArrayList<>();
+                    for (int i = 0; i < answerIds.size(); i++) {
+                        if (evaluations.get(i) != null) {
+                            evaluationsByAnswer.put(answerIds.get(i), evaluations.get(i));
+                        } else {
+                            failedAnswerIds.add(answerIds.get(i));
+                        }
+                    }
+                    return ResponseEntity.ok(CommonResponse.ok(
+                            interviewService.saveAnswerEvaluations(evaluationsByAnswer, failedAnswerIds)));
+                });
     }
 
     @PostMapping("/{interviewId}/share")
@@ -515,6 +696,27 @@ public class InterviewController {
         return ResponseEntity.ok(CommonResponse.ok(questions));
     }
 
+    @MlRateLimited
+    @GetMapping("/questions/similar")
+    @Operation(
+            summary = "유사 질문 검색",
+            description = "입력한 문장과 의미가 가까운 면접 질문을 임베딩 유사도 순으로 검색합니다. 같은 내용의 질문은 하나로 묶입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "유사 질문 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 파라미터"),
+            @ApiResponse(responseCode = "503", description = "ML 서버 사용 불가"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<CommonResponse<List<QuestionResponse>>> searchSimilarQuestions(
+            @Parameter(description = "검색 문장", example = "대용량 트래픽을 처리한 경험")
+            @RequestParam String query,
+            @Parameter(description = "최대 결과 수 (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(CommonResponse.ok(interviewService.searchSimilarQuestions(query, limit)));
+    }
+
     @PostMapping("/questions/{questionId}/favorite")
     @Operation(
             summary = "질문 즐겨찾기 토글",
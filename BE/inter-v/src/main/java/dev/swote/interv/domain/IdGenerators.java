@@ -0,0 +1,23 @@
+package dev.swote.interv.domain;
+
+/**
+ * 테이블 기반(pooled) ID 생성기 설정
+ * IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 JDBC 배치가 꺼지므로,
+ * 한 번에 여러 건을 저장하는 엔티티는 이 테이블에서 ID 구간을 미리 받아 쓴다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "tb_id_generator";
+    public static final String NAME_COLUMN = "name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 한 번에 예약하는 ID 개수 (ID 테이블 갱신은 이 개수마다 한 번)
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String QUESTION = "tb_question";
+
+    private IdGenerators() {
+    }
+}
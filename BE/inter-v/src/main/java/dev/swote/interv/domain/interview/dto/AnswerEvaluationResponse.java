@@ -16,6 +16,9 @@ public class AnswerEvaluationResponse {
     @Schema(description = "평가 고유 ID", example = "1")
     private Integer id;
 
+    @Schema(description = "평가 대상 답변 ID", example = "1")
+    private Integer answerId;
+
     @Schema(description = "관련성 점수 (1-10)", example = "8", minimum = "1", maximum = "10")
     private Integer relevance;
 
@@ -41,9 +44,9 @@ public class AnswerEvaluationResponse {
     private String feedback;
 
     @Schema(
-            description = "평가 유형",
+            description = "평가 유형 (FAILED: 일괄 평가 중 이 답변의 AI 평가가 실패하여 저장하지 않음)",
             example = "AI_FASTAPI",
-            allowableValues = {"AI", "HUMAN", "AUTO", "AI_FASTAPI"}
+            allowableValues = {"AI", "HUMAN", "AUTO", "AI_FASTAPI", "FAILED"}
     )
     private String evaluationType;
 }
\ No newline at end of file
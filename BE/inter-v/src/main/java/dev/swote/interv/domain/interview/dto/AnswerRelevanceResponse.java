@@ -0,0 +1,38 @@
+package dev.swote.interv.domain.interview.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "답변 종합 관련도 평가 결과 DTO (키워드/의미 유사도 + AI 평가)")
+public class AnswerRelevanceResponse {
+
+    @Schema(description = "이력서/자기소개서와 일치한 키워드", example = "[\"Spring Boot\", \"JPA\"]")
+    private List<String> matchedKeywords;
+
+    @Schema(description = "키워드 일치 점수 (0-1)", example = "0.42")
+    private Double keywordMatchScore;
+
+    @Schema(description = "의미론적 유사도 (0-1)", example = "0.78")
+    private Double semanticSimilarity;
+
+    @Schema(description = "AI 답변 평가 결과")
+    private AnswerEvaluationResponse evaluation;
+
+    @Schema(description = "제한 시간 내에 일부 평가만 완료되었는지 여부", example = "false")
+    private boolean partial;
+
+    @Schema(description = "제한 시간 초과 또는 오류로 빠진 항목 (KEYWORD, SEMANTIC, EVALUATION)", example = "[]")
+    private List<String> missingParts;
+
+    @Schema(description = "처리 소요 시간 (ms)", example = "3120")
+    private long elapsedMs;
+}
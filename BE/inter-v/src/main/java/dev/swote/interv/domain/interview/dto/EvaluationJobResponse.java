@@ -0,0 +1,42 @@
+package dev.swote.interv.domain.interview.dto;
+
+import dev.swote.interv.domain.interview.entity.EvaluationJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "답변 평가 작업 상태 응답 DTO")
+public class EvaluationJobResponse {
+
+    @Schema(description = "평가 작업 ID", example = "1")
+    private Integer jobId;
+
+    @Schema(description = "평가 대상 답변 ID", example = "1")
+    private Integer answerId;
+
+    @Schema(description = "작업 상태", example = "PENDING", allowableValues = {"PENDING", "RUNNING", "COMPLETED", "FAILED"})
+    private EvaluationJobStatus status;
+
+    @Schema(description = "시도 횟수", example = "1")
+    private Integer attemptCount;
+
+    @Schema(description = "다음 시도 예정 시각 (PENDING 상태에서만 의미 있음)")
+    private LocalDateTime nextAttemptAt;
+
+    @Schema(description = "평가 완료 시각")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "마지막 실패 사유")
+    private String lastError;
+
+    @Schema(description = "평가 결과 (COMPLETED 상태에서만 포함)")
+    private AnswerEvaluationResponse evaluation;
+}
@@ -0,0 +1,55 @@
+package dev.swote.interv.domain.interview.entity;
+
+import dev.swote.interv.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 평가 작업 (아웃박스)
+ * 답변 저장과 같은 트랜잭션에서 생성되며, Quartz 워커가 PENDING 작업을 가져가 평가한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_evaluation_job", indexes = {
+        @Index(name = "idx_evaluation_job_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class EvaluationJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "answer_id")
+    private Answer answer;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private EvaluationJobStatus status;
+
+    @Builder.Default
+    @Column(name = "attempt_count")
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "answer_evaluation_id")
+    private AnswerEvaluation evaluation;
+}
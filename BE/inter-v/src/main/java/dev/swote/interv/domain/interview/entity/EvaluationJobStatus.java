@@ -0,0 +1,5 @@
+package dev.swote.interv.domain.interview.entity;
+
+public enum EvaluationJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
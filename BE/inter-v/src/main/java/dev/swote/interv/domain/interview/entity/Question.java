@@ -2,7 +2,9 @@ package dev.swote.interv.domain.interview.entity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import dev.swote.interv.domain.BaseEntity;
+import dev.swote.interv.domain.IdGenerators;
 import dev.swote.interv.domain.user.entity.User;
+import dev.swote.interv.service.interview.search.QuestionSearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,11 +17,19 @@ import java.util.Set;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_question")
+@EntityListeners(QuestionSearchIndexListener.class)
+@Table(name = "tb_question", indexes = {
+        @Index(name = "idx_question_session_sequence", columnList = "interview_session_id, sequence"),
+        @Index(name = "idx_question_type", columnList = "type")
+})
 public class Question extends BaseEntity {
 
+    // 면접 생성 시 질문을 한 번에 배치 INSERT 할 수 있도록 테이블 기반 ID 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "question_id")
+    @TableGenerator(name = "question_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.QUESTION, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,27 @@
+package dev.swote.interv.domain.interview.event;
+
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 질문 저장 이벤트
+ * 트랜잭션 커밋 후(AFTER_COMMIT) 무작위 질문 추출용 ID 풀 갱신과 질문 임베딩 색인에 사용된다.
+ */
+public record QuestionsSavedEvent(Map<QuestionType, List<Integer>> questionIdsByType) {
+
+    public static QuestionsSavedEvent of(Collection<Question> questions) {
+        Map<QuestionType, List<Integer>> questionIdsByType = new EnumMap<>(QuestionType.class);
+        for (Question question : questions) {
+            if (question.getId() != null && question.getType() != null) {
+                questionIdsByType.computeIfAbsent(question.getType(), type -> new ArrayList<>()).add(question.getId());
+            }
+        }
+        return new QuestionsSavedEvent(questionIdsByType);
+    }
+}
@@ -1,9 +1,13 @@
 package dev.swote.interv.domain.interview.repository;
 
+import dev.swote.interv.domain.interview.entity.Answer;
 import dev.swote.interv.domain.interview.entity.AnswerEvaluation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface AnswerEvaluationRepository extends JpaRepository<AnswerEvaluation, Integer> {
+    Optional<AnswerEvaluation> findByAnswer(Answer answer);
 }
@@ -0,0 +1,57 @@
+package dev.swote.interv.domain.interview.repository;
+
+import dev.swote.interv.domain.interview.entity.EvaluationJob;
+import dev.swote.interv.domain.interview.entity.EvaluationJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EvaluationJobRepository extends JpaRepository<EvaluationJob, Integer> {
+
+    /**
+     * 실행 시각이 된 대기 작업 ID 조회
+     */
+    @Query("SELECT j.id FROM EvaluationJob j WHERE j.status = :status AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt ASC")
+    List<Integer> findDueJobIds(@Param("status") EvaluationJobStatus status,
+                                @Param("now") LocalDateTime now,
+                                Pageable pageable);
+
+    /**
+     * 작업 선점 (조건부 UPDATE이므로 여러 워커/인스턴스 중 하나만 성공한다)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EvaluationJob j SET j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.RUNNING, " +
+            "j.lockedAt = :now, j.attemptCount = j.attemptCount + 1 " +
+            "WHERE j.id = :id AND j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.PENDING")
+    int claim(@Param("id") Integer id, @Param("now") LocalDateTime now);
+
+    /**
+     * 워커 비정상 종료 등으로 오래 RUNNING 상태인 작업을 다시 대기 상태로 복구 (재시도 횟수가 남은 작업만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EvaluationJob j SET j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.PENDING, " +
+            "j.nextAttemptAt = :now " +
+            "WHERE j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.RUNNING AND j.lockedAt < :staleBefore " +
+            "AND j.attemptCount < :maxAttempts")
+    int releaseStaleJobs(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now,
+                         @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 오래 RUNNING 상태인 작업 중 최대 시도 횟수를 다 쓴 작업은 최종 실패 처리
+     * (평가 도중 워커가 계속 죽는 작업이 무한히 재시도되지 않도록)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EvaluationJob j SET j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.FAILED, " +
+            "j.lastError = :error " +
+            "WHERE j.status = dev.swote.interv.domain.interview.entity.EvaluationJobStatus.RUNNING AND j.lockedAt < :staleBefore " +
+            "AND j.attemptCount >= :maxAttempts")
+    int failStaleJobs(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts,
+                      @Param("error") String error);
+}
@@ -5,6 +5,9 @@ import dev.swote.interv.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,27 @@ public interface InterviewSessionRepository extends JpaRepository<InterviewSessi
     List<InterviewSession> findByUser(User user);
     Page<InterviewSession> findByUser(User user, Pageable pageable);
     Optional<InterviewSession> findByShareUrl(String shareUrl);
-}
\ No newline at end of file
+
+    /**
+     * 사용자가 최근에 면접을 본 포지션 ID (최근 순)
+     */
+    @Query("SELECT s.position.id FROM InterviewSession s " +
+            "WHERE s.user.id = :userId AND s.position IS NOT NULL " +
+            "GROUP BY s.position.id ORDER BY MAX(s.id) DESC")
+    List<Integer> findRecentPositionIds(@Param("userId") Integer userId, Pageable pageable);
+
+    /**
+     * 질문 커서 전진 (조건부 UPDATE이므로 동시에 호출돼도 같은 질문이 두 번 나가지 않는다)
+     * 성공하면 1, 세션이 없거나 질문을 모두 소진했으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InterviewSession s SET s.currentQuestionIndex = s.currentQuestionIndex + 1 " +
+            "WHERE s.id = :id AND s.currentQuestionIndex < s.questionCount")
+    int advanceQuestionCursor(@Param("id") Integer id);
+
+    /**
+     * 현재 질문 커서 조회
+     */
+    @Query("SELECT s.currentQuestionIndex FROM InterviewSession s WHERE s.id = :id")
+    Optional<Integer> findCurrentQuestionIndex(@Param("id") Integer id);
+}
@@ -12,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Integer> {
@@ -63,9 +64,36 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
     @Query("SELECT q FROM Question q WHERE q.interviewSession.id = :interviewId AND q.category LIKE '%AI%' ORDER BY q.sequence ASC")
     List<Question> findAIGeneratedQuestions(@Param("interviewId") Integer interviewId);
 
+    /**
+     * 유형별 질문 ID (무작위 추출용 ID 풀 구성, type 인덱스만 읽는다)
+     */
+    @Query("SELECT q.id FROM Question q WHERE q.type = :type ORDER BY q.id ASC")
+    List<Integer> findIdsByType(@Param("type") QuestionType type);
+
+    /**
+     * 면접 세션의 sequence 번째 질문 조회 (세션 ID + sequence 복합 인덱스 사용)
+     */
+    @Query("SELECT q FROM Question q WHERE q.interviewSession.id = :interviewId AND q.sequence = :sequence")
+    Optional<Question> findByInterviewSessionIdAndSequence(@Param("interviewId") Integer interviewId,
+                                                           @Param("sequence") Integer sequence);
+
+    /**
+     * 방금 전진시킨 질문 커서가 가리키는 질문 조회
+     * 커서는 0부터, sequence는 1부터 시작하므로 전진 후의 커서 값이 곧 내보낼 질문의 sequence다.
+     * (같은 트랜잭션에서 UPDATE로 세션 행을 잠근 뒤 호출하므로 다른 요청의 커서 값을 읽지 않는다)
+     */
+    @Query("SELECT q FROM Question q WHERE q.interviewSession.id = :interviewId AND q.sequence = " +
+            "(SELECT s.currentQuestionIndex FROM InterviewSession s WHERE s.id = :interviewId)")
+    Optional<Question> findAtQuestionCursor(@Param("interviewId") Integer interviewId);
+
     /**
      * 면접 세션의 질문 개수 조회
      */
     @Query("SELECT COUNT(q) FROM Question q WHERE q.interviewSession.id = :interviewId")
     Long countByInterviewSessionId(@Param("interviewId") Integer interviewId);
-}
\ No newline at end of file
+
+    /**
+     * ID 커서 이후 질문 조회 (임베딩 증분 색인용)
+     */
+    List<Question> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+}
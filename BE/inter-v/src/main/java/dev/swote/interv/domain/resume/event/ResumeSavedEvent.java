@@ -0,0 +1,8 @@
+package dev.swote.interv.domain.resume.event;
+
+/**
+ * 이력서 생성/수정 이벤트
+ * 트랜잭션 커밋 후(AFTER_COMMIT) 질문 사전 생성에 사용된다.
+ */
+public record ResumeSavedEvent(Integer resumeId, Integer userId) {
+}
@@ -0,0 +1,14 @@
+package dev.swote.interv.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class EvaluationJobNotFoundException extends BaseException {
+
+    public EvaluationJobNotFoundException() {
+        super("error.evaluation.job.not.found", HttpStatus.NOT_FOUND);
+    }
+
+    public EvaluationJobNotFoundException(Integer jobId) {
+        super("error.evaluation.job.not.found", HttpStatus.NOT_FOUND, "Evaluation job not found with id: " + jobId);
+    }
+}
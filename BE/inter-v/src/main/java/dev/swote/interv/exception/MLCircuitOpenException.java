@@ -0,0 +1,17 @@
+package dev.swote.interv.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * ML 서버 서킷 브레이커 개방(또는 동시 요청 한도 초과)으로 요청이 즉시 거부된 경우의 예외
+ */
+public class MLCircuitOpenException extends LLMServiceException {
+
+    public MLCircuitOpenException() {
+        super("error.llm.circuit.open", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public MLCircuitOpenException(String errorCode) {
+        super(errorCode, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,17 @@
+package dev.swote.interv.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * ML 서버 응답 시간 초과 예외
+ */
+public class MLTimeoutException extends LLMServiceException {
+
+    public MLTimeoutException() {
+        super("error.llm.service.timeout", HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    public MLTimeoutException(String errorCode) {
+        super(errorCode, HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
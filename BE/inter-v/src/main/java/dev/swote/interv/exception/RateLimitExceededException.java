@@ -0,0 +1,18 @@
+package dev.swote.interv.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 사용자별 AI 요청 빈도 한도를 넘은 경우의 예외 (429, Retry-After 헤더와 함께 응답)
+ */
+@Getter
+public class RateLimitExceededException extends BaseException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("error.request.rate.limited", HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
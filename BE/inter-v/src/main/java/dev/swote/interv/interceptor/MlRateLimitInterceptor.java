@@ -0,0 +1,120 @@
+package dev.swote.interv.interceptor;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ML 추론을 호출하는 엔드포인트의 사용자별 요청 빈도 제한
+ * - "METHOD /path/pattern=비용" 목록으로 대상 엔드포인트와 비용을 설정하며 처음 일치하는 항목을 사용한다.
+ * - 목록에 없더라도 @MlRateLimited 핸들러는 기본 비용을 부과한다. (설정 누락 시 제한 없이 열리지 않도록)
+ * - 한도를 넘으면 RateLimitExceededException → 429 + Retry-After로 응답한다.
+ * - 답변 제출의 AI 평가 추가 비용(useAIEvaluation)은 요청 바디로 정해지므로 컨트롤러에서 MlRateLimiter를 직접 사용한다.
+ * - 비동기 응답(CompletableFuture, SseEmitter)의 재디스패치(DispatcherType.ASYNC)에는 부과하지 않는다.
+ *   이미 끝난 ML 결과를 429로 버리지 않도록 처음 디스패치에서 한 번만 부과한다.
+ */
+@Slf4j
+@Component
+public class MlRateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    // ML 추론을 호출하는 엔드포인트 전체 (application.yml의 rate-limit.ml.endpoints 기본값과 같게 유지)
+    private static final String DEFAULT_ENDPOINTS = "POST /api/interviews=3,"
+            + "POST /api/interviews/stream=3,"
+            + "POST /api/interviews/*/questions/generate=3,"
+            + "POST /api/interviews/*/simulate=5,"
+            + "POST /api/interviews/*/evaluate=3,"
+            + "POST /api/interviews/questions/*/answer=1,"
+            + "POST /api/interviews/questions/*/answer/async=1,"
+            + "POST /api/interviews/questions/*/answer/audio=1,"
+            + "POST /api/interviews/questions/*/relevance=1,"
+            + "GET /api/interviews/questions/similar=1,"
+            + "POST /api/admin/health/llm/test=1";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final MlRateLimiter rateLimiter;
+    private final List<EndpointCost> endpointCosts;
+    private final int defaultCost;
+    private final Set<String> warnedHandlers = ConcurrentHashMap.newKeySet();
+
+    public MlRateLimitInterceptor(
+            MlRateLimiter rateLimiter,
+            @Value("${rate-limit.ml.endpoints:" + DEFAULT_ENDPOINTS + "}") String endpoints,
+            @Value("${rate-limit.ml.default-cost:3}") int defaultCost
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.endpointCosts = parseEndpoints(endpoints);
+        this.defaultCost = defaultCost;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointCost endpoint : endpointCosts) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.pattern(), path)) {
+                rateLimiter.acquire(request, endpoint.pattern(), endpoint.cost());
+                return AsyncHandlerInterceptor.super.preHandle(request, response, handler);
+            }
+        }
+
+        // 비용 설정이 빠진 ML 엔드포인트는 기본 비용으로 제한
+        if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(MlRateLimited.class)) {
+            String rule = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            if (warnedHandlers.add(rule)) {
+                log.warn("rate-limit.ml.endpoints에 없는 ML 엔드포인트 - 기본 비용 {} 적용: {} {} ({})",
+                        defaultCost, request.getMethod(), path, rule);
+            }
+            rateLimiter.acquire(request, rule, defaultCost);
+        }
+        return AsyncHandlerInterceptor.super.preHandle(request, response, handler);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static List<EndpointCost> parseEndpoints(String endpoints) {
+        List<EndpointCost> result = new ArrayList<>();
+        if (!StringUtils.hasText(endpoints)) {
+            return result;
+        }
+
+        for (String entry : endpoints.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("rate-limit.ml.endpoints 형식 오류: " + trimmed);
+            }
+
+            String target = trimmed.substring(0, separator).trim();
+            int cost = Integer.parseInt(trimmed.substring(separator + 1).trim());
+            int space = target.indexOf(' ');
+            if (space > 0) {
+                result.add(new EndpointCost(target.substring(0, space), target.substring(space + 1).trim(), cost));
+            } else {
+                result.add(new EndpointCost(null, target, cost));
+            }
+        }
+        return result;
+    }
+
+    private record EndpointCost(String method, String pattern, int cost) {
+    }
+}
@@ -0,0 +1,18 @@
+package dev.swote.interv.interceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ML 추론을 호출하는 핸들러 표시
+ * rate-limit.ml.endpoints에 일치하는 항목이 없어도 MlRateLimitInterceptor가 기본 비용(rate-limit.ml.default-cost)을 부과한다.
+ * (새 ML 엔드포인트를 추가하고 비용 설정을 빠뜨려도 제한 없이 열리지 않도록)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MlRateLimited {
+}
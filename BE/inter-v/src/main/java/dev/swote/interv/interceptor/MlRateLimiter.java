@@ -0,0 +1,124 @@
+package dev.swote.interv.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.swote.interv.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ML 호출 엔드포인트용 사용자별 토큰 버킷
+ * - 분당 refill-per-minute개씩 채워지고 최대 capacity개까지 쌓이는 버킷에서 요청마다 비용만큼 토큰을 꺼낸다.
+ * - 버킷 상태는 "토큰이 가득 찰 시각" 하나(AtomicLong)로 표현해 CAS만으로 갱신한다 (GCRA와 같은 방식, 락 없음).
+ * - 버킷 맵은 최대 크기와 유휴 만료 시간이 있는 Caffeine 캐시이므로 사용자 수만큼 계속 커지지 않는다.
+ *   유휴 만료 시간은 빈 버킷이 가득 찰 때까지의 시간보다 길게 잡아, 만료로 한도가 초기화되는 일이 없게 한다.
+ * - 로그인 사용자는 사용자 ID, 비로그인 요청은 클라이언트 IP 기준으로 나눈다.
+ */
+@Slf4j
+@Component
+public class MlRateLimiter {
+
+    private static final String CACHE_NAME = "ml.ratelimit.buckets";
+
+    private final boolean enabled;
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final int capacity;
+    private final Cache<String, AtomicLong> buckets;
+    private final MeterRegistry meterRegistry;
+
+    public MlRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.ml.enabled:true}") boolean enabled,
+            @Value("${rate-limit.ml.capacity:10}") int capacity,
+            @Value("${rate-limit.ml.refill-per-minute:6}") int refillPerMinute,
+            @Value("${rate-limit.ml.max-buckets:100000}") long maxBuckets
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.capacity = Math.max(1, capacity);
+        this.nanosPerToken = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+        this.capacityNanos = nanosPerToken * this.capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(capacityNanos).plusMinutes(1))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+        log.info("ML 요청 빈도 제한 초기화 - 활성: {}, 용량: {}, 분당 충전: {}", enabled, this.capacity, refillPerMinute);
+    }
+
+    /**
+     * 현재 요청의 사용자 버킷에서 비용만큼 토큰 사용. 부족하면 RateLimitExceededException
+     */
+    public void acquire(String rule, int cost) {
+        if (!enabled) {
+            return;
+        }
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            acquire(attributes.getRequest(), rule, cost);
+        }
+    }
+
+    public void acquire(HttpServletRequest request, String rule, int cost) {
+        if (!enabled) {
+            return;
+        }
+
+        String key = keyOf(request);
+        long waitNanos = tryConsume(buckets.get(key, ignored -> new AtomicLong()), cost, System.nanoTime());
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            meterRegistry.counter("ml.ratelimit.rejected", "rule", rule).increment();
+            log.warn("AI 요청 빈도 한도 초과 - 대상: {}, 규칙: {}, 비용: {}, 재시도까지: {}초", key, rule, cost, retryAfterSeconds);
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 토큰 사용 시도. 성공하면 0, 부족하면 필요한 토큰이 채워질 때까지 남은 시간(ns)
+     * state는 버킷이 가득 차는 시각으로, 현재 시각보다 과거면 가득 찬 상태다.
+     * (테스트에서 시각을 지정할 수 있도록 package-private)
+     */
+    long tryConsume(AtomicLong state, int cost, long now) {
+        // 용량보다 큰 비용은 가득 찬 버킷에서도 통과할 수 없으므로 용량으로 제한
+        long costNanos = nanosPerToken * Math.min(Math.max(1, cost), capacity);
+        while (true) {
+            long fullAt = state.get();
+            // 초기값 0이나 오래 쉬어 과거가 된 시각은 현재(가득 참)로 본다
+            long base = fullAt == 0 || fullAt - now < 0 ? now : fullAt;
+            long next = base + costNanos;
+            long wait = next - now - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        Object currentUser = request.getAttribute("currentUser");
+        if (currentUser instanceof CurrentUser user && user.id() != null) {
+            return "user:" + user.id();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,116 @@
+package dev.swote.interv.interceptor;
+
+import dev.swote.interv.util.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청별 처리 마감 시각 설정
+ * - 클라이언트가 X-Request-Timeout-Ms 헤더로 남은 시간을 보내면 그 값을, 없으면 엔드포인트별 기본값을 사용한다.
+ * - 엔드포인트별 기본값은 "METHOD /path/pattern=기간" 목록으로 설정하며 처음 일치하는 항목을 사용한다.
+ * - 설정된 마감 시각은 RequestDeadline으로 ML 호출과 DB 트랜잭션 타임아웃에 반영된다.
+ */
+@Slf4j
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final String headerName;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final List<EndpointTimeout> endpointTimeouts;
+
+    public RequestDeadlineFilter(
+            @Value("${request-deadline.header:X-Request-Timeout-Ms}") String headerName,
+            @Value("${request-deadline.default:60s}") Duration defaultTimeout,
+            @Value("${request-deadline.max:3m}") Duration maxTimeout,
+            @Value("${request-deadline.endpoints:}") String endpoints
+    ) {
+        this.headerName = headerName;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        this.endpointTimeouts = parseEndpoints(endpoints);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.set(RequestDeadline.after(resolveTimeout(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(headerName);
+        if (StringUtils.hasText(header)) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    Duration requested = Duration.ofMillis(millis);
+                    return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+                }
+            } catch (NumberFormatException e) {
+                log.debug("잘못된 {} 헤더 값 무시: {}", headerName, header);
+            }
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointTimeout endpoint : endpointTimeouts) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.pattern(), path)) {
+                return endpoint.timeout();
+            }
+        }
+        return defaultTimeout;
+    }
+
+    private static List<EndpointTimeout> parseEndpoints(String endpoints) {
+        List<EndpointTimeout> result = new ArrayList<>();
+        if (!StringUtils.hasText(endpoints)) {
+            return result;
+        }
+
+        for (String entry : endpoints.split(",")) {
+            String trimmed = entry.trim();
+            int separator = trimmed.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("request-deadline.endpoints 형식 오류: " + trimmed);
+            }
+
+            String target = trimmed.substring(0, separator).trim();
+            Duration timeout = DurationStyle.detectAndParse(trimmed.substring(separator + 1).trim());
+            int space = target.indexOf(' ');
+            if (space > 0) {
+                result.add(new EndpointTimeout(target.substring(0, space), target.substring(space + 1).trim(), timeout));
+            } else {
+                result.add(new EndpointTimeout(null, target, timeout));
+            }
+        }
+        return result;
+    }
+
+    private record EndpointTimeout(String method, String pattern, Duration timeout) {
+    }
+}
@@ -6,33 +6,48 @@ import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * RestTemplate 요청/응답 로깅
+ * 이력서 전문이 들어가는 바디를 매번 문자열로 복사하지 않도록, 바디는 크기만 기록하고
+ * DEBUG 레벨에서만 앞부분 일부를 남긴다.
+ */
 @Slf4j
 public class RestTemplateLoggingInterceptor implements ClientHttpRequestInterceptor {
 
+    private static final int MAX_BODY_PREVIEW_BYTES = 512;
+
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
         URI uri = request.getURI();
-        log.info("===== [RestTemplate <REQUEST> START] =====\n");
-        log.info("==========> URI: {}\n", uri);
-        log.info("==========> METHOD : {}\n", request.getMethod());
-        log.info("==========> REQUEST BODY: {}\n", new String(body, StandardCharsets.UTF_8));
-        log.info("===== [RestTemplate <REQUEST> END] =====");
+        log.info("[RestTemplate REQUEST] {} {} - 바디 {} bytes", request.getMethod(), uri, body.length);
+        if (log.isDebugEnabled()) {
+            log.debug("[RestTemplate REQUEST BODY] {}", preview(body));
+        }
 
+        long startedAt = System.nanoTime();
         ClientHttpResponse response = execution.execute(request, body);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
 
-        //FIXME: 메모리가 부족할 경우 Response Body는 Debug 모드가 활성화 될때만 올리기.
-        log.info("===== [RestTemplate <RESPONSE> START] =====\n");
-        log.info("==========> STATUS: {}, {}\n", response.getStatusCode(), response.getStatusText());
-        log.info("==========> RESPONSE BODY: {}\n", StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8));
-        log.info("===== [RestTemplate <RESPONSE> END] =====");
+        log.info("[RestTemplate RESPONSE] {} {} - 상태: {}, 소요: {}ms", request.getMethod(), uri, response.getStatusCode(), elapsedMs);
+        if (log.isDebugEnabled()) {
+            // BufferingClientHttpRequestFactory로 감싸져 있어 바디를 읽어도 이후 변환에 다시 사용할 수 있다
+            InputStream responseBody = response.getBody();
+            byte[] head = responseBody.readNBytes(MAX_BODY_PREVIEW_BYTES + 1);
+            log.debug("[RestTemplate RESPONSE BODY] {}", preview(head));
+        }
 
         return response;
     }
 
-}
\ No newline at end of file
+    private static String preview(byte[] body) {
+        int size = Math.min(body.length, MAX_BODY_PREVIEW_BYTES);
+        String text = new String(body, 0, size, StandardCharsets.UTF_8);
+        return body.length > MAX_BODY_PREVIEW_BYTES ? text + "...(생략)" : text;
+    }
+}
@@ -0,0 +1,267 @@
+package dev.swote.interv.service.ai;
+
+import com.google.common.hash.Hashing;
+import dev.swote.interv.exception.MLResponseParsingException;
+import dev.swote.interv.exception.MLTimeoutException;
+import dev.swote.interv.service.ai.dto.MlBatchEvaluationResponse;
+import dev.swote.interv.service.ai.dto.MlEvaluationResult;
+import dev.swote.interv.util.RequestDeadline;
+import dev.swote.interv.util.SingleFlight;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 답변 평가 요청 병합기
+ * - 개별 평가 요청을 큐에 모았다가 최대 배치 크기에 도달하거나 최대 대기 시간이 지나면
+ *   /evaluate/batch 한 번의 호출로 전송한다.
+ * - 각 요청의 CompletableFuture는 해당 항목의 평가 결과(MlEvaluationResult)로 완료된다.
+ * - 등록한 요청 스레드의 마감 시각을 함께 보관해, 전송 시점에 이미 지난 항목은 보내지 않고 MLTimeoutException으로 완료한다.
+ * - 배치는 항목 중 가장 높은 우선순위로, 항목 수만큼의 비용으로 MlScheduler에 배분된다.
+ */
+@Slf4j
+@Component
+public class EvaluationBatcher {
+
+    private final MlGateway mlGateway;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "evaluation-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SingleFlight<String, MlEvaluationResult> singleFlight = new SingleFlight<>();
+
+    private final Object lock = new Object();
+    private List<PendingEvaluation> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private long sequence;
+
+    public EvaluationBatcher(
+            MlGateway mlGateway,
+            @Value("${llm.evaluation-batch.max-size:16}") int maxBatchSize,
+            @Value("${llm.evaluation-batch.max-wait:50ms}") Duration maxWait
+    ) {
+        this.mlGateway = mlGateway;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 평가 요청 등록 (다른 요청과 병합되어 전송된다)
+     * 같은 우선순위, 같은 내용의 평가가 이미 대기/진행 중이면 그 결과를 공유한다.
+     * 진행 중인 평가의 마감이 이 요청보다 이르면 합류하지 않는다. (먼저 마감된 요청의 타임아웃을 물려받지 않도록)
+     */
+    public CompletableFuture<MlEvaluationResult> submit(EvaluationItem item) {
+        MlCallContext context = MlCallContext.resolve(MlEndpoint.EVALUATE_BATCH);
+        RequestDeadline deadline = RequestDeadline.current();
+        return singleFlight.execute(context.priority().name() + ":" + item.fingerprint(), deadline,
+                () -> enqueue(item, context, deadline), null);
+    }
+
+    private CompletableFuture<MlEvaluationResult> enqueue(EvaluationItem item, MlCallContext context,
+                                                          RequestDeadline deadline) {
+        CompletableFuture<MlEvaluationResult> future = new CompletableFuture<>();
+        List<PendingEvaluation> ready = null;
+
+        synchronized (lock) {
+            pending.add(new PendingEvaluation(nextId(), item.toRequest(), future, deadline, context));
+
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flushPending, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            send(ready);
+        }
+        return future;
+    }
+
+    /**
+     * 여러 평가를 대기 없이 즉시 전송 (면접 세션 단위 일괄 평가용)
+     * 결과 목록은 입력 순서와 같으며, 개별 항목이 실패하면 해당 위치의 Future가 예외로 완료된다.
+     */
+    public List<CompletableFuture<MlEvaluationResult>> submitAll(List<EvaluationItem> items) {
+        List<CompletableFuture<MlEvaluationResult>> futures = new ArrayList<>(items.size());
+        List<PendingEvaluation> batch = new ArrayList<>(maxBatchSize);
+        MlCallContext context = MlCallContext.resolve(MlEndpoint.EVALUATE_BATCH);
+
+        for (EvaluationItem item : items) {
+            CompletableFuture<MlEvaluationResult> future = new CompletableFuture<>();
+            futures.add(future);
+
+            String id;
+            synchronized (lock) {
+                id = nextId();
+            }
+            batch.add(new PendingEvaluation(id, item.toRequest(), future, RequestDeadline.current(), context));
+
+            if (batch.size() >= maxBatchSize) {
+                send(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+        return futures;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPending();
+        scheduler.shutdown();
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void flushPending() {
+        List<PendingEvaluation> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            send(ready);
+        }
+    }
+
+    // lock을 잡은 상태에서만 호출
+    private List<PendingEvaluation> drain() {
+        List<PendingEvaluation> ready = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return ready;
+    }
+
+    // lock을 잡은 상태에서만 호출
+    private String nextId() {
+        return Long.toString(++sequence);
+    }
+
+    private void send(List<PendingEvaluation> pendingBatch) {
+        List<PendingEvaluation> batch = new ArrayList<>(pendingBatch.size());
+        List<Map<String, Object>> items = new ArrayList<>(pendingBatch.size());
+        RequestDeadline batchDeadline = null;
+        for (PendingEvaluation evaluation : pendingBatch) {
+            // 기다리던 요청이 이미 포기한 항목은 ML 서버에 보내지 않는다
+            if (evaluation.deadline() != null && evaluation.deadline().isExpired()) {
+                evaluation.future().completeExceptionally(new MLTimeoutException("error.request.deadline.exceeded"));
+                continue;
+            }
+            batchDeadline = batch.isEmpty() ? evaluation.deadline() : RequestDeadline.latest(batchDeadline, evaluation.deadline());
+            batch.add(evaluation);
+
+            Map<String, Object> item = new HashMap<>(evaluation.item());
+            item.put("id", evaluation.id());
+            items.add(item);
+        }
+
+        if (batch.isEmpty()) {
+            log.debug("답변 평가 배치 전송 생략 - 모든 항목의 요청 제한 시간 초과");
+            return;
+        }
+        log.debug("답변 평가 배치 전송 - {}건 (제한 시간 초과로 제외: {}건)", batch.size(), pendingBatch.size() - batch.size());
+
+        // 호출 스레드의 마감 시각 대신 배치에서 가장 늦은 마감 시각(마감이 없는 항목이 있으면 제한 없음)을 적용
+        MlCallContext batchContext = batchContext(batch);
+        RequestDeadline.supplyWith(batchDeadline, () -> MlCallContext.supplyWith(batchContext, () ->
+                        mlGateway.post(MlEndpoint.EVALUATE_BATCH, Map.of("items", items), MlBatchEvaluationResponse.class)))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = MlGateway.unwrap(throwable);
+                        batch.forEach(evaluation -> evaluation.future().completeExceptionally(cause));
+                        return;
+                    }
+                    complete(batch, response);
+                });
+    }
+
+    /**
+     * 배치 호출 컨텍스트 - 가장 높은 우선순위, 한 사용자의 항목뿐이면 그 사용자, 비용은 항목 수
+     */
+    private static MlCallContext batchContext(List<PendingEvaluation> batch) {
+        MlPriority priority = null;
+        Integer userId = batch.get(0).context().userId();
+        for (PendingEvaluation evaluation : batch) {
+            MlCallContext context = evaluation.context();
+            if (priority == null || context.priority().compareTo(priority) < 0) {
+                priority = context.priority();
+            }
+            if (!Objects.equals(userId, context.userId())) {
+                userId = null;
+            }
+        }
+        return new MlCallContext(priority, userId, batch.size());
+    }
+
+    private void complete(List<PendingEvaluation> batch, MlBatchEvaluationResponse response) {
+        Map<String, MlEvaluationResult> resultsById = new HashMap<>();
+        if (response != null && response.results() != null) {
+            for (MlEvaluationResult result : response.results()) {
+                if (result != null && result.id() != null) {
+                    resultsById.put(result.id(), result);
+                }
+            }
+        }
+
+        for (PendingEvaluation evaluation : batch) {
+            MlEvaluationResult result = resultsById.get(evaluation.id());
+            if (result == null || result.error() != null) {
+                log.warn("배치 평가 결과 누락 또는 실패 - id: {}, 오류: {}",
+                        evaluation.id(), result != null ? result.error() : "결과 없음");
+                evaluation.future().completeExceptionally(new MLResponseParsingException());
+                continue;
+            }
+            evaluation.future().complete(result);
+        }
+    }
+
+    private record PendingEvaluation(String id, Map<String, Object> item,
+                                     CompletableFuture<MlEvaluationResult> future, RequestDeadline deadline,
+                                     MlCallContext context) {
+    }
+
+    /**
+     * 배치 평가 요청 항목
+     */
+    public record EvaluationItem(String question, String answer, String resume, String coverLetter) {
+
+        Map<String, Object> toRequest() {
+            Map<String, Object> item = new HashMap<>();
+            item.put("question", question != null ? question : "");
+            item.put("answer", answer != null ? answer : "");
+            item.put("resume", resume != null ? resume : "");
+            item.put("cover_letter", coverLetter != null ? coverLetter : "");
+            return item;
+        }
+
+        String fingerprint() {
+            Map<String, Object> request = toRequest();
+            return Hashing.sha256().newHasher()
+                    .putString((String) request.get("question"), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString((String) request.get("answer"), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString((String) request.get("resume"), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString((String) request.get("cover_letter"), StandardCharsets.UTF_8)
+                    .hash()
+                    .toString();
+        }
+    }
+}
@@ -6,118 +6,156 @@ import dev.swote.interv.domain.interview.entity.QuestionType;
 import dev.swote.interv.domain.position.entity.Position;
 import dev.swote.interv.domain.resume.entity.Resume;
 import dev.swote.interv.exception.*;
+import dev.swote.interv.service.ai.dto.MlEvaluationResult;
+import dev.swote.interv.service.ai.dto.MlQuestion;
+import dev.swote.interv.service.ai.dto.MlQuestionsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LlmService {
 
-    private final RestTemplate restTemplate;
-
-    @Value("${llm.api.url}")
-    private String apiUrl;
-
-    @Value("${llm.api.key:}")
-    private String apiKey;
+    private final MlGateway mlGateway;
+    private final QuestionCache questionCache;
+    private final EvaluationBatcher evaluationBatcher;
+    private final ResumeDigester resumeDigester;
 
     /**
      * FastAPI 서버에서 면접 질문 생성
      */
     public List<Question> generateInterviewQuestions(Resume resume, Position position, int count) {
-        try {
-            log.info("면접 질문 생성 요청 - 포지션: {}, 질문 수: {}", position.getName(), count);
-
-            // 1. 요청 바디 구성
-            Map<String, Object> requestBody = createQuestionRequest(resume, position, count);
-
-            // 2. HTTP 헤더 설정
-            HttpHeaders headers = createHeaders();
-
-            // 3. HTTP 요청 생성
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            // 4. FastAPI 서버 호출
-            String endpoint = apiUrl + "/interview/questions";
-            log.debug("API 호출 URL: {}", endpoint);
-
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    endpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    Map.class
-            );
-
-            // 5. 응답 처리
-            return processQuestionResponse(responseEntity.getBody(), count);
-
-        } catch (ResourceAccessException e) {
-            log.error("ML 서버 연결 실패: {}", e.getMessage(), e);
-            throw new MLConnectionException();
-        } catch (HttpClientErrorException e) {
-            log.error("클라이언트 오류 (4xx): {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new MLBadRequestException();
-        } catch (HttpServerErrorException e) {
-            log.error("서버 오류 (5xx): {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new MLServerErrorException();
-        } catch (MLResponseParsingException | QuestionGenerationException e) {
-            // 이미 적절한 커스텀 예외이므로 재던지기
-            throw e;
-        } catch (Exception e) {
-            log.error("예상치 못한 오류 발생: {}", e.getMessage(), e);
-            throw new LLMServiceException("error.llm.question.generation.failed");
-        }
+        return MlGateway.await(generateInterviewQuestionsAsync(resume, position, count));
     }
 
     /**
-     * FastAPI 서버에서 답변 평가
+     * FastAPI 서버에서 면접 질문 생성 (비동기)
      */
-    public Answer evaluateAnswer(Question question, String answerContent, Resume resume) {
-        try {
-            log.info("답변 평가 요청 - 질문 ID: {}", question.getId());
-
-            // 1. 요청 바디 구성
-            Map<String, Object> requestBody = createEvaluationRequest(question, answerContent, resume);
+    public CompletableFuture<List<Question>> generateInterviewQuestionsAsync(Resume resume, Position position, int count) {
+        log.info("면접 질문 생성 요청 - 포지션: {}, 질문 수: {}",
+                position != null ? position.getName() : null, count);
+
+        // 1. 요청 바디 구성
+        Map<String, Object> requestBody = createQuestionRequest(resume, position, count);
+
+        // 2. 동일한 이력서/포지션/질문 수로 생성한 질문이 있으면 캐시에서 반환
+        String cacheKey = questionCache.keyOf(
+                (String) requestBody.get("resume"), (String) requestBody.get("position"), count);
+        Optional<List<Question>> cached = questionCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("질문 캐시 적중 - 포지션: {}, 질문 수: {}", requestBody.get("position"), cached.get().size());
+            return CompletableFuture.completedFuture(cached.get());
+        }
 
-            // 2. HTTP 헤더 설정
-            HttpHeaders headers = createHeaders();
+        // 3. FastAPI 서버 호출 및 응답 처리
+        Integer resumeId = resume != null ? resume.getId() : null;
+        return mlGateway.post(MlEndpoint.INTERVIEW_QUESTIONS, requestBody, MlQuestionsResponse.class)
+                .thenApply(response -> processQuestionResponse(response, count))
+                .thenApply(questions -> {
+                    questionCache.put(cacheKey, resumeId, questions);
+                    return questions;
+                })
+                .exceptionally(throwable -> {
+                    throw toQuestionGenerationException(throwable);
+                });
+    }
 
-            // 3. HTTP 요청 생성
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
+    /**
+     * FastAPI 서버에서 면접 질문을 스트리밍으로 생성
+     * 질문이 하나 생성될 때마다 onQuestion을 호출하고, 전체 생성이 끝나면 생성된 질문 목록으로 완료된다.
+     * 캐시에 같은 요청의 결과가 있으면 바로 전달한다.
+     */
+    public CompletableFuture<List<Question>> streamInterviewQuestions(Resume resume, Position position, int count,
+                                                                      Consumer<Question> onQuestion) {
+        Map<String, Object> requestBody = createQuestionRequest(resume, position, count);
+
+        String cacheKey = questionCache.keyOf(
+                (String) requestBody.get("resume"), (String) requestBody.get("position"), count);
+        Optional<List<Question>> cached = questionCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("질문 캐시 적중 (스트리밍) - 포지션: {}, 질문 수: {}", requestBody.get("position"), cached.get().size());
+            cached.get().forEach(onQuestion);
+            return CompletableFuture.completedFuture(cached.get());
+        }
 
-            // 4. FastAPI 서버 호출
-            String endpoint = apiUrl + "/evaluate";
+        List<Question> generated = new ArrayList<>();
+        Integer resumeId = resume != null ? resume.getId() : null;
+
+        return mlGateway.stream(MlEndpoint.INTERVIEW_QUESTIONS_STREAM, requestBody, MlQuestion.class, item -> {
+                    if (item.error() != null) {
+                        log.error("ML 서버 질문 스트리밍 중 오류: {}", item.error());
+                        throw new QuestionGenerationException("error.llm.question.generation.failed");
+                    }
+
+                    Question question = mapToQuestion(item, generated.size() + 1);
+                    if (question != null && generated.size() < count) {
+                        generated.add(question);
+                        onQuestion.accept(question);
+                    }
+                })
+                .thenApply(ignored -> {
+                    if (generated.isEmpty()) {
+                        throw new QuestionGenerationException("error.llm.question.generation.failed");
+                    }
+                    if (generated.size() == count) {
+                        questionCache.put(cacheKey, resumeId, generated);
+                    }
+                    log.info("스트리밍으로 {}개의 질문을 생성했습니다 (요청: {}개)", generated.size(), count);
+                    return generated;
+                });
+    }
 
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    endpoint,
-                    HttpMethod.POST,
-                    requestEntity,
-                    Map.class
-            );
+    /**
+     * FastAPI 서버에서 답변 평가
+     */
+    public Answer evaluateAnswer(Question question, String answerContent, Resume resume) {
+        return MlGateway.await(evaluateAnswerAsync(question, answerContent, resume));
+    }
 
-            // 5. 응답 처리
-            return processEvaluationResponse(responseEntity.getBody(), question, answerContent);
+    /**
+     * FastAPI 서버에서 답변 평가 (비동기)
+     * 평가 실패 시 예외 대신 기본 평가가 담긴 답변으로 완료된다.
+     */
+    public CompletableFuture<Answer> evaluateAnswerAsync(Question question, String answerContent, Resume resume) {
+        EvaluationBatcher.EvaluationItem evaluationItem;
+        try {
+            log.info("답변 평가 요청 - 질문 ID: {}", question.getId());
 
-        } catch (ResourceAccessException e) {
-            log.error("답변 평가 중 연결 실패: {}", e.getMessage(), e);
-            return createDefaultAnswer(question, answerContent, "네트워크 연결 오류로 인해 기본 평가가 제공됩니다.");
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("답변 평가 중 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return createDefaultAnswer(question, answerContent, "서버 오류로 인해 기본 평가가 제공됩니다.");
+            // 1. 요청 항목 구성
+            evaluationItem = createEvaluationRequest(question, answerContent, resume);
         } catch (Exception e) {
-            log.error("답변 평가 중 예상치 못한 오류: {}", e.getMessage(), e);
-            return createDefaultAnswer(question, answerContent, "평가 처리 중 오류가 발생하여 기본 평가가 제공됩니다.");
+            log.error("답변 평가 요청 구성 중 오류: {}", e.getMessage(), e);
+            return CompletableFuture.completedFuture(
+                    createDefaultAnswer(question, answerContent, "평가 처리 중 오류가 발생하여 기본 평가가 제공됩니다."));
         }
+
+        // 2. 다른 평가 요청과 병합하여 FastAPI 서버 호출 및 응답 처리
+        // (요청 마감 시각이 지나면 배치 응답을 기다리지 않고 기본 평가로 완료)
+        return MlGateway.withinRequestDeadline(evaluationBatcher.submit(evaluationItem))
+                .thenApply(result -> processEvaluationResponse(result, question, answerContent))
+                .exceptionally(throwable -> {
+                    Throwable cause = MlGateway.unwrap(throwable);
+                    if (cause instanceof MLConnectionException || cause instanceof MLTimeoutException) {
+                        log.error("답변 평가 중 연결 실패: {}", cause.getMessage());
+                        return createDefaultAnswer(question, answerContent, "네트워크 연결 오류로 인해 기본 평가가 제공됩니다.");
+                    }
+                    if (cause instanceof MLCircuitOpenException) {
+                        log.warn("답변 평가 요청 차단 (서킷 개방/동시 요청 한도 초과): {}", cause.getMessage());
+                        return createDefaultAnswer(question, answerContent, "AI 서버가 일시적으로 혼잡하여 기본 평가가 제공됩니다.");
+                    }
+                    if (cause instanceof MLBadRequestException || cause instanceof MLServerErrorException) {
+                        log.error("답변 평가 중 HTTP 오류: {}", cause.getMessage());
+                        return createDefaultAnswer(question, answerContent, "서버 오류로 인해 기본 평가가 제공됩니다.");
+                    }
+                    log.error("답변 평가 중 예상치 못한 오류: {}", cause.getMessage(), cause);
+                    return createDefaultAnswer(question, answerContent, "평가 처리 중 오류가 발생하여 기본 평가가 제공됩니다.");
+                });
     }
 
     /**
@@ -126,10 +164,11 @@ public class LlmService {
     private Map<String, Object> createQuestionRequest(Resume resume, Position position, int count) {
         Map<String, Object> requestBody = new HashMap<>();
 
-        // Resume content null 체크
-        String resumeContent = (resume != null && resume.getContent() != null)
-                ? resume.getContent()
-                : "이력서 정보가 없습니다.";
+        // 이력서 원문 대신 크기가 제한된 요약본 사용
+        String resumeContent = resumeDigester.digestOf(resume);
+        if (resumeContent == null || resumeContent.isEmpty()) {
+            resumeContent = "이력서 정보가 없습니다.";
+        }
 
         // Position name null 체크 및 기본값 설정
         String positionName = (position != null && position.getName() != null && !position.getName().trim().isEmpty())
@@ -146,82 +185,53 @@ public class LlmService {
     }
 
     /**
-     * FastAPI 요청 바디 생성 (답변 평가용)
+     * FastAPI 요청 항목 생성 (답변 평가용)
      */
-    private Map<String, Object> createEvaluationRequest(Question question, String answerContent, Resume resume) {
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("question", question.getContent());
-        requestBody.put("answer", answerContent);
-        requestBody.put("resume", resume.getContent());
-        requestBody.put("cover_letter", ""); // 자기소개서가 없는 경우 빈 문자열
-
+    private EvaluationBatcher.EvaluationItem createEvaluationRequest(Question question, String answerContent, Resume resume) {
         log.debug("답변 평가 요청 바디: question 길이={}, answer 길이={}",
                 question.getContent().length(), answerContent.length());
-        return requestBody;
-    }
 
-    /**
-     * HTTP 헤더 생성
-     */
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        // API 키가 있는 경우 인증 헤더 추가
-        if (apiKey != null && !apiKey.trim().isEmpty()) {
-            headers.set("Authorization", "Bearer " + apiKey);
-            log.debug("API 키가 설정되었습니다.");
-        } else {
-            log.debug("API 키가 설정되지 않았습니다.");
-        }
-
-        return headers;
+        String resumeDigest = resumeDigester.digestOf(resume);
+        return new EvaluationBatcher.EvaluationItem(
+                question.getContent(),
+                answerContent,
+                resumeDigest != null ? resumeDigest : "",
+                "" // 자기소개서가 없는 경우 빈 문자열
+        );
     }
 
     /**
      * FastAPI 질문 생성 응답 처리
      */
-    private List<Question> processQuestionResponse(Map<String, Object> responseBody, int expectedCount) {
-        if (responseBody == null) {
+    private List<Question> processQuestionResponse(MlQuestionsResponse response, int expectedCount) {
+        if (response == null) {
             log.error("ML 서버 응답이 null입니다.");
             throw new MLResponseParsingException("error.llm.response.parsing.failed");
         }
 
-        if (!responseBody.containsKey("questions")) {
-            log.error("ML 응답에 'questions' 필드가 없습니다. 응답: {}", responseBody);
-            throw new MLResponseParsingException("error.llm.response.parsing.failed");
-        }
-
-        Object questionsObj = responseBody.get("questions");
-        if (!(questionsObj instanceof List)) {
-            log.error("ML 응답의 'questions' 필드가 배열이 아닙니다. 타입: {}", questionsObj.getClass().getSimpleName());
+        if (response.questions() == null) {
+            log.error("ML 응답에 'questions' 필드가 없습니다.");
             throw new MLResponseParsingException("error.llm.response.parsing.failed");
         }
 
-        List<?> questionsList = (List<?>) questionsObj;
-        if (questionsList.isEmpty()) {
+        if (response.questions().isEmpty()) {
             log.error("생성된 질문이 없습니다.");
             throw new QuestionGenerationException("error.llm.question.generation.failed");
         }
 
-        List<Question> result = new ArrayList<>();
+        List<Question> result = new ArrayList<>(response.questions().size());
         int sequence = 1;
 
-        for (Object questionObj : questionsList) {
-            if (!(questionObj instanceof Map)) {
-                log.warn("잘못된 질문 객체 형식: {}", questionObj);
+        for (MlQuestion item : response.questions()) {
+            if (item == null) {
+                log.warn("잘못된 질문 객체 형식: null");
                 continue;
             }
 
-            try {
-                Map<String, Object> questionMap = (Map<String, Object>) questionObj;
-                Question question = mapToQuestion(questionMap, sequence++);
-                if (question != null) {
-                    result.add(question);
-                }
-            } catch (Exception e) {
-                log.warn("질문 매핑 실패: {}", e.getMessage());
+            Question question = mapToQuestion(item, sequence);
+            if (question != null) {
+                result.add(question);
+                sequence++;
             }
         }
 
@@ -235,22 +245,20 @@ public class LlmService {
     }
 
     /**
-     * Map을 Question 엔티티로 변환
+     * ML 응답 항목을 Question 엔티티로 변환
      */
-    private Question mapToQuestion(Map<String, Object> questionMap, int sequence) {
-        String content = extractStringField(questionMap, "content");
+    private Question mapToQuestion(MlQuestion item, int sequence) {
+        String content = item.content();
         if (content == null || content.trim().isEmpty()) {
-            log.warn("질문 content가 비어있습니다: {}", questionMap);
+            log.warn("질문 content가 비어있습니다: {}", item);
             return null;
         }
 
-        String typeStr = extractStringField(questionMap, "type");
-        QuestionType type = parseQuestionType(typeStr);
+        QuestionType type = parseQuestionType(item.type());
 
-        String category = extractStringField(questionMap, "category");
-        if (category == null) category = "General";
+        String category = item.category() != null ? item.category().trim() : "General";
 
-        int difficultyLevel = extractIntField(questionMap, "difficultyLevel", 1);
+        int difficultyLevel = item.difficultyLevel() != null ? item.difficultyLevel() : 1;
 
         return Question.builder()
                 .content(content.trim())
@@ -264,16 +272,16 @@ public class LlmService {
     /**
      * FastAPI 답변 평가 응답 처리
      */
-    private Answer processEvaluationResponse(Map<String, Object> responseBody, Question question, String answerContent) {
-        if (responseBody == null) {
+    private Answer processEvaluationResponse(MlEvaluationResult result, Question question, String answerContent) {
+        if (result == null) {
             log.warn("평가 응답이 null입니다. 기본 평가를 생성합니다.");
             return createDefaultAnswer(question, answerContent, "평가 응답을 받지 못했습니다.");
         }
 
-        int communicationScore = extractIntField(responseBody, "관련성", 70);
-        int technicalScore = extractIntField(responseBody, "실무성", 70);
-        int structureScore = extractIntField(responseBody, "구체성", 70);
-        String feedback = extractStringField(responseBody, "피드백");
+        int communicationScore = scoreOrDefault(result.relevance(), 70);
+        int technicalScore = scoreOrDefault(result.practicality(), 70);
+        int structureScore = scoreOrDefault(result.specificity(), 70);
+        String feedback = result.feedback();
 
         if (feedback == null || feedback.trim().isEmpty()) {
             feedback = "답변이 제출되었습니다.";
@@ -284,7 +292,7 @@ public class LlmService {
         return Answer.builder()
                 .question(question)
                 .content(answerContent)
-                .feedback(feedback)
+                .feedback(feedback.trim())
                 .communicationScore(communicationScore)
                 .technicalScore(technicalScore)
                 .structureScore(structureScore)
@@ -308,23 +316,8 @@ public class LlmService {
     }
 
     // 유틸리티 메서드들
-    private String extractStringField(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString().trim() : null;
-    }
-
-    private int extractIntField(Map<String, Object> map, String key, int defaultValue) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        } else if (value != null) {
-            try {
-                return Integer.parseInt(value.toString());
-            } catch (NumberFormatException e) {
-                log.warn("정수 파싱 실패 - key: {}, value: {}, 기본값 사용: {}", key, value, defaultValue);
-            }
-        }
-        return defaultValue;
+    private int scoreOrDefault(Integer score, int defaultValue) {
+        return score != null ? score : defaultValue;
     }
 
     private QuestionType parseQuestionType(String typeStr) {
@@ -341,19 +334,25 @@ public class LlmService {
         }
     }
 
+    /**
+     * 질문 생성 실패 원인을 LLMServiceException 계열 예외로 변환
+     */
+    private RuntimeException toQuestionGenerationException(Throwable throwable) {
+        Throwable cause = MlGateway.unwrap(throwable);
+        if (cause instanceof BaseException) {
+            // 이미 적절한 커스텀 예외이므로 그대로 사용
+            return (BaseException) cause;
+        }
+        log.error("예상치 못한 오류 발생: {}", cause.getMessage(), cause);
+        return new LLMServiceException("error.llm.question.generation.failed");
+    }
+
     /**
      * ML 서버 상태 확인
      */
     public boolean isMLServerHealthy() {
-        try {
-            String healthEndpoint = apiUrl + "/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(healthEndpoint, String.class);
-            boolean isHealthy = response.getStatusCode() == HttpStatus.OK;
-            log.debug("ML 서버 상태 확인 - 정상: {}", isHealthy);
-            return isHealthy;
-        } catch (Exception e) {
-            log.warn("ML 서버 상태 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        boolean isHealthy = MlGateway.await(mlGateway.health());
+        log.debug("ML 서버 상태 확인 - 정상: {}", isHealthy);
+        return isHealthy;
     }
 }
\ No newline at end of file
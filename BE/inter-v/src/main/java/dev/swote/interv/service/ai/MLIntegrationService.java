@@ -1,218 +1,301 @@
 package dev.swote.interv.service.ai;
 
+import dev.swote.interv.domain.interview.dto.AnswerEvaluationResponse;
+import dev.swote.interv.domain.interview.dto.AnswerRelevanceResponse;
 import dev.swote.interv.domain.interview.entity.AnswerEvaluation;
 import dev.swote.interv.domain.interview.entity.Question;
 import dev.swote.interv.domain.interview.dto.InterviewSimulationResult;
 import dev.swote.interv.domain.interview.entity.QuestionType;
 import dev.swote.interv.exception.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.swote.interv.service.ai.dto.MlContextResponse;
+import dev.swote.interv.service.ai.dto.MlEvaluationResult;
+import dev.swote.interv.service.ai.dto.MlKeywordSimilarity;
+import dev.swote.interv.service.ai.dto.MlQuestion;
+import dev.swote.interv.service.ai.dto.MlQuestionsResponse;
+import dev.swote.interv.service.ai.dto.MlSemanticSimilarity;
+import dev.swote.interv.service.ai.keyword.KeywordSimilarity;
+import dev.swote.interv.service.ai.keyword.KeywordSimilarityEngine;
+import dev.swote.interv.service.ai.dto.MlSimulationResponse;
+import dev.swote.interv.service.ai.vector.SemanticVectorIndex;
+import dev.swote.interv.util.RequestDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MLIntegrationService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final MlGateway mlGateway;
+    private final EvaluationBatcher evaluationBatcher;
+    private final KeywordSimilarityEngine keywordSimilarityEngine;
+    private final SemanticVectorIndex semanticVectorIndex;
 
-    @Value("${llm.api.url}")
-    private String mlApiBaseUrl;
+    @Value("${llm.keyword-similarity.local:false}")
+    private boolean localKeywordSimilarity;
 
-    @Value("${llm.api.key:dummy-api-key}")
-    private String apiKey;
+    @Value("${llm.relevance.deadline:15s}")
+    private Duration relevanceDeadline;
 
     /**
      * ML API를 통한 면접 질문 생성
      */
     public List<Question> generateInterviewQuestions(String resumeContent, String position, int questionCount) {
-        try {
-            log.info("ML API 면접 질문 생성 요청 - 포지션: {}, 질문 수: {}", position, questionCount);
-
-            String url = mlApiBaseUrl + "/interview/questions";
-
-            // 요청 데이터 구성
-            Map<String, Object> requestBody = Map.of(
-                    "resume", resumeContent,
-                    "position", position,
-                    "questionCount", questionCount
-            );
-
-            HttpHeaders headers = createHeaders();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // ML API 호출
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Map.class
-            );
+        return MlGateway.await(generateInterviewQuestionsAsync(resumeContent, position, questionCount));
+    }
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return processQuestionResponse(response.getBody());
-            }
+    /**
+     * ML API를 통한 면접 질문 생성 (비동기)
+     */
+    public CompletableFuture<List<Question>> generateInterviewQuestionsAsync(String resumeContent, String position, int questionCount) {
+        log.info("ML API 면접 질문 생성 요청 - 포지션: {}, 질문 수: {}", position, questionCount);
+
+        // 요청 데이터 구성
+        Map<String, Object> requestBody = Map.of(
+                "resume", resumeContent,
+                "position", position,
+                "questionCount", questionCount
+        );
 
-            log.warn("ML API 응답이 비어있음");
-            return generateFallbackQuestions(position, questionCount);
-
-        } catch (ResourceAccessException e) {
-            log.error("ML API 연결 실패 - 네트워크 오류: {}", e.getMessage(), e);
-            // 폴백으로 처리하지만 연결 실패 로그는 남김
-            return generateFallbackQuestions(position, questionCount);
-        } catch (HttpClientErrorException e) {
-            log.error("ML API 호출 실패 - 클라이언트 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new MLBadRequestException();
-        } catch (HttpServerErrorException e) {
-            log.error("ML API 호출 실패 - 서버 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new MLServerErrorException();
-        } catch (MLResponseParsingException e) {
-            // 이미 적절한 예외이므로 재던지기
-            throw e;
-        } catch (Exception e) {
-            log.error("ML API 호출 중 예상치 못한 오류", e);
-            throw new QuestionGenerationException();
-        }
+        return mlGateway.post(MlEndpoint.INTERVIEW_QUESTIONS, requestBody, MlQuestionsResponse.class)
+                .thenApply(response -> {
+                    if (response == null) {
+                        log.warn("ML API 응답이 비어있음");
+                        return generateFallbackQuestions(position, questionCount);
+                    }
+                    return processQuestionResponse(response);
+                })
+                .exceptionally(throwable -> {
+                    Throwable cause = MlGateway.unwrap(throwable);
+                    if (cause instanceof MLConnectionException || cause instanceof MLTimeoutException
+                            || cause instanceof MLCircuitOpenException) {
+                        // 폴백으로 처리하지만 연결 실패 로그는 남김
+                        log.error("ML API 연결 실패 - 네트워크 오류: {}", cause.getMessage());
+                        return generateFallbackQuestions(position, questionCount);
+                    }
+                    if (cause instanceof BaseException) {
+                        // 이미 적절한 예외이므로 재던지기
+                        throw (BaseException) cause;
+                    }
+                    log.error("ML API 호출 중 예상치 못한 오류", cause);
+                    throw new QuestionGenerationException();
+                });
     }
 
     /**
      * ML API를 통한 답변 평가
      */
     public AnswerEvaluation evaluateAnswer(String question, String answer, String resumeContent, String coverLetter) {
-        try {
-            log.info("ML API 답변 평가 요청 - 질문 길이: {}, 답변 길이: {}", question.length(), answer.length());
-
-            String url = mlApiBaseUrl + "/evaluate";
-
-            // 요청 데이터 구성
-            Map<String, Object> requestBody = Map.of(
-                    "question", question,
-                    "answer", answer,
-                    "resume", resumeContent != null ? resumeContent : "",
-                    "cover_letter", coverLetter != null ? coverLetter : ""
-            );
-
-            HttpHeaders headers = createHeaders();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // ML API 호출
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                AnswerEvaluation evaluation = convertToAnswerEvaluation(response.getBody());
-                log.info("ML API 답변 평가 성공 - 총점: {}", evaluation.getTotalScore());
-                return evaluation;
-            }
+        return MlGateway.await(evaluateAnswerAsync(question, answer, resumeContent, coverLetter));
+    }
 
-            log.warn("ML API 평가 응답이 비어있음");
-            return generateFallbackEvaluation();
-
-        } catch (ResourceAccessException e) {
-            log.error("답변 평가 중 연결 실패: {}", e.getMessage(), e);
-            return generateFallbackEvaluation();
-        } catch (HttpClientErrorException e) {
-            log.error("답변 평가 중 클라이언트 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return generateFallbackEvaluation();
-        } catch (HttpServerErrorException e) {
-            log.error("답변 평가 중 서버 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return generateFallbackEvaluation();
-        } catch (Exception e) {
-            log.error("ML API 답변 평가 중 예상치 못한 오류", e);
-            return generateFallbackEvaluation();
-        }
+    /**
+     * ML API를 통한 답변 평가 (비동기, 실패 시 폴백 평가로 완료)
+     */
+    public CompletableFuture<AnswerEvaluation> evaluateAnswerAsync(String question, String answer, String resumeContent, String coverLetter) {
+        log.info("ML API 답변 평가 요청 - 질문 길이: {}, 답변 길이: {}", question.length(), answer.length());
+
+        // 다른 평가 요청과 병합되어 /evaluate/batch로 전송된다
+        EvaluationBatcher.EvaluationItem item =
+                new EvaluationBatcher.EvaluationItem(question, answer, resumeContent, coverLetter);
+
+        return MlGateway.withinRequestDeadline(evaluationBatcher.submit(item))
+                .thenApply(result -> {
+                    if (result == null) {
+                        log.warn("ML API 평가 응답이 비어있음");
+                        return generateFallbackEvaluation();
+                    }
+                    AnswerEvaluation evaluation = convertToAnswerEvaluation(result);
+                    log.info("ML API 답변 평가 성공 - 총점: {}", evaluation.getTotalScore());
+                    return evaluation;
+                })
+                .exceptionally(throwable -> {
+                    log.error("ML API 답변 평가 실패: {}", MlGateway.unwrap(throwable).getMessage());
+                    return generateFallbackEvaluation();
+                });
     }
 
     /**
-     * ML API를 통한 키워드 유사도 계산
+     * ML API를 통한 답변 평가 (비동기, 폴백 없이 실패를 그대로 전달)
+     * 평가 작업 워커가 재시도 여부를 판단할 수 있도록 실패 시 예외로 완료된다.
      */
-    public Map<String, Object> calculateKeywordSimilarity(String resumeContent, String coverLetter, String question) {
-        try {
-            log.info("ML API 키워드 유사도 계산 요청");
+    public CompletableFuture<AnswerEvaluation> evaluateAnswerOrFailAsync(EvaluationBatcher.EvaluationItem item) {
+        return evaluationBatcher.submit(item)
+                .thenApply(result -> {
+                    if (result == null) {
+                        throw new MLResponseParsingException();
+                    }
+                    return convertToAnswerEvaluation(result);
+                });
+    }
 
-            String url = mlApiBaseUrl + "/similarity/keyword";
+    /**
+     * ML API를 통한 답변 일괄 평가 (비동기)
+     * 한 번의 /evaluate/batch 호출로 평가하며, 결과는 입력 순서를 따른다.
+     * 실패한 항목은 폴백 점수로 채우지 않고 null로 둔다. (저장하지 않고 실패로 응답하도록)
+     * 모든 항목이 실패하면 첫 실패 원인(ML 서버 연결 불가 등)으로 완료된다.
+     */
+    public CompletableFuture<List<AnswerEvaluation>> evaluateAnswersAsync(List<EvaluationBatcher.EvaluationItem> items) {
+        log.info("ML API 답변 일괄 평가 요청 - {}건", items.size());
+
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<AnswerEvaluation>> futures = evaluationBatcher.submitAll(items).stream()
+                .map(future -> future
+                        .thenApply(this::convertToAnswerEvaluation)
+                        .exceptionally(throwable -> {
+                            Throwable cause = MlGateway.unwrap(throwable);
+                            log.error("ML API 답변 일괄 평가 항목 실패: {}", cause.getMessage());
+                            failures.add(cause);
+                            return null;
+                        }))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    List<AnswerEvaluation> evaluations = futures.stream()
+                            .map(CompletableFuture::join)
+                            .toList();
+                    if (!evaluations.isEmpty() && evaluations.stream().allMatch(Objects::isNull)) {
+                        Throwable cause = failures.isEmpty() ? null : failures.get(0);
+                        throw cause instanceof BaseException baseException
+                                ? baseException
+                                : new MLConnectionException();
+                    }
+                    return evaluations;
+                });
+    }
 
-            Map<String, Object> requestBody = Map.of(
-                    "resume", resumeContent,
-                    "cover_letter", coverLetter != null ? coverLetter : "",
-                    "question", question
-            );
+    /**
+     * ML API를 통한 키워드 유사도 계산
+     */
+    public Map<String, Object> calculateKeywordSimilarity(String resumeContent, String coverLetter, String question) {
+        return MlGateway.await(calculateKeywordSimilarityAsync(resumeContent, coverLetter, question));
+    }
 
-            HttpHeaders headers = createHeaders();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+    /**
+     * ML API를 통한 키워드 유사도 계산 (비동기)
+     * llm.keyword-similarity.local이 켜져 있으면 ML 서버를 호출하지 않고 JVM 내에서 근사 계산한다.
+     * (토큰 추출이 Okt 명사 추출과 달라 ML 서버 값과 점수/공통 키워드가 다를 수 있으므로 기본값은 꺼져 있다)
+     */
+    public CompletableFuture<Map<String, Object>> calculateKeywordSimilarityAsync(String resumeContent, String coverLetter, String question) {
+        if (localKeywordSimilarity) {
+            try {
+                KeywordSimilarity similarity = keywordSimilarityEngine.calculate(resumeContent, coverLetter, question);
+                return CompletableFuture.completedFuture(toSimilarityResult(
+                        new MlKeywordSimilarity(similarity.matchedKeywords(), similarity.score())));
+            } catch (RuntimeException e) {
+                log.warn("로컬 키워드 유사도 계산 실패, ML API로 재시도: {}", e.getMessage());
+            }
+        }
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Map.class
-            );
+        log.info("ML API 키워드 유사도 계산 요청");
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("키워드 유사도 계산 성공");
-                return response.getBody();
-            }
+        Map<String, Object> requestBody = Map.of(
+                "resume", resumeContent,
+                "cover_letter", coverLetter != null ? coverLetter : "",
+                "question", question
+        );
 
-            return getDefaultSimilarityResult();
-
-        } catch (ResourceAccessException e) {
-            log.error("키워드 유사도 계산 중 연결 실패: {}", e.getMessage(), e);
-            return getDefaultSimilarityResult();
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("키워드 유사도 계산 중 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return getDefaultSimilarityResult();
-        } catch (Exception e) {
-            log.error("키워드 유사도 계산 중 예상치 못한 오류", e);
-            return getDefaultSimilarityResult();
-        }
+        return mlGateway.post(MlEndpoint.KEYWORD_SIMILARITY, requestBody, MlKeywordSimilarity.class)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return getDefaultSimilarityResult();
+                    }
+                    log.info("키워드 유사도 계산 성공");
+                    return toSimilarityResult(response);
+                })
+                .exceptionally(throwable -> {
+                    log.error("키워드 유사도 계산 실패: {}", MlGateway.unwrap(throwable).getMessage());
+                    return getDefaultSimilarityResult();
+                });
     }
 
     /**
      * ML API를 통한 의미론적 유사도 계산
      */
     public Map<String, Object> calculateSemanticSimilarity(String resumeContent, String coverLetter, String question) {
-        try {
-            log.info("ML API 의미론적 유사도 계산 요청");
-
-            String url = mlApiBaseUrl + "/similarity/semantic";
-
-            Map<String, Object> requestBody = Map.of(
-                    "resume", resumeContent,
-                    "cover_letter", coverLetter != null ? coverLetter : "",
-                    "question", question
-            );
-
-            HttpHeaders headers = createHeaders();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Map.class
-            );
+        return MlGateway.await(calculateSemanticSimilarityAsync(resumeContent, coverLetter, question));
+    }
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("의미론적 유사도 계산 성공");
-                return response.getBody();
-            }
+    /**
+     * ML API를 통한 의미론적 유사도 계산 (비동기)
+     */
+    public CompletableFuture<Map<String, Object>> calculateSemanticSimilarityAsync(String resumeContent, String coverLetter, String question) {
+        log.info("ML API 의미론적 유사도 계산 요청");
+
+        return semanticSimilarityAsync(resumeContent, coverLetter, question)
+                .thenApply(response -> {
+                    if (response == null || response.similarityScore() == null) {
+                        return Map.<String, Object>of("similarity_score", 0.0);
+                    }
+                    log.info("의미론적 유사도 계산 성공");
+                    return Map.<String, Object>of("similarity_score", response.similarityScore());
+                })
+                .exceptionally(throwable -> {
+                    log.error("의미론적 유사도 계산 실패: {}", MlGateway.unwrap(throwable).getMessage());
+                    return Map.of("similarity_score", 0.0);
+                });
+    }
 
-            return Map.of("similarity_score", 0.0);
-
-        } catch (ResourceAccessException e) {
-            log.error("의미론적 유사도 계산 중 연결 실패: {}", e.getMessage(), e);
-            return Map.of("similarity_score", 0.0);
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("의미론적 유사도 계산 중 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return Map.of("similarity_score", 0.0);
-        } catch (Exception e) {
-            log.error("의미론적 유사도 계산 중 예상치 못한 오류", e);
-            return Map.of("similarity_score", 0.0);
-        }
+    /**
+     * 키워드 유사도, 의미론적 유사도, 답변 평가를 한 번에 계산 (비동기)
+     * - 이력서/자기소개서는 /context로 한 번만 업로드하고 세 요청은 context_id로 참조한다.
+     * - 세 요청은 병렬로 전송되며 llm.relevance.deadline 안에 끝나지 않거나 실패한 항목은 비워 둔 채
+     *   partial=true로 완료된다. (예외로 완료되지 않는다)
+     */
+    public CompletableFuture<AnswerRelevanceResponse> scoreAnswerRelevanceAsync(String question, String answer,
+                                                                               String resumeContent, String coverLetter) {
+        // 요청 마감 시각까지 남은 시간이 더 짧으면 그 시간을 제한 시간으로 사용
+        Duration deadline = RequestDeadline.timeoutOr(relevanceDeadline);
+        log.info("ML API 답변 종합 관련도 평가 요청 - 제한 시간: {}", deadline);
+
+        long startedAt = System.nanoTime();
+        long deadlineNanos = startedAt + deadline.toNanos();
+
+        Map<String, Object> documents = new HashMap<>();
+        documents.put("resume", resumeContent != null ? resumeContent : "");
+        documents.put("cover_letter", coverLetter != null ? coverLetter : "");
+
+        // 업로드 실패 시 null (각 요청에 본문을 직접 담아 보낸다)
+        CompletableFuture<String> contextFuture = mlGateway.post(MlEndpoint.CONTEXT, documents, MlContextResponse.class)
+                .thenApply(response -> response != null ? response.contextId() : null)
+                .exceptionally(throwable -> {
+                    log.warn("ML API 문서 업로드 실패, 본문 직접 전송으로 진행: {}", MlGateway.unwrap(throwable).getMessage());
+                    return null;
+                })
+                .completeOnTimeout(null, remainingMillis(deadlineNanos), TimeUnit.MILLISECONDS);
+
+        return contextFuture.thenCompose(contextId -> {
+            Map<String, Object> keywordRequest = Map.of("question", question);
+            Map<String, Object> evaluationRequest = Map.of("question", question, "answer", answer);
+
+            CompletableFuture<MlKeywordSimilarity> keywordFuture = localKeywordSimilarity
+                    ? CompletableFuture.completedFuture(calculateKeywordSimilarityLocally(resumeContent, coverLetter, question))
+                    : withDeadline("KEYWORD", deadlineNanos,
+                    postWithDocuments(MlEndpoint.KEYWORD_SIMILARITY, keywordRequest, documents, contextId, MlKeywordSimilarity.class));
+            CompletableFuture<MlSemanticSimilarity> semanticFuture = withDeadline("SEMANTIC", deadlineNanos,
+                    semanticVectorIndex.isEnabled()
+                            ? semanticSimilarityAsync(resumeContent, coverLetter, question)
+                            : postWithDocuments(MlEndpoint.SEMANTIC_SIMILARITY, keywordRequest, documents, contextId, MlSemanticSimilarity.class));
+            CompletableFuture<MlEvaluationResult> evaluationFuture = withDeadline("EVALUATION", deadlineNanos,
+                    postWithDocuments(MlEndpoint.EVALUATE, evaluationRequest, documents, contextId, MlEvaluationResult.class));
+
+            return CompletableFuture.allOf(keywordFuture, semanticFuture, evaluationFuture)
+                    .thenApply(ignored -> mergeRelevance(
+                            keywordFuture.join(), semanticFuture.join(), evaluationFuture.join(), startedAt));
+        });
     }
 
     /**
@@ -220,107 +303,71 @@ public class MLIntegrationService {
      */
     public InterviewSimulationResult simulateInterview(String resumeContent, String coverLetter,
                                                        String jobDescription, String userAnswer, int numQuestions) {
-        try {
-            log.info("ML API 면접 시뮬레이션 요청 - 질문 수: {}", numQuestions);
-
-            String url = mlApiBaseUrl + "/simulate/simulate";
-
-            Map<String, Object> requestBody = Map.of(
-                    "resume", resumeContent,
-                    "cover_letter", coverLetter != null ? coverLetter : "",
-                    "job_description", jobDescription,
-                    "user_answer", userAnswer,
-                    "num_questions", numQuestions
-            );
-
-            HttpHeaders headers = createHeaders();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, Map.class
-            );
+        return MlGateway.await(simulateInterviewAsync(resumeContent, coverLetter, jobDescription, userAnswer, numQuestions));
+    }
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                InterviewSimulationResult result = convertToSimulationResult(response.getBody());
-                log.info("면접 시뮬레이션 성공");
-                return result;
-            }
+    /**
+     * ML API를 통한 면접 시뮬레이션 (비동기, 실패 시 폴백 결과로 완료)
+     */
+    public CompletableFuture<InterviewSimulationResult> simulateInterviewAsync(String resumeContent, String coverLetter,
+                                                                                String jobDescription, String userAnswer, int numQuestions) {
+        log.info("ML API 면접 시뮬레이션 요청 - 질문 수: {}", numQuestions);
+
+        Map<String, Object> requestBody = Map.of(
+                "resume", resumeContent,
+                "cover_letter", coverLetter != null ? coverLetter : "",
+                "job_description", jobDescription,
+                "user_answer", userAnswer,
+                "num_questions", numQuestions
+        );
 
-            return generateFallbackSimulationResult();
-
-        } catch (ResourceAccessException e) {
-            log.error("면접 시뮬레이션 중 연결 실패: {}", e.getMessage(), e);
-            return generateFallbackSimulationResult();
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("면접 시뮬레이션 중 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            return generateFallbackSimulationResult();
-        } catch (Exception e) {
-            log.error("면접 시뮬레이션 중 예상치 못한 오류", e);
-            return generateFallbackSimulationResult();
-        }
+        return mlGateway.post(MlEndpoint.SIMULATE, requestBody, MlSimulationResponse.class)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return generateFallbackSimulationResult();
+                    }
+                    InterviewSimulationResult result = convertToSimulationResult(response);
+                    log.info("면접 시뮬레이션 성공");
+                    return result;
+                })
+                .exceptionally(throwable -> {
+                    log.error("면접 시뮬레이션 실패: {}", MlGateway.unwrap(throwable).getMessage());
+                    return generateFallbackSimulationResult();
+                });
     }
 
     /**
      * ML 서버 상태 확인
      */
     public boolean isMLServerHealthy() {
-        try {
-            String url = mlApiBaseUrl + "/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            boolean isHealthy = response.getStatusCode() == HttpStatus.OK;
-            log.debug("ML 서버 상태 확인 - 정상: {}", isHealthy);
-            return isHealthy;
-        } catch (Exception e) {
-            log.warn("ML 서버 상태 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        boolean isHealthy = MlGateway.await(mlGateway.health());
+        log.debug("ML 서버 상태 확인 - 정상: {}", isHealthy);
+        return isHealthy;
     }
 
     // ================================================================================
     // 유틸리티 메서드들
     // ================================================================================
 
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("Accept", MediaType.APPLICATION_JSON_VALUE);
-        if (apiKey != null && !apiKey.equals("dummy-api-key")) {
-            headers.set("Authorization", "Bearer " + apiKey);
-        }
-        return headers;
-    }
-
-    private List<Question> processQuestionResponse(Map<String, Object> responseBody) {
-        if (!responseBody.containsKey("questions")) {
+    private List<Question> processQuestionResponse(MlQuestionsResponse response) {
+        if (response.questions() == null) {
             log.error("ML 응답에 'questions' 필드가 없습니다.");
             throw new MLResponseParsingException();
         }
 
-        Object questionsObj = responseBody.get("questions");
-        if (!(questionsObj instanceof List)) {
-            log.error("ML 응답의 'questions' 필드가 배열이 아닙니다.");
-            throw new MLResponseParsingException();
-        }
-
-        List<?> questionsList = (List<?>) questionsObj;
-        if (questionsList.isEmpty()) {
+        if (response.questions().isEmpty()) {
             log.error("생성된 질문이 없습니다.");
             throw new QuestionGenerationException();
         }
 
-        List<Question> result = new ArrayList<>();
+        List<Question> result = new ArrayList<>(response.questions().size());
         int sequence = 1;
 
-        for (Object questionObj : questionsList) {
-            try {
-                Map<String, Object> questionMap = (Map<String, Object>) questionObj;
-                Question question = convertToQuestion(questionMap);
-                if (question != null) {
-                    question.setSequence(sequence++);
-                    result.add(question);
-                }
-            } catch (Exception e) {
-                log.warn("질문 변환 실패: {}, 원인: {}", questionObj, e.getMessage());
+        for (MlQuestion item : response.questions()) {
+            Question question = item != null ? convertToQuestion(item) : null;
+            if (question != null) {
+                question.setSequence(sequence++);
+                result.add(question);
             }
         }
 
@@ -332,94 +379,190 @@ public class MLIntegrationService {
         return result;
     }
 
-    private Question convertToQuestion(Map<String, Object> questionData) {
-        Object contentObj = questionData.get("content");
-        if (contentObj == null || contentObj.toString().trim().isEmpty()) {
-            log.warn("질문 content가 비어 있음: {}", questionData);
+    private Question convertToQuestion(MlQuestion item) {
+        if (item.content() == null || item.content().trim().isEmpty()) {
+            log.warn("질문 content가 비어 있음: {}", item);
             return null;
         }
 
-        String content = contentObj.toString().trim();
-        String typeStr = (String) questionData.get("type");
-        String category = (String) questionData.getOrDefault("category", "General");
-        Object levelObj = questionData.get("difficultyLevel");
-
         QuestionType type = QuestionType.TECHNICAL;
-        if (typeStr != null) {
+        if (item.type() != null) {
             try {
-                type = QuestionType.valueOf(typeStr.toUpperCase());
+                type = QuestionType.valueOf(item.type().toUpperCase());
             } catch (IllegalArgumentException e) {
-                log.warn("알 수 없는 type 값 '{}', 기본값 TECHNICAL 사용", typeStr);
-            }
-        }
-
-        int difficultyLevel = 1;
-        if (levelObj instanceof Number) {
-            difficultyLevel = ((Number) levelObj).intValue();
-        } else if (levelObj != null) {
-            try {
-                difficultyLevel = Integer.parseInt(levelObj.toString());
-            } catch (NumberFormatException e) {
-                log.warn("difficultyLevel 파싱 실패: {}, 기본값 1 사용", levelObj);
+                log.warn("알 수 없는 type 값 '{}', 기본값 TECHNICAL 사용", item.type());
             }
         }
 
         return Question.builder()
-                .content(content)
+                .content(item.content().trim())
                 .type(type)
-                .category(category)
-                .difficultyLevel(difficultyLevel)
+                .category(item.category() != null ? item.category() : "General")
+                .difficultyLevel(item.difficultyLevel() != null ? item.difficultyLevel() : 1)
                 .build();
     }
 
-    private AnswerEvaluation convertToAnswerEvaluation(Map<String, Object> responseData) {
+    private AnswerEvaluation convertToAnswerEvaluation(MlEvaluationResult result) {
         AnswerEvaluation evaluation = new AnswerEvaluation();
 
-        evaluation.setRelevance(getIntegerValue(responseData, "관련성"));
-        evaluation.setSpecificity(getIntegerValue(responseData, "구체성"));
-        evaluation.setPracticality(getIntegerValue(responseData, "실무성"));
-        evaluation.setValidity(getIntegerValue(responseData, "유효성"));
-        evaluation.setTotalScore(getIntegerValue(responseData, "총점"));
-        evaluation.setFeedback((String) responseData.getOrDefault("피드백", "평가를 완료했습니다."));
+        evaluation.setRelevance(scoreOrZero(result.relevance()));
+        evaluation.setSpecificity(scoreOrZero(result.specificity()));
+        evaluation.setPracticality(scoreOrZero(result.practicality()));
+        evaluation.setValidity(scoreOrZero(result.validity()));
+        evaluation.setTotalScore(scoreOrZero(result.totalScore()));
+        evaluation.setFeedback(result.feedback() != null ? result.feedback() : "평가를 완료했습니다.");
 
         return evaluation;
     }
 
-    private InterviewSimulationResult convertToSimulationResult(Map<String, Object> responseData) {
+    private InterviewSimulationResult convertToSimulationResult(MlSimulationResponse response) {
         InterviewSimulationResult result = new InterviewSimulationResult();
 
-        result.setGeneratedQuestions((List<String>) responseData.get("generated_questions"));
-        result.setSelectedQuestion((String) responseData.get("selected_question"));
-        result.setUserAnswer((String) responseData.get("user_answer"));
+        result.setGeneratedQuestions(response.generatedQuestions());
+        result.setSelectedQuestion(response.selectedQuestion());
+        result.setUserAnswer(response.userAnswer());
 
         // 평가 결과 변환
-        Map<String, Object> evalData = (Map<String, Object>) responseData.get("evaluation_result");
-        if (evalData != null) {
-            result.setEvaluationResult(convertToAnswerEvaluation(evalData));
+        if (response.evaluationResult() != null) {
+            result.setEvaluationResult(convertToAnswerEvaluation(response.evaluationResult()));
         }
 
         return result;
     }
 
-    private int getIntegerValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value instanceof Integer) {
-            return (Integer) value;
-        } else if (value instanceof String) {
-            try {
-                return Integer.parseInt((String) value);
-            } catch (NumberFormatException e) {
-                log.warn("정수 변환 실패 - key: {}, value: {}", key, value);
-                return 0;
-            }
+    /**
+     * context_id가 있으면 본문 대신 context_id로 요청하고, ML 서버에 문서가 없으면(만료/다른 워커) 본문을 담아 재요청
+     */
+    private <T> CompletableFuture<T> postWithDocuments(MlEndpoint endpoint, Map<String, Object> request,
+                                                       Map<String, Object> documents, String contextId,
+                                                       Class<T> responseType) {
+        Map<String, Object> fullRequest = new HashMap<>(request);
+        fullRequest.putAll(documents);
+        if (contextId == null) {
+            return mlGateway.post(endpoint, fullRequest, responseType);
+        }
+
+        Map<String, Object> contextRequest = new HashMap<>(request);
+        contextRequest.put("context_id", contextId);
+        return mlGateway.post(endpoint, contextRequest, responseType)
+                .exceptionallyCompose(throwable -> {
+                    if (MlGateway.unwrap(throwable) instanceof MLBadRequestException) {
+                        log.debug("context_id 요청 실패, 본문 직접 전송으로 재시도 - endpoint: {}", endpoint.getPath());
+                        return mlGateway.post(endpoint, fullRequest, responseType);
+                    }
+                    return CompletableFuture.failedFuture(MlGateway.unwrap(throwable));
+                });
+    }
+
+    /**
+     * 저장된 임베딩으로 유사도를 계산하고, 벡터 저장소를 쓸 수 없으면(/embed 미지원 등) ML 서버에서 직접 계산
+     */
+    private CompletableFuture<MlSemanticSimilarity> semanticSimilarityAsync(String resumeContent, String coverLetter, String question) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("resume", resumeContent != null ? resumeContent : "");
+        requestBody.put("cover_letter", coverLetter != null ? coverLetter : "");
+        requestBody.put("question", question);
+
+        if (!semanticVectorIndex.isEnabled()) {
+            return mlGateway.post(MlEndpoint.SEMANTIC_SIMILARITY, requestBody, MlSemanticSimilarity.class);
+        }
+
+        return semanticVectorIndex.similarityAsync(resumeContent, coverLetter, question)
+                .thenApply(MlSemanticSimilarity::new)
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = MlGateway.unwrap(throwable);
+                    if (cause instanceof MLConnectionException || cause instanceof MLTimeoutException
+                            || cause instanceof MLCircuitOpenException) {
+                        return CompletableFuture.failedFuture(cause);
+                    }
+                    log.warn("임베딩 기반 유사도 계산 실패, ML 서버 직접 계산으로 진행: {}", cause.getMessage());
+                    return mlGateway.post(MlEndpoint.SEMANTIC_SIMILARITY, requestBody, MlSemanticSimilarity.class);
+                });
+    }
+
+    private MlKeywordSimilarity calculateKeywordSimilarityLocally(String resumeContent, String coverLetter, String question) {
+        try {
+            KeywordSimilarity similarity = keywordSimilarityEngine.calculate(resumeContent, coverLetter, question);
+            return new MlKeywordSimilarity(similarity.matchedKeywords(), similarity.score());
+        } catch (RuntimeException e) {
+            log.warn("종합 관련도 평가 항목 실패 - KEYWORD: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 공통 제한 시간 적용. 시간 초과나 실패는 null로 완료된다.
+     * (진행 중인 ML 요청 자체는 HttpClient 타임아웃까지 계속되며, 결과만 기다리지 않는다)
+     */
+    private <T> CompletableFuture<T> withDeadline(String part, long deadlineNanos, CompletableFuture<T> future) {
+        return future
+                .exceptionally(throwable -> {
+                    log.warn("종합 관련도 평가 항목 실패 - {}: {}", part, MlGateway.unwrap(throwable).getMessage());
+                    return null;
+                })
+                .completeOnTimeout(null, remainingMillis(deadlineNanos), TimeUnit.MILLISECONDS);
+    }
+
+    private long remainingMillis(long deadlineNanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    private AnswerRelevanceResponse mergeRelevance(MlKeywordSimilarity keyword, MlSemanticSimilarity semantic,
+                                                   MlEvaluationResult evaluationResult, long startedAt) {
+        List<String> missingParts = new ArrayList<>();
+        if (keyword == null) {
+            missingParts.add("KEYWORD");
+        }
+        if (semantic == null) {
+            missingParts.add("SEMANTIC");
+        }
+        if (evaluationResult == null) {
+            missingParts.add("EVALUATION");
+        }
+
+        AnswerEvaluationResponse evaluationResponse = null;
+        if (evaluationResult != null) {
+            AnswerEvaluation evaluation = convertToAnswerEvaluation(evaluationResult);
+            evaluationResponse = AnswerEvaluationResponse.builder()
+                    .relevance(evaluation.getRelevance())
+                    .specificity(evaluation.getSpecificity())
+                    .practicality(evaluation.getPracticality())
+                    .validity(evaluation.getValidity())
+                    .totalScore(evaluation.getTotalScore())
+                    .feedback(evaluation.getFeedback())
+                    .evaluationType("AI_FASTAPI")
+                    .build();
         }
-        return 0;
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("답변 종합 관련도 평가 완료 - 소요: {}ms, 누락 항목: {}", elapsedMs, missingParts);
+
+        return AnswerRelevanceResponse.builder()
+                .matchedKeywords(keyword != null && keyword.matchedKeywords() != null ? keyword.matchedKeywords() : List.of())
+                .keywordMatchScore(keyword != null ? keyword.keywordMatchScore() : null)
+                .semanticSimilarity(semantic != null ? semantic.similarityScore() : null)
+                .evaluation(evaluationResponse)
+                .partial(!missingParts.isEmpty())
+                .missingParts(missingParts)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    private int scoreOrZero(Integer score) {
+        return score != null ? score : 0;
     }
 
     private Map<String, Object> getDefaultSimilarityResult() {
         return Map.of("matched_keywords", List.of(), "keyword_match_score", 0.0);
     }
 
+    private Map<String, Object> toSimilarityResult(MlKeywordSimilarity similarity) {
+        return Map.of(
+                "matched_keywords", similarity.matchedKeywords() != null ? similarity.matchedKeywords() : List.of(),
+                "keyword_match_score", similarity.keywordMatchScore() != null ? similarity.keywordMatchScore() : 0.0
+        );
+    }
+
     // ================================================================================
     // 폴백 메서드들 (ML API 실패 시 사용)
     // ================================================================================
@@ -0,0 +1,208 @@
+package dev.swote.interv.service.ai;
+
+import dev.swote.interv.exception.MLCircuitOpenException;
+import dev.swote.interv.exception.MLTimeoutException;
+import dev.swote.interv.util.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ML 엔드포인트 그룹별 격벽 (질문 생성/평가/유사도/시뮬레이션)
+ * - 그룹마다 별도의 HttpClient(= 별도 커넥션 풀)와 동시 요청 한도, 대기열을 가진다.
+ *   시뮬레이션 요청이 몰려도 평가/질문 생성 요청의 커넥션과 실행 슬롯을 차지하지 못한다.
+ * - 한도를 넘으면 대기열에서 기다리고, 대기열도 가득 차면 MLCircuitOpenException(overloaded)으로 즉시 실패한다.
+ * - 대기 중 max-wait이나 요청 마감 시각이 지난 항목은 실행하지 않고 실패 처리한다.
+ */
+@Slf4j
+public class MlBulkhead {
+
+    private final Type type;
+    private final HttpClient httpClient;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final Object lock = new Object();
+    private final Deque<Waiting<?>> queue = new ArrayDeque<>();
+    private int active;
+
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+    private final Timer waitTimer;
+
+    public MlBulkhead(Type type, HttpClient httpClient, int maxConcurrent, int maxQueue, Duration maxWait,
+                      MeterRegistry meterRegistry) {
+        this.type = type;
+        this.httpClient = httpClient;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxQueue = Math.max(0, maxQueue);
+        this.maxWaitNanos = maxWait.toNanos();
+
+        String name = type.getName();
+        Gauge.builder("ml.bulkhead.active", this, MlBulkhead::getActive)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("ml.bulkhead.queued", this, MlBulkhead::getQueued)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("ml.bulkhead.saturation", this, MlBulkhead::getSaturation)
+                .tag("bulkhead", name)
+                .description("실행 중 요청 수 / 동시 요청 한도")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ml.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("ml.bulkhead.expired")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ml.bulkhead.wait")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public int getActive() {
+        synchronized (lock) {
+            return active;
+        }
+    }
+
+    public int getQueued() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    public double getSaturation() {
+        return (double) getActive() / maxConcurrent;
+    }
+
+    /**
+     * 슬롯이 있으면 바로, 없으면 대기열에 넣었다가 앞선 호출이 끝날 때 실행
+     * 대기 후 실행되는 호출도 등록 시점의 요청 마감 시각을 그대로 적용한다.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        Waiting<T> waiting = new Waiting<>(call, new CompletableFuture<>(), RequestDeadline.current(), System.nanoTime());
+
+        synchronized (lock) {
+            if (active >= maxConcurrent) {
+                if (queue.size() >= maxQueue) {
+                    rejectedCounter.increment();
+                    log.warn("ML 격벽 대기열 초과 - 요청 즉시 거부: {}, 실행 중: {}, 대기: {}",
+                            type.getName(), active, queue.size());
+                    return CompletableFuture.failedFuture(new MLCircuitOpenException("error.llm.service.overloaded"));
+                }
+                queue.addLast(waiting);
+                return waiting.future();
+            }
+            active++;
+        }
+
+        start(waiting);
+        return waiting.future();
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private <T> void start(Waiting<T> waiting) {
+        waitTimer.record(System.nanoTime() - waiting.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        CompletableFuture<T> result;
+        try {
+            result = RequestDeadline.supplyWith(waiting.deadline(), waiting.call());
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((value, throwable) -> {
+            release();
+            if (throwable != null) {
+                waiting.future().completeExceptionally(MlGateway.unwrap(throwable));
+            } else {
+                waiting.future().complete(value);
+            }
+        });
+    }
+
+    /**
+     * 슬롯 반환. 실행할 수 있는 대기 항목이 있으면 슬롯을 넘겨 바로 실행한다.
+     */
+    private void release() {
+        while (true) {
+            Waiting<?> next;
+            synchronized (lock) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+
+            RuntimeException expired = checkExpired(next);
+            if (expired == null) {
+                start(next);
+                return;
+            }
+            expiredCounter.increment();
+            next.future().completeExceptionally(expired);
+        }
+    }
+
+    private RuntimeException checkExpired(Waiting<?> waiting) {
+        if (waiting.future().isDone()) {
+            return new MLCircuitOpenException("error.llm.service.overloaded");
+        }
+        if (waiting.deadline() != null && waiting.deadline().isExpired()) {
+            return new MLTimeoutException("error.request.deadline.exceeded");
+        }
+        if (System.nanoTime() - waiting.enqueuedAt() > maxWaitNanos) {
+            log.warn("ML 격벽 대기 시간 초과: {}", type.getName());
+            return new MLCircuitOpenException("error.llm.service.overloaded");
+        }
+        return null;
+    }
+
+    private record Waiting<T>(Supplier<CompletableFuture<T>> call, CompletableFuture<T> future,
+                              RequestDeadline deadline, long enqueuedAt) {
+    }
+
+    /**
+     * 격벽 그룹 (설정 키: llm.api.bulkhead.{name}.*)
+     */
+    public enum Type {
+        QUESTION_GENERATION("question-generation"),
+        EVALUATION("evaluation"),
+        SIMILARITY("similarity"),
+        SIMULATION("simulation");
+
+        private final String name;
+
+        Type(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
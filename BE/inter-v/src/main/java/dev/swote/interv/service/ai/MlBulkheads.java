@@ -0,0 +1,30 @@
+package dev.swote.interv.service.ai;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 격벽 그룹별 MlBulkhead 모음 (MlGatewayConfig에서 생성)
+ */
+public class MlBulkheads {
+
+    private final Map<MlBulkhead.Type, MlBulkhead> bulkheads;
+
+    public MlBulkheads(Map<MlBulkhead.Type, MlBulkhead> bulkheads) {
+        for (MlBulkhead.Type type : MlBulkhead.Type.values()) {
+            if (!bulkheads.containsKey(type)) {
+                throw new IllegalArgumentException("ML 격벽 설정 누락: " + type.getName());
+            }
+        }
+        this.bulkheads = new EnumMap<>(bulkheads);
+    }
+
+    public MlBulkhead get(MlEndpoint endpoint) {
+        return bulkheads.get(endpoint.getBulkhead());
+    }
+
+    public Collection<MlBulkhead> all() {
+        return bulkheads.values();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.swote.interv.service.ai;
+
+import dev.swote.interv.interceptor.CurrentUser;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * ML 호출의 우선순위/사용자/비용 (MlScheduler의 우선순위·공정 분배 기준)
+ * - 호출부가 supplyWith로 지정하지 않으면 엔드포인트 기본 우선순위와 현재 요청의 로그인 사용자를 사용한다.
+ * - 스레드 로컬이므로 MlGateway 진입 시점(호출 스레드)에 resolve해서 이후 단계로 넘긴다.
+ *
+ * @param userId 공정 분배 단위 (null이면 시스템 작업으로 하나의 흐름으로 취급)
+ * @param cost   공정 분배 시 차지하는 몫 (배치 평가는 항목 수)
+ */
+public record MlCallContext(MlPriority priority, Integer userId, int cost) {
+
+    private static final ThreadLocal<MlCallContext> CURRENT = new ThreadLocal<>();
+
+    public MlCallContext {
+        cost = Math.max(1, cost);
+    }
+
+    public static MlCallContext of(MlPriority priority, Integer userId) {
+        return new MlCallContext(priority, userId, 1);
+    }
+
+    public static MlCallContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 컨텍스트(null이면 없음)로 작업을 실행한 뒤 원래 값으로 되돌린다
+     */
+    public static <T> T supplyWith(MlCallContext context, Supplier<T> supplier) {
+        MlCallContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드 기준 호출 컨텍스트 (지정된 값이 없으면 엔드포인트 기본값)
+     */
+    public static MlCallContext resolve(MlEndpoint endpoint) {
+        MlCallContext context = CURRENT.get();
+        if (context != null) {
+            return context;
+        }
+        MlPriority priority = endpoint == MlEndpoint.SIMULATE ? MlPriority.SIMULATION : MlPriority.STANDARD;
+        return of(priority, currentRequestUserId());
+    }
+
+    private static Integer currentRequestUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object currentUser = attributes.getAttribute("currentUser", RequestAttributes.SCOPE_REQUEST);
+        return currentUser instanceof CurrentUser user ? user.id() : null;
+    }
+}
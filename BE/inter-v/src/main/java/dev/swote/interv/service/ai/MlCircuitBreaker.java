@@ -0,0 +1,186 @@
+package dev.swote.interv.service.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ML 서버 서킷 브레이커
+ * - CLOSED: 최근 호출 결과를 슬라이딩 윈도우로 기록하고, 실패율이 임계치를 넘으면 OPEN으로 전환
+ * - OPEN: open-duration 동안 모든 요청을 즉시 거부 (타임아웃을 기다리지 않고 폴백으로 전환되도록)
+ * - HALF_OPEN: 제한된 수의 시험 요청만 통과시키고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 허가(Permit)에는 발급 당시의 상태 세대가 붙어 있어, 상태가 바뀐 뒤에 끝난 이전 세대의 호출 결과는 무시한다.
+ *   (CLOSED 때 보낸 느린 요청의 결과가 HALF_OPEN 시험 결과로 집계되지 않도록)
+ */
+@Slf4j
+@Component
+public class MlCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 요청 허가 (발급 당시의 상태 세대)
+     */
+    public record Permit(long generation) {
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    // 상태가 바뀔 때마다 증가
+    private long generation;
+    private long openedAt;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public MlCircuitBreaker(
+            @Value("${llm.api.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${llm.api.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${llm.api.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${llm.api.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${llm.api.circuit-breaker.half-open-probes:3}") int halfOpenProbes
+    ) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.window = new boolean[this.windowSize];
+    }
+
+    /**
+     * 요청 허용 여부 확인. 거부되면 null
+     * 허가를 받았다면 호출 결과를 반드시 onSuccess/onFailure/onIgnored 중 하나로 알려야 한다.
+     */
+    public synchronized Permit tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probesSucceeded >= halfOpenProbes) {
+                return null;
+            }
+            probesInFlight++;
+        }
+        return new Permit(generation);
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (isStale(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            probesSucceeded++;
+            if (probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (isStale(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 서버 상태와 무관한 결과(4xx 등)로 끝난 호출. 시험 요청 슬롯만 반환한다.
+     */
+    public synchronized void onIgnored(Permit permit) {
+        if (isStale(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized State getState() {
+        // OPEN 유지 시간이 지났다면 다음 요청에서 HALF_OPEN으로 전환된다
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failedCalls / recordedCalls;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 허가 이후 상태가 바뀌었는지 (이전 세대의 결과는 현재 윈도우/시험 요청에 집계하지 않는다)
+     */
+    private boolean isStale(Permit permit) {
+        return permit.generation() != generation;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("ML 서킷 브레이커 상태 변경: {} -> {} (실패율: {})",
+                state, next, String.format("%.2f", getFailureRate()));
+
+        state = next;
+        generation++;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
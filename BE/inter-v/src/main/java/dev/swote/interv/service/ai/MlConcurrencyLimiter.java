@@ -0,0 +1,93 @@
+package dev.swote.interv.service.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ML 서버 동시 요청 수 적응형 제한기 (AIMD)
+ * - 성공 응답이 지연 임계치 이내이고 한도를 충분히 사용 중이면 한도를 1씩 증가 (Additive Increase)
+ * - 타임아웃/연결 실패/5xx 또는 지연 임계치 초과 시 한도를 backoff-ratio 배로 감소 (Multiplicative Decrease)
+ * 모든 ML 엔드포인트가 하나의 한도를 공유한다.
+ */
+@Slf4j
+@Component
+public class MlConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public MlConcurrencyLimiter(
+            @Value("${llm.api.concurrency.initial-limit:16}") int initialLimit,
+            @Value("${llm.api.concurrency.min-limit:2}") int minLimit,
+            @Value("${llm.api.concurrency.max-limit:64}") int maxLimit,
+            @Value("${llm.api.concurrency.backoff-ratio:0.75}") double backoffRatio,
+            @Value("${llm.api.concurrency.latency-threshold:20s}") Duration latencyThreshold
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 요청 슬롯 확보. true를 반환했다면 완료 시 onSuccess/onDropped/onIgnored 중 하나를 반드시 호출해야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void onSuccess(long elapsedNanos) {
+        int utilized = inFlight;
+        inFlight--;
+
+        if (elapsedNanos > latencyThresholdNanos) {
+            decrease("응답 지연");
+            return;
+        }
+        // 한도의 절반 이상을 사용 중일 때만 증가시켜 유휴 상태에서 한도가 무한히 커지지 않게 한다
+        if (utilized * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease("요청 실패");
+    }
+
+    /**
+     * 서버 부하와 무관한 결과(4xx 등)로 끝난 요청. 한도는 그대로 두고 슬롯만 반환한다.
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease(String reason) {
+        double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        if ((int) previous != (int) limit) {
+            log.info("ML 동시 요청 한도 감소 ({}): {} -> {}", reason, (int) previous, (int) limit);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.swote.interv.service.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * FastAPI ML 서버 엔드포인트 정의
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MlEndpoint {
+
+    INTERVIEW_QUESTIONS("/interview/questions", MlBulkhead.Type.QUESTION_GENERATION),
+    INTERVIEW_QUESTIONS_STREAM("/interview/questions/stream", MlBulkhead.Type.QUESTION_GENERATION),
+    EVALUATE("/evaluate", MlBulkhead.Type.EVALUATION),
+    EVALUATE_BATCH("/evaluate/batch", MlBulkhead.Type.EVALUATION),
+    KEYWORD_SIMILARITY("/similarity/keyword", MlBulkhead.Type.SIMILARITY),
+    SEMANTIC_SIMILARITY("/similarity/semantic", MlBulkhead.Type.SIMILARITY),
+    SIMULATE("/simulate/simulate", MlBulkhead.Type.SIMULATION),
+    CONTEXT("/context", MlBulkhead.Type.SIMILARITY),
+    EMBED("/embed", MlBulkhead.Type.SIMILARITY),
+    HEALTH("/health", null);
+
+    private final String path;
+    // 호출이 속하는 격벽 그룹 (HEALTH는 격벽 없이 기본 클라이언트 사용)
+    private final MlBulkhead.Type bulkhead;
+}
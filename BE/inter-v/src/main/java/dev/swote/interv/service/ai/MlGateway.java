@@ -0,0 +1,573 @@
+package dev.swote.interv.service.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import dev.swote.interv.exception.*;
+import dev.swote.interv.util.RequestDeadline;
+import dev.swote.interv.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * FastAPI ML 서버 비동기 호출 게이트웨이
+ * - JDK HttpClient의 sendAsync를 사용하므로 ML 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+ * - HTTP/네트워크 오류는 LLMServiceException 계열 예외로 변환되어 CompletableFuture에 전달된다.
+ * - 엔드포인트 그룹별 격벽(MlBulkhead)으로 커넥션 풀과 동시 요청 수를 나눠, 한 그룹의 폭주가 다른 그룹을 막지 않는다.
+ * - 서킷 브레이커가 열려 있으면 MLCircuitOpenException으로 즉시 실패한다.
+ * - 동시 요청 한도(MlConcurrencyLimiter) 슬롯은 MlScheduler가 우선순위와 사용자별 공정 분배에 따라 배분한다.
+ * - 엔드포인트/우선순위/요청 바디가 같은 요청이 진행 중이고 그 마감이 이 요청보다 이르지 않으면 하나의 호출 결과를 공유한다.
+ * - 요청 스레드에 마감 시각(RequestDeadline)이 있으면 남은 시간만큼만 기다리고, 이미 지났으면 보내지 않는다.
+ * - 응답은 바이트 배열로 모으지 않고 응답 스트림에서 바로 지정한 타입(service.ai.dto 레코드)으로 읽는다.
+ * - 응답 파싱과 그 뒤의 후속 처리(답변 저장 등)는 격벽 HttpClient의 I/O 스레드가 아닌 mlGatewayExecutor에서 실행된다.
+ * - 요청/응답 바디는 MlWireFormat이 정한 형식(CBOR + gzip, 미지원 서버면 JSON)으로 주고받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MlGateway {
+
+    private static final Duration MIN_REQUEST_TIMEOUT = Duration.ofMillis(1);
+
+    private final HttpClient mlHttpClient;
+    private final MlBulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+    private final MlCircuitBreaker circuitBreaker;
+    private final MlScheduler scheduler;
+    private final MlWireFormat wireFormat;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor mlGatewayExecutor;
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+    private volatile ObjectMapper canonicalMapper;
+
+    @Value("${llm.api.url}")
+    private String apiUrl;
+
+    @Value("${llm.api.key:}")
+    private String apiKey;
+
+    @Value("${llm.api.timeout.read:60}")
+    private long readTimeoutSeconds;
+
+    /**
+     * ML 서버에 POST 요청을 비동기로 전송하고 응답 바디를 지정한 타입으로 변환
+     * 응답 바디가 비어있으면 null로 완료된다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> post(MlEndpoint endpoint, Object requestBody, Class<T> responseType) {
+        byte[] payload;
+        try {
+            // 키 순서를 고정한 직렬화 결과를 그대로 중복 요청 판별 키로 사용
+            payload = canonicalMapper().writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            log.error("ML 요청 직렬화 실패 - endpoint: {}", endpoint.getPath(), e);
+            return CompletableFuture.failedFuture(new MLBadRequestException());
+        }
+
+        // 동일한 요청이 이미 진행 중이면 새로 보내지 않고 그 결과를 공유
+        // - 우선순위가 다른 호출은 스케줄링이 달라야 하므로 키에 우선순위를 포함한다
+        // - 먼저 보낸 요청의 마감이 이 요청보다 이르면 합류하지 않고 새로 보낸다 (SingleFlight)
+        // - 먼저 보낸 요청의 타임아웃이 더 길 수 있으므로 결과는 이 요청의 마감 시각까지만 기다린다
+        MlPriority priority = MlCallContext.resolve(endpoint).priority();
+        String flightKey = endpoint.name() + ":" + priority.name() + ":" + responseType.getName() + ":"
+                + Hashing.sha256().hashBytes(payload);
+        return withinRequestDeadline((CompletableFuture<T>) singleFlight.execute(
+                flightKey,
+                RequestDeadline.current(),
+                () -> send(endpoint, payload, responseType).thenApply(body -> (Object) body),
+                () -> {
+                    log.debug("진행 중인 동일 ML 요청에 합류 - endpoint: {}", endpoint.getPath());
+                    meterRegistry.counter("ml.singleflight.shared", "endpoint", endpoint.name()).increment();
+                }));
+    }
+
+    private <T> CompletableFuture<T> send(MlEndpoint endpoint, byte[] payload, Class<T> responseType) {
+        // 요청 마감 시각이 지났으면 격벽 대기열에도 넣지 않는다
+        RuntimeException expired = checkDeadline(endpoint);
+        if (expired != null) {
+            return CompletableFuture.failedFuture(expired);
+        }
+
+        // 우선순위/사용자는 스레드 로컬 기준이므로 격벽 대기 전에 호출 스레드에서 정한다
+        MlCallContext context = MlCallContext.resolve(endpoint);
+        MlBulkhead bulkhead = bulkheads.get(endpoint);
+        return bulkhead.execute(() -> dispatch(endpoint, context,
+                permit -> sendNow(endpoint, bulkhead.getHttpClient(), payload, responseType, permit)));
+    }
+
+    /**
+     * 격벽 슬롯을 얻은 뒤 스케줄러에 전송 등록 (대기 후 실행될 수 있으므로 마감 시각을 다시 확인)
+     */
+    private <T> CompletableFuture<T> dispatch(MlEndpoint endpoint, MlCallContext context,
+                                              Function<MlCircuitBreaker.Permit, CompletableFuture<T>> call) {
+        // 요청 마감 시각이 지났거나 서킷이 열려 있으면 타임아웃을 기다리지 않고 즉시 실패
+        RuntimeException expired = checkDeadline(endpoint);
+        if (expired != null) {
+            return CompletableFuture.failedFuture(expired);
+        }
+        MlCircuitBreaker.Permit permit = acquirePermission(endpoint);
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new MLCircuitOpenException());
+        }
+
+        // 동시 요청 슬롯을 얻지 못한 채 거부/만료되면 서킷 브레이커 허가만 반환
+        return scheduler.submit(context, () -> call.apply(permit), () -> circuitBreaker.onIgnored(permit));
+    }
+
+    /**
+     * 스케줄러 슬롯을 얻은 뒤 실제 전송
+     */
+    private <T> CompletableFuture<T> sendNow(MlEndpoint endpoint, HttpClient httpClient, byte[] payload,
+                                             Class<T> responseType, MlCircuitBreaker.Permit permit) {
+        Duration timeout = requestTimeout();
+        MlWireFormat.Body body = wireFormat.encode(payload);
+
+        log.debug("ML 요청 전송 - endpoint: {}, 형식: {}, 바디 크기: {} bytes (JSON {} bytes)",
+                endpoint.getPath(), body.contentType(), body.bytes().length, payload.length);
+        long startedAt = System.nanoTime();
+
+        return httpClient.sendAsync(newPost(endpoint, timeout, body), HttpResponse.BodyHandlers.ofInputStream())
+                .thenCompose(response -> {
+                    if (!wireFormat.rejectedAsUnsupported(body, response)) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    // 바이너리 형식을 이해하지 못하는 서버면 같은 요청을 JSON으로 다시 전송
+                    discard(response.body());
+                    return httpClient.sendAsync(newPost(endpoint, timeout, wireFormat.plain(payload)),
+                            HttpResponse.BodyHandlers.ofInputStream());
+                })
+                // 파싱과 이어지는 thenApply 체인이 격벽 I/O 스레드를 점유하지 않도록 후속 처리 풀로 넘긴다
+                .handleAsync((response, throwable) -> {
+                    long elapsedNanos = System.nanoTime() - startedAt;
+                    long elapsedMs = Duration.ofNanos(elapsedNanos).toMillis();
+                    if (throwable != null) {
+                        RuntimeException translated = translate(endpoint, throwable, elapsedMs);
+                        if (translated instanceof MLTimeoutException || translated instanceof MLConnectionException) {
+                            recordFailure(permit);
+                        } else {
+                            recordIgnored(permit);
+                        }
+                        throw translated;
+                    }
+
+                    int status = response.statusCode();
+                    if (status >= 500) {
+                        recordFailure(permit);
+                    } else if (status >= 400) {
+                        recordIgnored(permit);
+                    } else {
+                        recordSuccess(permit, elapsedNanos);
+                    }
+
+                    log.debug("ML 응답 수신 - endpoint: {}, 상태: {}, 소요: {}ms",
+                            endpoint.getPath(), status, elapsedMs);
+                    return readBody(endpoint, response, responseType);
+                }, mlGatewayExecutor);
+    }
+
+    /**
+     * ML 서버의 NDJSON 스트리밍 응답을 한 줄씩 지정한 타입으로 변환해 전달
+     * 모든 줄을 전달하면 정상 완료되고, 연결/HTTP 오류나 onItem 예외가 있으면 예외로 완료된다.
+     * 줄 파싱과 onItem은 HttpClient I/O 스레드가 아닌 mlGatewayExecutor에서 순서대로 실행된다.
+     */
+    public <T> CompletableFuture<Void> stream(MlEndpoint endpoint, Object requestBody,
+                                              Class<T> itemType, Consumer<T> onItem) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            log.error("ML 요청 직렬화 실패 - endpoint: {}", endpoint.getPath(), e);
+            return CompletableFuture.failedFuture(new MLBadRequestException());
+        }
+
+        RuntimeException expired = checkDeadline(endpoint);
+        if (expired != null) {
+            return CompletableFuture.failedFuture(expired);
+        }
+
+        MlCallContext context = MlCallContext.resolve(endpoint);
+        MlBulkhead bulkhead = bulkheads.get(endpoint);
+        return bulkhead.execute(() -> dispatch(endpoint, context,
+                permit -> streamNow(endpoint, bulkhead.getHttpClient(), payload, itemType, onItem, permit)));
+    }
+
+    private <T> CompletableFuture<Void> streamNow(MlEndpoint endpoint, HttpClient httpClient, byte[] payload,
+                                                  Class<T> itemType, Consumer<T> onItem,
+                                                  MlCircuitBreaker.Permit permit) {
+        Duration timeout = requestTimeout();
+        MlWireFormat.Body body = wireFormat.encode(payload);
+
+        long startedAt = System.nanoTime();
+        AtomicLong firstItemNanos = new AtomicLong();
+        AtomicReference<RuntimeException> itemFailure = new AtomicReference<>();
+        // 줄마다 이전 줄 처리에 이어 붙여 순서를 지킨다 (onNext는 한 번에 하나씩 호출되므로 경합 없음)
+        AtomicReference<CompletableFuture<Void>> items = new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+        Flow.Subscriber<String> lineSubscriber = new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String line) {
+                if (line.isBlank()) {
+                    return;
+                }
+                firstItemNanos.compareAndSet(0, System.nanoTime() - startedAt);
+                items.set(items.get().thenRunAsync(() -> {
+                    // 처리 중 실패한 뒤의 줄은 무시하고 스트림 종료까지 소비만 한다
+                    if (itemFailure.get() != null) {
+                        return;
+                    }
+                    try {
+                        onItem.accept(wireFormat.jsonReader(itemType).readValue(line));
+                    } catch (IOException e) {
+                        log.error("ML 스트리밍 응답 파싱 실패 - endpoint: {}, 원인: {}", endpoint.getPath(), e.getMessage());
+                        itemFailure.compareAndSet(null, new MLResponseParsingException());
+                    } catch (RuntimeException e) {
+                        itemFailure.compareAndSet(null, e);
+                    }
+                }, mlGatewayExecutor));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                // 오류는 sendAsync 결과로도 전달되므로 별도 처리하지 않는다
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+
+        HttpResponse.BodyHandler<Void> bodyHandler = responseInfo -> responseInfo.statusCode() >= 400
+                ? HttpResponse.BodySubscribers.replacing(null)
+                : HttpResponse.BodySubscribers.fromLineSubscriber(lineSubscriber);
+
+        return httpClient.sendAsync(newStreamPost(endpoint, timeout, body), bodyHandler)
+                .thenCompose(response -> {
+                    // 4xx 응답 바디는 bodyHandler가 버리므로 바로 JSON으로 다시 전송할 수 있다
+                    if (!wireFormat.rejectedAsUnsupported(body, response)) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    return httpClient.sendAsync(newStreamPost(endpoint, timeout, wireFormat.plain(payload)), bodyHandler);
+                })
+                .handleAsync((response, throwable) -> {
+                    long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+                    if (throwable != null) {
+                        RuntimeException translated = translate(endpoint, throwable, elapsedMs);
+                        if (translated instanceof MLTimeoutException || translated instanceof MLConnectionException) {
+                            recordFailure(permit);
+                        } else {
+                            recordIgnored(permit);
+                        }
+                        throw translated;
+                    }
+
+                    int status = response.statusCode();
+                    if (status >= 500) {
+                        recordFailure(permit);
+                        log.error("ML 스트리밍 서버 오류 - endpoint: {}, 상태: {}", endpoint.getPath(), status);
+                        throw new MLServerErrorException();
+                    }
+                    if (status >= 400) {
+                        recordIgnored(permit);
+                        log.error("ML 스트리밍 클라이언트 오류 (4xx) - endpoint: {}, 상태: {}", endpoint.getPath(), status);
+                        throw new MLBadRequestException();
+                    }
+
+                    // 스트리밍은 전체 소요 시간이 길 수밖에 없으므로 첫 항목까지의 시간으로 지연을 판단
+                    recordSuccess(permit, firstItemNanos.get() > 0 ? firstItemNanos.get() : System.nanoTime() - startedAt);
+                    log.debug("ML 스트리밍 응답 완료 - endpoint: {}, 소요: {}ms", endpoint.getPath(), elapsedMs);
+                    return null;
+                }, mlGatewayExecutor)
+                // 응답이 끝나면 모든 줄이 등록된 상태이므로 마지막 줄 처리까지 기다린다
+                .thenCompose(ignored -> items.get())
+                .thenApply(ignored -> {
+                    if (itemFailure.get() != null) {
+                        throw itemFailure.get();
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * ML 서버 상태 확인 (실패 시 false로 완료)
+     */
+    public CompletableFuture<Boolean> health() {
+        HttpRequest request = newRequest(MlEndpoint.HEALTH).GET().build();
+
+        return mlHttpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("ML 서버 상태 확인 실패: {}", unwrap(throwable).getMessage());
+                        return false;
+                    }
+                    return response.statusCode() == 200;
+                });
+    }
+
+    /**
+     * 동기 호출부에서 비동기 결과를 기다릴 때 사용
+     * CompletionException을 벗겨 원래의 예외를 다시 던진다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline == null) {
+                return future.get();
+            }
+            // 요청 마감 시각까지만 기다린다 (진행 중인 작업은 취소하지 않는다)
+            return future.get(Math.max(0, deadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("요청 처리 제한 시간 초과로 ML 응답 대기 중단");
+            throw new MLTimeoutException("error.request.deadline.exceeded");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LLMServiceException();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new LLMServiceException();
+        }
+    }
+
+    /**
+     * 현재 요청의 마감 시각이 지나면 MLTimeoutException으로 완료되는 복사본 (요청 마감이 없으면 그대로 반환)
+     * 원래 작업은 취소하지 않으므로 공유된 Future에도 안전하게 사용할 수 있다.
+     */
+    public static <T> CompletableFuture<T> withinRequestDeadline(CompletableFuture<T> future) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null || future.isDone()) {
+            return future;
+        }
+
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            return CompletableFuture.failedFuture(new MLTimeoutException("error.request.deadline.exceeded"));
+        }
+
+        return future.copy()
+                .orTimeout(remainingNanos, TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(throwable -> {
+                    Throwable cause = unwrap(throwable);
+                    if (cause instanceof TimeoutException) {
+                        return CompletableFuture.failedFuture(new MLTimeoutException("error.request.deadline.exceeded"));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    /**
+     * CompletableFuture 체인에서 감싸진 원인 예외 추출
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable current = throwable;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private ObjectMapper canonicalMapper() {
+        ObjectMapper mapper = canonicalMapper;
+        if (mapper == null) {
+            mapper = objectMapper.copy()
+                    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .disable(SerializationFeature.INDENT_OUTPUT);
+            mapper.setConfig(mapper.getSerializationConfig().with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY));
+            canonicalMapper = mapper;
+        }
+        return mapper;
+    }
+
+    /**
+     * 요청 마감 시각 확인. 남은 시간이 있으면 null, 이미 지났으면 반환할 예외 (서킷 브레이커에는 기록하지 않는다)
+     */
+    private RuntimeException checkDeadline(MlEndpoint endpoint) {
+        if (RequestDeadline.isCurrentExpired()) {
+            log.warn("요청 처리 제한 시간 초과 - ML 요청 생략: {}", endpoint.getPath());
+            meterRegistry.counter("ml.deadline.skipped", "endpoint", endpoint.name()).increment();
+            return new MLTimeoutException("error.request.deadline.exceeded");
+        }
+        return null;
+    }
+
+    /**
+     * 서킷 브레이커 확인. 허용되면 허가, 거부되면 null
+     */
+    private MlCircuitBreaker.Permit acquirePermission(MlEndpoint endpoint) {
+        MlCircuitBreaker.Permit permit = circuitBreaker.tryAcquirePermission();
+        if (permit == null) {
+            log.warn("ML 서킷 브레이커 개방 상태 - 요청 즉시 거부: {}", endpoint.getPath());
+        }
+        return permit;
+    }
+
+    private void recordSuccess(MlCircuitBreaker.Permit permit, long elapsedNanos) {
+        circuitBreaker.onSuccess(permit);
+        scheduler.onSuccess(elapsedNanos);
+    }
+
+    private void recordFailure(MlCircuitBreaker.Permit permit) {
+        circuitBreaker.onFailure(permit);
+        scheduler.onDropped();
+    }
+
+    private void recordIgnored(MlCircuitBreaker.Permit permit) {
+        circuitBreaker.onIgnored(permit);
+        scheduler.onIgnored();
+    }
+
+    /**
+     * 요청 마감 시각까지 남은 시간이 읽기 타임아웃보다 짧으면 그 시간만 기다린다
+     * 스레드 로컬 기준이므로 호출 스레드에서 미리 구해 재전송에도 같은 값을 쓴다.
+     */
+    private Duration requestTimeout() {
+        Duration timeout = RequestDeadline.timeoutOr(Duration.ofSeconds(readTimeoutSeconds));
+        return timeout.compareTo(MIN_REQUEST_TIMEOUT) < 0 ? MIN_REQUEST_TIMEOUT : timeout;
+    }
+
+    private HttpRequest newPost(MlEndpoint endpoint, Duration timeout, MlWireFormat.Body body) {
+        HttpRequest.Builder builder = newRequest(endpoint, timeout)
+                .setHeader("Accept", wireFormat.accept())
+                .header("Accept-Encoding", MlWireFormat.GZIP)
+                .header("Content-Type", body.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.bytes()));
+        if (body.contentEncoding() != null) {
+            builder.header("Content-Encoding", body.contentEncoding());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 스트리밍 요청. 줄 단위로 바로 전달받아야 하므로 응답은 압축하지 않은 NDJSON으로 받는다.
+     */
+    private HttpRequest newStreamPost(MlEndpoint endpoint, Duration timeout, MlWireFormat.Body body) {
+        HttpRequest.Builder builder = newRequest(endpoint, timeout)
+                .setHeader("Accept", "application/x-ndjson")
+                .header("Content-Type", body.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.bytes()));
+        if (body.contentEncoding() != null) {
+            builder.header("Content-Encoding", body.contentEncoding());
+        }
+        return builder.build();
+    }
+
+    private HttpRequest.Builder newRequest(MlEndpoint endpoint) {
+        return newRequest(endpoint, requestTimeout());
+    }
+
+    private HttpRequest.Builder newRequest(MlEndpoint endpoint, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(apiUrl + endpoint.getPath()))
+                .timeout(timeout)
+                .header("Accept", MlWireFormat.JSON);
+
+        if (apiKey != null && !apiKey.trim().isEmpty() && !apiKey.equals("dummy-api-key")) {
+            builder.header("Authorization", "Bearer " + apiKey);
+        }
+        return builder;
+    }
+
+    /**
+     * 응답 스트림에서 바로 역직렬화 (실행 스레드: mlGatewayExecutor)
+     * 오류 응답일 때만 로그를 위해 바디 전체를 읽는다.
+     */
+    private <T> T readBody(MlEndpoint endpoint, HttpResponse<InputStream> response, Class<T> responseType) {
+        int status = response.statusCode();
+
+        try (InputStream body = wireFormat.decode(response.body(), response.headers())) {
+            if (status >= 400 && status < 500) {
+                log.error("ML API 클라이언트 오류 (4xx) - endpoint: {}, 상태: {}, 바디: {}",
+                        endpoint.getPath(), status, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                throw new MLBadRequestException();
+            }
+            if (status < 200 || status >= 300) {
+                log.error("ML API 서버 오류 - endpoint: {}, 상태: {}, 바디: {}",
+                        endpoint.getPath(), status, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                throw new MLServerErrorException();
+            }
+
+            ObjectReader reader = wireFormat.readerFor(responseType, response.headers());
+            try (JsonParser parser = reader.createParser(body)) {
+                // 빈 바디면 null
+                T value = parser.nextToken() == null ? null : reader.readValue(parser, responseType);
+                // 남은 바이트(후행 공백 등)까지 읽어야 연결이 풀로 반환된다
+                body.transferTo(OutputStream.nullOutputStream());
+                return value;
+            }
+        } catch (IOException e) {
+            log.error("ML 응답 파싱 실패 - endpoint: {}, 원인: {}", endpoint.getPath(), e.getMessage());
+            throw new MLResponseParsingException();
+        }
+    }
+
+    /**
+     * 재전송 전에 버리는 응답 바디를 끝까지 읽어 연결을 풀로 반환
+     */
+    private static void discard(InputStream body) {
+        try (body) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            log.debug("ML 응답 바디 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private RuntimeException translate(MlEndpoint endpoint, Throwable throwable, long elapsedMs) {
+        Throwable cause = unwrap(throwable);
+
+        if (cause instanceof BaseException) {
+            return (BaseException) cause;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            log.error("ML 서버 응답 시간 초과 - endpoint: {}, 소요: {}ms", endpoint.getPath(), elapsedMs);
+            return new MLTimeoutException();
+        }
+        if (cause instanceof IOException) {
+            log.error("ML 서버 연결 실패 - endpoint: {}, 원인: {}", endpoint.getPath(), cause.getMessage());
+            return new MLConnectionException();
+        }
+
+        log.error("ML 서버 호출 중 예상치 못한 오류 - endpoint: {}", endpoint.getPath(), cause);
+        return new LLMServiceException();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.swote.interv.service.ai;
+
+/**
+ * ML 호출 우선순위 (위에 있을수록 먼저 처리)
+ */
+public enum MlPriority {
+    LIVE_INTERVIEW("live-interview"),   // 실전 모드 면접 중 답변 평가
+    STANDARD("standard"),               // 일반 사용자 요청
+    PREGENERATION("pregeneration"),     // 이력서 저장 후 질문 사전 생성
+    SIMULATION("simulation");           // 연습용 면접 시뮬레이션
+
+    private final String name;
+
+    MlPriority(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
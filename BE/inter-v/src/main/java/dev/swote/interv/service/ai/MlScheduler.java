@@ -0,0 +1,253 @@
+package dev.swote.interv.service.ai;
+
+import dev.swote.interv.exception.MLCircuitOpenException;
+import dev.swote.interv.exception.MLTimeoutException;
+import dev.swote.interv.util.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ML 서버 동시 요청 슬롯(MlConcurrencyLimiter) 스케줄러
+ * - 슬롯이 없으면 바로 거부하지 않고 우선순위별 대기열에 넣었다가, 슬롯이 반환될 때마다 다음 호출을 실행한다.
+ * - 우선순위 간에는 엄격한 우선순위(LIVE_INTERVIEW > STANDARD > PREGENERATION > SIMULATION)로,
+ *   같은 우선순위 안에서는 사용자별 가중 공정 큐잉(start-time fair queuing)으로 순서를 정한다.
+ *   한 사용자가 시뮬레이션을 연달아 보내도 다른 사용자의 요청 사이사이에 하나씩만 실행된다.
+ * - 대기열이 가득 차면 MLCircuitOpenException(overloaded), 대기 중 max-wait이나 요청 마감 시각이 지나면 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class MlScheduler {
+
+    private final MlConcurrencyLimiter concurrencyLimiter;
+    private final int maxQueuePerPriority;
+    private final long maxWaitNanos;
+
+    private final Object lock = new Object();
+    private final Map<MlPriority, FairQueue> queues = new EnumMap<>(MlPriority.class);
+    private final Map<MlPriority, Timer> waitTimers = new EnumMap<>(MlPriority.class);
+    private final Map<MlPriority, Counter> rejectedCounters = new EnumMap<>(MlPriority.class);
+    private long sequence;
+
+    public MlScheduler(
+            MlConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${llm.api.scheduler.max-queue:200}") int maxQueuePerPriority,
+            @Value("${llm.api.scheduler.max-wait:15s}") Duration maxWait
+    ) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.maxQueuePerPriority = Math.max(0, maxQueuePerPriority);
+        this.maxWaitNanos = maxWait.toNanos();
+
+        for (MlPriority priority : MlPriority.values()) {
+            FairQueue queue = new FairQueue();
+            queues.put(priority, queue);
+            Gauge.builder("ml.scheduler.queued", this, scheduler -> scheduler.getQueued(priority))
+                    .tag("priority", priority.getName())
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("ml.scheduler.wait")
+                    .tag("priority", priority.getName())
+                    .register(meterRegistry));
+            rejectedCounters.put(priority, Counter.builder("ml.scheduler.rejected")
+                    .tag("priority", priority.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 슬롯이 있으면 바로 실행하고, 없으면 대기열에 넣는다.
+     * 슬롯을 얻은 호출은 완료 시 onSuccess/onDropped/onIgnored 중 하나를 반드시 호출해야 한다.
+     *
+     * @param onRejected 실행되지 못하고 거부/만료된 경우 호출 (서킷 브레이커 시험 슬롯 반환 등)
+     */
+    public <T> CompletableFuture<T> submit(MlCallContext context, Supplier<CompletableFuture<T>> call, Runnable onRejected) {
+        Scheduled<T> scheduled = new Scheduled<>(context, call, onRejected, new CompletableFuture<>(),
+                RequestDeadline.current(), System.nanoTime());
+
+        boolean acquired;
+        synchronized (lock) {
+            // 대기 중인 호출이 있으면 새 호출이 끼어들지 않도록 슬롯이 있어도 대기열을 거친다
+            acquired = isEmpty() && concurrencyLimiter.tryAcquire();
+            if (!acquired) {
+                FairQueue queue = queues.get(context.priority());
+                if (queue.size() >= maxQueuePerPriority) {
+                    rejectedCounters.get(context.priority()).increment();
+                    log.warn("ML 스케줄러 대기열 초과 - 요청 즉시 거부: 우선순위 {}, 대기: {}, 한도: {}",
+                            context.priority().getName(), queue.size(), concurrencyLimiter.getLimit());
+                    onRejected.run();
+                    return CompletableFuture.failedFuture(new MLCircuitOpenException("error.llm.service.overloaded"));
+                }
+                queue.add(scheduled, ++sequence);
+            }
+        }
+
+        if (acquired) {
+            start(scheduled);
+        } else {
+            // 대기열에 넣는 사이 슬롯이 반환됐거나 한도가 늘었을 수 있으므로 바로 한 번 배분
+            dispatchWaiting();
+        }
+        return scheduled.future();
+    }
+
+    public void onSuccess(long elapsedNanos) {
+        concurrencyLimiter.onSuccess(elapsedNanos);
+        dispatchWaiting();
+    }
+
+    public void onDropped() {
+        concurrencyLimiter.onDropped();
+        dispatchWaiting();
+    }
+
+    public void onIgnored() {
+        concurrencyLimiter.onIgnored();
+        dispatchWaiting();
+    }
+
+    public int getQueued(MlPriority priority) {
+        synchronized (lock) {
+            return queues.get(priority).size();
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 반환된 슬롯만큼 대기 중인 호출 실행 (높은 우선순위부터, 같은 우선순위는 공정 큐 순서)
+     */
+    private void dispatchWaiting() {
+        while (true) {
+            Scheduled<?> next = null;
+            synchronized (lock) {
+                for (MlPriority priority : MlPriority.values()) {
+                    FairQueue queue = queues.get(priority);
+                    if (queue.size() > 0) {
+                        if (!concurrencyLimiter.tryAcquire()) {
+                            return;
+                        }
+                        next = queue.poll();
+                        break;
+                    }
+                }
+            }
+            if (next == null) {
+                return;
+            }
+
+            RuntimeException expired = checkExpired(next);
+            if (expired != null) {
+                // 확보한 슬롯은 사용하지 않고 반환
+                concurrencyLimiter.onIgnored();
+                next.onRejected().run();
+                next.future().completeExceptionally(expired);
+                continue;
+            }
+            start(next);
+        }
+    }
+
+    private <T> void start(Scheduled<T> scheduled) {
+        waitTimers.get(scheduled.context().priority())
+                .record(System.nanoTime() - scheduled.enqueuedAt(), TimeUnit.NANOSECONDS);
+
+        CompletableFuture<T> result;
+        try {
+            result = RequestDeadline.supplyWith(scheduled.deadline(), scheduled.call());
+        } catch (RuntimeException e) {
+            // 전송 전에 실패했으므로 슬롯을 돌려준다
+            onIgnored();
+            scheduled.onRejected().run();
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                scheduled.future().completeExceptionally(MlGateway.unwrap(throwable));
+            } else {
+                scheduled.future().complete(value);
+            }
+        });
+    }
+
+    private RuntimeException checkExpired(Scheduled<?> scheduled) {
+        if (scheduled.deadline() != null && scheduled.deadline().isExpired()) {
+            return new MLTimeoutException("error.request.deadline.exceeded");
+        }
+        if (System.nanoTime() - scheduled.enqueuedAt() > maxWaitNanos) {
+            log.warn("ML 스케줄러 대기 시간 초과 - 우선순위: {}", scheduled.context().priority().getName());
+            return new MLCircuitOpenException("error.llm.service.overloaded");
+        }
+        return null;
+    }
+
+    // lock을 잡은 상태에서만 호출
+    private boolean isEmpty() {
+        for (FairQueue queue : queues.values()) {
+            if (queue.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Scheduled<T>(MlCallContext context, Supplier<CompletableFuture<T>> call, Runnable onRejected,
+                                CompletableFuture<T> future, RequestDeadline deadline, long enqueuedAt) {
+    }
+
+    /**
+     * 사용자별 start-time fair queuing
+     * - 각 호출에 start = max(가상 시각, 사용자의 직전 finish), finish = start + cost 태그를 붙이고 finish가 작은 순으로 꺼낸다.
+     * - 꺼낼 때 가상 시각을 그 호출의 start로 옮기므로, 오래 쉬었던 사용자도 밀린 몫을 한꺼번에 쓰지 못한다.
+     */
+    private static final class FairQueue {
+
+        private final PriorityQueue<Tagged> entries = new PriorityQueue<>(
+                Comparator.comparingDouble(Tagged::finish).thenComparingLong(Tagged::sequence));
+        private final Map<Integer, Double> lastFinishByUser = new HashMap<>();
+        private double virtualTime;
+
+        void add(Scheduled<?> scheduled, long sequence) {
+            // userId가 없는 시스템 작업은 하나의 흐름으로 묶는다
+            Integer flow = scheduled.context().userId() != null ? scheduled.context().userId() : -1;
+            double start = Math.max(virtualTime, lastFinishByUser.getOrDefault(flow, 0.0));
+            double finish = start + scheduled.context().cost();
+            lastFinishByUser.put(flow, finish);
+            entries.add(new Tagged(scheduled, start, finish, sequence));
+        }
+
+        Scheduled<?> poll() {
+            Tagged tagged = entries.poll();
+            virtualTime = tagged.start();
+            if (entries.isEmpty()) {
+                // 대기열이 비면 사용자별 태그도 필요 없으므로 비운다 (맵이 계속 커지지 않도록)
+                lastFinishByUser.clear();
+                virtualTime = 0;
+            }
+            return tagged.scheduled();
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private record Tagged(Scheduled<?> scheduled, double start, double finish, long sequence) {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.swote.interv.service.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * ML 서버 호출 보호 장치(서킷 브레이커, 동시 요청 한도) 상태 노출
+ * - /actuator/health 의 mlServer 항목
+ * - /actuator/metrics 의 ml.circuit.state, ml.concurrency.limit, ml.concurrency.in-flight
+ * 서킷이 열려 있어도 폴백으로 서비스는 계속되므로 애플리케이션 상태는 UP으로 유지하고 상세 정보로만 알린다.
+ */
+@Component
+public class MlServerHealthIndicator implements HealthIndicator {
+
+    private final MlCircuitBreaker circuitBreaker;
+    private final MlConcurrencyLimiter concurrencyLimiter;
+
+    public MlServerHealthIndicator(MlCircuitBreaker circuitBreaker,
+                                   MlConcurrencyLimiter concurrencyLimiter,
+                                   MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.concurrencyLimiter = concurrencyLimiter;
+
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("ml.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("ML 서버 서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("ml.circuit.failure-rate", circuitBreaker, MlCircuitBreaker::getFailureRate)
+                .description("ML 서버 최근 호출 실패율")
+                .register(meterRegistry);
+        Gauge.builder("ml.concurrency.limit", concurrencyLimiter, MlConcurrencyLimiter::getLimit)
+                .description("ML 서버 동시 요청 한도")
+                .register(meterRegistry);
+        Gauge.builder("ml.concurrency.in-flight", concurrencyLimiter, MlConcurrencyLimiter::getInFlight)
+                .description("ML 서버 처리 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("circuitState", circuitBreaker.getState().name())
+                .withDetail("failureRate", circuitBreaker.getFailureRate())
+                .withDetail("concurrencyLimit", concurrencyLimiter.getLimit())
+                .withDetail("inFlight", concurrencyLimiter.getInFlight())
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package dev.swote.interv.service.ai;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ML 서버 요청/응답 바디 형식
+ * - 요청: JSON을 CBOR로 변환하고, 일정 크기 이상이면 gzip으로 압축해 보낸다. (한국어 이력서 전문이 대부분인 바디 크기를 줄인다)
+ * - 응답: Accept로 CBOR와 gzip을 요청하고, 실제 응답의 Content-Type/Content-Encoding에 맞춰 읽는다.
+ * - ML 서버가 CBOR/gzip 요청을 이해하지 못하면(415/422) JSON으로 다시 보내고, retry-binary-after 동안은 JSON만 사용한다.
+ * - 스트리밍(NDJSON) 요청은 줄 단위 전달이 중요하므로 요청 바디만 변환하고 응답은 JSON 그대로 받는다.
+ */
+@Slf4j
+@Component
+public class MlWireFormat {
+
+    static final String JSON = "application/json";
+    static final String CBOR = "application/cbor";
+    static final String GZIP = "gzip";
+    // 바이너리 형식을 지원하는 ML 서버가 모든 응답에 붙이는 헤더
+    static final String SUPPORTED_HEADER = "X-Wire-Formats";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final boolean binaryEnabled;
+    private final int gzipMinBytes;
+    private final long retryBinaryAfterNanos;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<Class<?>, ObjectReader> jsonReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectReader> cborReaders = new ConcurrentHashMap<>();
+
+    // 0이면 바이너리 형식 사용, 아니면 이 시각(nanoTime)까지 JSON만 사용
+    private volatile long binaryDisabledUntil;
+
+    public MlWireFormat(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${llm.api.wire.binary:true}") boolean binaryEnabled,
+            @Value("${llm.api.wire.gzip-min-bytes:1024}") int gzipMinBytes,
+            @Value("${llm.api.wire.retry-binary-after:10m}") Duration retryBinaryAfter
+    ) {
+        this.objectMapper = objectMapper;
+        // 역직렬화 설정(모듈, unknown 필드 처리 등)은 JSON과 같게 유지
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.meterRegistry = meterRegistry;
+        this.binaryEnabled = binaryEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.retryBinaryAfterNanos = retryBinaryAfter.toNanos();
+    }
+
+    /**
+     * 전송할 요청 바디 (현재 ML 서버가 지원하는 가장 작은 형식)
+     */
+    public Body encode(byte[] json) {
+        if (!isBinaryAvailable()) {
+            return plain(json);
+        }
+
+        byte[] bytes = toCbor(json);
+        String contentEncoding = null;
+        if (gzipMinBytes >= 0 && bytes.length >= gzipMinBytes) {
+            bytes = gzip(bytes);
+            contentEncoding = GZIP;
+        }
+        record(CBOR, contentEncoding, json.length, bytes.length);
+        return new Body(bytes, CBOR, contentEncoding);
+    }
+
+    /**
+     * 변환 없는 JSON 바디 (폴백용)
+     */
+    public Body plain(byte[] json) {
+        record(JSON, null, json.length, json.length);
+        return new Body(json, JSON, null);
+    }
+
+    /**
+     * 바이너리/압축 요청이 형식 문제로 거부됐는지 확인하고, 그렇다면 한동안 JSON만 사용하도록 전환
+     * 구버전 ML 서버(FastAPI)는 CBOR나 gzip 바디를 JSON으로 읽지 못해 422를 반환한다.
+     * 지원 서버는 X-Wire-Formats 헤더를 붙이므로, 그 서버의 422는 실제 검증 오류로 보고 그대로 둔다.
+     */
+    public boolean rejectedAsUnsupported(Body body, HttpResponse<?> response) {
+        int status = response.statusCode();
+        if (!body.isTransformed() || (status != 415 && status != 422)
+                || response.headers().firstValue(SUPPORTED_HEADER).isPresent()) {
+            return false;
+        }
+        if (binaryDisabledUntil == 0) {
+            log.warn("ML 서버가 {} 요청을 지원하지 않음 - {} 동안 JSON으로 전송",
+                    body.contentType() + (body.contentEncoding() != null ? "+" + body.contentEncoding() : ""),
+                    Duration.ofNanos(retryBinaryAfterNanos));
+        }
+        // 0은 '사용 중' 표시이므로 피한다
+        binaryDisabledUntil = (System.nanoTime() + retryBinaryAfterNanos) | 1;
+        meterRegistry.counter("ml.wire.fallback").increment();
+        return true;
+    }
+
+    /**
+     * Accept 헤더 값 (CBOR를 지원하는 서버면 CBOR 우선)
+     */
+    public String accept() {
+        return isBinaryAvailable() ? CBOR + ", " + JSON + ";q=0.9" : JSON;
+    }
+
+    public ObjectReader jsonReader(Class<?> type) {
+        // ObjectReader는 불변이고 역직렬화기를 캐시하므로 타입별로 재사용
+        return jsonReaders.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * 응답 헤더의 Content-Type에 맞는 reader
+     */
+    public ObjectReader readerFor(Class<?> type, HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse(JSON);
+        if (contentType.startsWith(CBOR)) {
+            return cborReaders.computeIfAbsent(type, cborMapper::readerFor);
+        }
+        return jsonReader(type);
+    }
+
+    /**
+     * Content-Encoding이 gzip이면 압축을 풀어 읽는 스트림
+     */
+    public InputStream decode(InputStream body, HttpHeaders headers) throws IOException {
+        String contentEncoding = headers.firstValue("Content-Encoding").orElse("");
+        return GZIP.equalsIgnoreCase(contentEncoding.trim()) ? new GZIPInputStream(body) : body;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private boolean isBinaryAvailable() {
+        if (!binaryEnabled) {
+            return false;
+        }
+        long disabledUntil = binaryDisabledUntil;
+        if (disabledUntil == 0) {
+            return true;
+        }
+        if (System.nanoTime() - disabledUntil >= 0) {
+            // 서버가 업데이트됐을 수 있으므로 다시 시도
+            binaryDisabledUntil = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 객체를 다시 만들지 않고 JSON 토큰을 그대로 CBOR로 옮겨 쓴다
+     */
+    private byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("ML 요청 CBOR 변환 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("ML 요청 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private void record(String contentType, String contentEncoding, int jsonBytes, int wireBytes) {
+        String format = contentType.equals(CBOR) ? "cbor" : "json";
+        String encoding = contentEncoding != null ? contentEncoding : "identity";
+        DistributionSummary.builder("ml.wire.request.bytes")
+                .tag("format", format)
+                .tag("encoding", encoding)
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(wireBytes);
+        DistributionSummary.builder("ml.wire.request.ratio")
+                .description("전송 바이트 / JSON 바이트")
+                .tag("format", format)
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .record(jsonBytes == 0 ? 1.0 : (double) wireBytes / jsonBytes);
+    }
+
+    /**
+     * 인코딩된 요청 바디
+     *
+     * @param contentEncoding 압축하지 않았으면 null
+     */
+    public record Body(byte[] bytes, String contentType, String contentEncoding) {
+
+        public boolean isTransformed() {
+            return !JSON.equals(contentType) || contentEncoding != null;
+        }
+    }
+}
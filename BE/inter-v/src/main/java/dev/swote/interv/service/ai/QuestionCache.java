@@ -0,0 +1,150 @@
+package dev.swote.interv.service.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.Hashing;
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * LLM 생성 질문 캐시
+ * - 키: 이력서 내용 + 포지션명 + 질문 수의 SHA-256 해시 (내용 기반이므로 이력서가 바뀌면 자연히 다른 키가 된다)
+ * - 값: 영속화되지 않은 불변 질문 템플릿. 조회할 때마다 새 Question 엔티티로 복사해 반환한다.
+ * - 이력서 수정 시 해당 이력서로 만든 항목을 즉시 제거해 오래된 항목이 TTL까지 남지 않게 한다.
+ */
+@Slf4j
+@Component
+public class QuestionCache {
+
+    private static final String CACHE_NAME = "llm.questions";
+
+    private final Cache<String, Entry> cache;
+
+    // 이력서 ID -> 해당 이력서로 생성된 캐시 키 목록
+    private final ConcurrentMap<Integer, Set<String>> keysByResume = new ConcurrentHashMap<>();
+
+    public QuestionCache(
+            MeterRegistry meterRegistry,
+            @Value("${llm.question-cache.ttl:6h}") Duration ttl,
+            @Value("${llm.question-cache.max-size:1000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .removalListener((String key, Entry entry, RemovalCause cause) -> unindex(key, entry))
+                .build();
+
+        // llm.questions 캐시의 hit/miss/eviction 지표를 actuator metrics로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("질문 캐시 초기화 - TTL: {}, 최대 크기: {}", ttl, maxSize);
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public String keyOf(String resumeContent, String positionName, int count) {
+        return Hashing.sha256()
+                .newHasher()
+                .putString(resumeContent, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(positionName, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putInt(count)
+                .hash()
+                .toString();
+    }
+
+    /**
+     * 캐시된 질문 조회 (매 호출마다 새 엔티티 인스턴스를 만든다)
+     */
+    public Optional<List<Question>> get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.templates().stream()
+                .map(QuestionTemplate::toQuestion)
+                .toList());
+    }
+
+    /**
+     * 생성된 질문 저장
+     */
+    public void put(String key, Integer resumeId, List<Question> questions) {
+        List<QuestionTemplate> templates = questions.stream()
+                .map(QuestionTemplate::from)
+                .toList();
+
+        if (resumeId != null) {
+            keysByResume.computeIfAbsent(resumeId, id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        cache.put(key, new Entry(resumeId, templates));
+    }
+
+    /**
+     * 특정 이력서로 생성된 캐시 항목 제거
+     */
+    public void invalidateResume(Integer resumeId) {
+        if (resumeId == null) {
+            return;
+        }
+
+        Set<String> keys = keysByResume.remove(resumeId);
+        if (keys != null && !keys.isEmpty()) {
+            cache.invalidateAll(keys);
+            log.info("이력서 {} 질문 캐시 무효화 - {}개 항목", resumeId, keys.size());
+        }
+    }
+
+    private void unindex(String key, Entry entry) {
+        if (key == null || entry == null || entry.resumeId() == null) {
+            return;
+        }
+        keysByResume.computeIfPresent(entry.resumeId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private record Entry(Integer resumeId, List<QuestionTemplate> templates) {
+    }
+
+    private record QuestionTemplate(String content, QuestionType type, String category,
+                                    Integer difficultyLevel, Integer sequence) {
+
+        static QuestionTemplate from(Question question) {
+            return new QuestionTemplate(
+                    question.getContent(),
+                    question.getType(),
+                    question.getCategory(),
+                    question.getDifficultyLevel(),
+                    question.getSequence()
+            );
+        }
+
+        Question toQuestion() {
+            return Question.builder()
+                    .content(content)
+                    .type(type)
+                    .category(category)
+                    .difficultyLevel(difficultyLevel)
+                    .sequence(sequence)
+                    .build();
+        }
+    }
+}
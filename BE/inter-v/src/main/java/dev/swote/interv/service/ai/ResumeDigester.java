@@ -0,0 +1,295 @@
+package dev.swote.interv.service.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.swote.interv.domain.resume.entity.*;
+import dev.swote.interv.domain.resume.event.ResumeSavedEvent;
+import dev.swote.interv.domain.resume.repository.ResumeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * ML 요청용 이력서 요약본(digest) 생성
+ * - 이력서 원문(content) 대신 구조화된 경력/프로젝트/학력/자격증과 보유 기술로 크기가 제한된 요약본을 만들어 보낸다.
+ *   원문은 수십 KB에 이를 수 있어 요청 크기와 ML 서버의 토큰화 비용이 매 호출마다 커진다.
+ * - 같은 데이터면 항상 같은 문자열이 나오도록 항목을 정렬하고 공백을 정규화한다. (질문 캐시 키가 요약본 기준이므로)
+ * - 이력서 버전(updatedAt)마다 한 번만 계산해 캐시하고, 이력서 저장 커밋 후 해당 항목을 제거한다.
+ * - 구조화된 항목이 하나도 없으면(파일 업로드 이력서 등) 원문을 같은 한도로 잘라 사용한다.
+ */
+@Slf4j
+@Component
+public class ResumeDigester {
+
+    private static final String CACHE_NAME = "llm.resume-digest";
+    private static final String ELLIPSIS = "…";
+
+    private static final Comparator<LocalDate> LATEST_FIRST = Comparator.nullsLast(Comparator.reverseOrder());
+
+    private final ResumeRepository resumeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DistributionSummary digestRatio;
+
+    private final int maxChars;
+    private final int fieldMaxChars;
+    private final Cache<Integer, Entry> cache;
+
+    public ResumeDigester(
+            ResumeRepository resumeRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${llm.resume-digest.max-chars:4000}") int maxChars,
+            @Value("${llm.resume-digest.field-max-chars:400}") int fieldMaxChars,
+            @Value("${llm.resume-digest.ttl:6h}") Duration ttl,
+            @Value("${llm.resume-digest.max-size:1000}") long maxSize
+    ) {
+        this.resumeRepository = resumeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxChars = Math.max(200, maxChars);
+        this.fieldMaxChars = Math.max(50, Math.min(fieldMaxChars, this.maxChars));
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.digestRatio = DistributionSummary.builder("llm.resume-digest.ratio")
+                .description("요약본 길이 / 이력서 원문 길이")
+                .register(meterRegistry);
+        log.info("이력서 요약 초기화 - 최대 길이: {}자, 항목별 최대 길이: {}자", this.maxChars, this.fieldMaxChars);
+    }
+
+    /**
+     * ML 서버로 보낼 이력서 요약본
+     * 저장된 이력서는 캐시된 요약본을 사용하고, 없거나 버전이 바뀌었으면 DB에서 하위 항목을 읽어 다시 만든다.
+     * 이력서가 없으면 null을 반환한다.
+     */
+    public String digestOf(Resume resume) {
+        if (resume == null) {
+            return null;
+        }
+        if (resume.getId() == null) {
+            // 저장되지 않은 테스트용 이력서 - 하위 항목이 메모리에 있으므로 그대로 요약
+            return build(resume);
+        }
+
+        Entry entry = cache.getIfPresent(resume.getId());
+        if (entry != null && !isNewer(resume.getUpdatedAt(), entry.version())) {
+            return entry.digest();
+        }
+
+        Entry loaded = load(resume);
+        cache.put(resume.getId(), loaded);
+        return loaded.digest();
+    }
+
+    /**
+     * 특정 이력서의 요약본 제거 (수정/삭제 시)
+     */
+    public void invalidate(Integer resumeId) {
+        if (resumeId != null) {
+            cache.invalidate(resumeId);
+        }
+    }
+
+    /**
+     * 이력서 저장 커밋 후 이전 버전 요약본 제거
+     * 트랜잭션 안에서 지우면 커밋 전 다른 요청이 이전 내용으로 다시 채울 수 있으므로 커밋 후에도 지운다.
+     * 질문 사전 생성보다 먼저 실행되어 사전 생성이 새 요약본을 사용하도록 한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResumeSaved(ResumeSavedEvent event) {
+        invalidate(event.resumeId());
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private Entry load(Resume resume) {
+        Entry loaded = null;
+        try {
+            // 호출 측 엔티티는 대부분 준영속 상태라 지연 로딩할 수 없으므로 다시 조회한다
+            loaded = readOnlyTransaction.execute(status -> resumeRepository.findById(resume.getId())
+                    .map(found -> new Entry(found.getUpdatedAt(), build(found)))
+                    .orElse(null));
+        } catch (Exception e) {
+            log.warn("이력서 {} 요약 생성을 위한 조회 실패 - 원문 사용: {}", resume.getId(), e.getMessage());
+        }
+        if (loaded == null) {
+            loaded = new Entry(resume.getUpdatedAt(), clip(normalize(resume.getContent()), maxChars));
+        }
+        log.debug("이력서 {} 요약 생성 - {}자", resume.getId(), loaded.digest().length());
+        return loaded;
+    }
+
+    /**
+     * 섹션 순서: 목표 → 보유 기술 → 경력 → 프로젝트 → 학력 → 자격증
+     * 전체 한도를 넘으면 뒤쪽 섹션부터 잘린다.
+     */
+    private String build(Resume resume) {
+        List<String> skills = resume.getSkills() == null ? List.of() : resume.getSkills().stream()
+                .map(ResumeDigester::normalize)
+                .filter(skill -> !skill.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        List<ResumeWorkExperience> workExperiences = sorted(resume.getWorkExperiences(),
+                ResumeWorkExperience::getStartDate, ResumeWorkExperience::getCompanyName);
+        List<ResumeProject> projects = sorted(resume.getProjects(),
+                ResumeProject::getStartDate, ResumeProject::getProjectName);
+        List<ResumeEducation> educations = sorted(resume.getEducations(),
+                ResumeEducation::getEnrollmentDate, ResumeEducation::getSchoolName);
+        List<ResumeCertification> certifications = sorted(resume.getCertifications(),
+                ResumeCertification::getAcquiredDate, ResumeCertification::getCertificationName);
+
+        String content = normalize(resume.getContent());
+        if (skills.isEmpty() && workExperiences.isEmpty() && projects.isEmpty()
+                && educations.isEmpty() && certifications.isEmpty()) {
+            return record(content, clip(content, maxChars));
+        }
+
+        StringBuilder digest = new StringBuilder(Math.min(maxChars, 1024));
+        section(digest, "지원 목표", List.of(clip(normalize(resume.getObjective()), fieldMaxChars)));
+        section(digest, "보유 기술", skills.isEmpty() ? List.of() : List.of(String.join(", ", skills)));
+        section(digest, "경력", workExperiences.stream().map(this::line).toList());
+        section(digest, "프로젝트", projects.stream().map(this::line).toList());
+        section(digest, "학력", educations.stream().map(this::line).toList());
+        section(digest, "자격증", certifications.stream().map(this::line).toList());
+        return record(content, digest.toString());
+    }
+
+    private String line(ResumeWorkExperience experience) {
+        return join(" | ",
+                experience.getCompanyName(),
+                join(" / ", experience.getPosition(), experience.getDepartment()),
+                period(experience.getStartDate(), experience.getEndDate(), experience.getCurrentlyWorking()))
+                + detail("담당", experience.getResponsibilities())
+                + detail("성과", experience.getAchievements());
+    }
+
+    private String line(ResumeProject project) {
+        return join(" | ", project.getProjectName(),
+                period(project.getStartDate(), project.getEndDate(), project.getInProgress()))
+                + detail("내용", project.getDescription());
+    }
+
+    private String line(ResumeEducation education) {
+        return join(" | ",
+                join(" ", education.getSchoolName(), education.getMajor()),
+                education.getSchoolType(),
+                period(education.getEnrollmentDate(), education.getGraduationDate(), education.getInProgress()),
+                education.getGpa() != null && !education.getGpa().isBlank() ? "학점 " + education.getGpa().trim() : null);
+    }
+
+    private String line(ResumeCertification certification) {
+        return join(" | ", certification.getCertificationName(), certification.getIssuingOrganization(),
+                certification.getAcquiredDate() != null ? certification.getAcquiredDate().toString() : null);
+    }
+
+    private void section(StringBuilder digest, String title, List<String> lines) {
+        List<String> present = lines.stream().filter(line -> !line.isEmpty()).toList();
+        if (present.isEmpty() || digest.length() >= maxChars) {
+            return;
+        }
+
+        StringBuilder section = new StringBuilder();
+        section.append(digest.isEmpty() ? "" : "\n").append('[').append(title).append(']');
+        for (String line : present) {
+            section.append("\n- ").append(line);
+        }
+        digest.append(clip(section.toString(), maxChars - digest.length()));
+    }
+
+    private String detail(String label, String text) {
+        String value = clip(normalize(text), fieldMaxChars);
+        return value.isEmpty() ? "" : " | " + label + ": " + value;
+    }
+
+    private static String period(LocalDate start, LocalDate end, Boolean ongoing) {
+        if (start == null && end == null) {
+            return null;
+        }
+        String from = start != null ? start.toString().substring(0, 7) : "?";
+        String to = Boolean.TRUE.equals(ongoing) ? "현재" : end != null ? end.toString().substring(0, 7) : "";
+        return from + "~" + to;
+    }
+
+    private static String join(String delimiter, String... parts) {
+        StringJoiner joiner = new StringJoiner(delimiter);
+        for (String part : parts) {
+            String value = normalize(part);
+            if (!value.isEmpty()) {
+                joiner.add(value);
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 날짜 최신순, 같으면 이름순으로 정렬 (DB 조회 순서와 무관하게 같은 요약본이 나오도록)
+     */
+    private static <T> List<T> sorted(Collection<T> items, Function<T, LocalDate> date, Function<T, String> name) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+        return items.stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(date, LATEST_FIRST)
+                        .thenComparing(item -> normalize(name.apply(item))))
+                .toList();
+    }
+
+    /**
+     * 연속 공백/줄바꿈을 공백 하나로 줄인다 (같은 내용이면 같은 요약본이 나오도록)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String clip(String text, int limit) {
+        if (text.length() <= limit) {
+            return text;
+        }
+        int end = Math.max(0, limit - ELLIPSIS.length());
+        if (end > 0 && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end) + ELLIPSIS;
+    }
+
+    private String record(String content, String digest) {
+        if (!content.isEmpty()) {
+            digestRatio.record((double) digest.length() / content.length());
+        }
+        return digest;
+    }
+
+    private static boolean isNewer(LocalDateTime version, LocalDateTime cached) {
+        return version != null && (cached == null || version.isAfter(cached));
+    }
+
+    private record Entry(LocalDateTime version, String digest) {
+    }
+}
@@ -0,0 +1,12 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * ML 서버 일괄 평가 응답 (/evaluate/batch)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlBatchEvaluationResponse(List<MlEvaluationResult> results) {
+}
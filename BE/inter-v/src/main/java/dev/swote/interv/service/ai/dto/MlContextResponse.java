@@ -0,0 +1,15 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ML 서버 문서 업로드 응답 (/context)
+ * 이후 요청에서 이력서/자기소개서 대신 context_id를 보낸다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlContextResponse(
+        @JsonProperty("context_id") String contextId,
+        @JsonProperty("expires_in") Integer expiresIn
+) {
+}
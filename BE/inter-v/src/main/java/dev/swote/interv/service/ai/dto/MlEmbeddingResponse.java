@@ -0,0 +1,14 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * ML 서버 임베딩 응답 (/embed). 벡터는 L2 정규화되어 있다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlEmbeddingResponse(
+        String model,
+        Integer dimension,
+        float[][] embeddings
+) {
+}
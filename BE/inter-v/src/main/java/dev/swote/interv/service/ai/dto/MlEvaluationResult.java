@@ -0,0 +1,21 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ML 서버 답변 평가 결과 (/evaluate 응답, /evaluate/batch 결과 항목)
+ * id/error는 배치 결과에서만 채워진다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlEvaluationResult(
+        String id,
+        @JsonProperty("관련성") Integer relevance,
+        @JsonProperty("구체성") Integer specificity,
+        @JsonProperty("실무성") Integer practicality,
+        @JsonProperty("유효성") Integer validity,
+        @JsonProperty("총점") Integer totalScore,
+        @JsonProperty("피드백") String feedback,
+        String error
+) {
+}
@@ -0,0 +1,16 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * ML 서버 키워드 유사도 응답 (/similarity/keyword)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlKeywordSimilarity(
+        @JsonProperty("matched_keywords") List<String> matchedKeywords,
+        @JsonProperty("keyword_match_score") Double keywordMatchScore
+) {
+}
@@ -0,0 +1,18 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * ML 서버가 생성한 질문 한 개
+ * 질문 생성 응답의 항목이자 스트리밍 응답(/interview/questions/stream)의 한 줄이다.
+ * 스트리밍 중 생성이 실패하면 error만 채워진 줄이 전달된다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlQuestion(
+        String content,
+        String type,
+        String category,
+        Integer difficultyLevel,
+        String error
+) {
+}
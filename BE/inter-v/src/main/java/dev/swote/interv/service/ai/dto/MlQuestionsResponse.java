@@ -0,0 +1,12 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * ML 서버 질문 생성 응답 (/interview/questions)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlQuestionsResponse(List<MlQuestion> questions) {
+}
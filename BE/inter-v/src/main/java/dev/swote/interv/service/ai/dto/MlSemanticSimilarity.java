@@ -0,0 +1,13 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ML 서버 의미론적 유사도 응답 (/similarity/semantic)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlSemanticSimilarity(
+        @JsonProperty("similarity_score") Double similarityScore
+) {
+}
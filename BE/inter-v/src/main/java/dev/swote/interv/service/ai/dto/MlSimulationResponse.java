@@ -0,0 +1,18 @@
+package dev.swote.interv.service.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * ML 서버 면접 시뮬레이션 응답 (/simulate)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MlSimulationResponse(
+        @JsonProperty("generated_questions") List<String> generatedQuestions,
+        @JsonProperty("selected_question") String selectedQuestion,
+        @JsonProperty("user_answer") String userAnswer,
+        @JsonProperty("evaluation_result") MlEvaluationResult evaluationResult
+) {
+}
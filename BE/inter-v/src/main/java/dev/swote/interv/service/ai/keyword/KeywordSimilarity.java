@@ -0,0 +1,9 @@
+package dev.swote.interv.service.ai.keyword;
+
+import java.util.List;
+
+/**
+ * 키워드 유사도 계산 결과 (ML 서버 /similarity/keyword 응답과 같은 의미)
+ */
+public record KeywordSimilarity(double score, List<String> matchedKeywords) {
+}
@@ -0,0 +1,122 @@
+package dev.swote.interv.service.ai.keyword;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM 내 키워드 유사도 계산기 (ML 서버 keyword_matcher.py의 근사치)
+ * - 이력서+자기소개서와 질문에서 키워드를 추출하고, 두 문서에 대한 TF-IDF 코사인 유사도와 공통 키워드를 구한다.
+ * - TF-IDF 계산식은 ML 서버와 같지만 키워드 추출은 Okt.nouns 대신 규칙 기반 토크나이저(KoreanTokenizer)를 쓰므로
+ *   추출되는 단어가 달라 점수와 공통 키워드가 ML 서버 결과와 다를 수 있다.
+ * - TF-IDF는 scikit-learn TfidfVectorizer 기본값(smooth_idf, 원시 빈도, L2 정규화)을 따른다.
+ *   문서가 두 개뿐이므로 idf는 공통 단어 1, 한쪽에만 있는 단어 1 + ln(3/2)로 고정되고,
+ *   문서별 빈도 제곱합만 미리 구해 두면 공통 단어를 순회하는 것만으로 정확한 값을 계산할 수 있다.
+ * - 이력서 쪽 벡터는 내용 해시를 키로 캐시하므로 같은 이력서로 여러 질문을 평가할 때 다시 토큰화하지 않는다.
+ */
+@Component
+public class KeywordSimilarityEngine {
+
+    private static final double UNIQUE_TERM_IDF = 1.0 + Math.log(3.0 / 2.0);
+    private static final double UNIQUE_TERM_IDF_SQUARED = UNIQUE_TERM_IDF * UNIQUE_TERM_IDF;
+
+    private final KoreanTokenizer tokenizer;
+    private final Cache<String, TermVector> documentVectors;
+
+    @Autowired
+    public KeywordSimilarityEngine(
+            KoreanTokenizer tokenizer,
+            MeterRegistry meterRegistry,
+            @Value("${llm.keyword-similarity.cache-size:1000}") long cacheSize
+    ) {
+        this(tokenizer, cacheSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, documentVectors, "keyword.documents");
+    }
+
+    public KeywordSimilarityEngine(KoreanTokenizer tokenizer, long cacheSize) {
+        this.tokenizer = tokenizer;
+        this.documentVectors = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+    }
+
+    public KeywordSimilarity calculate(String resume, String coverLetter, String question) {
+        TermVector document = documentVector(resume, coverLetter);
+        TermVector query = TermVector.of(tokenizer.tokenize(question));
+        return cosine(document, query);
+    }
+
+    /**
+     * 이력서+자기소개서 벡터 (내용 해시 기준 캐시)
+     */
+    public TermVector documentVector(String resume, String coverLetter) {
+        String safeResume = resume != null ? resume : "";
+        String safeCoverLetter = coverLetter != null ? coverLetter : "";
+        String key = Hashing.sha256().newHasher()
+                .putString(safeResume, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(safeCoverLetter, StandardCharsets.UTF_8)
+                .hash()
+                .toString();
+
+        return documentVectors.get(key, ignored -> TermVector.of(tokenizer.tokenize(safeResume + "\n" + safeCoverLetter)));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private KeywordSimilarity cosine(TermVector document, TermVector query) {
+        if (document.isEmpty() || query.isEmpty()) {
+            return new KeywordSimilarity(0.0, List.of());
+        }
+
+        double dot = 0;
+        double sharedDocumentSquares = 0;
+        double sharedQuerySquares = 0;
+        List<String> matched = new ArrayList<>();
+
+        // 두 벡터 모두 해시 오름차순이므로 병합 순회로 공통 단어만 방문
+        int i = 0;
+        int j = 0;
+        while (i < document.size() && j < query.size()) {
+            long documentHash = document.hashAt(i);
+            long queryHash = query.hashAt(j);
+            if (documentHash < queryHash) {
+                i++;
+            } else if (documentHash > queryHash) {
+                j++;
+            } else {
+                double documentCount = document.countAt(i);
+                double queryCount = query.countAt(j);
+                // 공통 단어의 idf는 1
+                dot += documentCount * queryCount;
+                sharedDocumentSquares += documentCount * documentCount;
+                sharedQuerySquares += queryCount * queryCount;
+                matched.add(query.termAt(j));
+                i++;
+                j++;
+            }
+        }
+
+        if (dot == 0) {
+            return new KeywordSimilarity(0.0, List.of());
+        }
+
+        double documentNorm = UNIQUE_TERM_IDF_SQUARED * (document.sumOfSquares() - sharedDocumentSquares) + sharedDocumentSquares;
+        double queryNorm = UNIQUE_TERM_IDF_SQUARED * (query.sumOfSquares() - sharedQuerySquares) + sharedQuerySquares;
+        double score = dot / Math.sqrt(documentNorm * queryNorm);
+
+        return new KeywordSimilarity(Math.round(score * 10000) / 10000.0, matched);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.swote.interv.service.ai.keyword;
+
+import java.util.List;
+
+/**
+ * 키워드 유사도 계산용 한국어 토크나이저
+ * 기본 구현은 규칙 기반(SimpleKoreanTokenizer)이며, 형태소 분석기를 쓰려면 이 인터페이스의 구현체를 @Primary 빈으로 등록한다.
+ */
+public interface KoreanTokenizer {
+
+    /**
+     * 텍스트에서 키워드(명사 위주) 추출. 같은 키워드가 여러 번 나오면 그 횟수만큼 포함한다.
+     */
+    List<String> tokenize(String text);
+}
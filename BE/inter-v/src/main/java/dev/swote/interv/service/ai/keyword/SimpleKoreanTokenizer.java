@@ -0,0 +1,88 @@
+package dev.swote.interv.service.ai.keyword;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 규칙 기반 한국어 토크나이저
+ * - 문자/숫자가 아닌 문자와 한글/영문 경계에서 분리 ("Spring을" -> "spring", "을")
+ * - 한글 토큰은 끝의 조사/어미를 제거해 명사에 가깝게 만든다 ("프로젝트에서" -> "프로젝트")
+ * - 한 글자 토큰은 버린다 (ML 서버의 TfidfVectorizer 기본 토큰 규칙과 동일)
+ * ML 서버의 Okt 명사 추출과 완전히 같지는 않지만, 이력서/질문의 기술 키워드 매칭에는 충분한 근사치다.
+ */
+@Component
+public class SimpleKoreanTokenizer implements KoreanTokenizer {
+
+    // 긴 것부터 검사하도록 길이 내림차순
+    private static final String[] SUFFIXES = {
+            "해주세요", "했습니다", "했었던", "하였다", "입니다", "합니다", "에서는", "으로는", "이었던", "하면서",
+            "에서", "으로", "에게", "까지", "부터", "처럼", "보다", "하는", "하여", "하고", "했던", "이라", "이며",
+            "라는", "이다", "하다", "했다", "적인", "적으로",
+            "한", "은", "는", "이", "가", "을", "를", "에", "로", "와", "과", "의", "도", "만", "며"
+    };
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "그리고", "하지만", "그래서", "또한", "있는", "있습니다", "있다면", "없는", "어떤", "어떻게", "무엇",
+            "설명", "말씀", "저는", "제가"
+    );
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = -1;
+        int startScript = 0;
+
+        for (int i = 0; i <= length; i++) {
+            int script = i < length ? scriptOf(text.charAt(i)) : 0;
+            if (start >= 0 && script != startScript) {
+                addToken(tokens, text.substring(start, i), startScript);
+                start = -1;
+            }
+            if (start < 0 && script != 0) {
+                start = i;
+                startScript = script;
+            }
+        }
+        return tokens;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 0: 구분자, 1: 한글, 2: 그 외 문자/숫자
+     */
+    private int scriptOf(char c) {
+        if (c >= '가' && c <= '힣') {
+            return 1;
+        }
+        return Character.isLetterOrDigit(c) ? 2 : 0;
+    }
+
+    private void addToken(List<String> tokens, String token, int script) {
+        String normalized = script == 1 ? stripSuffix(token) : token.toLowerCase(Locale.ROOT);
+        if (normalized.length() < 2 || STOPWORDS.contains(normalized)) {
+            return;
+        }
+        tokens.add(normalized);
+    }
+
+    private String stripSuffix(String token) {
+        for (String suffix : SUFFIXES) {
+            if (token.length() - suffix.length() >= 2 && token.endsWith(suffix)) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+        return token;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.swote.interv.service.ai.keyword;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단어 빈도 희소 벡터
+ * - 단어는 64비트 해시로 식별하며, 해시 오름차순으로 정렬된 기본형 배열에 저장한다 (박싱/맵 없이 병합 순회)
+ * - terms는 공통 키워드를 돌려주기 위해 해시와 같은 순서로 보관한다
+ */
+public final class TermVector {
+
+    private static final HashFunction TERM_HASH = Hashing.murmur3_128();
+
+    private final long[] termHashes;
+    private final int[] counts;
+    private final String[] terms;
+    private final double sumOfSquares;
+
+    private TermVector(long[] termHashes, int[] counts, String[] terms) {
+        this.termHashes = termHashes;
+        this.counts = counts;
+        this.terms = terms;
+
+        double sum = 0;
+        for (int count : counts) {
+            sum += (double) count * count;
+        }
+        this.sumOfSquares = sum;
+    }
+
+    public static TermVector of(List<String> tokens) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.computeIfAbsent(token, key -> new int[1])[0]++;
+        }
+
+        int size = frequencies.size();
+        long[] hashes = new long[size];
+        String[] termsByIndex = new String[size];
+        int index = 0;
+        for (String term : frequencies.keySet()) {
+            hashes[index] = TERM_HASH.hashString(term, StandardCharsets.UTF_8).asLong();
+            termsByIndex[index] = term;
+            index++;
+        }
+
+        // 해시 기준으로 정렬하면서 단어/빈도도 같은 순서로 재배열
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+
+        long[] sortedHashes = new long[size];
+        int[] sortedCounts = new int[size];
+        String[] sortedTerms = new String[size];
+        for (int i = 0; i < size; i++) {
+            int source = order[i];
+            sortedHashes[i] = hashes[source];
+            sortedTerms[i] = termsByIndex[source];
+            sortedCounts[i] = frequencies.get(sortedTerms[i])[0];
+        }
+        return new TermVector(sortedHashes, sortedCounts, sortedTerms);
+    }
+
+    public int size() {
+        return termHashes.length;
+    }
+
+    public boolean isEmpty() {
+        return termHashes.length == 0;
+    }
+
+    long hashAt(int index) {
+        return termHashes[index];
+    }
+
+    int countAt(int index) {
+        return counts[index];
+    }
+
+    String termAt(int index) {
+        return terms[index];
+    }
+
+    double sumOfSquares() {
+        return sumOfSquares;
+    }
+}
@@ -0,0 +1,387 @@
+package dev.swote.interv.service.ai.vector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 매핑 파일 기반 임베딩 벡터 저장소
+ * - 벡터는 float32로 연속 저장되며 힙에는 키 → 슬롯 위치만 둔다. (벡터 데이터는 페이지 캐시에 상주)
+ * - 저장 시 L2 정규화하므로 코사인 유사도는 내적 한 번으로 계산된다.
+ * - top-k 검색은 전체 벡터를 순차 스캔하는 flat 인덱스다. 수만 건 규모에서는 근사 인덱스 없이도 수 ms 안에 끝난다.
+ *
+ * 파일 구조 (little endian)
+ * <pre>
+ * header(32B): magic, version, dimension, count, cursor, reserved...
+ * record     : key(long), kind(int), ref(int), vector(float × dimension)
+ * </pre>
+ */
+public class MappedVectorStore implements Closeable {
+
+    private static final int MAGIC = 0x49564543; // "IVEC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int OFFSET_DIMENSION = 8;
+    private static final int OFFSET_COUNT = 12;
+    private static final int OFFSET_CURSOR = 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int dimension;
+    private final int recordBytes;
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MappedByteBuffer buffer;
+    private FloatBuffer floats;
+    private int capacity;
+    private int count;
+
+    private MappedVectorStore(Path path, FileChannel channel, int dimension) {
+        this.path = path;
+        this.channel = channel;
+        this.dimension = dimension;
+        this.recordBytes = RECORD_HEADER_BYTES + Float.BYTES * dimension;
+    }
+
+    /**
+     * 저장소 열기. 기존 파일의 차원이 다르면(임베딩 모델 변경) 비우고 새로 만든다.
+     */
+    public static MappedVectorStore open(Path path, int dimension) throws IOException {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be positive: " + dimension);
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedVectorStore store = new MappedVectorStore(path, channel, dimension);
+        try {
+            store.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * 기존 파일 헤더의 벡터 차원, 파일이 없거나 형식이 다르면 0
+     */
+    public static int storedDimension(Path path) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) < HEADER_BYTES) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 헤더를 끝까지 읽는다
+            }
+            return header.getInt(0) == MAGIC && header.getInt(4) == VERSION ? header.getInt(OFFSET_DIMENSION) : 0;
+        }
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long key) {
+        lock.readLock().lock();
+        try {
+            return slots.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 (정규화된) 벡터 복사본, 없으면 null
+     */
+    public float[] get(long key) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(key);
+            if (slot == null) {
+                return null;
+            }
+            float[] vector = new float[dimension];
+            floats.get(vectorOffset(slot) / Float.BYTES, vector);
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 벡터 추가. 벡터는 정규화해서 저장한다.
+     * 이미 있는 키는 벡터를 다시 쓰지 않고, 참조가 비어 있으면(ref 0) 종류/참조만 채운다.
+     */
+    public void put(long key, int kind, int ref, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("expected dimension " + dimension + " but was " + vector.length);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = slots.get(key);
+            if (existing != null) {
+                attachRef(recordOffset(existing), kind, ref);
+                return;
+            }
+            if (count == capacity) {
+                remap(capacity * 2);
+            }
+
+            float scale = inverseNorm(vector);
+            int offset = recordOffset(count);
+            buffer.putLong(offset, key);
+            buffer.putInt(offset + 8, kind);
+            buffer.putInt(offset + 12, ref);
+            int vectorOffset = offset + RECORD_HEADER_BYTES;
+            for (int i = 0; i < dimension; i++) {
+                buffer.putFloat(vectorOffset + i * Float.BYTES, vector[i] * scale);
+            }
+
+            // 레코드를 다 쓴 뒤 개수를 올려야 중간에 종료돼도 반쯤 쓴 레코드를 읽지 않는다
+            slots.put(key, count);
+            count++;
+            buffer.putInt(OFFSET_COUNT, count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 해당 종류의 벡터 중 질의 벡터와 코사인 유사도가 높은 순으로 최대 k개
+     */
+    public List<VectorMatch> topK(float[] query, int kind, int k) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("expected dimension " + dimension + " but was " + query.length);
+        }
+        if (k <= 0) {
+            return List.of();
+        }
+
+        float[] normalized = normalize(query);
+        float[] candidate = new float[dimension];
+        PriorityQueue<VectorMatch> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(VectorMatch::score));
+
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < count; slot++) {
+                int offset = recordOffset(slot);
+                if (buffer.getInt(offset + 8) != kind) {
+                    continue;
+                }
+
+                // 벌크 복사 후 배열끼리 내적해야 JIT가 루프를 벡터화한다
+                floats.get((offset + RECORD_HEADER_BYTES) / Float.BYTES, candidate);
+                double score = dot(normalized, candidate);
+                if (best.size() < k) {
+                    best.add(new VectorMatch(buffer.getLong(offset), buffer.getInt(offset + 12), score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new VectorMatch(buffer.getLong(offset), buffer.getInt(offset + 12), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<VectorMatch> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(VectorMatch::score).reversed());
+        return result;
+    }
+
+    /**
+     * 증분 색인용 커서 (예: 마지막으로 색인한 질문 ID). 파일에 함께 저장된다.
+     */
+    public int cursor() {
+        lock.readLock().lock();
+        try {
+            return buffer.getInt(OFFSET_CURSOR);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void updateCursor(int cursor) {
+        lock.writeLock().lock();
+        try {
+            buffer.putInt(OFFSET_CURSOR, cursor);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 페이지 캐시의 변경 내용을 디스크에 기록
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        boolean valid = false;
+
+        if (fileSize >= HEADER_BYTES) {
+            map(Math.max(1, (int) ((fileSize - HEADER_BYTES) / recordBytes)));
+            valid = buffer.getInt(0) == MAGIC
+                    && buffer.getInt(4) == VERSION
+                    && buffer.getInt(OFFSET_DIMENSION) == dimension
+                    && buffer.getInt(OFFSET_COUNT) <= capacity;
+        }
+
+        if (!valid) {
+            channel.truncate(0);
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(OFFSET_DIMENSION, dimension);
+            buffer.putInt(OFFSET_COUNT, 0);
+            buffer.putInt(OFFSET_CURSOR, 0);
+            count = 0;
+            return;
+        }
+
+        count = buffer.getInt(OFFSET_COUNT);
+        for (int slot = 0; slot < count; slot++) {
+            slots.put(buffer.getLong(recordOffset(slot)), slot);
+        }
+    }
+
+    private void remap(int newCapacity) {
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("벡터 저장소 확장 실패: " + path, e);
+        }
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long bytes = HEADER_BYTES + (long) newCapacity * recordBytes;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("벡터 저장소 최대 크기 초과: " + newCapacity + "건");
+        }
+        // 이전 매핑은 GC 시 해제된다
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        floats = buffer.asFloatBuffer();
+        capacity = newCapacity;
+    }
+
+    /**
+     * 누산기 4개로 나눠 덧셈 의존성을 끊는다 (float 덧셈 순서를 바꾸지 않는 JIT가 파이프라인을 채울 수 있도록)
+     */
+    private static double dot(float[] left, float[] right) {
+        float sum0 = 0f;
+        float sum1 = 0f;
+        float sum2 = 0f;
+        float sum3 = 0f;
+        int i = 0;
+        for (int upper = left.length & ~3; i < upper; i += 4) {
+            sum0 += left[i] * right[i];
+            sum1 += left[i + 1] * right[i + 1];
+            sum2 += left[i + 2] * right[i + 2];
+            sum3 += left[i + 3] * right[i + 3];
+        }
+        for (; i < left.length; i++) {
+            sum0 += left[i] * right[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * 참조 없이 저장된 레코드(예: 이전 버전에서 임시 질의로 저장된 질문 텍스트)에 실제 참조를 붙인다.
+     * 이미 참조가 있으면 처음 저장된 대표를 유지한다.
+     */
+    private void attachRef(int offset, int kind, int ref) {
+        if (ref == 0 || buffer.getInt(offset + 12) != 0) {
+            return;
+        }
+        buffer.putInt(offset + 8, kind);
+        buffer.putInt(offset + 12, ref);
+    }
+
+    private int recordOffset(int slot) {
+        return HEADER_BYTES + slot * recordBytes;
+    }
+
+    private int vectorOffset(int slot) {
+        return recordOffset(slot) + RECORD_HEADER_BYTES;
+    }
+
+    /**
+     * L2 정규화한 복사본 (저장소 밖에 두는 벡터도 같은 방식으로 정규화해 내적으로 비교한다)
+     */
+    static float[] normalize(float[] vector) {
+        float scale = inverseNorm(vector);
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    private static float inverseNorm(float[] vector) {
+        double squares = 0;
+        for (float value : vector) {
+            squares += value * value;
+        }
+        return squares > 0 ? (float) (1.0 / Math.sqrt(squares)) : 0f;
+    }
+}
@@ -0,0 +1,424 @@
+package dev.swote.interv.service.ai.vector;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.event.QuestionsSavedEvent;
+import dev.swote.interv.domain.interview.repository.QuestionRepository;
+import dev.swote.interv.exception.MLResponseParsingException;
+import dev.swote.interv.service.ai.MlEndpoint;
+import dev.swote.interv.service.ai.MlGateway;
+import dev.swote.interv.service.ai.dto.MlEmbeddingResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 기반 의미론적 유사도/질문 검색
+ * - 질문 임베딩은 ML 서버 /embed로 한 번만 받아 MappedVectorStore에 보관한다.
+ *   키는 텍스트 내용 해시이므로 같은 질문은 다시 임베딩하지 않는다.
+ * - 유사도 계산에 들어온 이력서+자기소개서(KIND_DOCUMENT)와 임시 질문 텍스트(KIND_QUERY)는 파일에 쓰지 않고
+ *   크기 제한이 있는 메모리 캐시에만 둔다. (요청마다 새 텍스트가 들어오므로 파일에 쌓으면 끝없이 커진다)
+ * - 유사도는 ML 서버 /similarity/semantic과 같은 모델·같은 입력(resume + "\n" + cover_letter)의 코사인 값이다.
+ * - 질문 검색은 색인된 질문 임베딩과 질의 임베딩의 top-k로 찾는다. 검색은 이미 색인된 질문만 대상으로 한다.
+ *   질문 저장이 커밋되면 이벤트에 담긴 질문 ID를 바로 색인하고, 기동 완료 후와 reconcile-interval마다
+ *   전체 질문을 훑어 저장소에 없는 질문(다른 인스턴스에서 저장했거나 색인에 실패한 질문)을 채운다.
+ *   질문 ID는 풀 단위로 할당되어 커밋 순서와 맞지 않으므로 ID 커서로는 빠지는 질문이 생긴다.
+ */
+@Slf4j
+@Service
+public class SemanticVectorIndex {
+
+    static final int KIND_DOCUMENT = 1;
+    static final int KIND_QUESTION = 2;
+    static final int KIND_QUERY = 3;
+
+    private final MlGateway mlGateway;
+    private final QuestionRepository questionRepository;
+
+    private final boolean enabled;
+    private final Path storePath;
+    private final int indexBatchSize;
+    private final Duration reconcileInterval;
+    private final Object openLock = new Object();
+    // 이력서/임시 질문 벡터 (정규화된 값, 파일에 쓰지 않는다)
+    private final Cache<Long, float[]> transientVectors;
+    // 저장 커밋 후 색인을 기다리는 질문 ID
+    private final Set<Integer> pendingQuestionIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingScheduled = new AtomicBoolean();
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean();
+    // 색인은 이 스레드에서만 실행되어 서로 겹치지 않는다
+    private final ScheduledExecutorService indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "semantic-vector-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile MappedVectorStore store;
+
+    public SemanticVectorIndex(
+            MlGateway mlGateway,
+            QuestionRepository questionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${llm.vector-store.enabled:true}") boolean enabled,
+            @Value("${llm.vector-store.path:./data/embeddings.vec}") String storePath,
+            @Value("${llm.vector-store.index-batch-size:128}") int indexBatchSize,
+            @Value("${llm.vector-store.reconcile-interval:10m}") Duration reconcileInterval,
+            @Value("${llm.vector-store.transient-cache-size:1000}") long transientCacheSize
+    ) {
+        this.mlGateway = mlGateway;
+        this.questionRepository = questionRepository;
+        this.enabled = enabled;
+        this.storePath = Path.of(storePath);
+        this.indexBatchSize = Math.max(1, indexBatchSize);
+        this.reconcileInterval = reconcileInterval;
+        this.transientVectors = Caffeine.newBuilder()
+                .maximumSize(transientCacheSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, transientVectors, "vector.transient");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이력서+자기소개서와 질문의 코사인 유사도 (소수점 4자리)
+     */
+    public CompletableFuture<Double> similarityAsync(String resumeContent, String coverLetter, String question) {
+        String document = (resumeContent != null ? resumeContent : "") + "\n" + (coverLetter != null ? coverLetter : "");
+        String safeQuestion = question != null ? question : "";
+
+        List<Entry> entries = List.of(
+                new Entry(key(KIND_DOCUMENT, document), KIND_DOCUMENT, 0, document),
+                new Entry(key(KIND_QUERY, safeQuestion), KIND_QUERY, 0, safeQuestion));
+
+        return vectorsAsync(entries).thenApply(vectors -> {
+            float[] documentVector = vectors.get(entries.get(0).key());
+            float[] questionVector = vectors.get(entries.get(1).key());
+            double score = 0;
+            for (int i = 0; i < documentVector.length; i++) {
+                score += documentVector[i] * questionVector[i];
+            }
+            return Math.round(score * 10000) / 10000.0;
+        });
+    }
+
+    /**
+     * 의미가 가까운 질문 검색. 이미 색인된 질문만 대상으로 하며 요청 스레드에서 색인하지 않는다.
+     * 같은 내용의 질문은 하나로 묶이며 처음 저장된 질문이 대표로 반환된다.
+     */
+    public List<Question> searchSimilarQuestions(String query, int limit) {
+        float[] queryVector = MlGateway.await(embedAsync(List.of(query)))[0];
+        MappedVectorStore current = store;
+        if (current == null || current.dimension() != queryVector.length) {
+            // 아직 색인 전이거나 임베딩 모델이 바뀌어 다시 색인해야 하는 경우
+            requestIndexing();
+            return List.of();
+        }
+
+        List<VectorMatch> matches = current.topK(queryVector, KIND_QUESTION, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Question> questions = questionRepository.findAllById(
+                        matches.stream().map(VectorMatch::ref).toList()).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+
+        // 유사도 순서 유지
+        List<Question> result = new ArrayList<>(matches.size());
+        for (VectorMatch match : matches) {
+            Question question = questions.get(match.ref());
+            if (question != null) {
+                result.add(question);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이전 실행에서 저장한 벡터가 있으면 바로 연다 (없으면 첫 임베딩 응답 때 생성)
+     */
+    @PostConstruct
+    public void openExisting() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int dimension = MappedVectorStore.storedDimension(storePath);
+            if (dimension > 0) {
+                openStore(dimension);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("기존 벡터 저장소를 열지 못함 - 경로: {}, 원인: {}", storePath, e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 완료 후 저장소에 없는 질문을 채우고, 이후 reconcile-interval마다 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        requestIndexing();
+        indexer.scheduleWithFixedDelay(this::requestIndexing,
+                reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 질문 저장이 커밋되면 이벤트에 담긴 질문을 바로 색인
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQuestionsSaved(QuestionsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        event.questionIdsByType().values().forEach(pendingQuestionIds::addAll);
+        if (pendingQuestionIds.isEmpty() || !pendingScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            indexer.execute(() -> {
+                pendingScheduled.set(false);
+                try {
+                    indexPendingQuestions();
+                } catch (RuntimeException e) {
+                    log.warn("저장된 질문 임베딩 색인 실패 - 다음 전체 확인 때 다시 시도: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingScheduled.set(false);
+        }
+    }
+
+    /**
+     * 전체 질문 중 저장소에 없는 질문 색인 예약. 이미 예약된 작업이 있으면 그 작업이 전체를 읽으므로 합친다.
+     */
+    public void requestIndexing() {
+        if (!enabled || !reconcileRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            indexer.execute(() -> {
+                reconcileRequested.set(false);
+                try {
+                    indexMissingQuestions();
+                } catch (RuntimeException e) {
+                    log.warn("질문 임베딩 전체 확인 실패 - 다음 주기에 다시 시도: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reconcileRequested.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+        try {
+            indexer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+    }
+
+    private void close() {
+        MappedVectorStore current = store;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException e) {
+            log.warn("벡터 저장소 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 저장소/캐시에 없는 항목만 한 번의 /embed 요청으로 임베딩해 보관한 뒤 키 → 벡터로 반환
+     * 질문(KIND_QUESTION)만 파일에 저장하고 나머지는 메모리 캐시에 둔다.
+     */
+    private CompletableFuture<Map<Long, float[]>> vectorsAsync(List<Entry> entries) {
+        Map<Long, float[]> vectors = new LinkedHashMap<>();
+        List<Entry> missing = new ArrayList<>();
+
+        MappedVectorStore current = store;
+        for (Entry entry : entries) {
+            float[] vector;
+            if (entry.kind() != KIND_QUESTION) {
+                vector = transientVectors.getIfPresent(entry.key());
+            } else {
+                vector = current != null ? current.get(entry.key()) : null;
+            }
+            if (vector != null) {
+                if (entry.kind() == KIND_QUESTION && entry.ref() != 0) {
+                    // 참조 없이 먼저 저장된 같은 텍스트가 있으면 실제 질문 ID를 붙인다
+                    current.put(entry.key(), entry.kind(), entry.ref(), vector);
+                }
+                vectors.put(entry.key(), vector);
+            } else if (missing.stream().noneMatch(other -> other.key() == entry.key())) {
+                missing.add(entry);
+            }
+        }
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(vectors);
+        }
+
+        return embedAsync(missing.stream().map(Entry::text).toList()).thenApply(embeddings -> {
+            for (int i = 0; i < missing.size(); i++) {
+                Entry entry = missing.get(i);
+                if (entry.kind() != KIND_QUESTION) {
+                    float[] normalized = MappedVectorStore.normalize(embeddings[i]);
+                    transientVectors.put(entry.key(), normalized);
+                    vectors.put(entry.key(), normalized);
+                    continue;
+                }
+                MappedVectorStore target = openStore(embeddings[i].length);
+                target.put(entry.key(), entry.kind(), entry.ref(), embeddings[i]);
+                vectors.put(entry.key(), target.get(entry.key()));
+            }
+            return vectors;
+        });
+    }
+
+    private CompletableFuture<float[][]> embedAsync(List<String> texts) {
+        return mlGateway.post(MlEndpoint.EMBED, Map.of("texts", texts), MlEmbeddingResponse.class)
+                .thenApply(response -> {
+                    if (response == null || response.embeddings() == null || response.embeddings().length != texts.size()) {
+                        log.error("ML 임베딩 응답 형식 오류 - 요청 {}건", texts.size());
+                        throw new MLResponseParsingException();
+                    }
+                    return response.embeddings();
+                });
+    }
+
+    /**
+     * 저장 이벤트로 들어온 질문을 배치 단위로 색인 (색인 스레드에서만 호출)
+     * 실패한 배치는 다시 넣지 않는다. (ML 장애 중 재시도를 반복하지 않도록 다음 전체 확인에 맡긴다)
+     */
+    private void indexPendingQuestions() {
+        while (!Thread.currentThread().isInterrupted() && !pendingQuestionIds.isEmpty()) {
+            List<Integer> ids = new ArrayList<>(indexBatchSize);
+            Iterator<Integer> iterator = pendingQuestionIds.iterator();
+            while (iterator.hasNext() && ids.size() < indexBatchSize) {
+                ids.add(iterator.next());
+                iterator.remove();
+            }
+            indexQuestions(questionRepository.findAllById(ids));
+            log.debug("저장된 질문 임베딩 색인 - {}개, 저장된 벡터: {}", ids.size(), store != null ? store.size() : 0);
+        }
+    }
+
+    /**
+     * 전체 질문을 ID 순으로 훑어 저장소에 없는 질문만 임베딩해 색인 (색인 스레드에서만 호출)
+     * 이미 색인된 질문은 저장소 조회만 하므로 ML 호출 없이 넘어간다.
+     */
+    private void indexMissingQuestions() {
+        int cursor = 0;
+        int before = store != null ? store.size() : 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Question> questions = questionRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor, PageRequest.of(0, indexBatchSize));
+            if (questions.isEmpty()) {
+                break;
+            }
+            indexQuestions(questions);
+            cursor = questions.get(questions.size() - 1).getId();
+        }
+
+        int after = store != null ? store.size() : 0;
+        if (after != before) {
+            log.info("질문 임베딩 전체 확인 - 추가된 벡터: {}, 저장된 벡터: {}", after - before, after);
+        }
+    }
+
+    private void indexQuestions(List<Question> questions) {
+        List<Entry> entries = questions.stream()
+                .filter(question -> question.getContent() != null && !question.getContent().isBlank())
+                .map(question -> new Entry(key(KIND_QUESTION, question.getContent()),
+                        KIND_QUESTION, question.getId(), question.getContent()))
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+        MlGateway.await(vectorsAsync(entries));
+        if (store != null) {
+            store.flush();
+        }
+    }
+
+    /**
+     * 첫 임베딩 응답의 차원으로 저장소를 연다 (모델이 바뀌어 차원이 다르면 새로 만든다)
+     */
+    private MappedVectorStore openStore(int dimension) {
+        MappedVectorStore current = store;
+        if (current != null && current.dimension() == dimension) {
+            return current;
+        }
+
+        synchronized (openLock) {
+            if (store != null && store.dimension() == dimension) {
+                return store;
+            }
+            close();
+            try {
+                store = MappedVectorStore.open(storePath, dimension);
+                log.info("벡터 저장소 열림 - 경로: {}, 차원: {}, 저장된 벡터: {}", storePath, dimension, store.size());
+                return store;
+            } catch (IOException e) {
+                throw new IllegalStateException("벡터 저장소 열기 실패: " + storePath, e);
+            }
+        }
+    }
+
+    private static long key(int kind, String text) {
+        return Hashing.murmur3_128().newHasher()
+                .putInt(kind)
+                .putString(text, StandardCharsets.UTF_8)
+                .hash()
+                .asLong();
+    }
+
+    private record Entry(long key, int kind, int ref, String text) {
+    }
+}
@@ -0,0 +1,7 @@
+package dev.swote.interv.service.ai.vector;
+
+/**
+ * 벡터 검색 결과 (ref는 저장 시 함께 기록한 참조 ID, 예: 질문 ID)
+ */
+public record VectorMatch(long key, int ref, double score) {
+}
@@ -0,0 +1,223 @@
+package dev.swote.interv.service.interview;
+
+import dev.swote.interv.domain.interview.dto.AnswerEvaluationResponse;
+import dev.swote.interv.domain.interview.dto.EvaluationJobResponse;
+import dev.swote.interv.domain.interview.entity.*;
+import dev.swote.interv.domain.interview.repository.AnswerEvaluationRepository;
+import dev.swote.interv.domain.interview.repository.EvaluationJobRepository;
+import dev.swote.interv.domain.resume.entity.Resume;
+import dev.swote.interv.exception.EvaluationJobNotFoundException;
+import dev.swote.interv.service.ai.EvaluationBatcher;
+import dev.swote.interv.service.ai.ResumeDigester;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 답변 평가 작업 관리
+ * - enqueue: 답변 저장과 같은 트랜잭션에서 작업 행을 만든다 (아웃박스)
+ * - claimDueJobs/complete/fail: EvaluationJobWorker가 호출하며, ML 호출 동안에는 트랜잭션(DB 커넥션)을 잡지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EvaluationJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String STALE_ERROR = "평가 처리 중 작업이 중단되어 최대 시도 횟수를 초과했습니다";
+
+    private final EvaluationJobRepository evaluationJobRepository;
+    private final AnswerEvaluationRepository answerEvaluationRepository;
+    private final ResumeDigester resumeDigester;
+
+    @Value("${interview.evaluation-job.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${interview.evaluation-job.backoff-base:5s}")
+    private Duration backoffBase;
+
+    @Value("${interview.evaluation-job.backoff-max:10m}")
+    private Duration backoffMax;
+
+    @Value("${interview.evaluation-job.stale-after:5m}")
+    private Duration staleAfter;
+
+    /**
+     * 평가 작업 등록 (호출자의 트랜잭션에 참여)
+     */
+    @Transactional
+    public EvaluationJob enqueue(Answer answer) {
+        EvaluationJob job = EvaluationJob.builder()
+                .answer(answer)
+                .status(EvaluationJobStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        EvaluationJob savedJob = evaluationJobRepository.save(job);
+        log.info("답변 평가 작업 등록 - 작업 ID: {}, 답변 ID: {}", savedJob.getId(), answer.getId());
+        return savedJob;
+    }
+
+    @Transactional(readOnly = true)
+    public EvaluationJobResponse getJob(Integer jobId) {
+        EvaluationJob job = evaluationJobRepository.findById(jobId)
+                .orElseThrow(() -> new EvaluationJobNotFoundException(jobId));
+        return toResponse(job);
+    }
+
+    /**
+     * 실행 시각이 된 작업을 최대 limit개 선점
+     * 조건부 UPDATE로 선점하므로 여러 인스턴스가 동시에 실행되어도 같은 작업을 중복 처리하지 않는다.
+     */
+    @Transactional
+    public List<Integer> claimDueJobs(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime staleBefore = now.minus(staleAfter);
+        int exhausted = evaluationJobRepository.failStaleJobs(staleBefore, maxAttempts, STALE_ERROR);
+        if (exhausted > 0) {
+            log.error("장시간 RUNNING 상태였던 평가 작업 {}건이 최대 시도 횟수({}회)를 넘어 최종 실패 처리", exhausted, maxAttempts);
+        }
+        int released = evaluationJobRepository.releaseStaleJobs(staleBefore, now, maxAttempts);
+        if (released > 0) {
+            log.warn("장시간 RUNNING 상태였던 평가 작업 {}건을 재시도 대기열로 복구", released);
+        }
+
+        List<Integer> claimed = new ArrayList<>();
+        for (Integer jobId : evaluationJobRepository.findDueJobIds(
+                EvaluationJobStatus.PENDING, now, PageRequest.of(0, limit))) {
+            if (evaluationJobRepository.claim(jobId, now) == 1) {
+                claimed.add(jobId);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 선점한 작업의 평가 요청 항목 구성
+     */
+    @Transactional(readOnly = true)
+    public EvaluationBatcher.EvaluationItem loadEvaluationItem(Integer jobId) {
+        EvaluationJob job = evaluationJobRepository.findById(jobId)
+                .orElseThrow(() -> new EvaluationJobNotFoundException(jobId));
+
+        Answer answer = job.getAnswer();
+        Question question = answer.getQuestion();
+        Resume resume = question.getInterviewSession() != null ? question.getInterviewSession().getResume() : null;
+
+        String resumeDigest = resumeDigester.digestOf(resume);
+        return new EvaluationBatcher.EvaluationItem(
+                question.getContent(),
+                answer.getContent(),
+                resumeDigest != null ? resumeDigest : "",
+                ""
+        );
+    }
+
+    /**
+     * 평가 성공 처리: AnswerEvaluation 저장(기존 평가가 있으면 갱신) 후 작업 완료
+     */
+    @Transactional
+    public void complete(Integer jobId, AnswerEvaluation evaluationDto) {
+        EvaluationJob job = evaluationJobRepository.findById(jobId)
+                .orElseThrow(() -> new EvaluationJobNotFoundException(jobId));
+        Answer answer = job.getAnswer();
+
+        AnswerEvaluation evaluation = answerEvaluationRepository.findByAnswer(answer)
+                .orElseGet(() -> AnswerEvaluation.builder().answer(answer).build());
+        evaluation.setRelevance(evaluationDto.getRelevance());
+        evaluation.setSpecificity(evaluationDto.getSpecificity());
+        evaluation.setPracticality(evaluationDto.getPracticality());
+        evaluation.setValidity(evaluationDto.getValidity());
+        evaluation.setTotalScore(evaluationDto.getTotalScore());
+        evaluation.setFeedback(evaluationDto.getFeedback());
+        evaluation.setEvaluationType("AI_FASTAPI");
+        answerEvaluationRepository.save(evaluation);
+
+        answer.setFeedback(evaluationDto.getFeedback());
+
+        job.setEvaluation(evaluation);
+        job.setStatus(EvaluationJobStatus.COMPLETED);
+        job.setCompletedAt(LocalDateTime.now());
+        job.setLastError(null);
+
+        log.info("답변 평가 작업 완료 - 작업 ID: {}, 답변 ID: {}, 총점: {}",
+                jobId, answer.getId(), evaluation.getTotalScore());
+    }
+
+    /**
+     * 평가 실패 처리: 최대 시도 횟수 전까지는 지수 백오프로 재시도 예약
+     */
+    @Transactional
+    public void fail(Integer jobId, String error) {
+        EvaluationJob job = evaluationJobRepository.findById(jobId)
+                .orElseThrow(() -> new EvaluationJobNotFoundException(jobId));
+
+        job.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error);
+
+        if (job.getAttemptCount() >= maxAttempts) {
+            job.setStatus(EvaluationJobStatus.FAILED);
+            log.error("답변 평가 작업 최종 실패 - 작업 ID: {}, 시도: {}회, 오류: {}",
+                    jobId, job.getAttemptCount(), error);
+            return;
+        }
+
+        Duration delay = backoffDelay(job.getAttemptCount());
+        job.setStatus(EvaluationJobStatus.PENDING);
+        job.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        log.warn("답변 평가 작업 실패, 재시도 예약 - 작업 ID: {}, 시도: {}회, {}초 후 재시도, 오류: {}",
+                jobId, job.getAttemptCount(), delay.toSeconds(), error);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * base * 2^(attempt-1), 최대 backoffMax. 동시에 실패한 작업이 한꺼번에 재시도하지 않도록 ±20% 지터를 준다.
+     */
+    private Duration backoffDelay(int attempt) {
+        long baseMillis = backoffBase.toMillis();
+        long exponential = baseMillis << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(exponential, backoffMax.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private EvaluationJobResponse toResponse(EvaluationJob job) {
+        AnswerEvaluation evaluation = job.getEvaluation();
+        AnswerEvaluationResponse evaluationResponse = evaluation == null ? null : AnswerEvaluationResponse.builder()
+                .id(evaluation.getId())
+                .answerId(job.getAnswer().getId())
+                .relevance(evaluation.getRelevance())
+                .specificity(evaluation.getSpecificity())
+                .practicality(evaluation.getPracticality())
+                .validity(evaluation.getValidity())
+                .totalScore(evaluation.getTotalScore())
+                .feedback(evaluation.getFeedback())
+                .evaluationType(evaluation.getEvaluationType())
+                .build();
+
+        return EvaluationJobResponse.builder()
+                .jobId(job.getId())
+                .answerId(job.getAnswer().getId())
+                .status(job.getStatus())
+                .attemptCount(job.getAttemptCount())
+                .nextAttemptAt(job.getNextAttemptAt())
+                .completedAt(job.getCompletedAt())
+                .lastError(job.getLastError())
+                .evaluation(evaluationResponse)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.swote.interv.service.interview;
+
+import dev.swote.interv.domain.interview.entity.AnswerEvaluation;
+import dev.swote.interv.service.ai.MLIntegrationService;
+import dev.swote.interv.service.ai.MlGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 답변 평가 작업 처리 Quartz 잡
+ * 선점한 작업들의 평가 요청을 한꺼번에 보내(EvaluationBatcher로 병합됨) 결과를 기다린 뒤 하나씩 반영한다.
+ * 작업 선점은 DB 조건부 UPDATE로 이루어지므로 여러 인스턴스에서 동시에 실행되어도 안전하다.
+ */
+@Slf4j
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class EvaluationJobWorker extends QuartzJobBean {
+
+    private final EvaluationJobService evaluationJobService;
+    private final MLIntegrationService mlIntegrationService;
+
+    @Value("${interview.evaluation-job.batch-size:16}")
+    private int batchSize;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        List<Integer> jobIds = evaluationJobService.claimDueJobs(batchSize);
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        log.info("답변 평가 작업 처리 시작 - {}건", jobIds.size());
+
+        Map<Integer, CompletableFuture<AnswerEvaluation>> evaluations = new LinkedHashMap<>();
+        for (Integer jobId : jobIds) {
+            try {
+                evaluations.put(jobId, mlIntegrationService.evaluateAnswerOrFailAsync(
+                        evaluationJobService.loadEvaluationItem(jobId)));
+            } catch (Exception e) {
+                log.error("평가 작업 {} 요청 구성 실패: {}", jobId, e.getMessage());
+                evaluationJobService.fail(jobId, e.getMessage());
+            }
+        }
+
+        for (Map.Entry<Integer, CompletableFuture<AnswerEvaluation>> entry : evaluations.entrySet()) {
+            Integer jobId = entry.getKey();
+            try {
+                evaluationJobService.complete(jobId, MlGateway.await(entry.getValue()));
+            } catch (Exception e) {
+                evaluationJobService.fail(jobId, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+    }
+}
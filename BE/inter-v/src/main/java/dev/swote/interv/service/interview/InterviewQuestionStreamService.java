@@ -0,0 +1,123 @@
+package dev.swote.interv.service.interview;
+
+import dev.swote.interv.domain.interview.dto.CreateInterviewRequest;
+import dev.swote.interv.domain.interview.dto.InterviewResponse;
+import dev.swote.interv.domain.interview.dto.QuestionResponse;
+import dev.swote.interv.domain.interview.entity.InterviewMode;
+import dev.swote.interv.service.ai.LlmService;
+import dev.swote.interv.service.ai.MlGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 면접 질문 스트리밍 생성
+ * - 세션을 먼저 저장해 "interview" 이벤트로 보내고, LLM이 질문을 하나 만들 때마다 저장 후 "question" 이벤트로 전송
+ * - 생성이 중간에 실패하면 모자란 개수만 폴백 질문으로 채운 뒤 "complete" 이벤트로 종료
+ * 트랜잭션은 InterviewService의 메서드 단위로만 잡히므로 LLM 생성 동안 DB 커넥션을 점유하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewQuestionStreamService {
+
+    private final InterviewService interviewService;
+    private final LlmService llmService;
+
+    /**
+     * 세션 생성까지는 호출 스레드에서 수행하므로 이력서/포지션 조회 실패 등은 일반 예외 응답으로 처리된다.
+     */
+    public void createInterview(Integer userId, CreateInterviewRequest request, SseEmitter emitter) {
+        InterviewResponse interview = interviewService.createInterviewSession(userId, request);
+        Integer interviewId = interview.getId();
+
+        AtomicBoolean connected = new AtomicBoolean(true);
+        emitter.onCompletion(() -> connected.set(false));
+        emitter.onTimeout(() -> connected.set(false));
+        emitter.onError(throwable -> connected.set(false));
+
+        send(emitter, connected, "interview", interview);
+
+        if (usesPresetQuestions(request)) {
+            List<QuestionResponse> questions = interviewService.attachPresetQuestions(interviewId, request);
+            questions.forEach(question -> send(emitter, connected, "question", question));
+            complete(emitter, connected, interviewId, questions.size());
+            return;
+        }
+
+        // 이력서 저장 시 미리 생성해 둔 질문이 있으면 LLM 호출 없이 바로 전송
+        List<QuestionResponse> pregenerated = interviewService.attachPregeneratedQuestions(interviewId);
+        if (!pregenerated.isEmpty()) {
+            pregenerated.forEach(question -> send(emitter, connected, "question", question));
+            complete(emitter, connected, interviewId, pregenerated.size());
+            return;
+        }
+
+        InterviewService.QuestionSource source = interviewService.getQuestionSource(interviewId);
+        int questionCount = source.questionCount();
+        AtomicInteger emitted = new AtomicInteger();
+
+        llmService.streamInterviewQuestions(source.resume(), source.position(), questionCount, question -> {
+                    // 클라이언트가 끊겨도 세션이 완성되도록 저장은 계속한다
+                    QuestionResponse saved = interviewService.addQuestionToInterview(interviewId, question);
+                    emitted.incrementAndGet();
+                    send(emitter, connected, "question", saved);
+                })
+                .whenComplete((questions, throwable) -> {
+                    try {
+                        if (throwable != null) {
+                            log.error("면접 {} 질문 스트리밍 실패 ({}개 생성 후): {}",
+                                    interviewId, emitted.get(), MlGateway.unwrap(throwable).getMessage());
+                        }
+
+                        int remaining = questionCount - emitted.get();
+                        if (remaining > 0) {
+                            interviewService.appendFallbackQuestions(interviewId, remaining)
+                                    .forEach(question -> send(emitter, connected, "question", question));
+                        }
+                        complete(emitter, connected, interviewId, Math.max(questionCount, emitted.get()));
+                    } catch (Exception e) {
+                        log.error("면접 {} 질문 스트리밍 종료 처리 실패: {}", interviewId, e.getMessage(), e);
+                        send(emitter, connected, "error", Map.of("message", "질문 생성 중 오류가 발생했습니다"));
+                        emitter.completeWithError(e);
+                    }
+                });
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private boolean usesPresetQuestions(CreateInterviewRequest request) {
+        return (request.getQuestionIds() != null && !request.getQuestionIds().isEmpty())
+                || InterviewMode.PRACTICE.equals(request.getMode());
+    }
+
+    private void complete(SseEmitter emitter, AtomicBoolean connected, Integer interviewId, int questionCount) {
+        log.info("면접 질문 스트리밍 완료 - ID: {}, 질문 수: {}", interviewId, questionCount);
+        send(emitter, connected, "complete", Map.of("interviewId", interviewId, "questionCount", questionCount));
+        if (connected.get()) {
+            emitter.complete();
+        }
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean connected, String eventName, Object data) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (클라이언트 연결 종료): {}", e.getMessage());
+            connected.set(false);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.swote.interv.service.interview;
 
 import dev.swote.interv.domain.interview.dto.*;
+import dev.swote.interv.domain.interview.event.QuestionsSavedEvent;
 import dev.swote.interv.domain.interview.mapper.InterviewMapper;
 import dev.swote.interv.domain.interview.repository.*;
 import dev.swote.interv.exception.*;
@@ -12,18 +13,39 @@ import dev.swote.interv.domain.resume.entity.Resume;
 import dev.swote.interv.domain.resume.repository.ResumeRepository;
 import dev.swote.interv.domain.user.entity.User;
 import dev.swote.interv.domain.user.repository.UserRepository;
+import dev.swote.interv.service.ai.EvaluationBatcher;
 import dev.swote.interv.service.ai.LlmService;
+import dev.swote.interv.service.ai.MlCallContext;
+import dev.swote.interv.service.ai.MlGateway;
+import dev.swote.interv.service.ai.MlPriority;
+import dev.swote.interv.service.ai.ResumeDigester;
+import dev.swote.interv.service.ai.vector.SemanticVectorIndex;
+import dev.swote.interv.service.interview.search.QuestionSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,7 +63,16 @@ public class InterviewService {
     private final InterviewSimulationRepository interviewSimulationRepository;
 
     private final LlmService llmService;
+    private final ResumeDigester resumeDigester;
+    private final EvaluationJobService evaluationJobService;
+    private final PregeneratedQuestionPool pregeneratedQuestionPool;
+    private final QuestionSampler questionSampler;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final InterviewSessionStateCache sessionStateCache;
+    private final SemanticVectorIndex semanticVectorIndex;
     private final InterviewMapper interviewMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional(readOnly = true)
     public Page<InterviewListResponse> getUserInterviews(Integer userId, Pageable pageable) {
@@ -56,7 +87,14 @@ public class InterviewService {
     public InterviewResponse getInterviewById(Integer interviewId) {
         InterviewSession session = interviewSessionRepository.findById(interviewId)
                 .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
-        return interviewMapper.toResponse(session);
+
+        // 진행 중인 면접은 아직 DB에 반영되지 않은 커서/진행 시간을 응답에 반영
+        InterviewResponse response = interviewMapper.toResponse(session);
+        sessionStateCache.peek(interviewId).ifPresent(state -> {
+            response.setCurrentQuestionIndex(state.currentQuestionIndex());
+            response.setTotalTimeSeconds(state.totalTimeSeconds());
+        });
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -70,48 +108,118 @@ public class InterviewService {
     public InterviewResponse createInterview(Integer userId, CreateInterviewRequest request) {
         log.info("면접 생성 시작 - 사용자: {}, 모드: {}, 질문 수: {}", userId, request.getMode(), request.getQuestionCount());
 
-        // 유저, 이력서, 포지션 처리
-        User user = getOrCreateUser(userId);
-        Resume resume = getOrCreateResume(request.getResumeId());
-        Position position = getOrCreatePosition(request.getPositionId());
-
-        // 세션 생성 (질문 없이)
-        String shareUrl = UUID.randomUUID().toString();
-        InterviewSession interviewSession = InterviewSession.builder()
-                .user(user)
-                .resume(resume)
-                .position(position)
-                .type(request.getType())
-                .mode(request.getMode())
-                .status(InterviewStatus.SCHEDULED)
-                .startTime(LocalDateTime.now())
-                .shareUrl(shareUrl)
-                .questionCount(request.getQuestionCount())
-                .currentQuestionIndex(0)
-                .totalTimeSeconds(0)
-                .build();
-
         // 세션 먼저 저장
-        InterviewSession savedSession = interviewSessionRepository.save(interviewSession);
+        InterviewSession savedSession = saveNewSession(userId, request);
+        Resume resume = savedSession.getResume();
+        Position position = savedSession.getPosition();
 
         // 질문 생성
         List<Question> questions = generateOrRetrieveQuestions(request, resume, position, savedSession);
 
-        // 질문들에 세션 ID만 설정하고 저장
-        int sequence = 1;
-        for (Question question : questions) {
-            question.setInterviewSession(savedSession);
-            question.setSequence(sequence++);
-            questionRepository.save(question);
+        // 질문들에 세션과 순서를 설정하고 한 번에 저장 (커밋 시 배치 INSERT)
+        List<Question> savedQuestions = saveQuestionsInOrder(savedSession, questions);
+        savedSession.getQuestions().addAll(savedQuestions);
+
+        log.info("면접 생성 완료 - ID: {}, 질문 수: {}", savedSession.getId(), savedQuestions.size());
+
+        // 다시 조회하지 않고 메모리의 엔티티로 DTO 변환
+        return interviewMapper.toResponse(savedSession);
+    }
+
+    /**
+     * 질문 없이 면접 세션만 생성 (질문 스트리밍용)
+     */
+    @Transactional
+    public InterviewResponse createInterviewSession(Integer userId, CreateInterviewRequest request) {
+        log.info("면접 세션 생성 (질문 스트리밍) - 사용자: {}, 모드: {}, 질문 수: {}",
+                userId, request.getMode(), request.getQuestionCount());
+
+        InterviewSession savedSession = saveNewSession(userId, request);
+        return interviewMapper.toResponse(savedSession);
+    }
+
+    /**
+     * 질문 ID 지정 또는 연습 모드처럼 LLM 생성이 필요 없는 경우의 질문 구성
+     */
+    @Transactional
+    public List<QuestionResponse> attachPresetQuestions(Integer interviewId, CreateInterviewRequest request) {
+        InterviewSession session = interviewSessionRepository.findById(interviewId)
+                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
+
+        List<Question> questions = generateOrRetrieveQuestions(request, session.getResume(), session.getPosition(), session);
+        return saveQuestionsInOrder(session, questions).stream()
+                .map(interviewMapper::toQuestionResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사전 생성 질문이 있으면 세션에 추가 (없으면 빈 목록)
+     */
+    @Transactional
+    public List<QuestionResponse> attachPregeneratedQuestions(Integer interviewId) {
+        InterviewSession session = interviewSessionRepository.findById(interviewId)
+                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
+
+        Optional<List<Question>> pregenerated = takePregeneratedQuestions(
+                session.getResume(), session.getPosition(), session.getQuestionCount());
+        if (pregenerated.isEmpty()) {
+            return List.of();
+        }
+
+        return saveQuestionsInOrder(session, pregenerated.get()).stream()
+                .map(interviewMapper::toQuestionResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * LLM 질문 생성에 필요한 이력서/포지션 조회 (트랜잭션 밖에서 사용할 수 있도록 내용까지 로딩)
+     */
+    @Transactional(readOnly = true)
+    public QuestionSource getQuestionSource(Integer interviewId) {
+        InterviewSession session = interviewSessionRepository.findById(interviewId)
+                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
+
+        Resume resume = session.getResume();
+        Position position = session.getPosition();
+        if (resume != null) {
+            resume.getContent();
+        }
+        if (position != null) {
+            position.getName();
+        }
+        return new QuestionSource(resume, position, session.getQuestionCount());
+    }
+
+    /**
+     * LLM 생성이 중간에 실패했을 때 모자란 질문을 폴백 질문으로 채움
+     */
+    @Transactional
+    public List<QuestionResponse> appendFallbackQuestions(Integer interviewId, int count) {
+        log.warn("면접 {} 폴백 질문 {}개 추가", interviewId, count);
+
+        List<Question> fallbackQuestions = questionSampler.sample(QuestionType.TECHNICAL, count);
+        if (fallbackQuestions.isEmpty()) {
+            fallbackQuestions = createDefaultQuestions(count);
         }
 
-        log.info("면접 생성 완료 - ID: {}, 질문 수: {}", savedSession.getId(), questions.size());
+        List<QuestionResponse> responses = new ArrayList<>();
+        for (Question source : fallbackQuestions) {
+            // 다른 세션의 질문을 옮기지 않도록 내용만 복사
+            Question question = Question.builder()
+                    .content(source.getContent())
+                    .type(source.getType())
+                    .category(source.getCategory())
+                    .difficultyLevel(source.getDifficultyLevel())
+                    .build();
+            responses.add(addQuestionToInterview(interviewId, question));
+        }
+        return responses;
+    }
 
-        // 최종적으로 질문이 포함된 세션을 조회하여 DTO로 변환
-        InterviewSession finalSession = interviewSessionRepository.findById(savedSession.getId())
-                .orElseThrow(() -> new InterviewSessionNotFoundException(savedSession.getId()));
+    public record QuestionSource(Resume resume, Position position, int questionCount) {
+    }
 
-        return interviewMapper.toResponse(finalSession);
+    private record AnswerSubmission(Question question, Resume resume, MlCallContext context) {
     }
 
     @Transactional
@@ -135,6 +243,13 @@ public class InterviewService {
         InterviewSession interviewSession = interviewSessionRepository.findById(interviewId)
                 .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
 
+        // 메모리에만 있던 커서/진행 시간을 완료와 함께 저장
+        // (커밋될 때까지 캐시 항목은 완료 중으로 남아 다른 요청이 이전 값을 쓰거나 다시 읽지 않는다)
+        sessionStateCache.beginCompletion(interviewId).ifPresent(state -> {
+            interviewSession.setCurrentQuestionIndex(state.currentQuestionIndex());
+            interviewSession.setTotalTimeSeconds(state.totalTimeSeconds());
+        });
+
         interviewSession.setStatus(InterviewStatus.COMPLETED);
         interviewSession.setEndTime(LocalDateTime.now());
         interviewSessionRepository.save(interviewSession);
@@ -153,35 +268,74 @@ public class InterviewService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
-    public AnswerResponse submitTextAnswer(Integer questionId, String answerContent) {
+    /**
+     * 텍스트 답변 제출
+     * 질문/이력서 조회만 짧은 읽기 전용 트랜잭션으로 수행하고, ML 평가는 요청 스레드를 점유하지 않도록 비동기로 진행한다.
+     * 평가가 끝난 뒤의 답변 저장은 리포지토리 자체(쓰기) 트랜잭션으로 처리된다.
+     * (Future가 이미 완료된 경우 저장이 호출 스레드에서 실행되므로 이 메서드에는 트랜잭션을 걸지 않는다)
+     */
+    public CompletableFuture<AnswerResponse> submitTextAnswer(Integer questionId, String answerContent) {
         log.info("텍스트 답변 제출 - 질문 ID: {}", questionId);
 
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new QuestionNotFoundException(questionId));
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        AnswerSubmission submission = readOnlyTransaction.execute(status -> {
+            Question found = questionRepository.findById(questionId)
+                    .orElseThrow(() -> new QuestionNotFoundException(questionId));
+            // 트랜잭션 밖에서 사용하므로 이력서 프록시를 미리 초기화한다
+            Resume foundResume = (Resume) Hibernate.unproxy(found.getInterviewSession().getResume());
+            return new AnswerSubmission(found, foundResume, evaluationContext(found));
+        });
+        Question question = submission.question();
+        Resume resume = submission.resume();
+
+        return MlCallContext.supplyWith(submission.context(),
+                        () -> llmService.evaluateAnswerAsync(question, answerContent, resume))
+                .exceptionally(throwable -> {
+                    log.error("LLM 서비스 피드백 생성 실패 - 질문 ID: {}, 오류: {}",
+                            questionId, MlGateway.unwrap(throwable).getMessage());
+
+                    // 폴백: 기본 답변 생성
+                    return createFallbackAnswer(question, answerContent);
+                })
+                .thenApply(answer -> {
+                    Answer savedAnswer = answerRepository.save(answer);
+                    log.info("답변 평가 완료 - 답변 ID: {}, 점수: 기술:{}, 의사소통:{}, 구조:{}",
+                            savedAnswer.getId(),
+                            savedAnswer.getTechnicalScore(),
+                            savedAnswer.getCommunicationScore(),
+                            savedAnswer.getStructureScore());
+
+                    return interviewMapper.toAnswerResponse(savedAnswer);
+                });
+    }
 
-        try {
-            // 개선된 LLM 서비스의 evaluateAnswer 메서드 사용
-            Resume resume = question.getInterviewSession().getResume();
-            Answer answer = llmService.evaluateAnswer(question, answerContent, resume);
+    /**
+     * 텍스트 답변 제출 (평가 작업 등록 방식)
+     * 답변과 평가 작업을 한 트랜잭션으로 저장하고 바로 반환한다. 평가는 EvaluationJobWorker가 비동기로 수행한다.
+     */
+    @Transactional
+    public EvaluationJobResponse submitTextAnswerForEvaluation(Integer questionId, String answerContent) {
+        log.info("텍스트 답변 제출 (평가 작업 등록) - 질문 ID: {}", questionId);
 
-            Answer savedAnswer = answerRepository.save(answer);
-            log.info("답변 평가 완료 - 답변 ID: {}, 점수: 기술:{}, 의사소통:{}, 구조:{}",
-                    savedAnswer.getId(),
-                    savedAnswer.getTechnicalScore(),
-                    savedAnswer.getCommunicationScore(),
-                    savedAnswer.getStructureScore());
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new QuestionNotFoundException(questionId));
 
-            return interviewMapper.toAnswerResponse(savedAnswer);
+        Answer answer = answerRepository.save(Answer.builder()
+                .question(question)
+                .content(answerContent)
+                .feedback("AI 평가가 진행 중입니다.")
+                .build());
 
-        } catch (Exception e) {
-            log.error("LLM 서비스 피드백 생성 실패 - 질문 ID: {}, 오류: {}", questionId, e.getMessage());
+        EvaluationJob job = evaluationJobService.enqueue(answer);
 
-            // 폴백: 기본 답변 생성
-            Answer fallbackAnswer = createFallbackAnswer(question, answerContent);
-            Answer savedAnswer = answerRepository.save(fallbackAnswer);
-            return interviewMapper.toAnswerResponse(savedAnswer);
-        }
+        return EvaluationJobResponse.builder()
+                .jobId(job.getId())
+                .answerId(answer.getId())
+                .status(job.getStatus())
+                .attemptCount(job.getAttemptCount())
+                .nextAttemptAt(job.getNextAttemptAt())
+                .build();
     }
 
     @Transactional
@@ -198,7 +352,8 @@ public class InterviewService {
 
         try {
             Resume resume = question.getInterviewSession().getResume();
-            Answer answer = llmService.evaluateAnswer(question, transcribedText, resume);
+            Answer answer = MlCallContext.supplyWith(evaluationContext(question),
+                    () -> llmService.evaluateAnswer(question, transcribedText, resume));
             answerRepository.save(answer);
             return interviewMapper.toAnswerResponse(answer);
         } catch (Exception e) {
@@ -238,28 +393,31 @@ public class InterviewService {
     public QuestionResponse getNextQuestion(Integer interviewId) {
         log.info("다음 질문 요청 - 면접 ID: {}", interviewId);
 
-        InterviewSession session = interviewSessionRepository.findById(interviewId)
-                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
-
-        if (session.getCurrentQuestionIndex() >= session.getQuestionCount()) {
-            throw new InterviewStateException("더 이상 사용 가능한 질문이 없습니다");
-        }
-
-        List<Question> questions = questionRepository.findByInterviewSessionOrderBySequenceAsc(session);
-
-        if (questions.isEmpty()) {
-            throw new QuestionNotFoundException("error.question.not.found", "면접에 등록된 질문이 없습니다");
+        // 진행 중인 면접은 메모리의 세션 상태에서 커서를 전진시킨다 (DB 반영은 write-behind)
+        OptionalInt cachedCursor = sessionStateCache.advanceCursor(interviewId);
+        if (cachedCursor.isPresent()) {
+            int sequence = cachedCursor.getAsInt();
+            try {
+                Question nextQuestion = questionRepository.findByInterviewSessionIdAndSequence(interviewId, sequence)
+                        .orElseGet(() -> findQuestionByPosition(interviewId, sequence - 1));
+                log.info("다음 질문 반환 - 질문 ID: {}, 순서: {}", nextQuestion.getId(), nextQuestion.getSequence());
+                return interviewMapper.toQuestionResponse(nextQuestion);
+            } catch (RuntimeException e) {
+                sessionStateCache.retreatCursor(interviewId, sequence);
+                throw e;
+            }
         }
 
-        if (session.getCurrentQuestionIndex() >= questions.size()) {
-            throw new QuestionIndexOutOfBoundsException(session.getCurrentQuestionIndex(), questions.size());
+        // 커서를 조건부 UPDATE로 먼저 전진시켜 동시 요청끼리 같은 질문을 나눠 갖지 않게 한다
+        if (interviewSessionRepository.advanceQuestionCursor(interviewId) == 0) {
+            if (!interviewSessionRepository.existsById(interviewId)) {
+                throw new InterviewSessionNotFoundException(interviewId);
+            }
+            throw new InterviewStateException("더 이상 사용 가능한 질문이 없습니다");
         }
 
-        Question nextQuestion = questions.get(session.getCurrentQuestionIndex());
-
-        // 현재 질문 인덱스 업데이트
-        session.setCurrentQuestionIndex(session.getCurrentQuestionIndex() + 1);
-        interviewSessionRepository.save(session);
+        Question nextQuestion = questionRepository.findAtQuestionCursor(interviewId)
+                .orElseGet(() -> findQuestionByPosition(interviewId));
 
         log.info("다음 질문 반환 - 질문 ID: {}, 순서: {}", nextQuestion.getId(), nextQuestion.getSequence());
         return interviewMapper.toQuestionResponse(nextQuestion);
@@ -267,6 +425,10 @@ public class InterviewService {
 
     @Transactional
     public void updateInterviewTime(Integer interviewId, Integer timeInSeconds) {
+        if (sessionStateCache.updateTime(interviewId, timeInSeconds)) {
+            return;
+        }
+
         InterviewSession session = interviewSessionRepository.findById(interviewId)
                 .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
 
@@ -282,6 +444,14 @@ public class InterviewService {
             String keyword,
             Pageable pageable) {
 
+        // 키워드 검색은 메모리 역색인 사용 (색인 준비 전이거나 ID 외 정렬이면 DB 검색)
+        if (keyword != null && isIdOrderOnly(pageable)) {
+            Optional<List<Integer>> matchedIds = questionSearchIndex.search(keyword, category, difficultyLevel, type);
+            if (matchedIds.isPresent()) {
+                return pageOfQuestions(matchedIds.get(), pageable);
+            }
+        }
+
         Page<Question> questions = questionRepository.findQuestionsByFilters(
                 category,
                 difficultyLevel,
@@ -293,6 +463,24 @@ public class InterviewService {
         return questions.map(interviewMapper::toQuestionResponse);
     }
 
+    /**
+     * 의미가 가까운 질문 검색 (임베딩 top-k)
+     * 질의 임베딩에 ML 호출이 포함되므로 트랜잭션을 잡지 않는다. (질문 색인은 백그라운드에서 진행)
+     * 벡터 저장소를 쓰지 않도록 설정된 경우 키워드 검색 결과를 반환한다.
+     */
+    public List<QuestionResponse> searchSimilarQuestions(String query, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, 50));
+        if (!semanticVectorIndex.isEnabled()) {
+            return questionRepository.findQuestionsByFilters(null, null, null, query, PageRequest.of(0, safeLimit))
+                    .map(interviewMapper::toQuestionResponse)
+                    .getContent();
+        }
+
+        return semanticVectorIndex.searchSimilarQuestions(query, safeLimit).stream()
+                .map(interviewMapper::toQuestionResponse)
+                .toList();
+    }
+
     @Transactional
     public void toggleFavoriteQuestion(Integer userId, Integer questionId) {
         User user = userRepository.findById(userId)
@@ -341,6 +529,27 @@ public class InterviewService {
                 .orElseThrow(() -> new QuestionNotFoundException(questionId));
     }
 
+    /**
+     * 질문 답변 평가의 ML 호출 우선순위 (실전 모드 면접은 최우선, 사용자는 면접 세션 소유자)
+     */
+    @Transactional(readOnly = true)
+    public MlCallContext getEvaluationContext(Integer questionId) {
+        return evaluationContext(getQuestionById(questionId));
+    }
+
+    /**
+     * 질문이 속한 면접 세션의 이력서 내용 (ML 요청용 요약본, 없으면 빈 문자열)
+     */
+    @Transactional(readOnly = true)
+    public String getResumeContentForQuestion(Integer questionId) {
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new QuestionNotFoundException(questionId));
+
+        InterviewSession session = question.getInterviewSession();
+        String digest = session != null ? resumeDigester.digestOf(session.getResume()) : null;
+        return digest != null ? digest : "";
+    }
+
     /**
      * 면접에 질문 추가 (DTO 반환)
      */
@@ -355,6 +564,7 @@ public class InterviewService {
         question.setSequence(getNextQuestionSequence(interviewId));
 
         Question savedQuestion = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionsSavedEvent.of(List.of(savedQuestion)));
         log.info("질문 추가 완료 - 질문 ID: {}, 순서: {}", savedQuestion.getId(), savedQuestion.getSequence());
 
         return interviewMapper.toQuestionResponse(savedQuestion);
@@ -386,6 +596,84 @@ public class InterviewService {
         log.info("답변 평가 저장 완료 - 평가 ID: {}", evalEntity.getId());
     }
 
+    /**
+     * 면접 세션의 답변들을 일괄 평가 요청 항목으로 변환
+     * 반환 Map은 답변 ID -> 평가 요청 항목이며 질문 순서를 유지한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, EvaluationBatcher.EvaluationItem> getAnswersForEvaluation(Integer interviewId) {
+        InterviewSession session = interviewSessionRepository.findById(interviewId)
+                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId));
+
+        Resume resume = session.getResume();
+        String resumeDigest = resumeDigester.digestOf(resume);
+        String resumeContent = resumeDigest != null ? resumeDigest : "";
+
+        Map<Integer, EvaluationBatcher.EvaluationItem> items = new LinkedHashMap<>();
+        for (Question question : questionRepository.findByInterviewSessionOrderBySequenceAsc(session)) {
+            Answer answer = question.getAnswer();
+            if (answer == null || answer.getContent() == null) {
+                continue;
+            }
+            items.put(answer.getId(), new EvaluationBatcher.EvaluationItem(
+                    question.getContent(), answer.getContent(), resumeContent, ""));
+        }
+
+        log.info("면접 {} 일괄 평가 대상 답변 {}건", interviewId, items.size());
+        return items;
+    }
+
+    /**
+     * 일괄 평가 결과 저장 (답변별 기존 평가가 있으면 갱신)
+     *
+     * @param failedAnswerIds 평가에 실패한 답변 (저장하지 않고 FAILED 항목으로만 응답에 포함)
+     */
+    @Transactional
+    public List<AnswerEvaluationResponse> saveAnswerEvaluations(Map<Integer, AnswerEvaluation> evaluations,
+                                                                List<Integer> failedAnswerIds) {
+        List<AnswerEvaluationResponse> responses = new ArrayList<>();
+
+        for (Map.Entry<Integer, AnswerEvaluation> entry : evaluations.entrySet()) {
+            Answer answer = answerRepository.findById(entry.getKey())
+                    .orElseThrow(() -> new AnswerNotFoundException(entry.getKey()));
+            AnswerEvaluation evaluationDto = entry.getValue();
+
+            AnswerEvaluation evalEntity = answerEvaluationRepository.findByAnswer(answer)
+                    .orElseGet(() -> AnswerEvaluation.builder().answer(answer).build());
+            evalEntity.setRelevance(evaluationDto.getRelevance());
+            evalEntity.setSpecificity(evaluationDto.getSpecificity());
+            evalEntity.setPracticality(evaluationDto.getPracticality());
+            evalEntity.setValidity(evaluationDto.getValidity());
+            evalEntity.setTotalScore(evaluationDto.getTotalScore());
+            evalEntity.setFeedback(evaluationDto.getFeedback());
+            evalEntity.setEvaluationType("AI_FASTAPI");
+
+            AnswerEvaluation saved = answerEvaluationRepository.save(evalEntity);
+            responses.add(AnswerEvaluationResponse.builder()
+                    .id(saved.getId())
+                    .answerId(answer.getId())
+                    .relevance(saved.getRelevance())
+                    .specificity(saved.getSpecificity())
+                    .practicality(saved.getPracticality())
+                    .validity(saved.getValidity())
+                    .totalScore(saved.getTotalScore())
+                    .feedback(saved.getFeedback())
+                    .evaluationType(saved.getEvaluationType())
+                    .build());
+        }
+
+        for (Integer failedAnswerId : failedAnswerIds) {
+            responses.add(AnswerEvaluationResponse.builder()
+                    .answerId(failedAnswerId)
+                    .feedback("AI 평가에 실패했습니다. 잠시 후 다시 시도해주세요.")
+                    .evaluationType("FAILED")
+                    .build());
+        }
+
+        log.info("일괄 평가 저장 완료 - {}건 (실패 {}건)", evaluations.size(), failedAnswerIds.size());
+        return responses;
+    }
+
     /**
      * 면접 시뮬레이션 결과 저장
      */
@@ -509,6 +797,34 @@ public class InterviewService {
         return positionRepository.save(defaultPosition);
     }
 
+    /**
+     * 유저/이력서/포지션을 확인하고 질문 없는 세션 저장
+     */
+    private InterviewSession saveNewSession(Integer userId, CreateInterviewRequest request) {
+        // 유저, 이력서, 포지션 처리
+        User user = getOrCreateUser(userId);
+        Resume resume = getOrCreateResume(request.getResumeId());
+        Position position = getOrCreatePosition(request.getPositionId());
+
+        // 세션 생성 (질문 없이)
+        String shareUrl = UUID.randomUUID().toString();
+        InterviewSession interviewSession = InterviewSession.builder()
+                .user(user)
+                .resume(resume)
+                .position(position)
+                .type(request.getType())
+                .mode(request.getMode())
+                .status(InterviewStatus.SCHEDULED)
+                .startTime(LocalDateTime.now())
+                .shareUrl(shareUrl)
+                .questionCount(request.getQuestionCount())
+                .currentQuestionIndex(0)
+                .totalTimeSeconds(0)
+                .build();
+
+        return interviewSessionRepository.save(interviewSession);
+    }
+
     /**
      * 질문 생성 또는 조회
      */
@@ -528,7 +844,7 @@ public class InterviewService {
         // 2. 연습 모드인 경우
         if (InterviewMode.PRACTICE.equals(request.getMode())) {
             log.info("연습 모드 - 랜덤 질문 조회");
-            questions = questionRepository.findRandomQuestions(
+            questions = questionSampler.sample(
                     request.getType().toString(),
                     request.getQuestionCount());
 
@@ -539,11 +855,27 @@ public class InterviewService {
             return questions;
         }
 
-        // 3. 실전 모드: LLM 서버 연동
+        // 3. 실전 모드: 이력서 저장 시 미리 생성해 둔 질문이 있으면 사용
+        Optional<List<Question>> pregenerated = takePregeneratedQuestions(resume, position, request.getQuestionCount());
+        if (pregenerated.isPresent()) {
+            return pregenerated.get();
+        }
+
+        // 4. 실전 모드: LLM 서버 연동
         log.info("실전 모드 - LLM 서비스로 질문 생성");
         return generateQuestionsWithLlm(resume, position, request.getQuestionCount());
     }
 
+    /**
+     * 사전 생성 질문 풀 조회 (현재 이력서 내용으로 생성된 질문만 사용)
+     */
+    private Optional<List<Question>> takePregeneratedQuestions(Resume resume, Position position, int questionCount) {
+        if (resume == null || position == null) {
+            return Optional.empty();
+        }
+        return pregeneratedQuestionPool.take(resume.getId(), position.getId(), resume.getContent(), questionCount);
+    }
+
     /**
      * LLM 서비스를 통한 질문 생성 (FastAPI 연동)
      */
@@ -564,7 +896,7 @@ public class InterviewService {
             log.error("LLM 서비스 질문 생성 실패: {}. 폴백 처리 시작", e.getMessage());
 
             // 폴백: 랜덤 질문 사용
-            List<Question> fallbackQuestions = questionRepository.findRandomQuestions("TECHNICAL", questionCount);
+            List<Question> fallbackQuestions = questionSampler.sample(QuestionType.TECHNICAL, questionCount);
 
             if (fallbackQuestions.isEmpty()) {
                 // 최후 수단: 하드코딩된 기본 질문
@@ -627,4 +959,80 @@ public class InterviewService {
         Integer maxSequence = questionRepository.findMaxSequenceByInterviewId(interviewId);
         return maxSequence != null ? maxSequence + 1 : 1;
     }
-}
\ No newline at end of file
+
+    /**
+     * 정렬이 없거나 ID 정렬뿐인지 (역색인 결과는 ID 순이므로 그대로 페이지를 나눌 수 있다)
+     */
+    private boolean isIdOrderOnly(Pageable pageable) {
+        return pageable.getSort().stream().allMatch(order -> "id".equals(order.getProperty()));
+    }
+
+    /**
+     * 역색인 검색 결과(ID 오름차순)에서 요청한 페이지의 질문만 기본키로 조회
+     */
+    private Page<QuestionResponse> pageOfQuestions(List<Integer> matchedIds, Pageable pageable) {
+        List<Integer> ordered = matchedIds;
+        Sort.Order idOrder = pageable.getSort().getOrderFor("id");
+        if (idOrder != null && idOrder.isDescending()) {
+            ordered = new ArrayList<>(matchedIds);
+            Collections.reverse(ordered);
+        }
+
+        List<Integer> pageIds = pageable.isUnpaged()
+                ? ordered
+                : ordered.subList(
+                        (int) Math.min(pageable.getOffset(), ordered.size()),
+                        (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ordered.size()));
+
+        Map<Integer, Question> found = questionRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Question::getId, question -> question));
+        List<QuestionResponse> responses = pageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(interviewMapper::toQuestionResponse)
+                .collect(Collectors.toList());
+        return new PageImpl<>(responses, pageable, ordered.size());
+    }
+
+    /**
+     * 질문들을 세션에 1번부터 순서대로 붙여 한 번에 저장
+     * 질문 ID는 테이블 생성기에서 미리 받아 두므로 INSERT는 플러시 시점에 JDBC 배치로 나간다.
+     */
+    private List<Question> saveQuestionsInOrder(InterviewSession session, List<Question> questions) {
+        int sequence = 1;
+        for (Question question : questions) {
+            question.setInterviewSession(session);
+            question.setSequence(sequence++);
+        }
+        List<Question> savedQuestions = questionRepository.saveAll(questions);
+        eventPublisher.publishEvent(QuestionsSavedEvent.of(savedQuestions));
+        return savedQuestions;
+    }
+
+    /**
+     * sequence가 1부터 연속이 아닌 경우(질문 삭제 등)를 위한 목록 순서 기준 조회
+     * 예외를 던지면 트랜잭션이 롤백되어 앞서 전진시킨 커서도 되돌려진다.
+     */
+    private Question findQuestionByPosition(Integer interviewId) {
+        int index = interviewSessionRepository.findCurrentQuestionIndex(interviewId)
+                .orElseThrow(() -> new InterviewSessionNotFoundException(interviewId)) - 1;
+        return findQuestionByPosition(interviewId, index);
+    }
+
+    private Question findQuestionByPosition(Integer interviewId, int index) {
+        List<Question> questions = questionRepository.findByInterviewSessionIdOrderBySequence(interviewId);
+        if (questions.isEmpty()) {
+            throw new QuestionNotFoundException("error.question.not.found", "면접에 등록된 질문이 없습니다");
+        }
+        if (index >= questions.size()) {
+            throw new QuestionIndexOutOfBoundsException(index, questions.size());
+        }
+        return questions.get(index);
+    }
+
+    private MlCallContext evaluationContext(Question question) {
+        InterviewSession session = question.getInterviewSession();
+        MlPriority priority = session.getMode() == InterviewMode.REAL ? MlPriority.LIVE_INTERVIEW : MlPriority.STANDARD;
+        return MlCallContext.of(priority, session.getUser() != null ? session.getUser().getId() : null);
+    }
+}
@@ -0,0 +1,394 @@
+package dev.swote.interv.service.interview;
+
+import com.google.common.util.concurrent.Striped;
+import dev.swote.interv.domain.interview.entity.InterviewSession;
+import dev.swote.interv.domain.interview.entity.InterviewStatus;
+import dev.swote.interv.domain.interview.repository.InterviewSessionRepository;
+import dev.swote.interv.exception.InterviewStateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * 진행 중(IN_PROGRESS) 면접 세션의 질문 커서/진행 시간 메모리 캐시 (write-behind)
+ * - 면접 중에는 다음 질문 조회, 진행 시간 갱신이 초 단위로 반복되므로 매번 세션을 읽고 쓰지 않고 메모리에서 처리한다.
+ * - 세션마다의 변경은 Striped 잠금으로 직렬화한다. (세션 수와 상관없이 잠금 개수가 고정)
+ * - 변경된 세션은 flush-interval마다 tb_interview_session에 JDBC 배치 UPDATE로 반영하고,
+ *   면접 완료 시에는 완료 트랜잭션에서 함께 저장한다. (beginCompletion)
+ *   완료 트랜잭션이 커밋될 때까지는 항목을 완료 중(tombstone)으로 남겨, 아직 IN_PROGRESS인 DB 행을 다시 읽어 오거나
+ *   완료 전 값을 응답에 덮어쓰지 않게 한다. 커밋되면 제거하고 롤백되면 되살린다.
+ * - 재기동/장애 시에는 마지막으로 반영된 DB 값에서 이어간다. (최대 flush-interval 동안의 진행분은 다시 진행될 수 있다)
+ *   정상 종료 시에는 남은 변경을 모두 반영한다.
+ * - 캐시는 인스턴스별이므로 기본값은 꺼져 있다. 단일 인스턴스이거나 면접 ID 기준 고정 라우팅일 때만 켠다.
+ *   (라우팅 없이 여러 인스턴스에서 켜면 다른 인스턴스의 이전 커서가 나중에 반영되어 진행분을 덮어쓸 수 있다)
+ * - 지표: interview.session-state.size, interview.session-state.dirty
+ */
+@Slf4j
+@Component
+public class InterviewSessionStateCache {
+
+    // 완료 등으로 상태가 바뀐 세션에는 늦게 도착한 반영을 쓰지 않는다
+    private static final String FLUSH_SQL = "UPDATE tb_interview_session " +
+            "SET current_question_index = ?, total_time_seconds = ?, updated_at = ? " +
+            "WHERE id = ? AND status = 'IN_PROGRESS'";
+
+    private final InterviewSessionRepository interviewSessionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration flushInterval;
+    private final Duration idleTimeout;
+
+    private final Striped<Lock> locks;
+    private final ConcurrentMap<Integer, SessionState> states = new ConcurrentHashMap<>();
+    private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "interview-session-state-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InterviewSessionStateCache(
+            InterviewSessionRepository interviewSessionRepository,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${interview.session-state.enabled:false}") boolean enabled,
+            @Value("${interview.session-state.flush-interval:1s}") Duration flushInterval,
+            @Value("${interview.session-state.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${interview.session-state.lock-stripes:64}") int lockStripes
+    ) {
+        this.interviewSessionRepository = interviewSessionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.flushInterval = flushInterval;
+        this.idleTimeout = idleTimeout;
+        this.locks = Striped.lock(Math.max(1, lockStripes));
+
+        meterRegistry.gauge("interview.session-state.size", states, ConcurrentMap::size);
+        meterRegistry.gauge("interview.session-state.dirty", dirty, Set::size);
+    }
+
+    @PostConstruct
+    public void startFlusher() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flushSafely,
+                    flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        if (enabled) {
+            flushSafely();
+        }
+    }
+
+    /**
+     * 질문 커서 전진
+     *
+     * @return 전진 후 커서 (= 내보낼 질문의 sequence). 진행 중인 세션이 아니면 empty (호출 측에서 DB로 처리)
+     * @throws InterviewStateException 질문을 모두 소진한 경우
+     */
+    public OptionalInt advanceCursor(Integer interviewId) {
+        if (!enabled) {
+            return OptionalInt.empty();
+        }
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        try {
+            SessionState state = stateOf(interviewId);
+            if (state == null) {
+                return OptionalInt.empty();
+            }
+            if (state.completing) {
+                throw new InterviewStateException("면접이 종료되고 있습니다");
+            }
+            if (state.questionCount == null || state.currentQuestionIndex >= state.questionCount) {
+                throw new InterviewStateException("더 이상 사용 가능한 질문이 없습니다");
+            }
+            state.currentQuestionIndex++;
+            markDirty(state);
+            return OptionalInt.of(state.currentQuestionIndex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * advanceCursor로 전진시킨 커서 되돌리기 (질문 조회 실패 시)
+     * 그 사이 다른 요청이 더 전진시켰으면 되돌리지 않는다.
+     */
+    public void retreatCursor(Integer interviewId, int advancedTo) {
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        try {
+            SessionState state = states.get(interviewId);
+            if (state != null && !state.completing && state.currentQuestionIndex == advancedTo) {
+                state.currentQuestionIndex--;
+                markDirty(state);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 진행 시간 갱신
+     *
+     * @return 캐시에서 처리했으면 true, 진행 중인 세션이 아니면 false (호출 측에서 DB로 처리)
+     */
+    public boolean updateTime(Integer interviewId, Integer timeInSeconds) {
+        if (!enabled) {
+            return false;
+        }
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        try {
+            SessionState state = stateOf(interviewId);
+            if (state == null) {
+                return false;
+            }
+            if (state.completing) {
+                throw new InterviewStateException("면접이 종료되고 있습니다");
+            }
+            state.totalTimeSeconds = timeInSeconds;
+            markDirty(state);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 있는 세션 상태 (아직 DB에 반영되지 않았을 수 있는 최신 값, DB는 읽지 않는다)
+     * 완료 중인 세션은 완료 트랜잭션이 값을 저장하므로 반환하지 않는다.
+     */
+    public Optional<Snapshot> peek(Integer interviewId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        try {
+            return Optional.ofNullable(states.get(interviewId))
+                    .filter(state -> !state.completing)
+                    .map(SessionState::snapshot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 면접 완료 시작. 현재 트랜잭션 안에서 호출하며, 반환한 값을 완료 트랜잭션에서 함께 저장한다.
+     * 커밋될 때까지 항목을 완료 중으로 표시해 커서 전진/시간 갱신/DB 재조회/peek 반영을 막는다.
+     *
+     * @return 캐시에만 있던 커서/진행 시간 (캐시에 없으면 empty)
+     */
+    public Optional<Snapshot> beginCompletion(Integer interviewId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        SessionState state;
+        boolean cached;
+        try {
+            state = states.get(interviewId);
+            if (state != null && state.completing) {
+                // 이미 다른 완료 트랜잭션이 진행 중
+                return Optional.empty();
+            }
+            cached = state != null;
+            if (state == null) {
+                // 캐시에 없어도 커밋 전에 DB에서 다시 읽어 오지 않도록 빈 항목을 남긴다
+                state = new SessionState(interviewId, null, 0, null);
+                states.put(interviewId, state);
+            }
+            state.completing = true;
+            dirty.remove(interviewId);
+        } finally {
+            lock.unlock();
+        }
+
+        SessionState completing = state;
+        boolean restorable = cached;
+        afterCompletion(interviewId, committed -> {
+            if (committed || !restorable) {
+                states.remove(interviewId, completing);
+            } else {
+                // 완료가 롤백되면 메모리의 진행분을 잃지 않도록 되살려 다시 반영
+                completing.completing = false;
+                markDirty(completing);
+            }
+        });
+        return cached ? Optional.of(state.snapshot()) : Optional.empty();
+    }
+
+    /**
+     * 변경된 세션을 DB에 반영하고 오래 쓰이지 않은 세션을 캐시에서 제거
+     */
+    public void flush() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Integer interviewId : dirty) {
+            dirty.remove(interviewId);
+            Lock lock = locks.get(interviewId);
+            lock.lock();
+            try {
+                SessionState state = states.get(interviewId);
+                if (state != null && !state.completing) {
+                    snapshots.add(state.snapshot());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        if (!snapshots.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, snapshots.stream()
+                        .map(snapshot -> new Object[]{
+                                snapshot.currentQuestionIndex(), snapshot.totalTimeSeconds(), now, snapshot.interviewId()})
+                        .toList());
+                log.debug("면접 세션 상태 반영 - {}건", snapshots.size());
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 반영
+                snapshots.forEach(snapshot -> dirty.add(snapshot.interviewId()));
+                throw e;
+            }
+        }
+
+        evictIdle();
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 세션 잠금 안에서 호출. 캐시에 없으면 DB에서 읽고, 진행 중이 아니면 null
+     * 완료 중인 항목은 DB를 읽지 않고 그대로 반환한다. (호출 측에서 completing 확인)
+     */
+    private SessionState stateOf(Integer interviewId) {
+        SessionState state = states.get(interviewId);
+        if (state == null) {
+            InterviewSession session = interviewSessionRepository.findById(interviewId).orElse(null);
+            if (session == null || session.getStatus() != InterviewStatus.IN_PROGRESS) {
+                return null;
+            }
+            state = new SessionState(interviewId, session.getQuestionCount(),
+                    session.getCurrentQuestionIndex() != null ? session.getCurrentQuestionIndex() : 0,
+                    session.getTotalTimeSeconds());
+            states.put(interviewId, state);
+        }
+        state.lastAccessNanos = System.nanoTime();
+        return state;
+    }
+
+    private void markDirty(SessionState state) {
+        dirty.add(state.interviewId);
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤 세션 잠금 안에서 실행 (트랜잭션 밖이면 커밋된 것으로 보고 바로 실행)
+     */
+    private void afterCompletion(Integer interviewId, Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withLock(interviewId, () -> action.accept(true));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                withLock(interviewId, () -> action.accept(status == STATUS_COMMITTED));
+            }
+        });
+    }
+
+    private void withLock(Integer interviewId, Runnable action) {
+        Lock lock = locks.get(interviewId);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIdle() {
+        long idleBefore = System.nanoTime() - idleTimeout.toNanos();
+        for (SessionState candidate : states.values()) {
+            if (candidate.completing || candidate.lastAccessNanos - idleBefore >= 0
+                    || dirty.contains(candidate.interviewId)) {
+                continue;
+            }
+            Lock lock = locks.get(candidate.interviewId);
+            lock.lock();
+            try {
+                if (candidate.lastAccessNanos - idleBefore < 0 && !dirty.contains(candidate.interviewId)) {
+                    states.remove(candidate.interviewId, candidate);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("면접 세션 상태 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 세션 잠금 안에서만 읽고 쓴다
+     */
+    private static final class SessionState {
+        final Integer interviewId;
+        final Integer questionCount;
+        int currentQuestionIndex;
+        Integer totalTimeSeconds;
+        long lastAccessNanos = System.nanoTime();
+        // 완료 트랜잭션 커밋 대기 중 (tombstone)
+        boolean completing;
+
+        SessionState(Integer interviewId, Integer questionCount, int currentQuestionIndex, Integer totalTimeSeconds) {
+            this.interviewId = interviewId;
+            this.questionCount = questionCount;
+            this.currentQuestionIndex = currentQuestionIndex;
+            this.totalTimeSeconds = totalTimeSeconds;
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(interviewId, currentQuestionIndex, totalTimeSeconds);
+        }
+    }
+
+    public record Snapshot(Integer interviewId, int currentQuestionIndex, Integer totalTimeSeconds) {
+    }
+}
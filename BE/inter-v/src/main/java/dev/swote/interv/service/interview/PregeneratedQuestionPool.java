@@ -0,0 +1,145 @@
+package dev.swote.interv.service.interview;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사전 생성 질문 풀
+ * - 키: (이력서 ID, 포지션 ID). 값에는 생성 당시 이력서 내용의 해시를 함께 저장한다.
+ * - 조회 시 현재 이력서 내용의 해시와 다르면 이전 버전으로 만든 질문이므로 버리고 miss로 처리한다.
+ * - 같은 질문이 여러 면접에 반복되지 않도록 한 번 꺼낸 항목은 풀에서 제거한다.
+ * - 지표: interview.question-pool.lookups{result=hit|miss|stale}, interview.question-pool.size
+ */
+@Slf4j
+@Component
+public class PregeneratedQuestionPool {
+
+    private final Cache<PoolKey, Entry> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+
+    public PregeneratedQuestionPool(
+            MeterRegistry meterRegistry,
+            @Value("${interview.question-pool.ttl:12h}") Duration ttl,
+            @Value("${interview.question-pool.max-size:500}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+
+        this.hitCounter = meterRegistry.counter("interview.question-pool.lookups", "result", "hit");
+        this.missCounter = meterRegistry.counter("interview.question-pool.lookups", "result", "miss");
+        this.staleCounter = meterRegistry.counter("interview.question-pool.lookups", "result", "stale");
+        meterRegistry.gauge("interview.question-pool.size", cache, Cache::estimatedSize);
+    }
+
+    /**
+     * 사전 생성된 질문 꺼내기
+     * 현재 이력서 내용으로 만든 질문이 count개 이상 있을 때만 반환하며, 반환한 항목은 풀에서 제거된다.
+     */
+    public Optional<List<Question>> take(Integer resumeId, Integer positionId, String resumeContent, int count) {
+        if (resumeId == null || positionId == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        PoolKey key = new PoolKey(resumeId, positionId);
+        Entry entry = cache.asMap().remove(key);
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        if (!entry.contentHash().equals(contentHash(resumeContent))) {
+            log.debug("이전 이력서 버전으로 생성된 사전 질문 폐기 - 이력서: {}, 포지션: {}", resumeId, positionId);
+            staleCounter.increment();
+            return Optional.empty();
+        }
+        if (entry.templates().size() < count) {
+            // 요청보다 적게 생성된 항목은 다음 요청을 위해 되돌려 둔다
+            cache.asMap().putIfAbsent(key, entry);
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        log.info("사전 생성 질문 사용 - 이력서: {}, 포지션: {}, 질문 수: {}", resumeId, positionId, count);
+        return Optional.of(entry.templates().stream()
+                .limit(count)
+                .map(QuestionTemplate::toQuestion)
+                .toList());
+    }
+
+    public void put(Integer resumeId, Integer positionId, String resumeContent, List<Question> questions) {
+        List<QuestionTemplate> templates = questions.stream()
+                .map(QuestionTemplate::from)
+                .toList();
+        cache.put(new PoolKey(resumeId, positionId), new Entry(contentHash(resumeContent), templates));
+    }
+
+    /**
+     * 이력서의 모든 사전 생성 질문 제거 (이력서 수정/삭제 시)
+     */
+    public void evictResume(Integer resumeId) {
+        if (resumeId == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.resumeId().equals(resumeId));
+    }
+
+    public boolean contains(Integer resumeId, Integer positionId) {
+        return cache.getIfPresent(new PoolKey(resumeId, positionId)) != null;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private String contentHash(String resumeContent) {
+        return Hashing.sha256()
+                .hashString(resumeContent != null ? resumeContent : "", StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private record PoolKey(Integer resumeId, Integer positionId) {
+    }
+
+    private record Entry(String contentHash, List<QuestionTemplate> templates) {
+    }
+
+    private record QuestionTemplate(String content, QuestionType type, String category, Integer difficultyLevel) {
+
+        static QuestionTemplate from(Question question) {
+            return new QuestionTemplate(
+                    question.getContent(),
+                    question.getType(),
+                    question.getCategory(),
+                    question.getDifficultyLevel()
+            );
+        }
+
+        Question toQuestion() {
+            return Question.builder()
+                    .content(content)
+                    .type(type)
+                    .category(category)
+                    .difficultyLevel(difficultyLevel)
+                    .build();
+        }
+    }
+}
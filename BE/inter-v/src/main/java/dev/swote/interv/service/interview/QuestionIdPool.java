@@ -0,0 +1,105 @@
+package dev.swote.interv.service.interview;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 무작위 추출용 질문 ID 풀
+ * - ID를 정렬된 int 배열로 보관한다. (ID 1건당 4바이트, 100만 건이면 약 4MB)
+ * - 새 질문은 대부분 기존 ID보다 크므로 추가는 끝에 붙이는 O(1), 삭제는 이진 탐색 후 배열 이동이다.
+ * - k개 추출은 Floyd 알고리즘으로 풀 크기와 상관없이 O(k)이다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public class QuestionIdPool {
+
+    private int[] ids;
+    private int size;
+
+    /**
+     * @param sortedIds 오름차순으로 정렬된 ID (중복 없음)
+     */
+    public QuestionIdPool(int[] sortedIds) {
+        this.ids = sortedIds;
+        this.size = sortedIds.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * ID 추가 (이미 있으면 무시)
+     */
+    public void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            insertAt(-position - 1, id);
+            return;
+        }
+        insertAt(size, id);
+    }
+
+    /**
+     * ID 삭제 (없으면 무시)
+     */
+    public void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * 서로 다른 ID를 최대 count개 무작위 추출 (순서도 무작위)
+     * Floyd 알고리즘: j = n-k..n-1 마다 [0, j]에서 하나를 뽑고, 이미 뽑힌 위치면 j를 대신 고른다.
+     * 모든 k-부분집합이 같은 확률로 나온다.
+     */
+    public List<Integer> sample(int count, Random random) {
+        int k = Math.min(count, size);
+        if (k <= 0) {
+            return List.of();
+        }
+
+        Integer[] picked = new Integer[k];
+        Set<Integer> chosen = new HashSet<>(k * 2);
+        int picks = 0;
+        for (int j = size - k; j < size; j++) {
+            int position = random.nextInt(j + 1);
+            if (!chosen.add(position)) {
+                position = j;
+                chosen.add(j);
+            }
+            picked[picks++] = ids[position];
+        }
+
+        // Floyd 알고리즘은 집합만 균등하므로 순서는 따로 섞는다
+        for (int i = k - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            Integer temp = picked[i];
+            picked[i] = picked[swap];
+            picked[swap] = temp;
+        }
+        return Arrays.asList(picked);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void insertAt(int position, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(16, size + (size >> 1)));
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+}
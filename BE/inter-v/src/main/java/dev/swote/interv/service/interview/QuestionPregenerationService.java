@@ -0,0 +1,169 @@
+package dev.swote.interv.service.interview;
+
+import dev.swote.interv.domain.interview.repository.InterviewSessionRepository;
+import dev.swote.interv.domain.position.entity.Position;
+import dev.swote.interv.domain.position.repository.PositionRepository;
+import dev.swote.interv.domain.resume.entity.Resume;
+import dev.swote.interv.domain.resume.event.ResumeSavedEvent;
+import dev.swote.interv.domain.resume.repository.ResumeRepository;
+import dev.swote.interv.service.ai.LlmService;
+import dev.swote.interv.service.ai.MlCallContext;
+import dev.swote.interv.service.ai.MlCircuitBreaker;
+import dev.swote.interv.service.ai.MlGateway;
+import dev.swote.interv.service.ai.MlPriority;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이력서 저장 후 면접 질문 사전 생성
+ * - 이력서 생성/수정 트랜잭션이 커밋되면 사용자가 최근 면접을 본 포지션들에 대해 질문을 미리 생성해
+ *   PregeneratedQuestionPool에 넣어 둔다.
+ * - 사용자 요청보다 우선순위가 낮은 추측성 작업이므로, 대기열이 가득 차거나 ML 서킷이 닫혀 있지 않으면 건너뛴다.
+ */
+@Slf4j
+@Service
+public class QuestionPregenerationService {
+
+    private final ResumeRepository resumeRepository;
+    private final PositionRepository positionRepository;
+    private final InterviewSessionRepository interviewSessionRepository;
+    private final LlmService llmService;
+    private final MlCircuitBreaker circuitBreaker;
+    private final PregeneratedQuestionPool questionPool;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+    private final int questionCount;
+    private final int positionsPerResume;
+    private final ThreadPoolExecutor executor;
+
+    public QuestionPregenerationService(
+            ResumeRepository resumeRepository,
+            PositionRepository positionRepository,
+            InterviewSessionRepository interviewSessionRepository,
+            LlmService llmService,
+            MlCircuitBreaker circuitBreaker,
+            PregeneratedQuestionPool questionPool,
+            PlatformTransactionManager transactionManager,
+            @Value("${interview.question-pool.enabled:true}") boolean enabled,
+            @Value("${interview.question-pool.question-count:5}") int questionCount,
+            @Value("${interview.question-pool.positions-per-resume:2}") int positionsPerResume,
+            @Value("${interview.question-pool.queue-capacity:100}") int queueCapacity
+    ) {
+        this.resumeRepository = resumeRepository;
+        this.positionRepository = positionRepository;
+        this.interviewSessionRepository = interviewSessionRepository;
+        this.llmService = llmService;
+        this.circuitBreaker = circuitBreaker;
+        this.questionPool = questionPool;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.enabled = enabled;
+        this.questionCount = Math.max(1, questionCount);
+        this.positionsPerResume = Math.max(1, positionsPerResume);
+        // 대기열이 가득 차면 새 작업은 버린다 (사용자 요청에 영향을 주지 않도록)
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "question-pregeneration");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이력서 저장 커밋 후 호출. 이전 버전으로 만든 질문을 즉시 제거하고 사전 생성을 예약한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResumeSaved(ResumeSavedEvent event) {
+        questionPool.evictResume(event.resumeId());
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> pregenerate(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("질문 사전 생성 대기열 초과 - 이력서 {} 건너뜀", event.resumeId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void pregenerate(ResumeSavedEvent event) {
+        if (circuitBreaker.getState() != MlCircuitBreaker.State.CLOSED) {
+            log.debug("ML 서킷이 닫혀 있지 않아 질문 사전 생성 건너뜀 - 이력서: {}", event.resumeId());
+            return;
+        }
+
+        Target target;
+        try {
+            target = readOnlyTransaction.execute(status -> loadTarget(event));
+        } catch (Exception e) {
+            log.warn("질문 사전 생성 대상 조회 실패 - 이력서: {}, 원인: {}", event.resumeId(), e.getMessage());
+            return;
+        }
+        if (target == null || target.positions().isEmpty()) {
+            log.debug("질문 사전 생성 대상 포지션 없음 - 이력서: {}", event.resumeId());
+            return;
+        }
+
+        Resume resume = target.resume();
+        for (Position position : target.positions()) {
+            if (questionPool.contains(resume.getId(), position.getId())) {
+                continue;
+            }
+            try {
+                // 작업 스레드 하나로 순차 실행해 ML 서버에 사전 생성 요청이 몰리지 않게 한다
+                // 사전 생성은 면접 중 평가/일반 요청보다 낮은 우선순위로 스케줄링된다
+                questionPool.put(resume.getId(), position.getId(), resume.getContent(),
+                        MlGateway.await(MlCallContext.supplyWith(MlCallContext.of(MlPriority.PREGENERATION, event.userId()),
+                                () -> llmService.generateInterviewQuestionsAsync(resume, position, questionCount))));
+                log.info("질문 사전 생성 완료 - 이력서: {}, 포지션: {}", resume.getId(), position.getName());
+            } catch (Exception e) {
+                log.warn("질문 사전 생성 실패 - 이력서: {}, 포지션: {}, 원인: {}",
+                        resume.getId(), position.getName(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private Target loadTarget(ResumeSavedEvent event) {
+        Resume resume = resumeRepository.findById(event.resumeId()).orElse(null);
+        if (resume == null || resume.getDeletedAt() != null) {
+            return null;
+        }
+
+        List<Integer> positionIds = interviewSessionRepository.findRecentPositionIds(
+                event.userId(), PageRequest.of(0, positionsPerResume));
+        List<Position> positions = positionRepository.findAllById(positionIds).stream()
+                .filter(position -> position.getName() != null && !position.getName().isBlank())
+                .toList();
+        return new Target(resume, positions);
+    }
+
+    private record Target(Resume resume, List<Position> positions) {
+    }
+}
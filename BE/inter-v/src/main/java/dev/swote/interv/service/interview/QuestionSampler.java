@@ -0,0 +1,147 @@
+package dev.swote.interv.service.interview;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+import dev.swote.interv.domain.interview.event.QuestionsSavedEvent;
+import dev.swote.interv.domain.interview.repository.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 질문 유형별 무작위 추출
+ * - ORDER BY RAND()는 유형이 같은 질문 전체를 읽고 정렬하므로, 유형별 ID 풀을 메모리에 두고
+ *   Floyd 알고리즘으로 k개를 뽑은 뒤 기본키로만 조회한다.
+ * - 풀은 처음 사용할 때 (type) 인덱스로 ID만 읽어 만들고, 이 서버에서 저장한 질문은 커밋 직후 추가한다.
+ * - 다른 인스턴스의 변경은 refresh-interval마다 백그라운드에서 다시 읽어 반영하며,
+ *   그 사이 삭제된 ID를 뽑으면 조회 결과에서 빠지므로 풀에서도 제거한다.
+ * - 지표: interview.question-sampler.size{type}
+ */
+@Slf4j
+@Component
+public class QuestionSampler {
+
+    private final QuestionRepository questionRepository;
+    private final LoadingCache<QuestionType, QuestionIdPool> pools;
+
+    public QuestionSampler(
+            QuestionRepository questionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${interview.question-sampler.refresh-interval:10m}") Duration refreshInterval
+    ) {
+        this.questionRepository = questionRepository;
+        this.pools = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshInterval)
+                .build(this::load);
+
+        for (QuestionType type : QuestionType.values()) {
+            meterRegistry.gauge("interview.question-sampler.size",
+                    List.of(Tag.of("type", type.name())), pools,
+                    cache -> {
+                        QuestionIdPool pool = cache.getIfPresent(type);
+                        return pool == null ? 0 : poolSize(pool);
+                    });
+        }
+    }
+
+    /**
+     * 유형 이름(QuestionType)으로 무작위 질문 추출
+     * 알 수 없는 이름이면 기존 쿼리(WHERE type = :type)와 같이 빈 목록을 반환한다.
+     */
+    public List<Question> sample(String typeName, int count) {
+        QuestionType type = Arrays.stream(QuestionType.values())
+                .filter(candidate -> candidate.name().equals(typeName))
+                .findFirst()
+                .orElse(null);
+        if (type == null) {
+            log.debug("알 수 없는 질문 유형 - {}", typeName);
+            return List.of();
+        }
+        return sample(type, count);
+    }
+
+    /**
+     * 서로 다른 질문을 최대 count개 무작위 추출 (순서도 무작위)
+     */
+    public List<Question> sample(QuestionType type, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        QuestionIdPool pool = pools.get(type);
+        List<Integer> ids;
+        synchronized (pool) {
+            ids = pool.sample(count, ThreadLocalRandom.current());
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Question> found = questionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+
+        List<Question> questions = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Question question = found.get(id);
+            if (question != null) {
+                questions.add(question);
+            } else {
+                // 다른 인스턴스에서 삭제된 질문
+                synchronized (pool) {
+                    pool.remove(id);
+                }
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * 이 서버에서 저장한 질문을 풀에 추가 (풀이 아직 없으면 처음 만들 때 함께 읽힌다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onQuestionsSaved(QuestionsSavedEvent event) {
+        event.questionIdsByType().forEach((type, ids) -> {
+            QuestionIdPool pool = pools.getIfPresent(type);
+            if (pool == null) {
+                return;
+            }
+            synchronized (pool) {
+                ids.forEach(pool::add);
+            }
+        });
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private QuestionIdPool load(QuestionType type) {
+        long start = System.nanoTime();
+        int[] ids = questionRepository.findIdsByType(type).stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        log.info("질문 ID 풀 로드 - 유형: {}, {}개, {}ms", type, ids.length, (System.nanoTime() - start) / 1_000_000);
+        return new QuestionIdPool(ids);
+    }
+
+    private static int poolSize(QuestionIdPool pool) {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+}
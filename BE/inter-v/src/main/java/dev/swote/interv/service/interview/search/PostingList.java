@@ -0,0 +1,139 @@
+package dev.swote.interv.service.interview.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트
+ * - 오름차순 질문 ID를 이전 ID와의 차이(delta)로 바꿔 varint(7비트 단위, 최상위 비트 = 다음 바이트 있음)로 저장한다.
+ * - 연속 ID가 많은 색인에서는 ID 1건당 1~2바이트면 된다.
+ * - 가장 큰 ID보다 큰 ID 추가는 끝에 붙이고, 그 외의 추가/삭제는 풀어서 다시 압축한다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ */
+public class PostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int count;
+    private int last;
+
+    public int size() {
+        return count;
+    }
+
+    public void add(int id) {
+        if (count > 0 && id <= last) {
+            if (id == last) {
+                return;
+            }
+            int[] ids = toArray();
+            int position = Arrays.binarySearch(ids, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            int[] merged = new int[ids.length + 1];
+            System.arraycopy(ids, 0, merged, 0, position);
+            merged[position] = id;
+            System.arraycopy(ids, position, merged, position + 1, ids.length - position);
+            encode(merged, merged.length);
+            return;
+        }
+        append(id);
+    }
+
+    public void remove(int id) {
+        if (count == 0 || id > last) {
+            return;
+        }
+        int[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position, ids.length - position - 1);
+        encode(ids, ids.length - 1);
+    }
+
+    public int[] toArray() {
+        int[] ids = new int[count];
+        int offset = 0;
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte value;
+            do {
+                value = bytes[offset++];
+                delta |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            previous += delta;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    /**
+     * 정렬된 후보 ID 중 이 리스트에도 있는 것만 남김 (병합 방식, 후보 배열 앞부분에 결과를 쓰고 개수를 반환)
+     */
+    public int retainAll(int[] candidates, int candidateCount) {
+        int offset = 0;
+        int previous = 0;
+        int decoded = 0;
+        int kept = 0;
+        int current = -1;
+        for (int i = 0; i < candidateCount; i++) {
+            int candidate = candidates[i];
+            while (current < candidate && decoded < count) {
+                int delta = 0;
+                int shift = 0;
+                byte value;
+                do {
+                    value = bytes[offset++];
+                    delta |= (value & 0x7F) << shift;
+                    shift += 7;
+                } while (value < 0);
+                previous += delta;
+                current = previous;
+                decoded++;
+            }
+            if (current == candidate) {
+                candidates[kept++] = candidate;
+            } else if (current < candidate) {
+                break;
+            }
+        }
+        return kept;
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void append(int id) {
+        int delta = id - last;
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(length + 5, bytes.length + (bytes.length >> 1)));
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+        last = id;
+        count++;
+    }
+
+    private void encode(int[] ids, int idCount) {
+        bytes = new byte[Math.max(4, idCount * 2)];
+        length = 0;
+        count = 0;
+        last = 0;
+        for (int i = 0; i < idCount; i++) {
+            append(ids[i]);
+        }
+        if (bytes.length > length * 2 && bytes.length > 16) {
+            bytes = Arrays.copyOf(bytes, length);
+        }
+    }
+}
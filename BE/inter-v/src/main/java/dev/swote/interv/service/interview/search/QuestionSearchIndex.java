@@ -0,0 +1,400 @@
+package dev.swote.interv.service.interview.search;
+
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+import dev.swote.interv.domain.interview.repository.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 질문 검색용 메모리 역색인
+ * - 질문 내용/카테고리/세부 카테고리를 소문자 + 공백 정리 후 한 글자(unigram)와 두 글자(bigram) 단위로 색인한다.
+ *   한국어는 띄어쓰기/조사와 상관없이 부분 문자열로 찾는 경우가 많아 형태소 대신 n-gram을 쓴다.
+ * - 포스팅은 ID delta + varint로 압축한 PostingList이며, 검색어의 n-gram 포스팅을 작은 것부터 교집합한 뒤
+ *   유형/난이도/카테고리 필터와 원문 포함 여부를 확인하므로 결과는 내용/카테고리/세부 카테고리 중 하나에 대한
+ *   LIKE '%keyword%' (대소문자 무시)와 같다. (DB 검색은 내용만 보므로 카테고리 이름으로 찾은 질문이 더 나올 수 있다)
+ * - 기동 후 DB에서 ID 순으로 만들고, 이 인스턴스의 변경은 JPA 엔티티 리스너(QuestionSearchIndexListener)가 커밋 후 반영한다.
+ *   처음 만드는 중에는 검색을 맡지 않으므로(empty) 호출 측은 DB 검색을 사용한다.
+ * - 다른 인스턴스의 변경은 리스너로 들어오지 않으므로 catch-up-interval마다 마지막으로 읽은 ID 이후 질문을 추가하고,
+ *   refresh-interval마다 전체를 새로 만들어 교체한다. (수정/삭제는 최대 refresh-interval만큼 늦게 반영된다)
+ * - 원문 확인을 위해 질문마다 정규화한 검색 대상 문자열을 함께 보관한다. (질문 수 x 평균 길이만큼 메모리 사용)
+ * - 지표: interview.question-search.documents
+ */
+@Slf4j
+@Component
+public class QuestionSearchIndex {
+
+    private static final char FIELD_SEPARATOR = '\n';
+
+    private final QuestionRepository questionRepository;
+    private final boolean enabled;
+    private final int rebuildBatchSize;
+    private final Duration catchUpInterval;
+    private final Duration refreshInterval;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 다시 만들 때 새 맵으로 교체한다 (잠금 안에서만 읽고 쓴다)
+    private Map<Integer, PostingList> postings = new HashMap<>();
+    private Map<Integer, Document> documents = new HashMap<>();
+    // 마지막으로 DB에서 읽은 질문 ID (catch-up 시작점)
+    private volatile int indexedCursor;
+
+    // 색인 생성/catch-up은 이 스레드에서만 실행되어 서로 겹치지 않는다
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "question-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 다시 만드는 중에 리스너가 반영한 질문 (DB에서 읽은 이전 상태로 덮어쓰지 않도록 건너뛴다)
+    private final Set<Integer> touchedDuringRebuild = new HashSet<>();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public QuestionSearchIndex(
+            QuestionRepository questionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${interview.question-search.enabled:false}") boolean enabled,
+            @Value("${interview.question-search.rebuild-batch-size:1000}") int rebuildBatchSize,
+            @Value("${interview.question-search.catch-up-interval:30s}") Duration catchUpInterval,
+            @Value("${interview.question-search.refresh-interval:10m}") Duration refreshInterval
+    ) {
+        this.questionRepository = questionRepository;
+        this.enabled = enabled;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.catchUpInterval = catchUpInterval;
+        this.refreshInterval = refreshInterval;
+        meterRegistry.gauge("interview.question-search.documents", this, QuestionSearchIndex::documentCount);
+    }
+
+    /**
+     * 기동 완료 후 백그라운드에서 색인 생성 (기동 시간을 늘리지 않도록) 후 주기적으로 다른 인스턴스의 변경을 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.execute(() -> runSafely("생성", this::rebuild));
+        scheduler.scheduleWithFixedDelay(() -> runSafely("catch-up", this::catchUp),
+                catchUpInterval.toMillis(), catchUpInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("갱신", this::rebuild),
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * DB에서 색인을 새로 만들어 교체 (만드는 동안에는 기존 색인으로 검색한다)
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            touchedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, PostingList> nextPostings = new HashMap<>();
+        Map<Integer, Document> nextDocuments = new HashMap<>();
+        int cursor = 0;
+        try {
+            while (true) {
+                List<Question> batch = questionRepository.findByIdGreaterThanOrderByIdAsc(
+                        cursor, PageRequest.of(0, rebuildBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Question question : batch) {
+                    put(nextPostings, nextDocuments, question.getId(), documentOf(question));
+                }
+                cursor = batch.get(batch.size() - 1).getId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                // 만드는 동안 리스너가 반영한 질문은 DB에서 읽은 이전 상태 대신 현재 색인의 상태를 따른다
+                for (Integer questionId : touchedDuringRebuild) {
+                    Document current = documents.get(questionId);
+                    if (current != null) {
+                        put(nextPostings, nextDocuments, questionId, current);
+                    } else {
+                        delete(nextPostings, nextDocuments, questionId);
+                    }
+                }
+                postings = nextPostings;
+                documents = nextDocuments;
+                indexedCursor = cursor;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                touchedDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("질문 검색 색인 생성 완료 - 질문 {}개, n-gram {}개, {}ms",
+                nextDocuments.size(), nextPostings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 마지막으로 읽은 ID 이후 질문 추가 (다른 인스턴스에서 저장한 질문)
+     * 이미 색인된 질문은 리스너가 반영한 최신 상태일 수 있으므로 덮어쓰지 않는다.
+     */
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        int cursor = indexedCursor;
+        int added = 0;
+        while (true) {
+            List<Question> batch = questionRepository.findByIdGreaterThanOrderByIdAsc(
+                    cursor, PageRequest.of(0, rebuildBatchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Question question : batch) {
+                    if (!documents.containsKey(question.getId())) {
+                        put(postings, documents, question.getId(), documentOf(question));
+                        added++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            cursor = batch.get(batch.size() - 1).getId();
+        }
+
+        if (cursor != indexedCursor) {
+            indexedCursor = cursor;
+            log.debug("질문 검색 색인 catch-up - 추가 {}개, 커서: {}", added, cursor);
+        }
+    }
+
+    /**
+     * 질문 추가/수정 반영
+     */
+    public void index(Question question) {
+        if (!enabled || question.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                touchedDuringRebuild.add(question.getId());
+            }
+            put(postings, documents, question.getId(), documentOf(question));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질문 삭제 반영
+     */
+    public void remove(Integer questionId) {
+        if (!enabled || questionId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                touchedDuringRebuild.add(questionId);
+            }
+            delete(postings, documents, questionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드(필수) + 필터로 질문 ID 검색 (오름차순)
+     * 색인이 준비되지 않았거나 키워드가 비어 있으면 empty (호출 측에서 DB 검색 사용)
+     */
+    public Optional<List<Integer>> search(String keyword, String category, Integer difficultyLevel, QuestionType type) {
+        String normalizedKeyword = normalize(keyword);
+        if (!ready || normalizedKeyword.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (int key : grams(normalizedKeyword, normalizedKeyword.length() == 1)) {
+                PostingList list = postings.get(key);
+                if (list == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            // 가장 짧은 포스팅부터 교집합 (후보가 충분히 줄면 나머지는 원문 확인으로 대신한다)
+            int[] candidates = lists.get(0).toArray();
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.size() && candidateCount > 32; i++) {
+                candidateCount = lists.get(i).retainAll(candidates, candidateCount);
+            }
+
+            List<Integer> matched = new ArrayList<>();
+            for (int i = 0; i < candidateCount; i++) {
+                Document document = documents.get(candidates[i]);
+                if (document != null && document.matches(normalizedKeyword, category, difficultyLevel, type)) {
+                    matched.add(candidates[i]);
+                }
+            }
+            return Optional.of(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static Document documentOf(Question question) {
+        String text = normalize(question.getContent())
+                + FIELD_SEPARATOR + normalize(question.getCategory())
+                + FIELD_SEPARATOR + normalize(question.getSubCategory());
+        return new Document(text, question.getType(), question.getDifficultyLevel(), question.getCategory());
+    }
+
+    /**
+     * 현재 색인이면 쓰기 잠금 안에서 호출
+     */
+    private static void put(Map<Integer, PostingList> postings, Map<Integer, Document> documents,
+                            Integer questionId, Document document) {
+        delete(postings, documents, questionId);
+
+        documents.put(questionId, document);
+        for (int key : grams(document.text(), true)) {
+            postings.computeIfAbsent(key, k -> new PostingList()).add(questionId);
+        }
+    }
+
+    /**
+     * 현재 색인이면 쓰기 잠금 안에서 호출
+     */
+    private static void delete(Map<Integer, PostingList> postings, Map<Integer, Document> documents,
+                               Integer questionId) {
+        Document previous = documents.remove(questionId);
+        if (previous == null) {
+            return;
+        }
+        for (int key : grams(previous.text(), true)) {
+            PostingList list = postings.get(key);
+            if (list != null) {
+                list.remove(questionId);
+                if (list.size() == 0) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 중복 없는 n-gram 키 (한 글자: 문자 코드, 두 글자: 앞 글자 << 16 | 뒤 글자)
+     * 앞 글자는 0이 아니므로 두 글자 키의 상위 16비트가 항상 채워져 한 글자 키와 겹치지 않는다.
+     */
+    private static int[] grams(String text, boolean includeUnigrams) {
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (includeUnigrams) {
+                keys.add((int) current);
+            }
+            if (i + 1 < text.length()) {
+                keys.add((current << 16) | text.charAt(i + 1));
+            }
+        }
+        return keys.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 소문자 변환 + 제어 문자/연속 공백을 공백 하나로 정리
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isISOControl(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private void runSafely(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("질문 검색 색인 {} 실패 - 다음 주기에 다시 시도합니다 (그 전까지 {}): {}", task,
+                    ready ? "기존 색인 사용" : "DB 검색 사용", e.getMessage(), e);
+        }
+    }
+
+    private int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Document(String text, QuestionType type, Integer difficultyLevel, String category) {
+
+        boolean matches(String keyword, String categoryFilter, Integer difficultyFilter, QuestionType typeFilter) {
+            return (categoryFilter == null || categoryFilter.equals(category))
+                    && (difficultyFilter == null || difficultyFilter.equals(difficultyLevel))
+                    && (typeFilter == null || typeFilter == type)
+                    && text.contains(keyword);
+        }
+    }
+}
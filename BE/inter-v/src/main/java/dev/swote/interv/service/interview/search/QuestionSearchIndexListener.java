@@ -0,0 +1,66 @@
+package dev.swote.interv.service.interview.search;
+
+import dev.swote.interv.domain.interview.entity.Question;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 질문 엔티티 변경을 검색 색인에 반영하는 JPA 엔티티 리스너
+ * - 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 후에 반영한다.
+ * - Hibernate가 EntityManagerFactory를 만들면서 리스너를 생성하므로,
+ *   QuestionRepository에 의존하는 색인은 처음 사용할 때 찾는다. (순환 의존 방지)
+ */
+@Slf4j
+@Component
+public class QuestionSearchIndexListener {
+
+    private final ObjectProvider<QuestionSearchIndex> searchIndex;
+
+    public QuestionSearchIndexListener(ObjectProvider<QuestionSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Question question) {
+        afterCommit(() -> searchIndex.getObject().index(question));
+    }
+
+    @PostRemove
+    public void onRemoved(Question question) {
+        Integer questionId = question.getId();
+        afterCommit(() -> searchIndex.getObject().remove(questionId));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(action);
+            }
+        });
+    }
+
+    private void run(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // 색인 반영 실패로 요청을 실패시키지 않는다 (다음 재기동 때 DB에서 다시 만든다)
+            log.warn("질문 검색 색인 반영 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.swote.interv.service.resume;
 
 import dev.swote.interv.domain.resume.dto.*;
 import dev.swote.interv.domain.resume.entity.*;
+import dev.swote.interv.domain.resume.event.ResumeSavedEvent;
 import dev.swote.interv.domain.resume.mapper.ResumeMapper;
 import dev.swote.interv.domain.resume.repository.*;
 import dev.swote.interv.domain.user.entity.User;
@@ -9,8 +10,12 @@ import dev.swote.interv.domain.user.repository.UserRepository;
 import dev.swote.interv.exception.DuplicateResourceException;
 import dev.swote.interv.exception.ResourceNotFoundException;
 import dev.swote.interv.exception.UserNotFoundException;
+import dev.swote.interv.service.ai.QuestionCache;
+import dev.swote.interv.service.ai.ResumeDigester;
+import dev.swote.interv.service.interview.PregeneratedQuestionPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +37,10 @@ public class ResumeService {
     private final UserRepository userRepository;
     private final ResumeFileService resumeFileService;
     private final ResumeMapper resumeMapper;
+    private final QuestionCache questionCache;
+    private final ResumeDigester resumeDigester;
+    private final PregeneratedQuestionPool pregeneratedQuestionPool;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ResumeResponse getUserResume(Integer userId) {
@@ -87,6 +96,9 @@ public class ResumeService {
         // 자식 엔티티들 생성
         createChildEntities(resume, request);
 
+        // 커밋 후 질문 사전 생성
+        eventPublisher.publishEvent(new ResumeSavedEvent(resume.getId(), userId));
+
         // 응답 생성
         ResumeResponse response = resumeMapper.toResponse(resume);
         log.info("이력서 생성 완료 - ID: {}, 제목: {}", response.getId(), response.getTitle());
@@ -119,6 +131,7 @@ public class ResumeService {
                     .build();
 
             resume = resumeRepository.save(resume);
+            eventPublisher.publishEvent(new ResumeSavedEvent(resume.getId(), userId));
 
             ResumeResponse response = resumeMapper.toResponse(resume);
             log.info("이력서 파일 업로드 완료 - ID: {}, 파일: {}", response.getId(), file.getOriginalFilename());
@@ -151,6 +164,11 @@ public class ResumeService {
         // 자식 엔티티들 업데이트
         updateChildEntities(resume, request);
 
+        // 이전 이력서 내용으로 생성된 질문 캐시 제거 (사전 생성 질문은 커밋 후 새 내용으로 다시 생성)
+        questionCache.invalidateResume(resume.getId());
+        resumeDigester.invalidate(resume.getId());
+        eventPublisher.publishEvent(new ResumeSavedEvent(resume.getId(), userId));
+
         ResumeResponse response = resumeMapper.toResponse(resume);
         log.info("이력서 수정 완료 - 사용자 ID: {}, 제목: {}", userId, response.getTitle());
 
@@ -169,6 +187,9 @@ public class ResumeService {
 
         resume.delete();
         resumeRepository.save(resume);
+        questionCache.invalidateResume(resume.getId());
+        resumeDigester.invalidate(resume.getId());
+        pregeneratedQuestionPool.evictResume(resume.getId());
 
         log.info("사용자 {}의 이력서 삭제 완료", userId);
     }
@@ -188,6 +209,12 @@ public class ResumeService {
         // 자식 엔티티들 업데이트
         updateChildEntities(resume, request);
 
+        // 이전 이력서 내용으로 생성된 질문 캐시 제거 (사전 생성 질문은 커밋 후 새 내용으로 다시 생성)
+        questionCache.invalidateResume(resume.getId());
+        resumeDigester.invalidate(resume.getId());
+        eventPublisher.publishEvent(new ResumeSavedEvent(resume.getId(),
+                resume.getUser() != null ? resume.getUser().getId() : null));
+
         ResumeResponse response = resumeMapper.toResponse(resume);
         log.info("이력서 수정 완료 - ID: {}, 제목: {}", resumeId, response.getTitle());
 
@@ -203,6 +230,9 @@ public class ResumeService {
 
         resume.delete();
         resumeRepository.save(resume);
+        questionCache.invalidateResume(resume.getId());
+        resumeDigester.invalidate(resume.getId());
+        pregeneratedQuestionPool.evictResume(resume.getId());
 
         log.info("이력서 삭제 완료 - ID: {}", resumeId);
     }
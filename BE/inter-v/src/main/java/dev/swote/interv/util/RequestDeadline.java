@@ -0,0 +1,99 @@
+package dev.swote.interv.util;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 마감 시각 (현재 스레드 기준)
+ * - RequestDeadlineFilter가 요청 헤더나 엔드포인트별 기본값으로 설정하고 요청이 끝나면 제거한다.
+ * - ML 호출, DB 트랜잭션은 남은 시간만큼만 기다리고, 이미 지났으면 시작하지 않는다.
+ * - 스레드 로컬이므로 비동기 후속 작업에는 전달되지 않는다. 요청 스레드에서 호출을 시작하는 시점에 읽어야 한다.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 현재 스레드의 마감 시각, 없으면 null (배치 작업, 백그라운드 스레드 등)
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지정한 마감 시각(null이면 없음)으로 작업을 실행한 뒤 원래 값으로 되돌린다
+     */
+    public static <T> T supplyWith(RequestDeadline deadline, Supplier<T> supplier) {
+        RequestDeadline previous = CURRENT.get();
+        set(deadline);
+        try {
+            return supplier.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * 기본 제한 시간과 현재 요청의 남은 시간 중 짧은 쪽 (요청 마감이 없으면 기본값)
+     */
+    public static Duration timeoutOr(Duration defaultTimeout) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return defaultTimeout;
+        }
+        Duration remaining = deadline.remaining();
+        return remaining.compareTo(defaultTimeout) < 0 ? remaining : defaultTimeout;
+    }
+
+    /**
+     * 현재 요청의 마감 시각이 이미 지났는지 여부 (마감이 없으면 false)
+     */
+    public static boolean isCurrentExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 둘 중 늦은 마감 시각 (하나라도 마감이 없으면 null)
+     */
+    public static RequestDeadline latest(RequestDeadline left, RequestDeadline right) {
+        if (left == null || right == null) {
+            return null;
+        }
+        return left.deadlineNanos - right.deadlineNanos >= 0 ? left : right;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.swote.interv.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키의 비동기 작업 중복 실행 방지
+ * 같은 키로 진행 중인 작업이 있으면 새로 실행하지 않고 그 결과를 공유한다.
+ * 작업이 끝나면 키가 제거되므로 결과를 캐시하지는 않는다.
+ * 진행 중인 작업이 호출자보다 먼저 마감되면(RequestDeadline) 합류하지 않고 새로 실행하며,
+ * 이후 같은 키의 호출자는 마감이 늦은 새 작업에 합류한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @return 공유된 결과의 복사본 (호출자가 취소/완료해도 다른 호출자에게 영향이 없다)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> supplier) {
+        return execute(key, null, supplier, null);
+    }
+
+    /**
+     * @param onShared 진행 중인 작업에 합류했을 때 호출 (지표 기록용, null 허용)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> supplier, Runnable onShared) {
+        return execute(key, null, supplier, onShared);
+    }
+
+    /**
+     * @param deadline 이 호출자의 마감 시각 (null이면 없음). 진행 중인 작업의 마감이 이보다 이르면 합류하지 않는다.
+     * @param onShared 진행 중인 작업에 합류했을 때 호출 (지표 기록용, null 허용)
+     */
+    public CompletableFuture<V> execute(K key, RequestDeadline deadline, Supplier<CompletableFuture<V>> supplier,
+                                        Runnable onShared) {
+        Flight<V> flight = new Flight<>(new CompletableFuture<>(), deadline);
+        while (true) {
+            Flight<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (existing.outlasts(deadline)) {
+                if (onShared != null) {
+                    onShared.run();
+                }
+                return existing.promise().copy();
+            }
+            // 먼저 끝날 작업에 합류하면 그 마감에 맞춰 실패할 수 있으므로 새로 실행하고 합류 대상을 교체
+            if (inFlight.replace(key, existing, flight)) {
+                break;
+            }
+        }
+
+        CompletableFuture<V> source;
+        try {
+            source = supplier.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<V> promise = flight.promise();
+        source.whenComplete((value, throwable) -> {
+            // 완료 전에 키를 제거해 이후 호출은 새 작업을 시작하게 한다
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable;
+                promise.completeExceptionally(cause);
+            } else {
+                promise.complete(value);
+            }
+        });
+        return promise.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private record Flight<V>(CompletableFuture<V> promise, RequestDeadline deadline) {
+
+        /**
+         * 이 작업의 마감이 주어진 마감보다 이르지 않은지 (마감이 없으면 가장 늦은 것으로 본다)
+         */
+        boolean outlasts(RequestDeadline other) {
+            if (deadline == null) {
+                return true;
+            }
+            if (other == null) {
+                return false;
+            }
+            return RequestDeadline.latest(deadline, other) == deadline;
+        }
+    }
+}
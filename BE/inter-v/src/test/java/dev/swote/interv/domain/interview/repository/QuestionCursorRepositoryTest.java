@@ -0,0 +1,169 @@
+package dev.swote.interv.domain.interview.repository;
+
+import dev.swote.interv.domain.interview.entity.InterviewSession;
+import dev.swote.interv.domain.interview.entity.InterviewStatus;
+import dev.swote.interv.domain.interview.entity.Question;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 질문 커서(조건부 UPDATE + 커서 위치 조회) 검증
+ * - 동시 요청마다 자기 트랜잭션을 써야 하므로 테스트 트랜잭션은 끄고 직접 정리한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuestionCursorRepositoryTest {
+
+    @Autowired
+    private InterviewSessionRepository interviewSessionRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            questionRepository.deleteAllInBatch();
+            interviewSessionRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 커서를 전진시켜도 서로 다른 질문을 받는다")
+    void concurrentAdvanceReturnsDistinctQuestions() throws Exception {
+        int threads = 2;
+        Integer interviewId = createInterview(1, 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return nextSequence(interviewId);
+                }));
+            }
+            start.countDown();
+
+            Set<Integer> sequences = new HashSet<>();
+            for (Future<Optional<Integer>> result : results) {
+                Optional<Integer> sequence = result.get(10, TimeUnit.SECONDS);
+                assertTrue(sequence.isPresent());
+                sequences.add(sequence.get());
+            }
+            assertEquals(Set.of(1, 2), sequences);
+            assertEquals(Optional.of(2), interviewSessionRepository.findCurrentQuestionIndex(interviewId));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("질문을 모두 소진하면 커서 전진은 0을 반환하고 커서는 그대로다")
+    void advanceReturnsZeroWhenExhausted() {
+        Integer interviewId = createInterview(1, 2);
+
+        assertEquals(1, advance(interviewId));
+        assertEquals(1, advance(interviewId));
+        assertEquals(0, advance(interviewId));
+        assertEquals(Optional.of(2), interviewSessionRepository.findCurrentQuestionIndex(interviewId));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 면접의 커서 전진은 0을 반환한다")
+    void advanceReturnsZeroForUnknownInterview() {
+        assertEquals(0, advance(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("sequence에 빈 번호가 있으면 커서 조회는 비고, 위치 기반 조회로 다음 질문을 찾는다")
+    void positionalFallbackWhenSequenceHasGaps() {
+        Integer interviewId = createInterview(1, 3, 7);
+
+        assertEquals(1, advance(interviewId));
+        assertEquals(Optional.of(1), transaction.execute(status ->
+                questionRepository.findAtQuestionCursor(interviewId).map(Question::getSequence)));
+
+        assertEquals(1, advance(interviewId));
+        assertTrue(transaction.execute(status -> questionRepository.findAtQuestionCursor(interviewId)).isEmpty());
+
+        // InterviewService와 같은 방식: 전진 후 커서 - 1 위치의 질문
+        Integer position = transaction.execute(status -> {
+            int cursor = interviewSessionRepository.findCurrentQuestionIndex(interviewId).orElseThrow();
+            return questionRepository.findByInterviewSessionIdOrderBySequence(interviewId)
+                    .get(cursor - 1)
+                    .getSequence();
+        });
+        assertEquals(3, position);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private Integer createInterview(int... sequences) {
+        return transaction.execute(status -> {
+            InterviewSession session = interviewSessionRepository.save(InterviewSession.builder()
+                    .status(InterviewStatus.IN_PROGRESS)
+                    .questionCount(sequences.length)
+                    .currentQuestionIndex(0)
+                    .build());
+            for (int sequence : sequences) {
+                questionRepository.save(Question.builder()
+                        .interviewSession(session)
+                        .content("질문 " + sequence)
+                        .sequence(sequence)
+                        .build());
+            }
+            return session.getId();
+        });
+    }
+
+    private int advance(Integer interviewId) {
+        return transaction.execute(status -> interviewSessionRepository.advanceQuestionCursor(interviewId));
+    }
+
+    private Optional<Integer> nextSequence(Integer interviewId) {
+        return transaction.execute(status -> {
+            if (interviewSessionRepository.advanceQuestionCursor(interviewId) == 0) {
+                return Optional.empty();
+            }
+            return questionRepository.findAtQuestionCursor(interviewId).map(Question::getSequence);
+        });
+    }
+}
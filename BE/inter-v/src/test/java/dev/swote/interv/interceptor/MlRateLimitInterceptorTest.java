@@ -0,0 +1,118 @@
+package dev.swote.interv.interceptor;
+
+import dev.swote.interv.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MlRateLimitInterceptorTest {
+
+    private static final String ENDPOINTS = "POST /api/interviews/*/evaluate=3";
+
+    @Test
+    @DisplayName("비동기 응답은 처음 디스패치에서만 비용을 부과한다")
+    void chargesAsyncHandlerOnce() throws Exception {
+        MlRateLimiter rateLimiter = mock(MlRateLimiter.class);
+        MockMvc mockMvc = mockMvc(rateLimiter);
+
+        MvcResult result = mockMvc.perform(post("/api/interviews/1/evaluate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("evaluated 1"));
+
+        verify(rateLimiter, times(1)).acquire(any(HttpServletRequest.class), eq("/api/interviews/*/evaluate"), eq(3));
+    }
+
+    @Test
+    @DisplayName("@MlRateLimited 기본 비용도 비동기 재디스패치에는 다시 부과하지 않는다")
+    void chargesDefaultCostOnceForAnnotatedAsyncHandler() throws Exception {
+        MlRateLimiter rateLimiter = mock(MlRateLimiter.class);
+        MockMvc mockMvc = mockMvc(rateLimiter);
+
+        MvcResult result = mockMvc.perform(post("/api/interviews/1/unlisted"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        verify(rateLimiter, times(1)).acquire(any(HttpServletRequest.class), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("마지막 토큰으로 시작한 요청의 결과는 재디스패치 때 429로 버려지지 않는다")
+    void keepsResultWhenBucketEmptiedByOwnRequest() throws Exception {
+        // 용량 3 = 요청 한 번에 버킷이 빈다
+        MlRateLimiter rateLimiter = new MlRateLimiter(new SimpleMeterRegistry(), true, 3, 6, 1_000);
+        MockMvc mockMvc = mockMvc(rateLimiter);
+
+        MvcResult result = mockMvc.perform(post("/api/interviews/1/evaluate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("evaluated 1"));
+
+        // 새 요청은 여전히 제한된다 (standalone 설정에는 예외 핸들러가 없어 그대로 전파된다)
+        Exception e = assertThrows(Exception.class, () -> mockMvc.perform(post("/api/interviews/1/evaluate")));
+        assertInstanceOf(RateLimitExceededException.class, rootCause(e));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static Throwable rootCause(Throwable throwable) {
+        Throwable current = throwable;
+        while (!(current instanceof RateLimitExceededException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static MockMvc mockMvc(MlRateLimiter rateLimiter) {
+        return MockMvcBuilders.standaloneSetup(new AsyncEvaluationController())
+                .addInterceptors(new MlRateLimitInterceptor(rateLimiter, ENDPOINTS, 3))
+                .build();
+    }
+
+    @RestController
+    static class AsyncEvaluationController {
+
+        @MlRateLimited
+        @PostMapping("/api/interviews/{interviewId}/evaluate")
+        public CompletableFuture<String> evaluate(@PathVariable Integer interviewId) {
+            return CompletableFuture.supplyAsync(() -> "evaluated " + interviewId);
+        }
+
+        @MlRateLimited
+        @PostMapping("/api/interviews/{interviewId}/unlisted")
+        public CompletableFuture<String> unlisted(@PathVariable Integer interviewId) {
+            return CompletableFuture.supplyAsync(() -> "unlisted " + interviewId);
+        }
+    }
+}
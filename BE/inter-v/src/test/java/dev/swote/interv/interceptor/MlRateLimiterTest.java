@@ -0,0 +1,141 @@
+package dev.swote.interv.interceptor;
+
+import dev.swote.interv.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MlRateLimiterTest {
+
+    // 용량 3, 분당 6개 충전 = 토큰 하나에 10초
+    private static final long TOKEN = TimeUnit.SECONDS.toNanos(10);
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+
+    private final MlRateLimiter limiter = limiter(true, 3);
+
+    @Test
+    @DisplayName("가득 찬 버킷에서는 용량만큼 연달아 통과하고, 그다음은 토큰 하나가 찰 때까지 기다려야 한다")
+    void allowsBurstUpToCapacity() {
+        AtomicLong bucket = new AtomicLong();
+
+        assertEquals(0, limiter.tryConsume(bucket, 1, START));
+        assertEquals(0, limiter.tryConsume(bucket, 1, START));
+        assertEquals(0, limiter.tryConsume(bucket, 1, START));
+
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 1, START));
+    }
+
+    @Test
+    @DisplayName("시간이 지난 만큼 토큰이 다시 찬다")
+    void refillsOverTime() {
+        AtomicLong bucket = new AtomicLong();
+        for (int i = 0; i < 3; i++) {
+            limiter.tryConsume(bucket, 1, START);
+        }
+
+        assertEquals(TOKEN / 2, limiter.tryConsume(bucket, 1, START + TOKEN / 2));
+        assertEquals(0, limiter.tryConsume(bucket, 1, START + TOKEN));
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 1, START + TOKEN));
+
+        // 25초 뒤에는 토큰 한 개 반이 차 있으므로 하나는 통과하고 다음은 5초 기다린다
+        assertEquals(0, limiter.tryConsume(bucket, 1, START + TOKEN * 5 / 2));
+        assertEquals(TOKEN / 2, limiter.tryConsume(bucket, 1, START + TOKEN * 5 / 2));
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 용량보다 많이 쌓이지 않는다")
+    void capsRefillAtCapacity() {
+        AtomicLong bucket = new AtomicLong();
+        limiter.tryConsume(bucket, 1, START);
+
+        long later = START + TimeUnit.HOURS.toNanos(1);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryConsume(bucket, 1, later));
+        }
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 1, later));
+    }
+
+    @Test
+    @DisplayName("비용만큼 토큰을 쓰고, 거부된 요청은 토큰을 쓰지 않는다")
+    void chargesCostAndKeepsTokensOnRejection() {
+        AtomicLong bucket = new AtomicLong();
+
+        assertEquals(0, limiter.tryConsume(bucket, 2, START));
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 2, START));
+        assertEquals(0, limiter.tryConsume(bucket, 1, START));
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 1, START));
+    }
+
+    @Test
+    @DisplayName("용량보다 큰 비용은 용량으로 제한해 가득 찬 버킷에서는 통과한다")
+    void capsCostAtCapacity() {
+        AtomicLong bucket = new AtomicLong();
+
+        assertEquals(0, limiter.tryConsume(bucket, 5, START));
+        assertEquals(TOKEN, limiter.tryConsume(bucket, 1, START));
+        assertEquals(TOKEN * 3, limiter.tryConsume(bucket, 5, START));
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 Retry-After 초(올림)와 함께 거부한다")
+    void rejectsWithRetryAfter() {
+        MlRateLimiter singleToken = limiter(true, 1);
+        MockHttpServletRequest request = requestFrom("10.0.0.1");
+
+        singleToken.acquire(request, "interview-evaluate", 1);
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+                () -> singleToken.acquire(request, "interview-evaluate", 1));
+
+        // 남은 시간은 10초보다 조금 짧으므로 올림하면 10초
+        assertEquals(10, e.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 사용자별, 비로그인 요청은 IP별로 버킷을 나눈다")
+    void separatesBucketsByUserAndIp() {
+        MlRateLimiter singleToken = limiter(true, 1);
+        MockHttpServletRequest user1 = requestFrom("10.0.0.1");
+        user1.setAttribute("currentUser", new CurrentUser(1));
+        MockHttpServletRequest user2 = requestFrom("10.0.0.1");
+        user2.setAttribute("currentUser", new CurrentUser(2));
+
+        singleToken.acquire(user1, "rule", 1);
+        singleToken.acquire(user2, "rule", 1);
+        singleToken.acquire(requestFrom("10.0.0.1"), "rule", 1);
+        singleToken.acquire(requestFrom("10.0.0.2"), "rule", 1);
+
+        assertThrows(RateLimitExceededException.class, () -> singleToken.acquire(user1, "rule", 1));
+        assertThrows(RateLimitExceededException.class, () -> singleToken.acquire(requestFrom("10.0.0.1"), "rule", 1));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 제한하지 않는다")
+    void skipsWhenDisabled() {
+        MlRateLimiter disabled = limiter(false, 1);
+        MockHttpServletRequest request = requestFrom("10.0.0.1");
+
+        for (int i = 0; i < 10; i++) {
+            disabled.acquire(request, "rule", 1);
+        }
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static MlRateLimiter limiter(boolean enabled, int capacity) {
+        return new MlRateLimiter(new SimpleMeterRegistry(), enabled, capacity, 6, 1_000);
+    }
+
+    private static MockHttpServletRequest requestFrom(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
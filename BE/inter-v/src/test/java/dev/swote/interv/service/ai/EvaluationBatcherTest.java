@@ -0,0 +1,316 @@
+package dev.swote.interv.service.ai;
+
+import dev.swote.interv.exception.MLResponseParsingException;
+import dev.swote.interv.exception.MLTimeoutException;
+import dev.swote.interv.service.ai.EvaluationBatcher.EvaluationItem;
+import dev.swote.interv.service.ai.dto.MlBatchEvaluationResponse;
+import dev.swote.interv.service.ai.dto.MlEvaluationResult;
+import dev.swote.interv.util.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EvaluationBatcherTest {
+
+    private MlGateway mlGateway;
+    private BlockingQueue<BatchCall> calls;
+    private EvaluationBatcher batcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        calls = new LinkedBlockingQueue<>();
+        mlGateway = mock(MlGateway.class);
+        when(mlGateway.post(eq(MlEndpoint.EVALUATE_BATCH), any(), eq(MlBatchEvaluationResponse.class)))
+                .thenAnswer(invocation -> {
+                    Map<String, Object> body = invocation.getArgument(1);
+                    // 전송 시점의 호출 컨텍스트/마감 시각을 함께 기록한다
+                    BatchCall call = new BatchCall(List.copyOf((List<Map<String, Object>>) body.get("items")),
+                            MlCallContext.current(), RequestDeadline.current(), new CompletableFuture<>());
+                    calls.add(call);
+                    return call.response();
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 바로 전송하고, 결과 순서와 상관없이 id로 각 요청에 돌려준다")
+    void flushesOnSizeAndMapsResultsById() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 3, Duration.ofMinutes(1));
+
+        CompletableFuture<MlEvaluationResult> first = batcher.submit(item("q1"));
+        CompletableFuture<MlEvaluationResult> second = batcher.submit(item("q2"));
+        assertTrue(calls.isEmpty());
+        CompletableFuture<MlEvaluationResult> third = batcher.submit(item("q3"));
+
+        BatchCall call = nextCall();
+        assertEquals(List.of("q1", "q2", "q3"), call.questions());
+        assertEquals(3, new HashSet<>(call.ids()).size());
+
+        List<MlEvaluationResult> results = new ArrayList<>(call.items().stream().map(EvaluationBatcherTest::resultFor).toList());
+        Collections.reverse(results);
+        call.response().complete(new MlBatchEvaluationResponse(results));
+
+        assertEquals("q1", await(first).feedback());
+        assertEquals("q2", await(second).feedback());
+        assertEquals("q3", await(third).feedback());
+        assertEquals(call.ids().get(0), await(first).id());
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 최대 대기 시간이 지나면 전송한다")
+    void flushesOnMaxWait() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 16, Duration.ofMillis(50));
+
+        CompletableFuture<MlEvaluationResult> first = batcher.submit(item("q1"));
+        CompletableFuture<MlEvaluationResult> second = batcher.submit(item("q2"));
+
+        BatchCall call = nextCall();
+        assertEquals(List.of("q1", "q2"), call.questions());
+        call.respondAll();
+
+        assertEquals("q1", await(first).feedback());
+        assertEquals("q2", await(second).feedback());
+    }
+
+    @Test
+    @DisplayName("결과가 빠지거나 오류인 항목만 실패하고 나머지는 완료된다")
+    void failsOnlyMissingOrFailedItems() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 3, Duration.ofMinutes(1));
+        CompletableFuture<MlEvaluationResult> ok = batcher.submit(item("ok"));
+        CompletableFuture<MlEvaluationResult> failed = batcher.submit(item("failed"));
+        CompletableFuture<MlEvaluationResult> missing = batcher.submit(item("missing"));
+
+        BatchCall call = nextCall();
+        call.response().complete(new MlBatchEvaluationResponse(List.of(
+                resultFor(call.items().get(0)),
+                new MlEvaluationResult(call.ids().get(1), null, null, null, null, null, null, "평가 실패"))));
+
+        assertEquals("ok", await(ok).feedback());
+        assertInstanceOf(MLResponseParsingException.class, failure(failed));
+        assertInstanceOf(MLResponseParsingException.class, failure(missing));
+    }
+
+    @Test
+    @DisplayName("배치 호출이 실패하면 모든 항목이 같은 원인으로 실패한다")
+    void propagatesBatchFailureToAllItems() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMinutes(1));
+        CompletableFuture<MlEvaluationResult> first = batcher.submit(item("q1"));
+        CompletableFuture<MlEvaluationResult> second = batcher.submit(item("q2"));
+
+        MLTimeoutException timeout = new MLTimeoutException();
+        nextCall().response().completeExceptionally(timeout);
+
+        assertSame(timeout, failure(first));
+        assertSame(timeout, failure(second));
+    }
+
+    @Test
+    @DisplayName("전송 시점에 마감이 지난 항목은 보내지 않고, 배치 마감은 남은 항목 기준이다")
+    void dropsExpiredItemsBeforeSending() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMinutes(1));
+        RequestDeadline liveDeadline = RequestDeadline.after(Duration.ofMinutes(1));
+
+        CompletableFuture<MlEvaluationResult> expired = RequestDeadline.supplyWith(RequestDeadline.after(Duration.ZERO),
+                () -> batcher.submit(item("expired")));
+        CompletableFuture<MlEvaluationResult> live = RequestDeadline.supplyWith(liveDeadline,
+                () -> batcher.submit(item("live")));
+
+        BatchCall call = nextCall();
+        assertEquals(List.of("live"), call.questions());
+        assertSame(liveDeadline, call.deadline());
+        assertInstanceOf(MLTimeoutException.class, failure(expired));
+
+        call.respondAll();
+        assertEquals("live", await(live).feedback());
+    }
+
+    @Test
+    @DisplayName("모든 항목의 마감이 지났으면 ML 서버를 호출하지 않는다")
+    void skipsCallWhenAllItemsExpired() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 1, Duration.ofMinutes(1));
+
+        CompletableFuture<MlEvaluationResult> expired = RequestDeadline.supplyWith(RequestDeadline.after(Duration.ZERO),
+                () -> batcher.submit(item("expired")));
+
+        assertInstanceOf(MLTimeoutException.class, failure(expired));
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 평가는 한 번만 보내고 결과를 공유한다")
+    void coalescesIdenticalItems() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMillis(50));
+
+        CompletableFuture<MlEvaluationResult> first = batcher.submit(item("same"));
+        CompletableFuture<MlEvaluationResult> second = batcher.submit(item("same"));
+
+        BatchCall call = nextCall();
+        assertEquals(List.of("same"), call.questions());
+        call.respondAll();
+
+        assertEquals(await(first), await(second));
+    }
+
+    @Test
+    @DisplayName("진행 중인 평가보다 높은 우선순위의 요청은 합류하지 않고 자기 우선순위로 전송된다")
+    void doesNotJoinLowerPriorityFlight() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 1, Duration.ofMinutes(1));
+
+        CompletableFuture<MlEvaluationResult> standard = MlCallContext.supplyWith(
+                MlCallContext.of(MlPriority.STANDARD, 1), () -> batcher.submit(item("same")));
+        BatchCall standardCall = nextCall();
+        CompletableFuture<MlEvaluationResult> live = MlCallContext.supplyWith(
+                MlCallContext.of(MlPriority.LIVE_INTERVIEW, 2), () -> batcher.submit(item("same")));
+        BatchCall liveCall = nextCall();
+
+        assertEquals(MlPriority.STANDARD, standardCall.context().priority());
+        assertEquals(MlPriority.LIVE_INTERVIEW, liveCall.context().priority());
+
+        standardCall.respondAll();
+        liveCall.respondAll();
+        assertEquals("same", await(standard).feedback());
+        assertEquals("same", await(live).feedback());
+    }
+
+    @Test
+    @DisplayName("진행 중인 평가보다 마감이 늦은 요청은 합류하지 않아 먼저 마감된 요청의 타임아웃을 물려받지 않는다")
+    void doesNotJoinFlightWithEarlierDeadline() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 1, Duration.ofMinutes(1));
+        RequestDeadline shortDeadline = RequestDeadline.after(Duration.ofSeconds(30));
+
+        CompletableFuture<MlEvaluationResult> request = RequestDeadline.supplyWith(shortDeadline,
+                () -> batcher.submit(item("same")));
+        BatchCall requestCall = nextCall();
+        // 마감이 없는 백그라운드 작업 (평가 작업 워커)
+        CompletableFuture<MlEvaluationResult> worker = batcher.submit(item("same"));
+        BatchCall workerCall = nextCall();
+
+        assertSame(shortDeadline, requestCall.deadline());
+        assertNull(workerCall.deadline());
+
+        requestCall.response().completeExceptionally(new MLTimeoutException());
+        workerCall.respondAll();
+        assertInstanceOf(MLTimeoutException.class, failure(request));
+        assertEquals("same", await(worker).feedback());
+    }
+
+    @Test
+    @DisplayName("마감이 더 이른 같은 우선순위의 요청은 진행 중인 평가에 합류한다")
+    void joinsFlightThatOutlastsCaller() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMillis(50));
+
+        CompletableFuture<MlEvaluationResult> worker = batcher.submit(item("same"));
+        CompletableFuture<MlEvaluationResult> request = RequestDeadline.supplyWith(
+                RequestDeadline.after(Duration.ofSeconds(30)), () -> batcher.submit(item("same")));
+
+        BatchCall call = nextCall();
+        assertEquals(List.of("same"), call.questions());
+        call.respondAll();
+        assertEquals(await(worker), await(request));
+    }
+
+    @Test
+    @DisplayName("배치는 항목 중 가장 높은 우선순위와 항목 수만큼의 비용으로 스케줄링된다")
+    void usesHighestPriorityAndItemCountForBatchContext() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMinutes(1));
+
+        MlCallContext.supplyWith(MlCallContext.of(MlPriority.SIMULATION, 1), () -> batcher.submit(item("q1")));
+        MlCallContext.supplyWith(MlCallContext.of(MlPriority.LIVE_INTERVIEW, 2), () -> batcher.submit(item("q2")));
+
+        assertEquals(new MlCallContext(MlPriority.LIVE_INTERVIEW, null, 2), nextCall().context());
+    }
+
+    @Test
+    @DisplayName("submitAll은 대기 없이 배치 크기 단위로 나눠 보내고 입력 순서대로 결과를 돌려준다")
+    void submitAllSendsImmediatelyInChunks() throws Exception {
+        batcher = new EvaluationBatcher(mlGateway, 2, Duration.ofMinutes(1));
+
+        List<CompletableFuture<MlEvaluationResult>> futures = MlCallContext.supplyWith(
+                MlCallContext.of(MlPriority.STANDARD, 7),
+                () -> batcher.submitAll(List.of(item("q1"), item("q2"), item("q3"))));
+
+        BatchCall first = nextCall();
+        BatchCall second = nextCall();
+        assertEquals(List.of("q1", "q2"), first.questions());
+        assertEquals(List.of("q3"), second.questions());
+        assertEquals(new MlCallContext(MlPriority.STANDARD, 7, 2), first.context());
+        assertEquals(new MlCallContext(MlPriority.STANDARD, 7, 1), second.context());
+
+        second.respondAll();
+        first.respondAll();
+
+        assertEquals(List.of("q1", "q2", "q3"), List.of(
+                await(futures.get(0)).feedback(), await(futures.get(1)).feedback(), await(futures.get(2)).feedback()));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static EvaluationItem item(String question) {
+        return new EvaluationItem(question, "답변", "이력서", null);
+    }
+
+    /**
+     * 피드백에 질문을 그대로 담은 결과 (어느 요청으로 돌아갔는지 확인용)
+     */
+    private static MlEvaluationResult resultFor(Map<String, Object> item) {
+        return new MlEvaluationResult((String) item.get("id"), 4, 4, 4, 4, 16, (String) item.get("question"), null);
+    }
+
+    private BatchCall nextCall() throws InterruptedException {
+        BatchCall call = calls.poll(2, TimeUnit.SECONDS);
+        assertNotNull(call, "배치 전송이 없습니다");
+        return call;
+    }
+
+    private static MlEvaluationResult await(CompletableFuture<MlEvaluationResult> future) throws Exception {
+        return future.get(2, TimeUnit.SECONDS);
+    }
+
+    private static Throwable failure(CompletableFuture<MlEvaluationResult> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS)).getCause();
+    }
+
+    private record BatchCall(List<Map<String, Object>> items, MlCallContext context, RequestDeadline deadline,
+                             CompletableFuture<MlBatchEvaluationResponse> response) {
+
+        List<String> questions() {
+            return items.stream().map(item -> (String) item.get("question")).toList();
+        }
+
+        List<String> ids() {
+            return items.stream().map(item -> (String) item.get("id")).toList();
+        }
+
+        void respondAll() {
+            response.complete(new MlBatchEvaluationResponse(items.stream().map(EvaluationBatcherTest::resultFor).toList()));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package dev.swote.interv.service.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MlCircuitBreakerTest {
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패율이 높아도 열리지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        MlCircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        fail(breaker, 3);
+
+        assertEquals(MlCircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치에 도달하면 OPEN으로 전환하고 요청을 거부한다")
+    void opensWhenFailureRateReachesThreshold() {
+        MlCircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        succeed(breaker, 2);
+        fail(breaker, 1);
+        assertEquals(MlCircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker, 1);
+
+        assertEquals(MlCircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("윈도우 밖으로 밀려난 실패는 실패율에서 빠진다")
+    void slidesWindow() {
+        MlCircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+
+        fail(breaker, 1);
+        succeed(breaker, 3);
+        assertEquals(0.25, breaker.getFailureRate(), 1e-9);
+
+        succeed(breaker, 1);
+
+        assertEquals(0.0, breaker.getFailureRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN에서 시험 요청 수만큼만 허용한다")
+    void limitsProbesInHalfOpen() {
+        MlCircuitBreaker breaker = openBreaker();
+
+        assertNotNull(breaker.tryAcquirePermission());
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNotNull(breaker.tryAcquirePermission());
+        assertNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 요청이 모두 성공하면 CLOSED로 돌아가고 윈도우를 비운다")
+    void closesAfterSuccessfulProbes() {
+        MlCircuitBreaker breaker = openBreaker();
+
+        MlCircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        MlCircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        breaker.onSuccess(first);
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(second);
+
+        assertEquals(MlCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate(), 1e-9);
+        assertNotNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 요청이 하나라도 실패하면 다시 OPEN")
+    void reopensWhenProbeFails() {
+        MlCircuitBreaker breaker = openBreaker();
+
+        breaker.onFailure(breaker.tryAcquirePermission());
+
+        assertEquals(MlCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("무시된 시험 요청은 슬롯만 반환한다")
+    void ignoredProbeReturnsSlot() {
+        MlCircuitBreaker breaker = openBreaker();
+
+        MlCircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+        assertNotNull(breaker.tryAcquirePermission());
+        assertNull(breaker.tryAcquirePermission());
+
+        breaker.onIgnored(probe);
+
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNotNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("CLOSED 때 허가받은 호출이 HALF_OPEN에서 성공해도 시험 요청으로 집계하지 않는다")
+    void ignoresStaleSuccessInHalfOpen() {
+        MlCircuitBreaker breaker = breaker(Duration.ZERO);
+        MlCircuitBreaker.Permit slow = breaker.tryAcquirePermission();
+        fail(breaker, 4);
+        MlCircuitBreaker.Permit probe = breaker.tryAcquirePermission();
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(slow);
+        breaker.onSuccess(probe);
+
+        // 시험 요청 2개 중 1개만 성공했으므로 아직 닫히지 않는다
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNotNull(breaker.tryAcquirePermission());
+        assertNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("CLOSED 때 허가받은 호출이 HALF_OPEN에서 실패해도 다시 열지 않는다")
+    void ignoresStaleFailureInHalfOpen() {
+        MlCircuitBreaker breaker = breaker(Duration.ZERO);
+        MlCircuitBreaker.Permit slow = breaker.tryAcquirePermission();
+        fail(breaker, 4);
+        MlCircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        MlCircuitBreaker.Permit second = breaker.tryAcquirePermission();
+
+        breaker.onFailure(slow);
+        assertEquals(MlCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+        assertEquals(MlCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("이전 세대의 무시된 호출은 시험 요청 슬롯을 반환하지 않는다")
+    void ignoresStaleIgnoredInHalfOpen() {
+        MlCircuitBreaker breaker = breaker(Duration.ZERO);
+        MlCircuitBreaker.Permit slow = breaker.tryAcquirePermission();
+        fail(breaker, 4);
+        assertNotNull(breaker.tryAcquirePermission());
+        assertNotNull(breaker.tryAcquirePermission());
+
+        breaker.onIgnored(slow);
+
+        assertNull(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("이전 CLOSED 윈도우의 결과는 다시 닫힌 뒤의 윈도우에 집계하지 않는다")
+    void ignoresResultsFromPreviousClosedWindow() {
+        MlCircuitBreaker breaker = breaker(Duration.ZERO);
+        MlCircuitBreaker.Permit slow = breaker.tryAcquirePermission();
+        fail(breaker, 4);
+        MlCircuitBreaker.Permit first = breaker.tryAcquirePermission();
+        MlCircuitBreaker.Permit second = breaker.tryAcquirePermission();
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+        assertEquals(MlCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure(slow);
+
+        assertEquals(0.0, breaker.getFailureRate(), 1e-9);
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * 윈도우 4, 최소 호출 4, 실패율 50%, 시험 요청 2
+     */
+    private static MlCircuitBreaker breaker(Duration openDuration) {
+        return new MlCircuitBreaker(4, 4, 0.5, openDuration, 2);
+    }
+
+    /**
+     * OPEN 유지 시간이 0이라 다음 요청부터 HALF_OPEN으로 전환되는 열린 서킷
+     */
+    private static MlCircuitBreaker openBreaker() {
+        MlCircuitBreaker breaker = breaker(Duration.ZERO);
+        fail(breaker, 4);
+        assertEquals(MlCircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    private static void succeed(MlCircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            MlCircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+            assertNotNull(permit);
+            breaker.onSuccess(permit);
+        }
+    }
+
+    private static void fail(MlCircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            MlCircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+            assertNotNull(permit);
+            breaker.onFailure(permit);
+        }
+    }
+}
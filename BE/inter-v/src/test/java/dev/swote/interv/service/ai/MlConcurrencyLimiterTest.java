@@ -0,0 +1,117 @@
+package dev.swote.interv.service.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MlConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(30).toNanos();
+
+    @Test
+    @DisplayName("한도만큼만 슬롯을 내주고, 반환하면 다시 내준다")
+    void acquiresUpToLimit() {
+        MlConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.onIgnored();
+
+        assertEquals(2, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("한도를 절반 이상 쓰는 중 빠르게 성공하면 한도를 1 늘린다")
+    void increasesAdditivelyWhenUtilized() {
+        MlConcurrencyLimiter limiter = limiter(4, 1, 10);
+        acquire(limiter, 2);
+
+        limiter.onSuccess(FAST);
+
+        assertEquals(5, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 쓰지 않을 때는 성공해도 한도를 늘리지 않는다")
+    void keepsLimitWhenUnderUtilized() {
+        MlConcurrencyLimiter limiter = limiter(4, 1, 10);
+        acquire(limiter, 1);
+
+        limiter.onSuccess(FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("최대 한도를 넘겨 늘리지 않는다")
+    void capsAtMaxLimit() {
+        MlConcurrencyLimiter limiter = limiter(4, 1, 4);
+        acquire(limiter, 4);
+
+        limiter.onSuccess(FAST);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("실패하면 한도를 backoff-ratio 배로 줄인다")
+    void decreasesMultiplicativelyOnDrop() {
+        MlConcurrencyLimiter limiter = limiter(8, 1, 10);
+        acquire(limiter, 1);
+
+        limiter.onDropped();
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("지연 임계치를 넘긴 성공은 실패처럼 한도를 줄인다")
+    void decreasesOnSlowSuccess() {
+        MlConcurrencyLimiter limiter = limiter(8, 1, 10);
+        acquire(limiter, 8);
+
+        limiter.onSuccess(SLOW);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("연속 실패해도 최소 한도 아래로 내려가지 않는다")
+    void floorsAtMinLimit() {
+        MlConcurrencyLimiter limiter = limiter(8, 3, 10);
+
+        for (int i = 0; i < 5; i++) {
+            acquire(limiter, 1);
+            limiter.onDropped();
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    /**
+     * backoff-ratio 0.5, 지연 임계치 20초
+     */
+    private static MlConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new MlConcurrencyLimiter(initialLimit, minLimit, maxLimit, 0.5, Duration.ofSeconds(20));
+    }
+
+    private static void acquire(MlConcurrencyLimiter limiter, int slots) {
+        for (int i = 0; i < slots; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package dev.swote.interv.service.ai;
+
+import dev.swote.interv.exception.MLCircuitOpenException;
+import dev.swote.interv.exception.MLTimeoutException;
+import dev.swote.interv.util.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MlSchedulerTest {
+
+    private static final Runnable NO_OP = () -> {
+    };
+
+    private MlConcurrencyLimiter limiter;
+    private MlScheduler scheduler;
+    private List<String> started;
+
+    @BeforeEach
+    void setUp() {
+        // 슬롯 하나로 고정해 반환할 때마다 대기 중인 호출이 정확히 하나씩 실행되게 한다
+        limiter = new MlConcurrencyLimiter(1, 1, 1, 0.75, Duration.ofSeconds(20));
+        scheduler = scheduler(10, Duration.ofSeconds(15));
+        started = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("슬롯이 있으면 대기 없이 바로 실행한다")
+    void startsImmediatelyWhenSlotAvailable() throws Exception {
+        CompletableFuture<String> future = scheduler.submit(standard(1), call("a"), NO_OP);
+
+        assertEquals("a", future.get(1, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0, scheduler.getQueued(MlPriority.STANDARD));
+    }
+
+    @Test
+    @DisplayName("높은 우선순위의 대기 호출부터 실행한다")
+    void dispatchesByPriority() {
+        occupySlot();
+        scheduler.submit(MlCallContext.of(MlPriority.SIMULATION, 1), call("simulation"), NO_OP);
+        scheduler.submit(MlCallContext.of(MlPriority.PREGENERATION, 1), call("pregeneration"), NO_OP);
+        scheduler.submit(MlCallContext.of(MlPriority.STANDARD, 1), call("standard"), NO_OP);
+        scheduler.submit(MlCallContext.of(MlPriority.LIVE_INTERVIEW, 1), call("live"), NO_OP);
+
+        releaseSlots(4);
+
+        assertEquals(List.of("blocker", "live", "standard", "pregeneration", "simulation"), started);
+    }
+
+    @Test
+    @DisplayName("같은 우선순위에서는 먼저 몰아 보낸 사용자가 다른 사용자를 막지 못한다")
+    void sharesSlotsFairlyBetweenUsers() {
+        occupySlot();
+        scheduler.submit(standard(1), call("user1-1"), NO_OP);
+        scheduler.submit(standard(1), call("user1-2"), NO_OP);
+        scheduler.submit(standard(1), call("user1-3"), NO_OP);
+        scheduler.submit(standard(2), call("user2-1"), NO_OP);
+
+        releaseSlots(4);
+
+        assertEquals(List.of("blocker", "user1-1", "user2-1", "user1-2", "user1-3"), started);
+    }
+
+    @Test
+    @DisplayName("비용이 큰 호출은 그만큼 공정 분배 몫을 더 차지한다")
+    void chargesCostInFairQueue() {
+        occupySlot();
+        scheduler.submit(new MlCallContext(MlPriority.STANDARD, 1, 3), call("batch"), NO_OP);
+        scheduler.submit(standard(1), call("user1-after-batch"), NO_OP);
+        scheduler.submit(standard(2), call("user2-1"), NO_OP);
+        scheduler.submit(standard(2), call("user2-2"), NO_OP);
+
+        releaseSlots(4);
+
+        assertEquals(List.of("blocker", "user2-1", "user2-2", "batch", "user1-after-batch"), started);
+    }
+
+    @Test
+    @DisplayName("전송 전에 실패한 호출은 슬롯을 반환하고 다음 호출을 실행한다")
+    void releasesSlotWhenCallThrows() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        CompletableFuture<String> failed = scheduler.submit(standard(1), () -> {
+            throw new IllegalStateException("boom");
+        }, rejected::incrementAndGet);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(1, rejected.get());
+        assertEquals(0, limiter.getInFlight());
+
+        assertEquals("next", scheduler.submit(standard(1), call("next"), NO_OP).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("실패로 반환된 슬롯도 대기 중인 호출에 넘긴다")
+    void dispatchesWaitingCallAfterDroppedSlot() throws Exception {
+        occupySlot();
+        CompletableFuture<String> waiting = scheduler.submit(standard(1), call("waiting"), NO_OP);
+        assertFalse(waiting.isDone());
+
+        scheduler.onDropped();
+
+        assertEquals("waiting", waiting.get(1, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("대기 중 요청 마감이 지난 호출은 실행하지 않고 슬롯을 다음 호출에 넘긴다")
+    void skipsCallWhoseDeadlineExpiredWhileQueued() throws Exception {
+        occupySlot();
+        AtomicInteger rejected = new AtomicInteger();
+        CompletableFuture<String> expired = RequestDeadline.supplyWith(RequestDeadline.after(Duration.ZERO),
+                () -> scheduler.submit(standard(1), call("expired"), rejected::incrementAndGet));
+        CompletableFuture<String> next = scheduler.submit(standard(2), call("next"), NO_OP);
+
+        scheduler.onSuccess(0);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> expired.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(MLTimeoutException.class, e.getCause());
+        assertEquals(1, rejected.get());
+        assertEquals("next", next.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of("blocker", "next"), started);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("max-wait를 넘겨 대기한 호출은 과부하로 실패하고 슬롯을 돌려준다")
+    void failsCallThatWaitedLongerThanMaxWait() throws Exception {
+        scheduler = scheduler(10, Duration.ZERO);
+        occupySlot();
+        AtomicInteger rejected = new AtomicInteger();
+        CompletableFuture<String> waiting = scheduler.submit(standard(1), call("waiting"), rejected::incrementAndGet);
+        Thread.sleep(5);
+
+        scheduler.onSuccess(0);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> waiting.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(MLCircuitOpenException.class, e.getCause());
+        assertEquals(1, rejected.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("우선순위별 대기열이 가득 차면 즉시 거부한다")
+    void rejectsWhenQueueFull() {
+        scheduler = scheduler(1, Duration.ofSeconds(15));
+        occupySlot();
+        scheduler.submit(standard(1), call("queued"), NO_OP);
+
+        AtomicInteger rejected = new AtomicInteger();
+        CompletableFuture<String> overflow = scheduler.submit(standard(2), call("overflow"), rejected::incrementAndGet);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> overflow.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(MLCircuitOpenException.class, e.getCause());
+        assertEquals(1, rejected.get());
+        assertEquals(1, scheduler.getQueued(MlPriority.STANDARD));
+
+        // 다른 우선순위 대기열은 별도로 센다
+        scheduler.submit(MlCallContext.of(MlPriority.SIMULATION, 2), call("simulation"), NO_OP);
+        assertEquals(1, scheduler.getQueued(MlPriority.SIMULATION));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private MlScheduler scheduler(int maxQueue, Duration maxWait) {
+        return new MlScheduler(limiter, new SimpleMeterRegistry(), maxQueue, maxWait);
+    }
+
+    private static MlCallContext standard(Integer userId) {
+        return MlCallContext.of(MlPriority.STANDARD, userId);
+    }
+
+    private Supplier<CompletableFuture<String>> call(String name) {
+        return () -> {
+            started.add(name);
+            return CompletableFuture.completedFuture(name);
+        };
+    }
+
+    private void occupySlot() {
+        scheduler.submit(standard(0), call("blocker"), NO_OP);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    private void releaseSlots(int count) {
+        for (int i = 0; i < count; i++) {
+            scheduler.onSuccess(0);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package dev.swote.interv.service.interview;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionIdPoolTest {
+
+    @Test
+    @DisplayName("추출한 ID는 서로 다르고 모두 풀에 있는 ID다")
+    void samplesDistinctIds() {
+        QuestionIdPool pool = new QuestionIdPool(new int[]{1, 3, 5, 7, 9, 11, 13, 15, 17, 19});
+        Set<Integer> all = Set.of(1, 3, 5, 7, 9, 11, 13, 15, 17, 19);
+        Random random = new Random(42);
+
+        for (int round = 0; round < 1_000; round++) {
+            List<Integer> sample = pool.sample(4, random);
+
+            assertEquals(4, sample.size());
+            assertEquals(4, new HashSet<>(sample).size());
+            assertTrue(all.containsAll(sample));
+        }
+    }
+
+    @Test
+    @DisplayName("요청 개수가 풀 크기 이상이면 전체를 한 번씩 반환한다")
+    void returnsWholePoolWhenCountExceedsSize() {
+        QuestionIdPool pool = new QuestionIdPool(new int[]{2, 4, 6});
+
+        assertEquals(Set.of(2, 4, 6), new HashSet<>(pool.sample(3, new Random(1))));
+        assertEquals(Set.of(2, 4, 6), new HashSet<>(pool.sample(10, new Random(1))));
+        assertEquals(3, pool.sample(10, new Random(1)).size());
+    }
+
+    @Test
+    @DisplayName("빈 풀이나 0개 요청은 빈 목록")
+    void returnsEmptyForEmptyPoolOrZeroCount() {
+        assertTrue(new QuestionIdPool(new int[0]).sample(5, new Random(1)).isEmpty());
+        assertTrue(new QuestionIdPool(new int[]{1, 2}).sample(0, new Random(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("모든 ID가 고르게 뽑힌다")
+    void samplesUniformly() {
+        QuestionIdPool pool = new QuestionIdPool(new int[]{10, 20, 30, 40, 50});
+        Random random = new Random(7);
+        int rounds = 50_000;
+        int[] counts = new int[6];
+
+        for (int round = 0; round < rounds; round++) {
+            for (int id : pool.sample(2, random)) {
+                counts[id / 10]++;
+            }
+        }
+
+        // 각 ID의 기대 빈도는 rounds * 2 / 5
+        double expected = rounds * 2 / 5.0;
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(expected, counts[i], expected * 0.05);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 ID보다 작은 ID를 추가해도 정렬을 유지하고 중복은 무시한다")
+    void addsOutOfOrderAndIgnoresDuplicates() {
+        QuestionIdPool pool = new QuestionIdPool(new int[]{10, 20, 30});
+
+        pool.add(40);
+        pool.add(5);
+        pool.add(25);
+        pool.add(20);
+        pool.add(40);
+
+        assertEquals(6, pool.size());
+        assertEquals(new TreeSet<>(Set.of(5, 10, 20, 25, 30, 40)), contents(pool));
+
+        // 정렬이 깨졌다면 이진 탐색 기반 삭제가 ID를 찾지 못한다
+        pool.remove(25);
+        pool.remove(5);
+        assertEquals(new TreeSet<>(Set.of(10, 20, 30, 40)), contents(pool));
+    }
+
+    @Test
+    @DisplayName("배열 용량을 넘겨 추가해도 모든 ID를 보관한다")
+    void growsBeyondInitialCapacity() {
+        QuestionIdPool pool = new QuestionIdPool(new int[0]);
+        Set<Integer> expected = new TreeSet<>();
+
+        for (int id = 100; id > 0; id -= 3) {
+            pool.add(id);
+            expected.add(id);
+        }
+
+        assertEquals(expected.size(), pool.size());
+        assertEquals(expected, contents(pool));
+    }
+
+    @Test
+    @DisplayName("삭제한 ID는 더 이상 뽑히지 않고, 없는 ID 삭제는 무시한다")
+    void removesIds() {
+        QuestionIdPool pool = new QuestionIdPool(new int[]{1, 2, 3, 4, 5});
+
+        pool.remove(1);
+        pool.remove(5);
+        pool.remove(3);
+        pool.remove(99);
+
+        assertEquals(2, pool.size());
+        Random random = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            assertEquals(Set.of(2, 4), new HashSet<>(pool.sample(5, random)));
+        }
+
+        pool.remove(2);
+        pool.remove(4);
+        assertEquals(0, pool.size());
+        assertTrue(pool.sample(1, random).isEmpty());
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static Set<Integer> contents(QuestionIdPool pool) {
+        return new TreeSet<>(pool.sample(pool.size(), new Random(0)));
+    }
+}
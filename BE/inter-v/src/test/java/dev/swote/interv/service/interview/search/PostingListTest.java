@@ -0,0 +1,123 @@
+package dev.swote.interv.service.interview.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("오름차순 추가는 그대로 복원된다 (1바이트~5바이트 varint delta 포함)")
+    void roundTripsAppendedIds() {
+        int[] ids = {1, 2, 127, 128, 255, 16_384, 16_511, 2_097_152, 268_435_456, Integer.MAX_VALUE};
+        PostingList list = new PostingList();
+
+        for (int id : ids) {
+            list.add(id);
+        }
+
+        assertEquals(ids.length, list.size());
+        assertArrayEquals(ids, list.toArray());
+    }
+
+    @Test
+    @DisplayName("중간 삽입과 중복 추가 후에도 정렬된 중복 없는 목록을 유지한다")
+    void insertsOutOfOrderAndIgnoresDuplicates() {
+        PostingList list = new PostingList();
+
+        list.add(100);
+        list.add(300);
+        list.add(200);
+        list.add(50);
+        list.add(300);
+        list.add(200);
+        list.add(1_000_000);
+
+        assertArrayEquals(new int[]{50, 100, 200, 300, 1_000_000}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("삭제 후 남은 delta를 다시 압축해 복원한다")
+    void removesIds() {
+        PostingList list = new PostingList();
+        for (int id : new int[]{3, 130, 20_000, 3_000_000}) {
+            list.add(id);
+        }
+
+        list.remove(130);
+        assertArrayEquals(new int[]{3, 20_000, 3_000_000}, list.toArray());
+
+        list.remove(3_000_000);
+        list.remove(4_000_000);
+        list.remove(5);
+        assertArrayEquals(new int[]{3, 20_000}, list.toArray());
+
+        // 마지막 ID를 지운 뒤 끝에 붙이는 추가도 새 마지막 ID 기준 delta로 저장된다
+        list.add(25_000);
+        assertArrayEquals(new int[]{3, 20_000, 25_000}, list.toArray());
+
+        list.remove(3);
+        list.remove(20_000);
+        list.remove(25_000);
+        assertEquals(0, list.size());
+        assertArrayEquals(new int[0], list.toArray());
+
+        list.add(7);
+        assertArrayEquals(new int[]{7}, list.toArray());
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제 후에도 TreeSet과 같은 내용을 유지한다")
+    void matchesSortedSetUnderRandomChanges() {
+        Random random = new Random(11);
+        PostingList list = new PostingList();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            // 작은 범위와 큰 범위를 섞어 1바이트/다중 바이트 delta가 모두 나오게 한다
+            int id = random.nextBoolean() ? 1 + random.nextInt(500) : 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            if (random.nextInt(3) == 0) {
+                list.remove(id);
+                expected.remove(id);
+            } else {
+                list.add(id);
+                expected.add(id);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), list.toArray());
+    }
+
+    @Test
+    @DisplayName("retainAll은 후보 중 목록에 있는 ID만 앞쪽에 남긴다")
+    void retainsIntersection() {
+        PostingList list = new PostingList();
+        for (int id : new int[]{2, 4, 6, 8, 10, 200_000}) {
+            list.add(id);
+        }
+        int[] candidates = {1, 2, 3, 6, 9, 10, 11, 200_000, 300_000};
+
+        int kept = list.retainAll(candidates, candidates.length);
+
+        assertArrayEquals(new int[]{2, 6, 10, 200_000}, Arrays.copyOf(candidates, kept));
+    }
+
+    @Test
+    @DisplayName("retainAll은 지정한 후보 개수까지만 본다")
+    void retainsWithinCandidateCount() {
+        PostingList list = new PostingList();
+        for (int id : new int[]{1, 2, 3}) {
+            list.add(id);
+        }
+        int[] candidates = {1, 3, 2};
+
+        assertEquals(2, list.retainAll(candidates, 2));
+        assertEquals(0, new PostingList().retainAll(candidates, 2));
+    }
+}
@@ -0,0 +1,213 @@
+package dev.swote.interv.service.interview.search;
+
+import dev.swote.interv.domain.interview.entity.Question;
+import dev.swote.interv.domain.interview.entity.QuestionType;
+import dev.swote.interv.domain.interview.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 색인 검색 결과를 DB 검색과 같은 LIKE '%keyword%' 조건(내용/카테고리/세부 카테고리, 대소문자 무시)과 비교
+ */
+class QuestionSearchIndexTest {
+
+    // 글자 수를 적게 해 n-gram이 많이 겹치고 긴 포스팅/교집합이 나오게 한다
+    private static final String ALPHABET = "가나다라마abcAB";
+    private static final String[] CATEGORIES = {"백엔드", "프론트엔드", "Database", "인성"};
+
+    // DB 역할 (ID -> 질문)
+    private final TreeMap<Integer, Question> table = new TreeMap<>();
+    private QuestionSearchIndex index;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        QuestionRepository questionRepository = mock(QuestionRepository.class);
+        when(questionRepository.findByIdGreaterThanOrderByIdAsc(anyInt(), any())).thenAnswer(invocation -> {
+            Integer cursor = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return table.tailMap(cursor, false).values().stream()
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        index = new QuestionSearchIndex(questionRepository, new SimpleMeterRegistry(), true, 7,
+                Duration.ofSeconds(30), Duration.ofMinutes(10));
+        random = new Random(2024);
+    }
+
+    @Test
+    @DisplayName("처음 만들기 전에는 검색을 맡지 않는다")
+    void emptyBeforeRebuild() {
+        assertTrue(index.search("가나", null, null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("빈 키워드는 검색을 맡지 않는다")
+    void emptyForBlankKeyword() {
+        index.rebuild();
+
+        assertTrue(index.search(null, null, null, null).isEmpty());
+        assertTrue(index.search("  ", null, null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("DB에서 만든 색인의 검색 결과가 LIKE 검색과 같다")
+    void matchesLikeOracleAfterRebuild() {
+        for (int id = 1; id <= 300; id++) {
+            store(randomQuestion(id * 3));
+        }
+
+        index.rebuild();
+
+        assertMatchesOracle(500);
+    }
+
+    @Test
+    @DisplayName("리스너로 들어온 추가/수정/삭제 후에도 검색 결과가 LIKE 검색과 같다")
+    void matchesLikeOracleAfterIncrementalChanges() {
+        for (int id = 1; id <= 200; id++) {
+            store(randomQuestion(id));
+        }
+        index.rebuild();
+
+        for (int i = 0; i < 300; i++) {
+            int id = 1 + random.nextInt(260);
+            if (random.nextInt(4) == 0) {
+                table.remove(id);
+                index.remove(id);
+            } else {
+                Question question = randomQuestion(id);
+                store(question);
+                index.index(question);
+            }
+        }
+
+        assertMatchesOracle(500);
+    }
+
+    @Test
+    @DisplayName("catch-up은 마지막으로 읽은 ID 이후에 저장된 질문을 추가한다")
+    void catchUpAddsQuestionsSavedElsewhere() {
+        store(question(1, "스프링 빈 생명주기", "백엔드", null, QuestionType.TECHNICAL, 2));
+        index.rebuild();
+
+        store(question(2, "스프링 트랜잭션 전파", "백엔드", null, QuestionType.TECHNICAL, 3));
+        assertEquals(Optional.of(List.of(1)), index.search("스프링", null, null, null));
+
+        index.catchUp();
+
+        assertEquals(Optional.of(List.of(1, 2)), index.search("스프링", null, null, null));
+        assertEquals(Optional.of(List.of(2)), index.search("스프링", null, 3, null));
+    }
+
+    @Test
+    @DisplayName("대소문자와 연속 공백을 정리해 검색한다")
+    void normalizesCaseAndWhitespace() {
+        store(question(1, "JPA  N+1   문제", "Database", "ORM", QuestionType.TECHNICAL, 3));
+        index.rebuild();
+
+        assertEquals(Optional.of(List.of(1)), index.search("jpa n+1", null, null, null));
+        assertEquals(Optional.of(List.of(1)), index.search("orm", null, null, null));
+        assertEquals(Optional.of(List.of()), index.search("jpa  문제", null, null, null));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private void assertMatchesOracle(int queries) {
+        for (int i = 0; i < queries; i++) {
+            String keyword = randomText(1 + random.nextInt(3));
+            String category = random.nextInt(3) == 0 ? CATEGORIES[random.nextInt(CATEGORIES.length)] : null;
+            Integer difficulty = random.nextInt(3) == 0 ? 1 + random.nextInt(5) : null;
+            QuestionType type = random.nextInt(3) == 0 ? randomType() : null;
+
+            assertEquals(Optional.of(like(keyword, category, difficulty, type)),
+                    index.search(keyword, category, difficulty, type),
+                    "keyword=" + keyword + ", category=" + category + ", difficulty=" + difficulty + ", type=" + type);
+        }
+    }
+
+    /**
+     * content LIKE '%keyword%' OR category LIKE ... OR subCategory LIKE ... (대소문자 무시 collation) + 필터
+     */
+    private List<Integer> like(String keyword, String category, Integer difficulty, QuestionType type) {
+        String pattern = keyword.toLowerCase(Locale.ROOT);
+        List<Integer> ids = new ArrayList<>();
+        for (Question question : table.values()) {
+            boolean matched = contains(question.getContent(), pattern)
+                    || contains(question.getCategory(), pattern)
+                    || contains(question.getSubCategory(), pattern);
+            if (matched
+                    && (category == null || category.equals(question.getCategory()))
+                    && (difficulty == null || difficulty.equals(question.getDifficultyLevel()))
+                    && (type == null || type == question.getType())) {
+                ids.add(question.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static boolean contains(String field, String pattern) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(pattern);
+    }
+
+    private void store(Question question) {
+        table.put(question.getId(), question);
+    }
+
+    private Question randomQuestion(int id) {
+        return question(id,
+                randomText(5 + random.nextInt(30)),
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                random.nextInt(4) == 0 ? null : randomText(1 + random.nextInt(4)),
+                randomType(),
+                1 + random.nextInt(5));
+    }
+
+    private static Question question(int id, String content, String category, String subCategory,
+                                     QuestionType type, Integer difficultyLevel) {
+        return Question.builder()
+                .id(id)
+                .content(content)
+                .category(category)
+                .subCategory(subCategory)
+                .type(type)
+                .difficultyLevel(difficultyLevel)
+                .build();
+    }
+
+    /**
+     * 공백이 앞뒤에 없고 연달아 나오지 않는 문자열 (정규화해도 그대로라 LIKE와 바로 비교할 수 있다)
+     */
+    private String randomText(int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            boolean space = i > 0 && i < length - 1 && text.charAt(i - 1) != ' ' && random.nextInt(5) == 0;
+            text.append(space ? ' ' : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private QuestionType randomType() {
+        QuestionType[] types = QuestionType.values();
+        return types[random.nextInt(types.length)];
+    }
+}
@@ -0,0 +1,204 @@
+package dev.swote.interv.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 진행 중인 작업이 있으면 새로 실행하지 않고 결과를 공유한다")
+    void coalescesConcurrentCalls() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return source;
+        }, shared::incrementAndGet);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        }, shared::incrementAndGet);
+
+        assertEquals(1, executions.get());
+        assertEquals(1, shared.get());
+        assertEquals(1, singleFlight.inFlightCount());
+
+        source.complete("value");
+
+        assertEquals("value", first.get(1, TimeUnit.SECONDS));
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 호출해도 작업은 한 번만 실행된다")
+    void coalescesAcrossThreads() throws Exception {
+        int threads = 8;
+        CompletableFuture<String> source = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] calls = new Future<?>[threads];
+            CompletableFuture<?>[] results = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                calls[i] = executor.submit(() -> {
+                    start.await();
+                    results[index] = singleFlight.execute("key", () -> {
+                        executions.incrementAndGet();
+                        return source;
+                    });
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(1, TimeUnit.SECONDS);
+            }
+
+            source.complete("value");
+
+            assertEquals(1, executions.get());
+            for (CompletableFuture<?> result : results) {
+                assertEquals("value", result.get(1, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 키는 따로 실행한다")
+    void runsDifferentKeysSeparately() throws Exception {
+        CompletableFuture<String> first = singleFlight.execute("a", () -> new CompletableFuture<>());
+        CompletableFuture<String> second = singleFlight.execute("b", () -> CompletableFuture.completedFuture("b"));
+
+        assertFalse(first.isDone());
+        assertEquals("b", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("완료된 작업의 결과는 캐시하지 않는다")
+    void doesNotCacheCompletedResults() throws Exception {
+        assertEquals("first", singleFlight.execute("key", () -> CompletableFuture.completedFuture("first"))
+                .get(1, TimeUnit.SECONDS));
+        assertEquals("second", singleFlight.execute("key", () -> CompletableFuture.completedFuture("second"))
+                .get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("실패는 합류한 모든 호출자에게 원래 예외로 전달되고, 이후 호출은 새로 실행한다")
+    void propagatesFailureToAllCallers() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> CompletableFuture.completedFuture("other"));
+
+        IllegalStateException failure = new IllegalStateException("boom");
+        source.completeExceptionally(new CompletionException(failure));
+
+        assertSame(failure, cause(first));
+        assertSame(failure, cause(second));
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("retry", singleFlight.execute("key", () -> CompletableFuture.completedFuture("retry"))
+                .get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("작업을 시작하다 던진 예외도 실패한 Future로 돌려주고 키를 남기지 않는다")
+    void convertsSupplierExceptionToFailedFuture() {
+        IllegalArgumentException failure = new IllegalArgumentException("bad request");
+
+        CompletableFuture<String> result = singleFlight.execute("key", () -> {
+            throw failure;
+        });
+
+        assertSame(failure, cause(result));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("한 호출자가 취소해도 다른 호출자의 결과에는 영향이 없다")
+    void isolatesCallerCancellation() throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("key", () -> source);
+        CompletableFuture<String> second = singleFlight.execute("key", () -> source);
+
+        first.cancel(true);
+        source.complete("value");
+
+        assertTrue(first.isCancelled());
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업의 마감이 호출자보다 이르면 합류하지 않고 새로 실행한다")
+    void doesNotJoinFlightWithEarlierDeadline() throws Exception {
+        RequestDeadline early = RequestDeadline.after(Duration.ofSeconds(1));
+        RequestDeadline late = RequestDeadline.after(Duration.ofMinutes(1));
+        CompletableFuture<String> earlySource = new CompletableFuture<>();
+        CompletableFuture<String> lateSource = new CompletableFuture<>();
+        AtomicInteger shared = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.execute("key", early, () -> earlySource, shared::incrementAndGet);
+        CompletableFuture<String> second = singleFlight.execute("key", late, () -> lateSource, shared::incrementAndGet);
+        // 이후 호출자는 마감이 늦은 새 작업에 합류한다
+        CompletableFuture<String> third = singleFlight.execute("key", early,
+                () -> CompletableFuture.completedFuture("unused"), shared::incrementAndGet);
+
+        assertEquals(1, shared.get());
+        earlySource.complete("early");
+        lateSource.complete("late");
+
+        assertEquals("early", first.get(1, TimeUnit.SECONDS));
+        assertEquals("late", second.get(1, TimeUnit.SECONDS));
+        assertEquals("late", third.get(1, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("마감이 없는 호출자는 마감이 있는 작업에 합류하지 않고, 마감이 없는 작업에는 누구나 합류한다")
+    void treatsMissingDeadlineAsLatest() throws Exception {
+        CompletableFuture<String> bounded = new CompletableFuture<>();
+        CompletableFuture<String> unbounded = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("key", RequestDeadline.after(Duration.ofMinutes(1)),
+                () -> bounded, null);
+        CompletableFuture<String> second = singleFlight.execute("key", null, () -> unbounded, null);
+        CompletableFuture<String> third = singleFlight.execute("key", RequestDeadline.after(Duration.ofMinutes(5)),
+                () -> CompletableFuture.completedFuture("unused"), null);
+
+        bounded.complete("bounded");
+        unbounded.complete("unbounded");
+
+        assertEquals("bounded", first.get(1, TimeUnit.SECONDS));
+        assertEquals("unbounded", second.get(1, TimeUnit.SECONDS));
+        assertEquals("unbounded", third.get(1, TimeUnit.SECONDS));
+    }
+
+    // ================================================================================
+    // 유틸리티 메서드들
+    // ================================================================================
+
+    private static Throwable cause(CompletableFuture<String> future) {
+        return assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS)).getCause();
+    }
+}
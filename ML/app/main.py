@@ -1,6 +1,8 @@
 from fastapi import FastAPI
 from fastapi.middleware.cors import CORSMiddleware
-from app.routes import interview, evaluation, keyword,simulate
+from fastapi.middleware.gzip import GZipMiddleware
+from app.routes import interview, evaluation, keyword,simulate, context
+from app.wire_format import WireFormatMiddleware
 
 app = FastAPI(
     title="InterV API",
@@ -17,11 +19,16 @@ app.add_middleware(
     allow_headers=["*"],
 )
 
+# 백엔드와의 바이너리(CBOR) 요청/응답 변환, 그 바깥에서 응답 gzip 압축 (나중에 추가한 미들웨어가 바깥쪽)
+app.add_middleware(WireFormatMiddleware)
+app.add_middleware(GZipMiddleware, minimum_size=1024)
+
 # 라우터 등록
 app.include_router(interview.router)
 app.include_router(evaluation.router)
 app.include_router(keyword.router)
 app.include_router(simulate.router, prefix="/simulate")
+app.include_router(context.router)
 # 헬스 체크 루트
 @app.get("/health")
 def check_health():
@@ -0,0 +1,29 @@
+# app/routes/context.py
+
+from typing import Optional, Tuple
+
+from fastapi import APIRouter, HTTPException
+from schemas.context_schema import ContextRequest, ContextResponse
+from services.context_store import CONTEXT_TTL_SECONDS, get_context, put_context
+
+router = APIRouter()
+
+
+@router.post("/context", response_model=ContextResponse)
+def create_context_route(request: ContextRequest):
+    context_id = put_context(request.resume, request.cover_letter)
+    return {"context_id": context_id, "expires_in": CONTEXT_TTL_SECONDS}
+
+
+def resolve_documents(resume: Optional[str], cover_letter: Optional[str],
+                      context_id: Optional[str]) -> Tuple[str, str]:
+    """
+    요청 본문의 이력서/자기소개서, 또는 context_id로 저장된 본문 반환
+    """
+    if context_id:
+        documents = get_context(context_id)
+        if documents is None:
+            # 만료되었거나 다른 워커 프로세스에 저장된 경우. 호출 측은 본문을 직접 보내 재시도한다.
+            raise HTTPException(status_code=404, detail="context not found")
+        return documents
+    return resume or "", cover_letter or ""
@@ -1,21 +1,63 @@
 # app/routes/evaluation.py
 
+import os
+from concurrent.futures import ThreadPoolExecutor
+
 from fastapi import APIRouter
-from schemas.evaluation_schema import EvaluationRequest, EvaluationResponse
+from schemas.evaluation_schema import (
+    EvaluationRequest,
+    EvaluationResponse,
+    BatchEvaluationRequest,
+    BatchEvaluationResponse,
+)
+from app.routes.context import resolve_documents
 from services.answer_evaluator import evaluate_answer
 router = APIRouter()
 
+# 배치 평가 시 동시에 진행할 LLM 호출 수
+BATCH_EVALUATION_WORKERS = int(os.getenv("BATCH_EVALUATION_WORKERS", "8"))
+
 @router.post("/evaluate", response_model=EvaluationResponse)
 def evaluate_answer_route(request: EvaluationRequest):
+    resume, cover_letter = resolve_documents(request.resume, request.cover_letter, request.context_id)
     raw_result = evaluate_answer(
         answer=request.answer,
         question=request.question,
-        resume=request.resume,
-        cover_letter=request.cover_letter
+        resume=resume,
+        cover_letter=cover_letter
     )
     return summarize_evaluation_scores(raw_result)
 
 
+@router.post("/evaluate/batch", response_model=BatchEvaluationResponse)
+def evaluate_batch_route(request: BatchEvaluationRequest):
+    """
+    여러 답변을 한 번의 요청으로 평가
+    항목별로 병렬 평가하며, 일부 항목이 실패해도 나머지 결과는 반환한다 (실패 항목은 error 필드로 표시).
+    """
+    def evaluate_item(item):
+        try:
+            resume, cover_letter = resolve_documents(item.resume, item.cover_letter, item.context_id)
+            raw_result = evaluate_answer(
+                answer=item.answer,
+                question=item.question,
+                position="",
+                resume=resume,
+                cover_letter=cover_letter
+            )
+            return {"id": item.id, **summarize_evaluation_scores(raw_result)}
+        except Exception as e:
+            return {"id": item.id, "error": str(e)}
+
+    if not request.items:
+        return {"results": []}
+
+    workers = min(BATCH_EVALUATION_WORKERS, len(request.items))
+    with ThreadPoolExecutor(max_workers=workers) as executor:
+        results = list(executor.map(evaluate_item, request.items))
+    return {"results": results}
+
+
 def summarize_similarity_scores(keyword_score: float, semantic_score: float) -> dict:
     """
     키워드 및 의미론 유사도를 딕셔너리 형태로 정리
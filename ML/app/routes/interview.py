@@ -8,9 +8,10 @@ from schemas.interview_schema import (
     InterviewFeedbackRequest,
     InterviewFeedbackResponse
 )
-from services.question_generator import generate_questions
+from services.question_generator import generate_questions, generate_questions_stream
 from services.answer_evaluator import evaluate_answer  # 피드백용
-from fastapi.responses import JSONResponse
+from fastapi.responses import JSONResponse, StreamingResponse
+import json
 
 router = APIRouter()
 
@@ -35,6 +36,26 @@ def generate_interview_questions(request: InterviewQuestionRequest):
     return InterviewQuestionResponse(questions=questions)
 
 
+@router.post("/interview/questions/stream")
+def generate_interview_questions_stream(request: InterviewQuestionRequest):
+    """
+    질문을 생성되는 대로 NDJSON(한 줄에 질문 하나)으로 전송
+    생성 도중 오류가 나면 {"error": "..."} 줄을 보내고 종료한다.
+    """
+    def question_lines():
+        try:
+            for question in generate_questions_stream(
+                resume=request.resume,
+                position=request.position,
+                question_count=request.questionCount
+            ):
+                yield json.dumps(question, ensure_ascii=False) + "\n"
+        except Exception as e:
+            yield json.dumps({"error": str(e)}, ensure_ascii=False) + "\n"
+
+    return StreamingResponse(question_lines(), media_type="application/x-ndjson")
+
+
 @router.post("/interview/feedback", response_model=InterviewFeedbackResponse)
 def generate_interview_feedback(request: InterviewFeedbackRequest):
     feedback = evaluate_answer(
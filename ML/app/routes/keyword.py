@@ -6,17 +6,21 @@ from schemas.similarity_schema import (
     KeywordSimilarityResponse,
     SemanticSimilarityRequest,
     SemanticSimilarityResponse,
+    EmbeddingRequest,
+    EmbeddingResponse,
 )
+from app.routes.context import resolve_documents
 from services.keyword_matcher import calculate_keyword_similarity
-from services.semantic_matcher import calculate_semantic_similarity
+from services.semantic_matcher import calculate_semantic_similarity, embed_texts, embedding_dimension
 
 router = APIRouter()
 
 @router.post("/similarity/keyword", response_model=KeywordSimilarityResponse)
 def keyword_similarity_route(request: KeywordSimilarityRequest):
+    resume, cover_letter = resolve_documents(request.resume, request.cover_letter, request.context_id)
     score, keywords = calculate_keyword_similarity(
-        resume=request.resume,
-        cover_letter=request.cover_letter,
+        resume=resume,
+        cover_letter=cover_letter,
         question=request.question
     )
     return {
@@ -26,11 +30,23 @@ def keyword_similarity_route(request: KeywordSimilarityRequest):
 
 @router.post("/similarity/semantic", response_model=SemanticSimilarityResponse)
 def semantic_similarity_route(request: SemanticSimilarityRequest):
+    resume, cover_letter = resolve_documents(request.resume, request.cover_letter, request.context_id)
     score = calculate_semantic_similarity(
-        resume=request.resume,
-        cover_letter=request.cover_letter,
+        resume=resume,
+        cover_letter=cover_letter,
         question=request.question
     )
     return {
         "similarity_score": score
     }
+
+@router.post("/embed", response_model=EmbeddingResponse)
+def embed_route(request: EmbeddingRequest):
+    """
+    의미론적 유사도 계산에 쓰는 것과 같은 모델로 임베딩만 반환 (Spring 쪽 벡터 저장소에 보관)
+    """
+    return {
+        "model": "jhgan/ko-sbert-sts",
+        "dimension": embedding_dimension(),
+        "embeddings": embed_texts(request.texts) if request.texts else []
+    }
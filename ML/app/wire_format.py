@@ -0,0 +1,126 @@
+# app/wire_format.py
+
+import gzip
+import json
+import zlib
+
+import cbor2
+from starlette.datastructures import Headers, MutableHeaders
+from starlette.responses import JSONResponse
+
+# 백엔드(MlWireFormat)는 이 헤더가 있는 서버의 422를 형식 미지원이 아닌 실제 검증 오류로 본다
+SUPPORTED_HEADER = "x-wire-formats"
+SUPPORTED_VALUE = "cbor, gzip"
+
+
+class WireFormatMiddleware:
+    """
+    요청/응답 바디 형식 변환 (ASGI 미들웨어)
+    - 요청: Content-Encoding: gzip 이면 압축을 풀고, Content-Type: application/cbor 이면 JSON으로 바꿔 라우터에 넘긴다.
+      라우터와 Pydantic 스키마는 그대로 JSON 바디를 받는 것처럼 동작한다.
+    - 응답: Accept에 application/cbor가 있고 2xx JSON 응답이면 CBOR로 바꿔 보낸다.
+      스트리밍(NDJSON) 응답과 오류 응답은 그대로 둔다.
+    - 응답 압축은 바깥의 GZipMiddleware가 Accept-Encoding에 따라 처리한다.
+    """
+
+    def __init__(self, app):
+        self.app = app
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http":
+            await self.app(scope, receive, send)
+            return
+
+        headers = Headers(scope=scope)
+        content_type = headers.get("content-type", "")
+        content_encoding = headers.get("content-encoding", "").strip().lower()
+        wants_cbor = "application/cbor" in headers.get("accept", "")
+
+        if content_encoding == "gzip" or content_type.startswith("application/cbor"):
+            try:
+                body = await _read_body(receive)
+                if content_encoding == "gzip":
+                    body = gzip.decompress(body)
+                if content_type.startswith("application/cbor"):
+                    body = json.dumps(cbor2.loads(body), ensure_ascii=False).encode("utf-8")
+            except (OSError, EOFError, zlib.error, cbor2.CBORDecodeError, ValueError) as e:
+                response = JSONResponse(status_code=400, content={"detail": f"요청 바디를 해석할 수 없습니다: {e}"},
+                                        headers={SUPPORTED_HEADER: SUPPORTED_VALUE})
+                await response(scope, receive, send)
+                return
+
+            scope = dict(scope)
+            scope["headers"] = _replace_body_headers(scope["headers"], len(body))
+            receive = _replay(body, receive)
+
+        await self.app(scope, receive, _wrap_send(send, wants_cbor))
+
+
+async def _read_body(receive) -> bytes:
+    chunks = []
+    more_body = True
+    while more_body:
+        message = await receive()
+        chunks.append(message.get("body", b""))
+        more_body = message.get("more_body", False)
+    return b"".join(chunks)
+
+
+def _replay(body: bytes, receive):
+    sent = False
+
+    async def replayed():
+        nonlocal sent
+        if not sent:
+            sent = True
+            return {"type": "http.request", "body": body, "more_body": False}
+        # 원래 바디는 이미 다 읽었으므로 이후에는 연결 종료(http.disconnect)만 전달된다
+        return await receive()
+
+    return replayed
+
+
+def _replace_body_headers(raw_headers, length: int):
+    result = [
+        (name, value) for name, value in raw_headers
+        if name.lower() not in (b"content-type", b"content-encoding", b"content-length")
+    ]
+    result.append((b"content-type", b"application/json"))
+    result.append((b"content-length", str(length).encode("latin-1")))
+    return result
+
+
+def _wrap_send(send, wants_cbor: bool):
+    start_message = None
+    chunks = []
+
+    async def wrapped(message):
+        nonlocal start_message
+
+        if message["type"] == "http.response.start":
+            headers = MutableHeaders(scope=message)
+            headers[SUPPORTED_HEADER] = SUPPORTED_VALUE
+            media_type = headers.get("content-type", "")
+            if wants_cbor and 200 <= message["status"] < 300 and media_type.startswith("application/json"):
+                # 바디를 모두 받은 뒤 변환해야 하므로 시작 메시지를 보류
+                start_message = message
+                return
+            await send(message)
+            return
+
+        if message["type"] == "http.response.body" and start_message is not None:
+            chunks.append(message.get("body", b""))
+            if message.get("more_body", False):
+                return
+
+            body = cbor2.dumps(json.loads(b"".join(chunks) or b"null"))
+            headers = MutableHeaders(scope=start_message)
+            headers["content-type"] = "application/cbor"
+            headers["content-length"] = str(len(body))
+            await send(start_message)
+            await send({"type": "http.response.body", "body": body, "more_body": False})
+            return
+
+        await send(message)
+
+    return wrapped
@@ -0,0 +1,13 @@
+# schemas/context_schema.py
+
+from pydantic import BaseModel, Field
+
+
+class ContextRequest(BaseModel):
+    resume: str = Field(..., description="이력서")
+    cover_letter: str = Field("", description="자기소개서")
+
+
+class ContextResponse(BaseModel):
+    context_id: str
+    expires_in: int
@@ -1,12 +1,15 @@
 # schemas/evaluation_schema.py
 
+from typing import List, Optional
+
 from pydantic import BaseModel, Field
 
 class EvaluationRequest(BaseModel):
     question: str = Field(..., description="면접 질문")
     answer: str = Field(..., description="지원자의 답변")
-    resume: str = Field(..., description="이력서")
-    cover_letter: str = Field(..., description="자기소개서")
+    resume: Optional[str] = Field(None, description="이력서")
+    cover_letter: Optional[str] = Field(None, description="자기소개서")
+    context_id: Optional[str] = Field(None, description="/context로 업로드한 이력서/자기소개서 ID")
 
 class EvaluationResponse(BaseModel):
     관련성: int
@@ -15,3 +18,26 @@ class EvaluationResponse(BaseModel):
     유효성: int
     총점: int
     피드백: str
+
+
+class BatchEvaluationItem(EvaluationRequest):
+    id: str = Field(..., description="요청 측에서 결과를 매칭하기 위한 항목 ID")
+
+
+class BatchEvaluationRequest(BaseModel):
+    items: List[BatchEvaluationItem] = Field(..., description="평가할 질문/답변 목록")
+
+
+class BatchEvaluationResult(BaseModel):
+    id: str
+    관련성: Optional[int] = None
+    구체성: Optional[int] = None
+    실무성: Optional[int] = None
+    유효성: Optional[int] = None
+    총점: Optional[int] = None
+    피드백: Optional[str] = None
+    error: Optional[str] = None
+
+
+class BatchEvaluationResponse(BaseModel):
+    results: List[BatchEvaluationResult]
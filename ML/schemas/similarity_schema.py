@@ -1,13 +1,14 @@
 # app/schemas/similarity_schema.py
 
 from pydantic import BaseModel
-from typing import List
+from typing import List, Optional
 
 
 class KeywordSimilarityRequest(BaseModel):
-    resume: str
-    cover_letter: str
+    resume: Optional[str] = None
+    cover_letter: Optional[str] = None
     question: str
+    context_id: Optional[str] = None  # /context로 업로드한 이력서/자기소개서 사용
 
 
 class KeywordSimilarityResponse(BaseModel):
@@ -16,10 +17,21 @@ class KeywordSimilarityResponse(BaseModel):
 
 
 class SemanticSimilarityRequest(BaseModel):
-    resume: str
-    cover_letter: str
+    resume: Optional[str] = None
+    cover_letter: Optional[str] = None
     question: str
+    context_id: Optional[str] = None  # /context로 업로드한 이력서/자기소개서 사용
 
 
 class SemanticSimilarityResponse(BaseModel):
     similarity_score: float
+
+
+class EmbeddingRequest(BaseModel):
+    texts: List[str]
+
+
+class EmbeddingResponse(BaseModel):
+    model: str
+    dimension: int
+    embeddings: List[List[float]]
@@ -0,0 +1,55 @@
+# services/context_store.py
+
+import os
+import threading
+import time
+import uuid
+from collections import OrderedDict
+from typing import Optional, Tuple
+
+# 업로드된 이력서/자기소개서 유지 시간과 최대 개수
+CONTEXT_TTL_SECONDS = int(os.getenv("CONTEXT_TTL_SECONDS", "300"))
+CONTEXT_MAX_ENTRIES = int(os.getenv("CONTEXT_MAX_ENTRIES", "1000"))
+
+_lock = threading.Lock()
+_contexts: "OrderedDict[str, Tuple[float, str, str]]" = OrderedDict()
+
+
+def put_context(resume: str, cover_letter: str) -> str:
+    """
+    이력서/자기소개서를 저장하고 context_id 반환
+    한 번의 복합 평가에서 여러 엔드포인트가 같은 본문을 재사용하도록 한다. (프로세스 메모리에만 저장)
+    """
+    context_id = uuid.uuid4().hex
+    expires_at = time.monotonic() + CONTEXT_TTL_SECONDS
+    with _lock:
+        _evict_expired()
+        _contexts[context_id] = (expires_at, resume, cover_letter)
+        while len(_contexts) > CONTEXT_MAX_ENTRIES:
+            _contexts.popitem(last=False)
+    return context_id
+
+
+def get_context(context_id: str) -> Optional[Tuple[str, str]]:
+    """
+    저장된 (이력서, 자기소개서) 조회. 없거나 만료되었으면 None
+    """
+    with _lock:
+        entry = _contexts.get(context_id)
+        if entry is None:
+            return None
+        expires_at, resume, cover_letter = entry
+        if expires_at < time.monotonic():
+            del _contexts[context_id]
+            return None
+        return resume, cover_letter
+
+
+def _evict_expired():
+    now = time.monotonic()
+    # 삽입 순서 = 만료 순서이므로 앞에서부터만 확인
+    while _contexts:
+        context_id, (expires_at, _, _) = next(iter(_contexts.items()))
+        if expires_at >= now:
+            break
+        del _contexts[context_id]
@@ -113,3 +113,91 @@ def generate_questions(resume: str, position: str, question_count: int) -> list:
         })
 
     return cleaned_questions
+
+
+STREAM_LINE_INSTRUCTION = """
+각 질문을 아래 JSON 객체 형식으로 한 줄에 하나씩 출력해 주세요. 다른 설명이나 번호, 코드 블록 없이 JSON 줄만 출력해야 합니다.
+{"content": "질문 내용", "type": "TECHNICAL|PERSONALITY|PROJECT|SITUATION", "category": "Java|Spring|SQL|React|Python|Teamwork|Leadership|Communication|Project Experience|Conflict Resolution|Decision Making", "difficultyLevel": 1|2|3}
+"""
+
+
+def _normalize_streamed_question(raw: dict):
+    """
+    스트리밍으로 받은 질문 한 건 정규화 (형식이 맞지 않는 값은 기본값으로 대체)
+    """
+    content = str(raw.get("content", "")).strip()
+    if not content:
+        return None
+
+    q_type = str(raw.get("type", "")).strip().upper()
+    if q_type not in {"TECHNICAL", "PERSONALITY", "PROJECT", "SITUATION"}:
+        q_type = "TECHNICAL"
+
+    category = str(raw.get("category", "")).split(",")[0].strip() or "General"
+
+    try:
+        difficulty = int(raw.get("difficultyLevel", 2))
+    except (TypeError, ValueError):
+        difficulty = 2
+    difficulty = min(max(difficulty, 1), 3)
+
+    return {
+        "content": content,
+        "type": q_type,
+        "category": category,
+        "difficultyLevel": difficulty
+    }
+
+
+def generate_questions_stream(resume: str, position: str, question_count: int):
+    """
+    면접 질문을 생성되는 대로 한 건씩 반환하는 제너레이터
+    분류를 위한 두 번째 LLM 호출 없이, 질문과 분류 정보를 한 줄의 JSON으로 함께 생성하도록 요청한다.
+    """
+    prompt = load_prompt_template("prompt_templates/question_prompt.txt").format(
+        resume=resume,
+        position=position,
+        question_count=question_count
+    ) + "\n" + STREAM_LINE_INSTRUCTION
+
+    stream = client.chat.completions.create(
+        model="gpt-4",
+        messages=[{"role": "user", "content": prompt}],
+        temperature=0.7,
+        top_p=0.95,
+        max_tokens=1024,
+        stream=True
+    )
+
+    buffer = ""
+    emitted = 0
+
+    def parse_line(line: str):
+        line = line.strip().rstrip(",")
+        if not line.startswith("{"):
+            return None
+        try:
+            return _normalize_streamed_question(json.loads(line))
+        except json.JSONDecodeError:
+            return None
+
+    for chunk in stream:
+        if not chunk.choices:
+            continue
+        delta = chunk.choices[0].delta.content or ""
+        buffer += delta
+
+        while "\n" in buffer and emitted < question_count:
+            line, buffer = buffer.split("\n", 1)
+            question = parse_line(line)
+            if question:
+                emitted += 1
+                yield question
+
+        if emitted >= question_count:
+            return
+
+    if buffer and emitted < question_count:
+        question = parse_line(buffer)
+        if question:
+            yield question
@@ -10,4 +10,13 @@ def calculate_semantic_similarity(resume: str, cover_letter: str, question: str)
     return round(similarity, 4)
 
 
+def embed_texts(texts: list[str]) -> list[list[float]]:
+    """
+    텍스트 임베딩 (L2 정규화되어 있으므로 내적이 곧 코사인 유사도)
+    """
+    embeddings = sbert_model.encode(texts, convert_to_numpy=True, normalize_embeddings=True)
+    return embeddings.astype(np.float32).tolist()
 
+
+def embedding_dimension() -> int:
+    return sbert_model.get_sentence_embedding_dimension()